@@ -0,0 +1,2 @@
+@echo off
+bash %~dp0fit %*
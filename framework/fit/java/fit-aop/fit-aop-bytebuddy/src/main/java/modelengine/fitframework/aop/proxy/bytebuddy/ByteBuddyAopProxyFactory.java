@@ -15,18 +15,24 @@ import modelengine.fitframework.aop.proxy.InterceptSupport;
 import modelengine.fitframework.aop.proxy.support.JdkDynamicProxy;
 import modelengine.fitframework.aop.util.ClassLoaderUtils;
 import modelengine.fitframework.beans.support.ReflectionFactoryInstantiator;
+import modelengine.fitframework.util.ReflectionUtils;
 
 import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy.Default;
 import net.bytebuddy.implementation.InvocationHandlerAdapter;
 import net.bytebuddy.matcher.ElementMatchers;
 import net.bytebuddy.utility.RandomString;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 表示使用 ByteBuddy 技术实现的 {@link AopProxyFactory}。
+ * <p>代理类按照被代理的类缓存，每个代理对象在自身的字段中持有各自的调用处理器，代理方法直接调用该处理器，
+ * 调用过程中不再经过反射。</p>
  *
  * @author 詹高扬
  * @author 季聿阶
@@ -34,10 +40,12 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 @Order(HIGH)
 public class ByteBuddyAopProxyFactory implements AopProxyFactory {
+    private static final String HANDLER_FIELD = "$fit$handler";
+
     /**
-     * 缓存已经代理过的类对象，键表示被代理的类对象，值表示对应代理类对象
+     * 缓存已经代理过的类对象，键表示被代理的类对象，值表示对应代理类中持有调用处理器的字段
      */
-    private final Map<Class<?>, Class<?>> cache = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Field> cache = new ConcurrentHashMap<>();
 
     @Override
     public boolean support(Class<?> targetClass) {
@@ -46,10 +54,13 @@ public class ByteBuddyAopProxyFactory implements AopProxyFactory {
 
     @Override
     public Object createProxy(InterceptSupport support) {
-        Class<?> proxiedClass =
-                this.cache.computeIfAbsent(support.getTargetClass(), key -> this.generateProxiedClass(support));
-        ReflectionFactoryInstantiator<?> instantiator = new ReflectionFactoryInstantiator<>(proxiedClass);
-        return instantiator.newInstance();
+        Field handlerField = this.cache.computeIfAbsent(support.getTargetClass(),
+                key -> ReflectionUtils.getDeclaredField(this.generateProxiedClass(support), HANDLER_FIELD));
+        ReflectionFactoryInstantiator<?> instantiator =
+                new ReflectionFactoryInstantiator<>(handlerField.getDeclaringClass());
+        Object proxy = instantiator.newInstance();
+        ReflectionUtils.setField(proxy, handlerField, new JdkDynamicProxy(support));
+        return proxy;
     }
 
     private Class<?> generateProxiedClass(InterceptSupport support) {
@@ -59,8 +70,9 @@ public class ByteBuddyAopProxyFactory implements AopProxyFactory {
         return new ByteBuddy().subclass(support.getTargetClass())
                 .implement(FitProxy.class)
                 .name(support.getTargetClass().getName() + "$$Fit$ByteBuddy$$" + RandomString.make(8))
+                .defineField(HANDLER_FIELD, InvocationHandler.class, Visibility.PRIVATE)
                 .method(ElementMatchers.isMethod())
-                .intercept(InvocationHandlerAdapter.of(new JdkDynamicProxy(support)))
+                .intercept(InvocationHandlerAdapter.toField(HANDLER_FIELD))
                 .make()
                 .load(classLoader, Default.INJECTION)
                 .getLoaded();
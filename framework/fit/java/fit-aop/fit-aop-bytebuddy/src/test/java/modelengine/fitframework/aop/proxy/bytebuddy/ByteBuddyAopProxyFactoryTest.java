@@ -51,6 +51,20 @@ public class ByteBuddyAopProxyFactoryTest {
         assertThat(proxy1.getClass()).isEqualTo(proxy2.getClass());
     }
 
+    @Test
+    @DisplayName("当使用 bytebuddy 创建相同类的两个代理时，每个代理调用各自的被代理对象")
+    void shouldInvokeOwnTargetWhenGivenSameClass() {
+        AopProxyFactory aopProxyFactory = new ByteBuddyAopProxyFactory();
+        Original proxy1 = ObjectUtils.cast(aopProxyFactory.createProxy(new DefaultInterceptSupport(Original.class,
+                () -> new Original("first"),
+                Collections.emptyList())));
+        Original proxy2 = ObjectUtils.cast(aopProxyFactory.createProxy(new DefaultInterceptSupport(Original.class,
+                () -> new Original("second"),
+                Collections.emptyList())));
+        assertThat(proxy1.getName()).isEqualTo("first");
+        assertThat(proxy2.getName()).isEqualTo("second");
+    }
+
     @Nested
     @DisplayName("当父类没有无参构造方法时")
     class GivenParentClassHasNotNoArgConstructor {
@@ -36,7 +36,7 @@ public abstract class AbstractCacheInterceptor extends AbstractMethodInterceptor
         notNull(container, "The bean container cannot be null.");
         this.keyGenerator = ObjectUtils.getIfNull(keyGenerator, KeyGenerator::params);
         List<String> actualCacheNames = ObjectUtils.getIfNull(cacheNames, ArrayList::new);
-        this.instancesLoader = new LazyLoader<>(() -> container.factory(CacheManager.class)
+        this.instancesLoader = new LazyLoader<>(() -> container.lookup(CacheManager.class)
                 .map(BeanFactory::<CacheManager>get)
                 .map(manager -> actualCacheNames.stream()
                         .map(manager::getInstance)
@@ -15,14 +15,24 @@ import modelengine.fitframework.inspection.Nullable;
 import modelengine.fitframework.ioc.BeanContainer;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * 表示 {@link Cacheable} 的方法拦截器。
+ * <p>缓存实例按照声明的顺序通过 {@link Cache#getOrLoad(Object, Supplier)} 依次查找，前一个缓存实例未命中时从后一个缓存
+ * 实例加载，全部未命中时调用被拦截的方法，结果会被放入所有未命中的缓存实例中。</p>
+ * <p>同一个缓存键的并发未命中只会调用一次被拦截的方法，其余的调用等待该次调用的结果，以避免热点键失效时的缓存击穿。</p>
  *
  * @author 季聿阶
  * @since 2022-12-12
  */
 public class CacheableInterceptor extends AbstractCacheInterceptor {
+    private final Map<CacheKey, Loading> loadings = new ConcurrentHashMap<>();
+
     /**
      * 使用指定的容器、键生成器和缓存名称列表初始化 {@link CacheableInterceptor} 的新实例。
      *
@@ -40,13 +50,73 @@ public class CacheableInterceptor extends AbstractCacheInterceptor {
         MethodInvocation invocation = methodJoinPoint.getProxiedInvocation();
         CacheKey key = this.getKeyGenerator()
                 .generate(invocation.getTarget(), invocation.getMethod(), invocation.getArguments());
-        for (Cache instance : this.getCacheInstances()) {
-            if (instance.contains(key)) {
-                return instance.get(key);
+        List<Cache> instances = this.getCacheInstances();
+        try {
+            return this.load(instances, 0, key, methodJoinPoint);
+        } catch (ProceedException e) {
+            throw e.getCause();
+        }
+    }
+
+    private Object load(List<Cache> instances, int index, CacheKey key, MethodJoinPoint methodJoinPoint) {
+        if (index >= instances.size()) {
+            return this.proceed(key, methodJoinPoint);
+        }
+        return instances.get(index).getOrLoad(key, () -> this.load(instances, index + 1, key, methodJoinPoint));
+    }
+
+    private Object proceed(CacheKey key, MethodJoinPoint methodJoinPoint) {
+        Loading loading = new Loading();
+        Loading existing = this.loadings.putIfAbsent(key, loading);
+        if (existing != null && !existing.isOwnedByCurrentThread()) {
+            return existing.await();
+        }
+        try {
+            Object result = methodJoinPoint.proceed();
+            loading.complete(result);
+            return result;
+        } catch (Throwable e) {
+            ProceedException exception = e instanceof ProceedException ? (ProceedException) e : new ProceedException(e);
+            loading.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            if (existing == null) {
+                this.loadings.remove(key, loading);
+            }
+        }
+    }
+
+    /**
+     * 表示一次正在进行的被拦截方法的调用，记录发起调用的线程以识别递归调用。
+     */
+    private static final class Loading extends CompletableFuture<Object> {
+        private final Thread owner = Thread.currentThread();
+
+        boolean isOwnedByCurrentThread() {
+            return this.owner == Thread.currentThread();
+        }
+
+        Object await() {
+            try {
+                return this.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw e;
             }
         }
-        Object result = methodJoinPoint.proceed();
-        this.getCacheInstances().forEach(instance -> instance.put(key, result));
-        return result;
+    }
+
+    /**
+     * 表示被拦截的方法抛出的异常，用于将受检异常穿过缓存实例的加载程序传递给调用方。
+     */
+    private static final class ProceedException extends RuntimeException {
+        ProceedException(Throwable cause) {
+            super(null, cause, false, false);
+        }
     }
 }
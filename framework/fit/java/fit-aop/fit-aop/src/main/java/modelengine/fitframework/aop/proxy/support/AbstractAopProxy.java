@@ -10,31 +10,45 @@ import modelengine.fitframework.aop.interceptor.MethodInterceptor;
 import modelengine.fitframework.aop.interceptor.MethodInvocation;
 import modelengine.fitframework.aop.interceptor.MethodJoinPoint;
 import modelengine.fitframework.aop.interceptor.support.DefaultMethodInvocation;
-import modelengine.fitframework.aop.interceptor.support.DefaultMethodJoinPoint;
 import modelengine.fitframework.aop.proxy.FitProxy;
 import modelengine.fitframework.aop.proxy.InterceptSupport;
+import modelengine.fitframework.exception.MethodInvocationException;
 import modelengine.fitframework.inspection.Nullable;
-import modelengine.fitframework.util.CollectionUtils;
 import modelengine.fitframework.util.LazyLoader;
+import modelengine.fitframework.util.ReflectionUtils;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * AOP 调用的核心抽象代理。
+ * <p>每个方法的拦截器链在代理创建时一次性计算完成，调用时按照方法直接取出。拦截器之间直接调用，调用被代理对象时使用按方法缓存的
+ * {@link MethodHandle}，不再经过反射。</p>
  *
  * @author 季聿阶
  * @since 2022-05-25
  */
 public abstract class AbstractAopProxy implements FitProxy {
+    private static final String GET_ACTUAL_CLASS = "$fit$getActualClass";
+    private static final String TO_STRING = "toString";
+    private static final MethodInterceptor[] NO_INTERCEPTORS = new MethodInterceptor[0];
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
     private final LazyLoader<Object> targetSupplier;
-    private final List<MethodInterceptor> methodInterceptors;
+    private final Map<Method, MethodInterceptor[]> interceptorChains;
+    private final Map<Method, Optional<MethodHandle>> proxiedInvokers = new ConcurrentHashMap<>();
     private final Class<?> targetClass;
-    private final Method interceptMethod;
-    private final Method getActualClassMethod;
 
     /**
      * 使用拦截支持信息实例化 {@link AbstractAopProxy}。
@@ -43,15 +57,23 @@ public abstract class AbstractAopProxy implements FitProxy {
      */
     protected AbstractAopProxy(InterceptSupport support) {
         this.targetSupplier = new LazyLoader<>(support::getTarget);
-        this.methodInterceptors = support.getMethodInterceptors();
+        this.interceptorChains = buildInterceptorChains(support.getMethodInterceptors());
         this.targetClass = support.getTargetClass();
-        try {
-            this.interceptMethod = MethodInterceptor.class.getDeclaredMethod("intercept", MethodJoinPoint.class);
-            this.getActualClassMethod = FitProxy.class.getDeclaredMethod("$fit$getActualClass");
-        } catch (NoSuchMethodException e) {
-            // 必然存在指定方法，因此该分支不会走到。
-            throw new IllegalStateException(e);
+    }
+
+    private static Map<Method, MethodInterceptor[]> buildInterceptorChains(List<MethodInterceptor> interceptors) {
+        Map<Method, List<MethodInterceptor>> chains = new LinkedHashMap<>();
+        for (MethodInterceptor interceptor : interceptors) {
+            if (interceptor == null) {
+                continue;
+            }
+            for (Method method : interceptor.getPointCut().methods()) {
+                chains.computeIfAbsent(method, key -> new ArrayList<>()).add(interceptor);
+            }
         }
+        Map<Method, MethodInterceptor[]> result = new HashMap<>(chains.size() * 2);
+        chains.forEach((method, chain) -> result.put(method, chain.toArray(NO_INTERCEPTORS)));
+        return result;
     }
 
     @Override
@@ -59,14 +81,27 @@ public abstract class AbstractAopProxy implements FitProxy {
         return Optional.ofNullable(this.getTarget()).map(Object::getClass).orElse(null);
     }
 
+    /**
+     * AOP 调用核心逻辑，使用按方法缓存的调用器调用被代理对象。
+     *
+     * @param proxy 表示代理对象的 {@link Object}。
+     * @param method 表示调用方法的 {@link Method}。
+     * @param args 表示调用参数的 {@link Object}{@code []}。
+     * @return 表示调用后返回值的 {@link Object}。
+     * @throws Throwable 当调用过程发生异常时。
+     * @see #invoke(Object, Method, Object[], ProxiedInvoker)
+     */
+    protected Object dispatch(Object proxy, Method method, Object[] args) throws Throwable {
+        return this.invoke(proxy, method, args, this::invokeProxied);
+    }
+
     /**
      * AOP 调用核心逻辑。
      * <p>调用过程如下：</p>
      * <ol>
-     *     <li>根据调用方法，过滤被代理对象的所有方法拦截器，如果没有合适的方法拦截器，则直接调用被代理对象。</li>
-     *     <li>在过滤后的方法拦截器列表最后，添加一个 {@link ProxiedInterceptor}，用于调用被代理对象。</li>
-     *     <li>从最后一个方法拦截器开始，依次向前构造当前方法拦截器的参数。</li>
-     *     <li>构造完所有方法拦截器的参数后，调用第一个方法拦截器。</li>
+     *     <li>根据调用方法，取出代理创建时计算好的方法拦截器链，如果没有合适的方法拦截器，则直接调用被代理对象。</li>
+     *     <li>调用第一个方法拦截器，每个方法拦截器通过连接点直接调用下一个方法拦截器。</li>
+     *     <li>最后一个方法拦截器通过 {@code proxiedInvoker} 调用被代理对象。</li>
      * </ol>
      *
      * @param proxy 表示代理对象的 {@link Object}。
@@ -78,41 +113,57 @@ public abstract class AbstractAopProxy implements FitProxy {
      */
     protected Object invoke(Object proxy, Method method, Object[] args, ProxiedInvoker proxiedInvoker)
             throws Throwable {
-        if (Objects.equals(method.getName(), this.getActualClassMethod.getName())) {
+        if (Objects.equals(method.getName(), GET_ACTUAL_CLASS) && method.getParameterCount() == 0) {
             return this.$fit$getActualClass();
         }
-        List<MethodInterceptor> actualMethodInterceptors = this.filterMethodInterceptors(method);
-        if (CollectionUtils.isEmpty(actualMethodInterceptors)) {
-            return proxiedInvoker.invoke(new DefaultMethodInvocation(this.getTarget(), method, args));
+        MethodInterceptor[] chain = this.interceptorChains.getOrDefault(method, NO_INTERCEPTORS);
+        MethodInvocation proxiedInvocation = new DefaultMethodInvocation(this.getTarget(), method, args);
+        if (chain.length == 0) {
+            return proxiedInvoker.invoke(proxiedInvocation);
         }
-        MethodJoinPoint joinPoint = this.getJoinPoint(proxy, method, args, proxiedInvoker, actualMethodInterceptors);
-        return actualMethodInterceptors.get(0).intercept(joinPoint);
+        MethodInvocation proxyInvocation = new DefaultMethodInvocation(proxy, method, args);
+        MethodJoinPoint joinPoint =
+                new InterceptorChainJoinPoint(chain, 0, proxiedInvoker, proxiedInvocation, proxyInvocation);
+        return chain[0].intercept(joinPoint);
     }
 
-    private List<MethodInterceptor> filterMethodInterceptors(Method method) {
-        return this.methodInterceptors.stream()
-                .filter(Objects::nonNull)
-                .filter(methodInterceptor -> methodInterceptor.getPointCut().methods().contains(method))
-                .collect(Collectors.toList());
+    private Object invokeProxied(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        Object target = invocation.getTarget();
+        if (target == null && isToString(method)) {
+            return "$fit$" + this.getTargetClass().getName() + "#" + TO_STRING + "()";
+        }
+        Optional<MethodHandle> invoker = this.proxiedInvokers.computeIfAbsent(method, AbstractAopProxy::toInvoker);
+        if (invoker.isPresent()) {
+            return (Object) invoker.get().invokeExact(target, invocation.getArguments());
+        }
+        try {
+            return ReflectionUtils.invoke(target, method, invocation.getArguments());
+        } catch (MethodInvocationException e) {
+            throw e.getCause();
+        }
     }
 
-    private MethodJoinPoint getJoinPoint(Object proxy, Method method, Object[] args, ProxiedInvoker proxiedInvoker,
-            List<MethodInterceptor> actualMethodInterceptors) {
-        MethodInvocation proxiedInvocation = new DefaultMethodInvocation(this.getTarget(), method, args);
-        MethodInvocation proxyInvocation = new DefaultMethodInvocation(proxy, method, args);
-        MethodJoinPoint lastJoinPoint =
-                new DefaultMethodJoinPoint(proxiedInvocation, proxiedInvocation, proxyInvocation);
-        MethodInterceptor lastInterceptor = new ProxiedInterceptor(proxiedInvoker);
-        MethodInvocation nextInvocation =
-                new DefaultMethodInvocation(lastInterceptor, this.interceptMethod, new Object[] {lastJoinPoint});
-        lastJoinPoint = new DefaultMethodJoinPoint(nextInvocation, proxiedInvocation, proxyInvocation);
-        for (int i = actualMethodInterceptors.size() - 1; i >= 1; i--) {
-            MethodInterceptor currentInterceptor = actualMethodInterceptors.get(i);
-            Object[] currentArgs = new Object[] {lastJoinPoint};
-            nextInvocation = new DefaultMethodInvocation(currentInterceptor, this.interceptMethod, currentArgs);
-            lastJoinPoint = new DefaultMethodJoinPoint(nextInvocation, proxiedInvocation, proxyInvocation);
+    private static Optional<MethodHandle> toInvoker(Method method) {
+        if (Modifier.isStatic(method.getModifiers())) {
+            return Optional.empty();
+        }
+        try {
+            if (!Modifier.isPublic(method.getModifiers())
+                    || !Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+                method.setAccessible(true);
+            }
+            MethodHandle handle = MethodHandles.lookup().unreflect(method);
+            return Optional.of(handle.asSpreader(Object[].class, method.getParameterCount()).asType(INVOKER_TYPE));
+        } catch (IllegalAccessException | RuntimeException e) {
+            // 无法访问的方法仍然通过反射调用。
+            return Optional.empty();
         }
-        return lastJoinPoint;
+    }
+
+    private static boolean isToString(Method method) {
+        return !Modifier.isStatic(method.getModifiers()) && Objects.equals(method.getName(), TO_STRING)
+                && method.getParameterCount() == 0;
     }
 
     @Nullable
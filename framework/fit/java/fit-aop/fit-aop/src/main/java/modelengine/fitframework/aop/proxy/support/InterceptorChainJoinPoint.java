@@ -0,0 +1,106 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.aop.proxy.support;
+
+import modelengine.fitframework.aop.interceptor.MethodInterceptor;
+import modelengine.fitframework.aop.interceptor.MethodInvocation;
+import modelengine.fitframework.aop.interceptor.MethodJoinPoint;
+import modelengine.fitframework.aop.interceptor.support.DefaultMethodInvocation;
+import modelengine.fitframework.inspection.Nonnull;
+import modelengine.fitframework.inspection.Nullable;
+
+import java.lang.reflect.Method;
+
+/**
+ * 表示方法拦截器链上的连接点。
+ * <p>连接点直接调用拦截器链上的下一个方法拦截器，最后一个方法拦截器的连接点通过 {@link ProxiedInvoker} 调用被代理对象。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+final class InterceptorChainJoinPoint implements MethodJoinPoint {
+    private static final Method INTERCEPT_METHOD;
+
+    static {
+        try {
+            INTERCEPT_METHOD = MethodInterceptor.class.getDeclaredMethod("intercept", MethodJoinPoint.class);
+        } catch (NoSuchMethodException e) {
+            // 必然存在指定方法，因此该分支不会走到。
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private final MethodInterceptor[] chain;
+    private final int index;
+    private final ProxiedInvoker proxiedInvoker;
+    private final MethodInvocation proxiedInvocation;
+    private final MethodInvocation proxyInvocation;
+
+    /**
+     * 创建拦截器链上指定位置的连接点。
+     *
+     * @param chain 表示方法拦截器链的 {@link MethodInterceptor}{@code []}。
+     * @param index 表示当前连接点所属的方法拦截器在拦截器链中的位置的 {@code int}。
+     * @param proxiedInvoker 表示调用被代理对象的方法的 {@link ProxiedInvoker}。
+     * @param proxiedInvocation 表示被代理的方法调用的 {@link MethodInvocation}。
+     * @param proxyInvocation 表示代理的方法调用的 {@link MethodInvocation}。
+     */
+    InterceptorChainJoinPoint(MethodInterceptor[] chain, int index, ProxiedInvoker proxiedInvoker,
+            MethodInvocation proxiedInvocation, MethodInvocation proxyInvocation) {
+        this.chain = chain;
+        this.index = index;
+        this.proxiedInvoker = proxiedInvoker;
+        this.proxiedInvocation = proxiedInvocation;
+        this.proxyInvocation = proxyInvocation;
+    }
+
+    @Nullable
+    @Override
+    public Object proceed() throws Throwable {
+        int next = this.index + 1;
+        if (next < this.chain.length) {
+            return this.chain[next].intercept(this.next());
+        }
+        return this.proxiedInvoker.invoke(this.proxiedInvocation);
+    }
+
+    @Nullable
+    @Override
+    public Object proceed(@Nonnull Object[] args) throws Throwable {
+        this.proxiedInvocation.setArguments(args);
+        return this.proceed();
+    }
+
+    private InterceptorChainJoinPoint next() {
+        return new InterceptorChainJoinPoint(this.chain,
+                this.index + 1,
+                this.proxiedInvoker,
+                this.proxiedInvocation,
+                this.proxyInvocation);
+    }
+
+    @Nonnull
+    @Override
+    public MethodInvocation getNextInvocation() {
+        int next = this.index + 1;
+        MethodInterceptor interceptor =
+                next < this.chain.length ? this.chain[next] : new ProxiedInterceptor(this.proxiedInvoker);
+        return new DefaultMethodInvocation(interceptor, INTERCEPT_METHOD, new Object[] {this.next()});
+    }
+
+    @Nonnull
+    @Override
+    public MethodInvocation getProxiedInvocation() {
+        return this.proxiedInvocation;
+    }
+
+    @Nonnull
+    @Override
+    public MethodInvocation getProxyInvocation() {
+        return this.proxyInvocation;
+    }
+}
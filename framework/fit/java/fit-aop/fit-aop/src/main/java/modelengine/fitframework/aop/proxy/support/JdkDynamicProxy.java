@@ -7,13 +7,9 @@
 package modelengine.fitframework.aop.proxy.support;
 
 import modelengine.fitframework.aop.proxy.InterceptSupport;
-import modelengine.fitframework.exception.MethodInvocationException;
-import modelengine.fitframework.util.ReflectionUtils;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
-import java.util.Objects;
 
 /**
  * Jdk 动态代理的回调。
@@ -22,8 +18,6 @@ import java.util.Objects;
  * @since 2022-05-25
  */
 public class JdkDynamicProxy extends AbstractAopProxy implements InvocationHandler {
-    private static final String TO_STRING = "toString";
-
     /**
      * 使用拦截支持信息实例化 {@link JdkDynamicProxy}。
      *
@@ -35,20 +29,6 @@ public class JdkDynamicProxy extends AbstractAopProxy implements InvocationHandl
 
     @Override
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-        return this.invoke(proxy, method, args, methodInvocation -> {
-            try {
-                if (methodInvocation.getTarget() == null && isToString(method)) {
-                    return "$fit$" + this.getTargetClass().getName() + "#" + TO_STRING + "()";
-                }
-                return ReflectionUtils.invoke(methodInvocation.getTarget(), method, methodInvocation.getArguments());
-            } catch (MethodInvocationException e) {
-                throw e.getCause();
-            }
-        });
-    }
-
-    private static boolean isToString(Method method) {
-        return !Modifier.isStatic(method.getModifiers()) && Objects.equals(method.getName(), TO_STRING)
-                && method.getParameterCount() == 0;
+        return this.dispatch(proxy, method, args);
     }
 }
@@ -0,0 +1,182 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.aop.interceptor.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import modelengine.fitframework.aop.interceptor.MethodInvocation;
+import modelengine.fitframework.aop.interceptor.MethodJoinPoint;
+import modelengine.fitframework.cache.Cache;
+import modelengine.fitframework.cache.CacheManager;
+import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.ioc.BeanFactory;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 表示 {@link CacheableInterceptor} 的单元测试。
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@DisplayName("测试 CacheableInterceptor")
+public class CacheableInterceptorTest {
+    private final Map<String, MapCache> caches = new ConcurrentHashMap<>();
+    private BeanContainer container;
+
+    @BeforeEach
+    void setup() {
+        CacheManager manager = mock(CacheManager.class);
+        when(manager.getInstance("first")).thenReturn(Optional.of(this.cache("first")));
+        when(manager.getInstance("second")).thenReturn(Optional.of(this.cache("second")));
+        BeanFactory factory = mock(BeanFactory.class);
+        when(factory.get()).thenReturn(manager);
+        this.container = mock(BeanContainer.class);
+        when(this.container.lookup(CacheManager.class)).thenReturn(Optional.of(factory));
+    }
+
+    private MapCache cache(String name) {
+        return this.caches.computeIfAbsent(name, MapCache::new);
+    }
+
+    private static MethodJoinPoint joinPoint(String argument, Callable proceed) throws Throwable {
+        MethodInvocation invocation = mock(MethodInvocation.class);
+        when(invocation.getMethod()).thenReturn(Object.class.getMethod("toString"));
+        when(invocation.getArguments()).thenReturn(new Object[] {argument});
+        MethodJoinPoint joinPoint = mock(MethodJoinPoint.class);
+        when(joinPoint.getProxiedInvocation()).thenReturn(invocation);
+        when(joinPoint.proceed()).thenAnswer(ignored -> proceed.call());
+        return joinPoint;
+    }
+
+    @Test
+    @DisplayName("同一个缓存键的并发未命中只调用一次被拦截的方法")
+    void shouldProceedOnceWhenConcurrentMisses() throws Throwable {
+        CacheableInterceptor interceptor =
+                new CacheableInterceptor(this.container, KeyGenerator.specified(0), Arrays.asList("first"));
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        MethodJoinPoint joinPoint = joinPoint("k", () -> {
+            calls.incrementAndGet();
+            release.await(5, TimeUnit.SECONDS);
+            return "v";
+        });
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    try {
+                        return interceptor.intercept(joinPoint);
+                    } catch (Throwable e) {
+                        throw new IllegalStateException(e);
+                    }
+                }));
+            }
+            while (calls.get() == 0) {
+                Thread.yield();
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<Object> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("v");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(this.cache("first").get(CacheKey.combine("k"))).isEqualTo("v");
+    }
+
+    @Test
+    @DisplayName("按照顺序查找缓存实例，并将结果放入未命中的缓存实例")
+    void shouldLoadFromLaterInstance() throws Throwable {
+        this.cache("second").put(CacheKey.combine("k"), "cached");
+        CacheableInterceptor interceptor =
+                new CacheableInterceptor(this.container, KeyGenerator.specified(0), Arrays.asList("first", "second"));
+        MethodJoinPoint joinPoint = joinPoint("k", () -> "v");
+
+        assertThat(interceptor.intercept(joinPoint)).isEqualTo("cached");
+        assertThat(this.cache("first").get(CacheKey.combine("k"))).isEqualTo("cached");
+    }
+
+    @Test
+    @DisplayName("被拦截的方法抛出的受检异常原样抛出，且不写入缓存")
+    void shouldRethrowCheckedException() throws Throwable {
+        CacheableInterceptor interceptor =
+                new CacheableInterceptor(this.container, KeyGenerator.specified(0), Arrays.asList("first"));
+        IOException exception = new IOException("failed");
+        MethodJoinPoint joinPoint = joinPoint("k", () -> {
+            throw exception;
+        });
+
+        assertThatThrownBy(() -> interceptor.intercept(joinPoint)).isSameAs(exception);
+        assertThat(this.cache("first").contains(CacheKey.combine("k"))).isFalse();
+    }
+
+    @FunctionalInterface
+    private interface Callable {
+        Object call() throws Throwable;
+    }
+
+    /**
+     * 表示使用 {@link Cache#getOrLoad(Object, java.util.function.Supplier)} 默认实现的缓存实例。
+     */
+    private static class MapCache implements Cache {
+        private final String name;
+        private final Map<Object, Object> values = new ConcurrentHashMap<>();
+
+        MapCache(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String name() {
+            return this.name;
+        }
+
+        @Override
+        public boolean contains(Object key) {
+            return this.values.containsKey(key);
+        }
+
+        @Override
+        public Object get(Object key) {
+            return this.values.get(key);
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            this.values.put(key, value);
+        }
+
+        @Override
+        public void remove(Object key) {
+            this.values.remove(key);
+        }
+    }
+}
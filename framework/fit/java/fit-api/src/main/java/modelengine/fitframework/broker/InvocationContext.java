@@ -167,6 +167,23 @@ public interface InvocationContext {
      */
     BinaryOperator<Object> accumulator();
 
+    /**
+     * 获取多播调用的并发度。
+     * <p>当并发度不大于 {@code 1} 时，多播调用将按顺序依次调用每一个目标地址。</p>
+     *
+     * @return 表示多播调用的并发度的 {@code int}。
+     */
+    int multicastParallelism();
+
+    /**
+     * 获取多播调用的法定成功数量。
+     * <p>当成功返回的目标地址数量达到该值时，多播调用将不再等待剩余的目标地址，直接返回已累加的部分结果。当该值不大于
+     * {@code 0} 时，表示需要等待所有目标地址返回。</p>
+     *
+     * @return 表示多播调用的法定成功数量的 {@code int}。
+     */
+    int multicastQuorum();
+
     /**
      * 获取动态路由或负载均衡所需的扩展信息。
      *
@@ -339,6 +356,22 @@ public interface InvocationContext {
          */
         Builder accumulator(BinaryOperator<Object> accumulator);
 
+        /**
+         * 向当前构建器中设置多播调用的并发度。
+         *
+         * @param parallelism 表示多播调用的并发度的 {@code int}。
+         * @return 表示当前构建器的 {@link Builder}。
+         */
+        Builder multicastParallelism(int parallelism);
+
+        /**
+         * 向当前构建器中设置多播调用的法定成功数量。
+         *
+         * @param quorum 表示多播调用的法定成功数量的 {@code int}。
+         * @return 表示当前构建器的 {@link Builder}。
+         */
+        Builder multicastQuorum(int quorum);
+
         /**
          * 向当前构建器中设置动态路由或负载均衡所需的扩展信息。
          *
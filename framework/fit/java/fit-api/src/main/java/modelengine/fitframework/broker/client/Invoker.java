@@ -12,6 +12,7 @@ import modelengine.fitframework.broker.Genericable;
 import modelengine.fitframework.broker.Target;
 import modelengine.fitframework.broker.UniqueFitableId;
 import modelengine.fitframework.broker.client.filter.loadbalance.EmptyFilter;
+import modelengine.fitframework.broker.client.filter.loadbalance.LatencyAwareFilter;
 import modelengine.fitframework.broker.client.filter.loadbalance.RoundRobinFilter;
 import modelengine.fitframework.conf.runtime.CommunicationProtocol;
 import modelengine.fitframework.conf.runtime.SerializationFormat;
@@ -79,6 +80,19 @@ public interface Invoker {
      */
     Invoker multicast(BinaryOperator<Object> accumulator);
 
+    /**
+     * 使用并发多播调用，即会同时调用多个目标地址，并按照返回的先后顺序进行结果累加。
+     * <p>每一个目标地址的调用超时时间由 {@link #timeout(long, TimeUnit)} 决定，超时的目标地址将被忽略。当成功返回的目标地址数量达到
+     * {@code quorum} 时，将直接返回已累加的部分结果，当 {@code quorum} 不大于 {@code 0} 时，表示需要等待所有目标地址返回。</p>
+     * <p><b>注意：并发多播调用时，结果的累加顺序与目标地址的顺序无关，因此 {@code accumulator} 需要满足交换律。</b></p>
+     *
+     * @param accumulator 表示多个结果的聚合器的 {@link BinaryOperator}{@code <}{@link Object}{@code >}。
+     * @param parallelism 表示最大并发调用数量的 {@code int}。
+     * @param quorum 表示法定成功数量的 {@code int}。
+     * @return 表示当前的服务调用器的 {@link Invoker}。
+     */
+    Invoker multicast(BinaryOperator<Object> accumulator, int parallelism, int quorum);
+
     /**
      * 设置最多可重试的次数。
      *
@@ -237,5 +251,14 @@ public interface Invoker {
         static Filter roundRobin() {
             return RoundRobinFilter.INSTANCE;
         }
+
+        /**
+         * 获取一个感知调用耗时的负载均衡过滤器。
+         *
+         * @return 表示感知调用耗时的负载均衡过滤器的实例的 {@link Filter}。
+         */
+        static Filter latencyAware() {
+            return LatencyAwareFilter.INSTANCE;
+        }
     }
 }
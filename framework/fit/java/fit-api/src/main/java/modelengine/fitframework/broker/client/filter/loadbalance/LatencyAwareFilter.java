@@ -0,0 +1,70 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.client.filter.loadbalance;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.broker.FitableMetadata;
+import modelengine.fitframework.broker.Target;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * 感知调用耗时的负载均衡策略。
+ * <p>该策略使用“二选一”（Power of Two Choices）算法：从待过滤地址中随机选择两个地址，并选择其中负载得分更低的一个。负载得分由
+ * {@link TargetStatistics} 根据调用耗时的指数加权移动平均值、正在进行中的调用数量以及近期调用失败率计算得出，新出现的进程在慢启动期内得分会被放大，
+ * 失败率过高的进程会被暂时摘除。</p>
+ * <p>当所有的待过滤地址都被摘除时，将退化为在所有地址中进行选择，以避免无地址可用。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class LatencyAwareFilter extends ChampionFilter {
+    /** {@link LatencyAwareFilter} 的预置实例。 */
+    public static final LatencyAwareFilter INSTANCE = new LatencyAwareFilter(TargetStatistics.INSTANCE);
+
+    private final TargetStatistics statistics;
+
+    /**
+     * 使用指定的调用统计信息初始化 {@link LatencyAwareFilter} 的新实例。
+     *
+     * @param statistics 表示调用统计信息的 {@link TargetStatistics}。
+     * @throws IllegalArgumentException 当 {@code statistics} 为 {@code null} 时。
+     */
+    public LatencyAwareFilter(TargetStatistics statistics) {
+        this.statistics = notNull(statistics, "The target statistics cannot be null.");
+    }
+
+    @Override
+    protected Optional<Target> select(FitableMetadata fitable, String localWorkerId, List<Target> toFilterTargets) {
+        List<Target> candidates = toFilterTargets.stream()
+                .filter(target -> !this.statistics.isEjected(target))
+                .collect(Collectors.toList());
+        if (candidates.isEmpty()) {
+            candidates = toFilterTargets;
+        }
+        if (candidates.size() == 1) {
+            return Optional.of(candidates.get(0));
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int firstIndex = random.nextInt(candidates.size());
+        int secondIndex = random.nextInt(candidates.size() - 1);
+        if (secondIndex >= firstIndex) {
+            secondIndex++;
+        }
+        Target first = candidates.get(firstIndex);
+        Target second = candidates.get(secondIndex);
+        double defaultLatency = Math.max(Math.max(this.statistics.latency(first), this.statistics.latency(second)), 0);
+        if (this.statistics.score(first, defaultLatency) <= this.statistics.score(second, defaultLatency)) {
+            return Optional.of(first);
+        }
+        return Optional.of(second);
+    }
+}
@@ -0,0 +1,191 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.client.filter.loadbalance;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.broker.Target;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 表示每一个调用地址的实时调用统计信息。
+ * <p>统计信息以 FIT 进程（Worker）为粒度进行记录，包含：</p>
+ * <ul>
+ *     <li>调用耗时的指数加权移动平均值（EWMA）；</li>
+ *     <li>正在进行中的调用数量；</li>
+ *     <li>近期调用失败率的指数加权移动平均值；</li>
+ *     <li>第一次被调用的时间，用于新进程的慢启动；</li>
+ *     <li>被摘除的截止时间，用于异常进程的摘除。</li>
+ * </ul>
+ * <p>统计信息由远程调用的执行器在每次调用前后进行记录，由 {@link LatencyAwareFilter} 在负载均衡时读取。</p>
+ * <p>进程下线后不会再有调用记录，因此超过 10 分钟没有被使用且没有进行中调用的统计信息会在记录调用时被清理，清理每分钟最多进行
+ * 一次。被清理的进程再次出现时重新开始统计，并重新经历慢启动。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class TargetStatistics {
+    /** {@link TargetStatistics} 的预置实例。 */
+    public static final TargetStatistics INSTANCE = new TargetStatistics(System::nanoTime);
+
+    private static final double DECAY = 0.3;
+    private static final long SLOW_START_NANOS = TimeUnit.SECONDS.toNanos(30);
+    private static final double MIN_SLOW_START_WEIGHT = 0.1;
+    private static final double MIN_SUCCESS_RATE = 0.1;
+    private static final int EJECTION_MIN_SAMPLES = 5;
+    private static final double EJECTION_ERROR_RATE = 0.5;
+    private static final long EJECTION_NANOS = TimeUnit.SECONDS.toNanos(30);
+    private static final long IDLE_NANOS = TimeUnit.MINUTES.toNanos(10);
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final Map<String, Stat> stats = new ConcurrentHashMap<>();
+    private final LongSupplier clock;
+    private final AtomicLong nextSweep;
+
+    /**
+     * 使用指定的时钟初始化 {@link TargetStatistics} 的新实例。
+     *
+     * @param clock 表示以纳秒为单位的单调时钟的 {@link LongSupplier}。
+     * @throws IllegalArgumentException 当 {@code clock} 为 {@code null} 时。
+     */
+    public TargetStatistics(LongSupplier clock) {
+        this.clock = notNull(clock, "The clock cannot be null.");
+        this.nextSweep = new AtomicLong(clock.getAsLong() + SWEEP_INTERVAL_NANOS);
+    }
+
+    /**
+     * 记录一次调用的开始。
+     *
+     * @param target 表示被调用地址的 {@link Target}。
+     * @return 表示调用开始时间的 {@code long}，需要在调用结束时传入 {@link #onComplete(Target, long, boolean)}。
+     * @throws IllegalArgumentException 当 {@code target} 为 {@code null} 时。
+     */
+    public long onStart(Target target) {
+        notNull(target, "The target cannot be null.");
+        long now = this.clock.getAsLong();
+        this.sweep(now);
+        Stat stat = this.stat(target);
+        stat.inFlight.incrementAndGet();
+        stat.lastUsed = now;
+        return now;
+    }
+
+    /**
+     * 记录一次调用的结束。
+     *
+     * @param target 表示被调用地址的 {@link Target}。
+     * @param startTime 表示调用开始时间的 {@code long}。
+     * @param isFailed 表示调用是否失败的 {@code boolean}。
+     * @throws IllegalArgumentException 当 {@code target} 为 {@code null} 时。
+     */
+    public void onComplete(Target target, long startTime, boolean isFailed) {
+        notNull(target, "The target cannot be null.");
+        long now = this.clock.getAsLong();
+        Stat stat = this.stat(target);
+        stat.inFlight.decrementAndGet();
+        stat.lastUsed = now;
+        stat.record(Math.max(now - startTime, 0), isFailed, now);
+    }
+
+    /**
+     * 判断指定调用地址当前是否被摘除。
+     *
+     * @param target 表示指定调用地址的 {@link Target}。
+     * @return 如果被摘除，则返回 {@code true}，否则，返回 {@code false}。
+     */
+    public boolean isEjected(Target target) {
+        Stat stat = this.stats.get(target.workerId());
+        return stat != null && stat.ejectedUntil - this.clock.getAsLong() > 0;
+    }
+
+    /**
+     * 计算指定调用地址的负载得分，得分越低表示越应该被选择。
+     * <p>计算得分不会创建统计信息。尚未被调用过的进程没有统计信息，按照没有进行中的调用、没有失败计算得分，第一次被调用时才开始
+     * 慢启动，因此只参与负载均衡而没有被选中的进程不会提前结束慢启动。</p>
+     *
+     * @param target 表示指定调用地址的 {@link Target}。
+     * @param defaultLatency 表示当调用地址没有调用耗时记录时使用的默认耗时的 {@code double}。
+     * @return 表示负载得分的 {@code double}。
+     */
+    public double score(Target target, double defaultLatency) {
+        Stat stat = this.stats.get(target.workerId());
+        if (stat == null) {
+            return defaultLatency + 1;
+        }
+        double latency = stat.samples == 0 ? defaultLatency : stat.latency;
+        double errorPenalty = 1 / Math.max(1 - stat.errorRate, MIN_SUCCESS_RATE);
+        return (latency + 1) * (stat.inFlight.get() + 1) * errorPenalty / this.slowStartWeight(stat);
+    }
+
+    /**
+     * 获取指定调用地址的调用耗时的指数加权移动平均值。
+     *
+     * @param target 表示指定调用地址的 {@link Target}。
+     * @return 如果有调用耗时记录，则返回以纳秒为单位的平均耗时，否则，返回 {@code -1}。
+     */
+    public double latency(Target target) {
+        Stat stat = this.stats.get(target.workerId());
+        return stat == null || stat.samples == 0 ? -1 : stat.latency;
+    }
+
+    private double slowStartWeight(Stat stat) {
+        long elapsed = this.clock.getAsLong() - stat.firstSeen;
+        if (elapsed >= SLOW_START_NANOS) {
+            return 1;
+        }
+        return Math.max((double) elapsed / SLOW_START_NANOS, MIN_SLOW_START_WEIGHT);
+    }
+
+    private void sweep(long now) {
+        long next = this.nextSweep.get();
+        if (now - next < 0 || !this.nextSweep.compareAndSet(next, now + SWEEP_INTERVAL_NANOS)) {
+            return;
+        }
+        this.stats.values().removeIf(stat -> stat.inFlight.get() == 0 && now - stat.lastUsed > IDLE_NANOS);
+    }
+
+    private Stat stat(Target target) {
+        return this.stats.computeIfAbsent(target.workerId(), key -> new Stat(this.clock.getAsLong()));
+    }
+
+    private static final class Stat {
+        private final long firstSeen;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private volatile double latency;
+        private volatile double errorRate;
+        private volatile int samples;
+        private volatile long ejectedUntil;
+        private volatile long lastUsed;
+
+        private Stat(long firstSeen) {
+            this.firstSeen = firstSeen;
+            this.ejectedUntil = firstSeen;
+            this.lastUsed = firstSeen;
+        }
+
+        private synchronized void record(long latency, boolean isFailed, long now) {
+            if (this.samples == 0) {
+                this.latency = latency;
+            } else {
+                this.latency = this.latency + DECAY * (latency - this.latency);
+            }
+            this.errorRate = this.errorRate + DECAY * ((isFailed ? 1 : 0) - this.errorRate);
+            this.samples = this.samples + 1;
+            if (this.samples >= EJECTION_MIN_SAMPLES && this.errorRate > EJECTION_ERROR_RATE) {
+                this.ejectedUntil = now + EJECTION_NANOS;
+                this.errorRate = 0;
+                this.samples = 0;
+            }
+        }
+    }
+}
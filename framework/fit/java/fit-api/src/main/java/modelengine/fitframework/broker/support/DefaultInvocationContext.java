@@ -53,6 +53,8 @@ public class DefaultInvocationContext implements InvocationContext {
     private final CommunicationType communicationType;
     private final boolean withDegradation;
     private final BinaryOperator<Object> accumulator;
+    private final int multicastParallelism;
+    private final int multicastQuorum;
     private final Map<String, Object> extensions;
 
     private DefaultInvocationContext(String genericableId, boolean isMicro, Method genericableMethod,
@@ -60,7 +62,8 @@ public class DefaultInvocationContext implements InvocationContext {
             String localWorkerId, String appName, List<String> environmentPrioritySequence, String specifiedEnvironment,
             int retry, long timeout, TimeUnit timeoutUnit, CommunicationProtocol protocol, SerializationFormat format,
             boolean isGeneric, boolean isMulticast, CommunicationType communicationType, boolean withDegradation,
-            BinaryOperator<Object> accumulator, Map<String, Object> extensions) {
+            BinaryOperator<Object> accumulator, int multicastParallelism, int multicastQuorum,
+            Map<String, Object> extensions) {
         this.genericableId = genericableId;
         this.isMicro = isMicro;
         this.genericableMethod = genericableMethod;
@@ -81,6 +84,8 @@ public class DefaultInvocationContext implements InvocationContext {
         this.communicationType = communicationType;
         this.withDegradation = withDegradation;
         this.accumulator = accumulator;
+        this.multicastParallelism = multicastParallelism;
+        this.multicastQuorum = multicastQuorum;
         this.extensions = extensions;
     }
 
@@ -184,6 +189,16 @@ public class DefaultInvocationContext implements InvocationContext {
         return this.accumulator;
     }
 
+    @Override
+    public int multicastParallelism() {
+        return this.multicastParallelism;
+    }
+
+    @Override
+    public int multicastQuorum() {
+        return this.multicastQuorum;
+    }
+
     @Override
     public Map<String, Object> filterExtensions() {
         return this.extensions;
@@ -212,6 +227,8 @@ public class DefaultInvocationContext implements InvocationContext {
         private boolean isMulticast;
         private boolean withDegradation;
         private BinaryOperator<Object> accumulator;
+        private int multicastParallelism;
+        private int multicastQuorum;
         private CommunicationType communicationType = CommunicationType.DEFAULT;
         private Map<String, Object> filterExtensions = new HashMap<>();
 
@@ -243,6 +260,8 @@ public class DefaultInvocationContext implements InvocationContext {
                 this.communicationType = context.communicationType();
                 this.withDegradation = context.withDegradation();
                 this.accumulator = context.accumulator();
+                this.multicastParallelism = context.multicastParallelism();
+                this.multicastQuorum = context.multicastQuorum();
             }
         }
 
@@ -372,6 +391,18 @@ public class DefaultInvocationContext implements InvocationContext {
             return this;
         }
 
+        @Override
+        public InvocationContext.Builder multicastParallelism(int parallelism) {
+            this.multicastParallelism = parallelism;
+            return this;
+        }
+
+        @Override
+        public InvocationContext.Builder multicastQuorum(int quorum) {
+            this.multicastQuorum = quorum;
+            return this;
+        }
+
         @Override
         public InvocationContext.Builder filterExtensions(Map<String, Object> filterExtensions) {
             if (MapUtils.isEmpty(filterExtensions)) {
@@ -404,6 +435,8 @@ public class DefaultInvocationContext implements InvocationContext {
                     this.communicationType,
                     this.withDegradation,
                     this.accumulator,
+                    this.multicastParallelism,
+                    this.multicastQuorum,
                     this.filterExtensions);
         }
     }
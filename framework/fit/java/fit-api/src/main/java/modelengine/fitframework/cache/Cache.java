@@ -6,6 +6,10 @@
 
 package modelengine.fitframework.cache;
 
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import java.util.function.Supplier;
+
 /**
  * 表示缓存实例。
  *
@@ -38,6 +42,27 @@ public interface Cache {
      */
     Object get(Object key);
 
+    /**
+     * 获取指定键的值，当缓存中不存在该键时，通过指定的加载器加载值并放入缓存。
+     * <p>默认实现由 {@link #contains(Object)}、{@link #get(Object)} 和 {@link #put(Object, Object)} 组合而成，不是原子
+     * 操作，并发未命中同一个键时加载器会被多次调用。缓存实现应当重写该方法，保证同一个键同一时刻只有一次加载，其余的调用
+     * 等待该次加载的结果。</p>
+     *
+     * @param key 表示指定键的 {@link Object}。
+     * @param loader 表示缓存未命中时加载值的 {@link Supplier}{@code <?>}。
+     * @return 表示指定键的值的 {@link Object}。
+     * @throws IllegalArgumentException 当 {@code key} 或 {@code loader} 为 {@code null} 时。
+     */
+    default Object getOrLoad(Object key, Supplier<?> loader) {
+        notNull(loader, "The cache loader cannot be null.");
+        if (this.contains(key)) {
+            return this.get(key);
+        }
+        Object value = loader.get();
+        this.put(key, value);
+        return value;
+    }
+
     /**
      * 设置指定键的值。
      *
@@ -54,4 +79,14 @@ public interface Cache {
      * @throws IllegalArgumentException 当 {@code key} 为 {@code null} 时。
      */
     void remove(Object key);
+
+    /**
+     * 获取当前缓存实例的统计信息。
+     *
+     * @return 表示当前缓存实例统计信息的 {@link CacheStatistics}。不记录统计信息的缓存实例返回
+     * {@link CacheStatistics#empty()}。
+     */
+    default CacheStatistics statistics() {
+        return CacheStatistics.empty();
+    }
 }
@@ -0,0 +1,93 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.cache;
+
+/**
+ * 表示缓存实例的统计信息。
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public interface CacheStatistics {
+    /**
+     * 获取缓存命中的次数。
+     *
+     * @return 表示缓存命中次数的 {@code long}。
+     */
+    long hitCount();
+
+    /**
+     * 获取缓存未命中的次数。
+     *
+     * @return 表示缓存未命中次数的 {@code long}。
+     */
+    long missCount();
+
+    /**
+     * 获取加载缓存值成功的次数。
+     *
+     * @return 表示加载缓存值成功次数的 {@code long}。
+     */
+    long loadSuccessCount();
+
+    /**
+     * 获取加载缓存值失败的次数。
+     *
+     * @return 表示加载缓存值失败次数的 {@code long}。
+     */
+    long loadFailureCount();
+
+    /**
+     * 获取加载缓存值的总耗时。
+     *
+     * @return 表示加载缓存值总耗时的纳秒数的 {@code long}。
+     */
+    long totalLoadTime();
+
+    /**
+     * 获取因为容量限制被淘汰的缓存项的数量。
+     *
+     * @return 表示被淘汰的缓存项数量的 {@code long}。
+     */
+    long evictionCount();
+
+    /**
+     * 获取因为过期被移除的缓存项的数量。
+     *
+     * @return 表示过期的缓存项数量的 {@code long}。
+     */
+    long expirationCount();
+
+    /**
+     * 获取缓存命中率。
+     *
+     * @return 表示缓存命中率的 {@code double}，没有任何请求时返回 {@code 1.0}。
+     */
+    default double hitRate() {
+        long requests = this.hitCount() + this.missCount();
+        return requests == 0 ? 1.0 : (double) this.hitCount() / requests;
+    }
+
+    /**
+     * 获取加载缓存值的平均耗时。
+     *
+     * @return 表示加载缓存值平均耗时的纳秒数的 {@code double}，没有加载过时返回 {@code 0.0}。
+     */
+    default double averageLoadPenalty() {
+        long loads = this.loadSuccessCount() + this.loadFailureCount();
+        return loads == 0 ? 0.0 : (double) this.totalLoadTime() / loads;
+    }
+
+    /**
+     * 获取不记录任何信息的统计信息。
+     *
+     * @return 表示不记录任何信息的统计信息的 {@link CacheStatistics}。
+     */
+    static CacheStatistics empty() {
+        return EmptyCacheStatistics.INSTANCE;
+    }
+}
@@ -0,0 +1,55 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.cache;
+
+/**
+ * 表示不记录任何信息的 {@link CacheStatistics}。
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+final class EmptyCacheStatistics implements CacheStatistics {
+    /** 表示当前类型的唯一实例。 */
+    static final EmptyCacheStatistics INSTANCE = new EmptyCacheStatistics();
+
+    private EmptyCacheStatistics() {}
+
+    @Override
+    public long hitCount() {
+        return 0L;
+    }
+
+    @Override
+    public long missCount() {
+        return 0L;
+    }
+
+    @Override
+    public long loadSuccessCount() {
+        return 0L;
+    }
+
+    @Override
+    public long loadFailureCount() {
+        return 0L;
+    }
+
+    @Override
+    public long totalLoadTime() {
+        return 0L;
+    }
+
+    @Override
+    public long evictionCount() {
+        return 0L;
+    }
+
+    @Override
+    public long expirationCount() {
+        return 0L;
+    }
+}
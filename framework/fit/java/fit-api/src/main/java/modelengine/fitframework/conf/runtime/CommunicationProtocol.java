@@ -22,6 +22,8 @@ public enum CommunicationProtocol {
     UNKNOWN(-1),
     /** 表示 rsocket 的传输协议。 */
     RSOCKET(0),
+    /** 表示基于 TCP 长连接的二进制帧的传输协议。 */
+    SOCKET(1),
     /** 表示 http 的传输协议。 */
     HTTP(2),
     /** 表示 grpc 的传输协议。 */
@@ -0,0 +1,126 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.client.filter.loadbalance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import modelengine.fitframework.broker.FitableMetadata;
+import modelengine.fitframework.broker.GenericableMetadata;
+import modelengine.fitframework.broker.Target;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link LatencyAwareFilter} 的单元测试。
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@DisplayName("验证感知调用耗时的负载均衡的过滤器")
+public class LatencyAwareFilterTest {
+    private final AtomicLong clock = new AtomicLong();
+    private TargetStatistics statistics;
+    private LatencyAwareFilter filter;
+    private FitableMetadata fitable;
+    private Target fast;
+    private Target slow;
+
+    @BeforeEach
+    void setup() {
+        this.statistics = new TargetStatistics(this.clock::get);
+        this.filter = new LatencyAwareFilter(this.statistics);
+        this.fitable = mock(FitableMetadata.class);
+        GenericableMetadata genericable = mock(GenericableMetadata.class);
+        when(this.fitable.genericable()).thenReturn(genericable);
+        when(genericable.id()).thenReturn("gid");
+        when(this.fitable.id()).thenReturn("fid");
+        this.fast = Target.custom().workerId("fast").host("h1").build();
+        this.slow = Target.custom().workerId("slow").host("h2").build();
+    }
+
+    private void record(Target target, long millis, boolean isFailed) {
+        long start = this.statistics.onStart(target);
+        this.clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+        this.statistics.onComplete(target, start, isFailed);
+    }
+
+    private List<Target> select() {
+        return this.filter.filter(this.fitable, "local", Arrays.asList(this.fast, this.slow), new HashMap<>());
+    }
+
+    @Test
+    @DisplayName("当慢启动结束后，总是选择调用耗时更低的地址")
+    void shouldSelectFasterTarget() {
+        this.record(this.fast, 1, false);
+        this.record(this.slow, 100, false);
+        this.clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        for (int i = 0; i < 20; i++) {
+            assertThat(this.select()).containsExactly(this.fast);
+        }
+    }
+
+    @Test
+    @DisplayName("当地址失败率过高时，将其摘除")
+    void shouldEjectFailingTarget() {
+        this.record(this.slow, 1, false);
+        for (int i = 0; i < 5; i++) {
+            this.record(this.fast, 1, true);
+        }
+        assertThat(this.statistics.isEjected(this.fast)).isTrue();
+        for (int i = 0; i < 20; i++) {
+            assertThat(this.select()).containsExactly(this.slow);
+        }
+        this.clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        assertThat(this.statistics.isEjected(this.fast)).isFalse();
+    }
+
+    @Test
+    @DisplayName("当新地址处于慢启动期时，降低其被选择的优先级")
+    void shouldPreferWarmTargetDuringSlowStart() {
+        this.record(this.slow, 10, false);
+        this.clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        this.record(this.fast, 10, false);
+        assertThat(this.select()).containsExactly(this.slow);
+    }
+
+    @Test
+    @DisplayName("当新地址只参与负载均衡而没有被调用时，不提前开始慢启动")
+    void shouldStartSlowStartOnFirstCall() {
+        this.record(this.slow, 10, false);
+        this.filter.filter(this.fitable, "local", Arrays.asList(this.slow, this.fast), new HashMap<>());
+        assertThat(this.statistics.latency(this.fast)).isEqualTo(-1);
+        this.clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        this.record(this.fast, 5, false);
+        for (int i = 0; i < 20; i++) {
+            assertThat(this.select()).containsExactly(this.slow);
+        }
+    }
+
+    @Test
+    @DisplayName("当地址长时间没有被调用时，清理其统计信息")
+    void shouldEvictIdleTarget() {
+        this.record(this.fast, 1, false);
+        this.record(this.slow, 1, false);
+        this.clock.addAndGet(TimeUnit.MINUTES.toNanos(5));
+        this.record(this.slow, 1, false);
+        assertThat(this.statistics.latency(this.fast)).isPositive();
+        this.clock.addAndGet(TimeUnit.MINUTES.toNanos(6));
+        this.record(this.slow, 1, false);
+        assertThat(this.statistics.latency(this.fast)).isEqualTo(-1);
+        assertThat(this.statistics.latency(this.slow)).isPositive();
+    }
+}
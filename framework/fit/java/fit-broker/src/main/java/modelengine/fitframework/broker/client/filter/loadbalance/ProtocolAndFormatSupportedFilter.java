@@ -21,6 +21,7 @@ import modelengine.fitframework.util.CollectionUtils;
 import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.StringUtils;
 
+import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -71,9 +72,10 @@ public class ProtocolAndFormatSupportedFilter extends AbstractFilter {
         if (this.isLocal(target, localWorkerId)) {
             return target;
         }
+        Method method = fitable.genericable().method().method();
         List<Endpoint> endpoints = target.endpoints()
                 .stream()
-                .filter(endpoint -> this.isProtocolSupported(endpoint.protocol()))
+                .filter(endpoint -> this.isProtocolSupported(endpoint.protocol(), method))
                 .filter(endpoint -> this.isProtocolSpecified(endpoint.protocol()))
                 .collect(Collectors.toList());
         if (CollectionUtils.isEmpty(endpoints)) {
@@ -82,8 +84,7 @@ public class ProtocolAndFormatSupportedFilter extends AbstractFilter {
                     target);
             return null;
         }
-        List<Integer> supportedFormatCodes =
-                this.serializationService.getSupportedFormats(fitable.genericable().method().method());
+        List<Integer> supportedFormatCodes = this.serializationService.getSupportedFormats(method);
         Set<Integer> targetFormatCodes =
                 target.formats().stream().map(Format::code).filter(this::isFormatSpecified).collect(Collectors.toSet());
         Set<Integer> availableFormatCodes = CollectionUtils.intersectOrdered(supportedFormatCodes, targetFormatCodes);
@@ -110,8 +111,9 @@ public class ProtocolAndFormatSupportedFilter extends AbstractFilter {
         return Objects.equals(target.workerId(), localWorkerId);
     }
 
-    private boolean isProtocolSupported(String protocol) {
-        return this.clients.stream().anyMatch(client -> client.getSupportedProtocols().contains(protocol));
+    private boolean isProtocolSupported(String protocol, Method method) {
+        return this.clients.stream()
+                .anyMatch(client -> client.getSupportedProtocols().contains(protocol) && client.isSupported(method));
     }
 
     private boolean isProtocolSpecified(String protocol) {
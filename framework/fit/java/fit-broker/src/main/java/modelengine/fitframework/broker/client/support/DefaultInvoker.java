@@ -97,7 +97,17 @@ public class DefaultInvoker implements Invoker {
     @Override
     public Invoker multicast(BinaryOperator<Object> accumulator) {
         this.accumulator = accumulator;
-        this.contextBuilder.isMulticast(true).accumulator(accumulator);
+        this.contextBuilder.isMulticast(true).accumulator(accumulator).multicastParallelism(1).multicastQuorum(0);
+        return this;
+    }
+
+    @Override
+    public Invoker multicast(BinaryOperator<Object> accumulator, int parallelism, int quorum) {
+        this.accumulator = accumulator;
+        this.contextBuilder.isMulticast(true)
+                .accumulator(accumulator)
+                .multicastParallelism(parallelism)
+                .multicastQuorum(quorum);
         return this;
     }
 
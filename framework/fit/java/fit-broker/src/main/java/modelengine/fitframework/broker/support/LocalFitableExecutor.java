@@ -21,12 +21,12 @@ import modelengine.fitframework.ioc.BeanMetadata;
 import modelengine.fitframework.ioc.annotation.AnnotationMetadata;
 import modelengine.fitframework.ioc.support.BeanFactoryResolver;
 import modelengine.fitframework.util.LazyLoader;
+import modelengine.fitframework.util.MethodInvoker;
 import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.ReflectionUtils;
 import modelengine.fitframework.util.StringUtils;
 
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -46,6 +46,9 @@ public class LocalFitableExecutor extends AbstractUnicastFitableExecutor impleme
     private final BeanMetadata metadata;
     private final LazyLoader<Object> targetLoader;
     private final Method method;
+    private final MethodInvoker invoker;
+    private final Class<?>[] parameterTypes;
+    private final Class<?>[] wrappedParameterTypes;
 
     /**
      * 使用指定的标识、微服务标志、元数据、实现所在 Bean 的提供者和方法初始化 {@link LocalFitableExecutor} 的新实例。
@@ -64,6 +67,11 @@ public class LocalFitableExecutor extends AbstractUnicastFitableExecutor impleme
         this.metadata = notNull(metadata, "The bean metadata cannot be null.");
         this.targetLoader = new LazyLoader<>(notNull(targetSupplier, "The target supplier cannot be null."));
         this.method = notNull(method, "The method cannot be null.");
+        this.invoker = MethodInvoker.of(method);
+        this.parameterTypes = method.getParameterTypes();
+        this.wrappedParameterTypes = Stream.of(this.parameterTypes)
+                .map(ReflectionUtils::ignorePrimitiveClass)
+                .toArray(Class<?>[]::new);
     }
 
     @Override
@@ -108,7 +116,7 @@ public class LocalFitableExecutor extends AbstractUnicastFitableExecutor impleme
         Object result;
         try {
             Thread.currentThread().setContextClassLoader(this.metadata.container().plugin().pluginClassLoader());
-            result = ReflectionUtils.invoke(this.targetLoader.get(), this.method, args);
+            result = this.invoker.invoke(this.targetLoader.get(), args);
         } catch (MethodInvocationException e) {
             Throwable cause = e.getCause();
             throw FitException.wrap(cause, this.id.genericableId(), this.id.fitableId());
@@ -130,27 +138,21 @@ public class LocalFitableExecutor extends AbstractUnicastFitableExecutor impleme
     }
 
     private void validateParams(Object[] args) {
-        Parameter[] parameters = this.method.getParameters();
         int actualArgLen = args == null ? 0 : args.length;
-        int expectedArgLen = parameters.length;
+        int expectedArgLen = this.parameterTypes.length;
         Validation.equals(actualArgLen,
                 expectedArgLen,
                 "Argument number mismatch. [argumentTypes={0}]",
-                Stream.of(parameters).map(Parameter::getType).map(Class::getName).collect(Collectors.toList()));
+                Stream.of(this.parameterTypes).map(Class::getName).collect(Collectors.toList()));
         for (int i = 0; i < actualArgLen; i++) {
             Object actualArg = args[i];
-            if (actualArg == null) {
-                continue;
-            }
-            Class<?> expected = ReflectionUtils.ignorePrimitiveClass(parameters[i].getType());
-            Class<?> actual = actualArg.getClass();
-            if (expected.isAssignableFrom(actual)) {
+            if (actualArg == null || this.wrappedParameterTypes[i].isInstance(actualArg)) {
                 continue;
             }
             throw new IllegalArgumentException(StringUtils.format(
                     "Argument[{0}] mismatch. [expectedArgumentType={1}, actualArgumentType={2}]",
                     i,
-                    parameters[i].getType().getName(),
+                    this.parameterTypes[i].getName(),
                     actualArg.getClass().getName()));
         }
     }
@@ -15,21 +15,41 @@ import modelengine.fitframework.broker.Target;
 import modelengine.fitframework.ioc.BeanContainer;
 import modelengine.fitframework.ioc.BeanFactory;
 import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.thread.DefaultThreadFactory;
 import modelengine.fitframework.util.LazyLoader;
 import modelengine.fitframework.util.StringUtils;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BinaryOperator;
 
 /**
  * 表示 {@link FitableExecutor} 的多播调用实现。
+ * <p>当 {@link InvocationContext#multicastParallelism()} 大于 {@code 1} 时，将并发调用所有的目标地址，每一个目标地址的调用超时时间由
+ * {@link InvocationContext#timeout()} 决定，且返回的结果会在到达时立即通过 {@link InvocationContext#accumulator()}
+ * 进行累加，因此整体的调用耗时取决于最慢的目标地址，而不是所有目标地址的耗时之和。</p>
+ * <p>所有的多播调用共享一个最多 {@value #MAX_MULTICAST_THREADS} 个线程的线程池，线程池已满时由调用方线程直接执行该目标地址的调用，
+ * 因此突发的多播调用不会无限制地创建线程，而是逐渐退化为顺序调用。</p>
  *
  * @author 季聿阶
  * @since 2023-03-28
  */
 public class MulticastFitableExecutor implements FitableExecutor {
     private static final Logger log = Logger.get(MulticastFitableExecutor.class);
+    private static final int MAX_MULTICAST_THREADS = 64;
+    private static final LazyLoader<ExecutorService> MULTICAST_EXECUTOR_LOADER =
+            new LazyLoader<>(MulticastFitableExecutor::createMulticastExecutor);
 
     private final BeanContainer container;
     private final FitableExecutor remoteFitableExecutor;
@@ -43,8 +63,25 @@ public class MulticastFitableExecutor implements FitableExecutor {
                 .orElseThrow(() -> new IllegalStateException("No LocalExecutorFactory.")));
     }
 
+    private static ExecutorService createMulticastExecutor() {
+        return new ThreadPoolExecutor(0,
+                MAX_MULTICAST_THREADS,
+                60L,
+                TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                new DefaultThreadFactory("fitable-multicast", true, (thread, cause) -> log.error(
+                        "Failed to execute multicast task. [thread={}]",
+                        thread.getName(),
+                        cause)),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
     @Override
     public Object execute(Fitable fitable, List<Target> targets, InvocationContext context, Object[] args) {
+        int parallelism = Math.min(context.multicastParallelism(), targets.size());
+        if (parallelism > 1) {
+            return this.executeConcurrently(fitable, targets, context, args, parallelism);
+        }
         return targets.stream().map(target -> {
             try {
                 return this.execute(fitable, target, context, args);
@@ -56,6 +93,93 @@ public class MulticastFitableExecutor implements FitableExecutor {
         }).filter(Objects::nonNull).reduce(context.accumulator()).orElse(null);
     }
 
+    private Object executeConcurrently(Fitable fitable, List<Target> targets, InvocationContext context,
+            Object[] args, int parallelism) {
+        CompletionService<Object> completionService = new ExecutorCompletionService<>(MULTICAST_EXECUTOR_LOADER.get());
+        Map<Future<Object>, Long> deadlines = new HashMap<>();
+        long timeoutNanos = context.timeout() > 0 && context.timeoutUnit() != null
+                ? context.timeoutUnit().toNanos(context.timeout())
+                : Long.MAX_VALUE;
+        int quorum = context.multicastQuorum() > 0 ? context.multicastQuorum() : targets.size();
+        BinaryOperator<Object> accumulator = context.accumulator();
+        int next = 0;
+        int succeeded = 0;
+        Object result = null;
+        try {
+            while (next < parallelism) {
+                this.submit(completionService, deadlines, fitable, targets.get(next++), context, args, timeoutNanos);
+            }
+            while (!deadlines.isEmpty() && succeeded < quorum) {
+                Future<Object> future = this.poll(completionService, deadlines, fitable);
+                if (deadlines.remove(future) == null) {
+                    // 已经超时的调用在取消后仍会进入完成队列，此时直接忽略。
+                    continue;
+                }
+                Object value = this.getQuietly(future, fitable);
+                if (value != null) {
+                    result = result == null ? value : accumulator.apply(result, value);
+                    succeeded++;
+                }
+                if (next < targets.size()) {
+                    Target target = targets.get(next++);
+                    this.submit(completionService, deadlines, fitable, target, context, args, timeoutNanos);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while multicast, return partial result instead. [id={}]", fitable.toUniqueId());
+        } finally {
+            deadlines.keySet().forEach(future -> future.cancel(true));
+        }
+        return result;
+    }
+
+    private void submit(CompletionService<Object> completionService, Map<Future<Object>, Long> deadlines,
+            Fitable fitable, Target target, InvocationContext context, Object[] args, long timeoutNanos) {
+        Future<Object> future = completionService.submit(() -> this.execute(fitable, target, context, args));
+        long now = System.nanoTime();
+        deadlines.put(future, timeoutNanos > Long.MAX_VALUE - now ? Long.MAX_VALUE : now + timeoutNanos);
+    }
+
+    /**
+     * 等待下一个完成的调用。当最早到期的调用超时时，将其作为已完成的调用返回，由调用方忽略其结果。
+     */
+    private Future<Object> poll(CompletionService<Object> completionService, Map<Future<Object>, Long> deadlines,
+            Fitable fitable) throws InterruptedException {
+        while (true) {
+            Map.Entry<Future<Object>, Long> earliest =
+                    deadlines.entrySet().stream().min(Map.Entry.comparingByValue()).orElseThrow();
+            Future<Object> completed;
+            if (earliest.getValue() == Long.MAX_VALUE) {
+                completed = completionService.take();
+            } else {
+                completed = completionService.poll(earliest.getValue() - System.nanoTime(), TimeUnit.NANOSECONDS);
+            }
+            if (completed != null) {
+                return completed;
+            }
+            if (System.nanoTime() - earliest.getValue() >= 0) {
+                log.warn("Timeout to execute fitable executor while multicast, ignore it. [id={}]",
+                        fitable.toUniqueId());
+                earliest.getKey().cancel(true);
+                return earliest.getKey();
+            }
+        }
+    }
+
+    private Object getQuietly(Future<Object> future, Fitable fitable) throws InterruptedException {
+        if (future.isCancelled()) {
+            return null;
+        }
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            log.warn("Failed to execute fitable executor while multicast, return null instead. [id={}]",
+                    fitable.toUniqueId());
+            return null;
+        }
+    }
+
     private Object execute(Fitable fitable, Target target, InvocationContext context, Object[] args) {
         if (this.isLocal(target, context)) {
             LocalExecutor localExecutor = this.localExecutorFactoryLoader.get()
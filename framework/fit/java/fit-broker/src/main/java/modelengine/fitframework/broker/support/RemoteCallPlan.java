@@ -0,0 +1,86 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.support;
+
+import modelengine.fit.client.Client;
+import modelengine.fitframework.broker.Genericable;
+import modelengine.fitframework.serialization.Version;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+
+/**
+ * 表示一个服务实现在指定通讯协议和序列化方式下的远程调用计划。
+ * <p>远程调用计划中保存了每次远程调用都相同的不变信息，包括客户端、参数和返回值的类型以及请求元数据中的版本信息，从而避免每次调用时重复计算。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+final class RemoteCallPlan {
+    private final long clientVersion;
+    private final long genericableRevision;
+    private final Genericable genericable;
+    private final Method method;
+    private final Client client;
+    private final Type[] argumentTypes;
+    private final Type returnType;
+    private final byte dataFormat;
+    private final Version genericableVersion;
+    private final Version fitableVersion;
+
+    RemoteCallPlan(long clientVersion, long genericableRevision, Genericable genericable, Method method,
+            Client client, Type[] argumentTypes, Type returnType, byte dataFormat, Version genericableVersion,
+            Version fitableVersion) {
+        this.clientVersion = clientVersion;
+        this.genericableRevision = genericableRevision;
+        this.genericable = genericable;
+        this.method = method;
+        this.client = client;
+        this.argumentTypes = argumentTypes;
+        this.returnType = returnType;
+        this.dataFormat = dataFormat;
+        this.genericableVersion = genericableVersion;
+        this.fitableVersion = fitableVersion;
+    }
+
+    /**
+     * 判断当前调用计划对于指定的服务和方法是否仍然有效。
+     *
+     * @param genericable 表示当前服务的 {@link Genericable}。
+     * @param method 表示当前服务方法的 {@link Method}。
+     * @return 如果仍然有效，则返回 {@code true}，否则，返回 {@code false}。
+     */
+    boolean isValid(Genericable genericable, Method method) {
+        return this.clientVersion == RemoteCallPlanInvalidator.clientVersion()
+                && this.genericableRevision == RemoteCallPlanInvalidator.genericableVersion(genericable.id())
+                && this.genericable == genericable && this.method == method;
+    }
+
+    Client client() {
+        return this.client;
+    }
+
+    Type[] argumentTypes() {
+        return this.argumentTypes;
+    }
+
+    Type returnType() {
+        return this.returnType;
+    }
+
+    byte dataFormat() {
+        return this.dataFormat;
+    }
+
+    Version genericableVersion() {
+        return this.genericableVersion;
+    }
+
+    Version fitableVersion() {
+        return this.fitableVersion;
+    }
+}
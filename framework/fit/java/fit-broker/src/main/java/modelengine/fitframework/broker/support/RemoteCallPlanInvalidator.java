@@ -0,0 +1,137 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.support;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fit.client.Client;
+import modelengine.fitframework.broker.LocalExecutor;
+import modelengine.fitframework.broker.LocalExecutorFactory;
+import modelengine.fitframework.broker.UniqueFitableId;
+import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.ioc.BeanFactory;
+import modelengine.fitframework.plugin.Plugin;
+import modelengine.fitframework.plugin.PluginStartedObserver;
+import modelengine.fitframework.plugin.PluginStoppedObserver;
+import modelengine.fitframework.util.LazyLoader;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 表示远程调用计划的失效器。
+ * <p>远程调用计划的有效性由两个版本号共同决定：</p>
+ * <ul>
+ *     <li>客户端版本号：远程调用计划中缓存了从容器中解析得到的客户端，当启动或停止的插件中提供了 {@link Client} 时，
+ *     容器中可用的客户端可能发生变化，此时使所有已缓存的远程调用计划失效；</li>
+ *     <li>服务版本号：当插件启动或停止时，只使该插件中的服务实现所属的服务的远程调用计划失效，其他服务的远程调用计划不受影响。</li>
+ * </ul>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class RemoteCallPlanInvalidator implements PluginStartedObserver, PluginStoppedObserver {
+    private static final AtomicLong CLIENT_VERSION = new AtomicLong();
+    private static final AtomicLong GENERICABLE_VERSION = new AtomicLong();
+    private static final Map<String, Long> GENERICABLE_VERSIONS = new ConcurrentHashMap<>();
+
+    private final LazyLoader<LocalExecutorFactory> localExecutorFactoryLoader;
+    private final Map<String, Set<String>> pluginGenericables = new ConcurrentHashMap<>();
+    private final Set<String> clientPlugins = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 使用指定的容器初始化 {@link RemoteCallPlanInvalidator} 的新实例。
+     *
+     * @param container 表示用于查找本地执行器工厂的 {@link BeanContainer}。
+     * @throws IllegalArgumentException 当 {@code container} 为 {@code null} 时。
+     */
+    public RemoteCallPlanInvalidator(BeanContainer container) {
+        notNull(container, "The bean container cannot be null.");
+        this.localExecutorFactoryLoader = new LazyLoader<>(() -> container.lookup(LocalExecutorFactory.class)
+                .map(BeanFactory::<LocalExecutorFactory>get)
+                .orElseThrow(() -> new IllegalStateException("No LocalExecutorFactory.")));
+    }
+
+    @Override
+    public void onPluginStarted(Plugin plugin) {
+        String name = plugin.metadata().name();
+        if (!plugin.container().factories(Client.class).isEmpty()) {
+            this.clientPlugins.add(name);
+            invalidate();
+        }
+        Set<String> genericableIds = this.genericableIdsOf(plugin);
+        this.pluginGenericables.put(name, genericableIds);
+        genericableIds.forEach(RemoteCallPlanInvalidator::invalidate);
+    }
+
+    @Override
+    public void onPluginStopped(Plugin plugin) {
+        // 插件停止后，其服务实现和客户端已经不能再从容器中获取，因此使用插件启动时的记录。
+        String name = plugin.metadata().name();
+        if (this.clientPlugins.remove(name)) {
+            invalidate();
+        }
+        Set<String> genericableIds = this.pluginGenericables.remove(name);
+        if (genericableIds != null) {
+            genericableIds.forEach(RemoteCallPlanInvalidator::invalidate);
+        }
+    }
+
+    private Set<String> genericableIdsOf(Plugin plugin) {
+        try {
+            LocalExecutorFactory factory = this.localExecutorFactoryLoader.get();
+            return Stream.concat(factory.get(plugin, false).stream(), factory.get(plugin, true).stream())
+                    .map(LocalExecutor::id)
+                    .map(UniqueFitableId::genericableId)
+                    .collect(Collectors.toSet());
+        } catch (IllegalStateException e) {
+            // 无法获取插件中的服务实现时，保守地使所有已缓存的远程调用计划失效。
+            invalidate();
+            return Collections.emptySet();
+        }
+    }
+
+    /**
+     * 使所有已缓存的远程调用计划失效。
+     */
+    public static void invalidate() {
+        CLIENT_VERSION.incrementAndGet();
+    }
+
+    /**
+     * 使指定服务的已缓存的远程调用计划失效。
+     *
+     * @param genericableId 表示指定服务的唯一标识的 {@link String}。
+     */
+    public static void invalidate(String genericableId) {
+        GENERICABLE_VERSIONS.put(genericableId, GENERICABLE_VERSION.incrementAndGet());
+    }
+
+    /**
+     * 获取当前客户端的版本号。
+     *
+     * @return 表示当前客户端的版本号的 {@code long}。
+     */
+    static long clientVersion() {
+        return CLIENT_VERSION.get();
+    }
+
+    /**
+     * 获取指定服务当前的版本号。
+     *
+     * @param genericableId 表示指定服务的唯一标识的 {@link String}。
+     * @return 表示指定服务当前的版本号的 {@code long}。
+     */
+    static long genericableVersion(String genericableId) {
+        return GENERICABLE_VERSIONS.getOrDefault(genericableId, 0L);
+    }
+}
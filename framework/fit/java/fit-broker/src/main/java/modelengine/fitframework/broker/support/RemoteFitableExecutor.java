@@ -22,8 +22,11 @@ import modelengine.fitframework.broker.FitExceptionCreator;
 import modelengine.fitframework.broker.Fitable;
 import modelengine.fitframework.broker.FitableExecutor;
 import modelengine.fitframework.broker.Format;
+import modelengine.fitframework.broker.Genericable;
 import modelengine.fitframework.broker.InvocationContext;
 import modelengine.fitframework.broker.Target;
+import modelengine.fitframework.broker.client.filter.loadbalance.TargetStatistics;
+import modelengine.fitframework.conf.runtime.CommunicationProtocol;
 import modelengine.fitframework.conf.runtime.MatataConfig;
 import modelengine.fitframework.exception.FitException;
 import modelengine.fitframework.ioc.BeanContainer;
@@ -40,14 +43,16 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
 import java.time.Instant;
-import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
  * 表示 {@link FitableExecutor} 的远程调用实现。
+ * <p>每一种通讯协议和序列化方式的组合都会缓存一份 {@link RemoteCallPlan 远程调用计划}，当服务方法发生变化或
+ * {@link RemoteCallPlanInvalidator} 通知客户端可能发生变化时，远程调用计划会被重新生成。</p>
  *
  * @author 季聿阶
  * @since 2023-03-28
@@ -61,6 +66,7 @@ public class RemoteFitableExecutor extends AbstractUnicastFitableExecutor {
             new LazyLoader<>(this::requireRegisterAuthService);
     private final LazyLoader<Set<String>> requireMatataGenericables = new LazyLoader<>(this::requireMatataGenericables);
     private final LazyLoader<Boolean> isAccessEnable = new LazyLoader<>(this::isAccessEnable);
+    private final Map<String, Map<Integer, RemoteCallPlan>> plans = new ConcurrentHashMap<>();
 
     RemoteFitableExecutor(BeanContainer container) {
         this.container = container;
@@ -71,15 +77,19 @@ public class RemoteFitableExecutor extends AbstractUnicastFitableExecutor {
         this.validateTarget(fitable, target);
         log.debug("Prepare to invoke remote fitable. [id={}, target={}]", fitable.toUniqueId(), target);
         Format format = this.chooseFormat(target);
-        RequestMetadata requestMetadataBytes = this.getRequestMetadataBytes(format, fitable);
-        Method method = fitable.genericable().method().method();
-        Response response = this.requestResponse(target, context, requestMetadataBytes, args, method);
+        Endpoint endpoint = this.chooseEndpoint(target);
+        RemoteCallPlan plan = this.getPlan(fitable, endpoint.protocol(), format, args);
+        RequestMetadata requestMetadataBytes = this.buildRequestMetadata(plan.dataFormat(),
+                plan.genericableVersion(),
+                plan.fitableVersion(),
+                fitable);
+        Response response = this.requestResponse(target, endpoint, context, requestMetadataBytes, args, plan);
         if (this.isTokenValid(response.metadata())) {
             this.requireRegisterAuthService.get().refreshToken(Instant.now());
             requestMetadataBytes = requestMetadataBytes.copy()
                     .accessToken(this.requireRegisterAuthService.get().getToken().getAccessToken().getToken())
                     .build();
-            response = this.requestResponse(target, context, requestMetadataBytes, args, method);
+            response = this.requestResponse(target, endpoint, context, requestMetadataBytes, args, plan);
         }
         if (this.isSuccess(response.metadata())) {
             log.debug("Invoke remote fitable successfully. [id={}, target={}]", fitable.toUniqueId(), target);
@@ -94,6 +104,33 @@ public class RemoteFitableExecutor extends AbstractUnicastFitableExecutor {
         throw responseException;
     }
 
+    private RemoteCallPlan getPlan(Fitable fitable, String protocol, Format format, Object[] args) {
+        Genericable genericable = fitable.genericable();
+        Method method = genericable.method().method();
+        Map<Integer, RemoteCallPlan> protocolPlans =
+                this.plans.computeIfAbsent(protocol, key -> new ConcurrentHashMap<>());
+        RemoteCallPlan plan = protocolPlans.get(format.code());
+        if (plan == null || !plan.isValid(genericable, method) || plan.argumentTypes().length != args.length) {
+            plan = this.createPlan(fitable, genericable, method, protocol, format, args);
+            protocolPlans.put(format.code(), plan);
+        }
+        return plan;
+    }
+
+    private RemoteCallPlan createPlan(Fitable fitable, Genericable genericable, Method method, String protocol,
+            Format format, Object[] args) {
+        return new RemoteCallPlan(RemoteCallPlanInvalidator.clientVersion(),
+                RemoteCallPlanInvalidator.genericableVersion(genericable.id()),
+                genericable,
+                method,
+                this.requireClient(protocol),
+                this.getGenericParameterTypes(method, args),
+                this.getGenericReturnType(method),
+                valueFormat(format.code()),
+                Version.builder(genericable.version()).build(),
+                Version.builder(fitable.version()).build());
+    }
+
     private FitExceptionCreator getExceptionCreator() {
         return this.container.lookup(FitExceptionCreator.class)
                 .map(BeanFactory::<FitExceptionCreator>get)
@@ -119,24 +156,34 @@ public class RemoteFitableExecutor extends AbstractUnicastFitableExecutor {
     }
 
     /**
-     * 获取请求元数据。
+     * 选择一个通信协议的端点。
+     * <p>目标地址提供长连接端点时优先使用，长连接复用同一个连接，调用开销最低；否则使用目标地址中的第一个端点。选择结果不依赖于
+     * 服务端注册各个端点的顺序。</p>
      *
-     * @param format 表示指定的序列化协议的 {@link Format}。
-     * @param fitable 表示指定的泛化接口的 {@link Fitable}。
-     * @return 表示请求元数据的 {@link RequestMetadata}。
+     * @param target 表示指定目标地址的 {@link Target}。
+     * @return 表示选择的端点的 {@link Endpoint}。
      */
-    protected RequestMetadata getRequestMetadataBytes(Format format, Fitable fitable) {
+    protected Endpoint chooseEndpoint(Target target) {
+        return target.endpoints()
+                .stream()
+                .filter(endpoint -> CommunicationProtocol.from(endpoint.protocol()) == CommunicationProtocol.SOCKET)
+                .findFirst()
+                .orElseGet(() -> target.endpoints().iterator().next());
+    }
+
+    private RequestMetadata buildRequestMetadata(byte dataFormat, Version genericableVersion, Version fitableVersion,
+            Fitable fitable) {
         String token =
                 this.isAccessEnable.get() && this.requireMatataGenericables.get().contains(fitable.genericable().id())
                         ? this.requireRegisterAuthService.get().getToken().getAccessToken().getToken()
                         : null;
         return RequestMetadata.custom()
-                .dataFormat(valueFormat(format.code()))
+                .dataFormat(dataFormat)
                 .genericableId(fitable.genericable().id())
-                .genericableVersion(Version.builder(fitable.genericable().version()).build())
+                .genericableVersion(genericableVersion)
                 .fitableId(fitable.id())
-                .fitableVersion(Version.builder(fitable.version()).build())
-                .tagValues(this.getTlvFromSerializers())
+                .fitableVersion(fitableVersion)
+                .tagValues(TagLengthValues.create())
                 .accessToken(token)
                 .build();
     }
@@ -191,13 +238,6 @@ public class RemoteFitableExecutor extends AbstractUnicastFitableExecutor {
         return secureAccess != null && secureAccess.enabled();
     }
 
-    private TagLengthValues getTlvFromSerializers() {
-        Map<Integer, byte[]> tlvMaps = Collections.emptyMap();
-        TagLengthValues result = TagLengthValues.create();
-        result.putTags(tlvMaps);
-        return result;
-    }
-
     private boolean isSuccess(ResponseMetadata responseMetadata) {
         return responseMetadata.code() == ResponseMetadata.CODE_OK;
     }
@@ -206,25 +246,33 @@ public class RemoteFitableExecutor extends AbstractUnicastFitableExecutor {
         return responseMetadata.code() == AuthenticationException.CODE;
     }
 
-    private Response requestResponse(Target target, InvocationContext context, RequestMetadata metadata, Object[] args,
-            Method method) {
-        Endpoint endpoint = target.endpoints().iterator().next();
+    private Response requestResponse(Target target, Endpoint endpoint, InvocationContext context,
+            RequestMetadata metadata, Object[] args, RemoteCallPlan plan) {
         Address address = Address.create(target.host(), endpoint.port());
         RequestContext requestContext = RequestContext.create(context.timeout(),
                 context.timeoutUnit(),
                 context.communicationType(),
                 target.extensions());
-        Type[] argumentTypes = this.getGenericParameterTypes(method, args);
         Request request = Request.custom()
                 .protocol(endpoint.protocol())
                 .address(address)
                 .metadata(metadata)
-                .dataTypes(argumentTypes)
+                .dataTypes(plan.argumentTypes())
                 .data(args)
-                .returnType(this.getGenericReturnType(method))
+                .returnType(plan.returnType())
                 .context(requestContext)
                 .build();
-        return this.requireClient(endpoint.protocol()).requestResponse(request);
+        Client client = plan.client();
+        long startTime = TargetStatistics.INSTANCE.onStart(target);
+        boolean isFailed = true;
+        try {
+            Response response = client.requestResponse(request);
+            // 令牌失效的响应会在刷新令牌后重试，不计为调用地址的失败。
+            isFailed = !this.isSuccess(response.metadata()) && !this.isTokenValid(response.metadata());
+            return response;
+        } finally {
+            TargetStatistics.INSTANCE.onComplete(target, startTime, isFailed);
+        }
     }
 
     /**
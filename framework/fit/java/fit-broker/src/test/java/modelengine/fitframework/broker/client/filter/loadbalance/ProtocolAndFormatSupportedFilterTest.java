@@ -49,6 +49,7 @@ public class ProtocolAndFormatSupportedFilterTest {
     void setup() {
         this.client = mock(Client.class);
         when(this.client.getSupportedProtocols()).thenReturn(Collections.singleton("http"));
+        when(this.client.isSupported(any())).thenReturn(true);
         this.serializationService = mock(SerializationService.class);
         when(this.serializationService.getSupportedFormats(any())).thenReturn(Collections.singletonList(
                 SerializationFormat.JSON.code()));
@@ -167,6 +168,26 @@ public class ProtocolAndFormatSupportedFilterTest {
             assertThat(actual).hasSize(1);
         }
 
+        @Test
+        @DisplayName("当客户端不能调用服务方法时，返回地址列表中不包含只有该协议的地址")
+        void shouldFilterTargetWhenClientCannotCarryMethod() {
+            when(ProtocolAndFormatSupportedFilterTest.this.client.isSupported(any())).thenReturn(false);
+            List<Target> actual = ProtocolAndFormatSupportedFilterTest.this.filter.filter(
+                    ProtocolAndFormatSupportedFilterTest.this.fitable,
+                    "local",
+                    Collections.singletonList(Target.custom()
+                            .endpoints(Collections.singletonList(Endpoint.custom()
+                                    .protocol(CommunicationProtocol.HTTP.name(), CommunicationProtocol.HTTP.code())
+                                    .build()))
+                            .formats(Collections.singletonList(Format.custom()
+                                    .name(SerializationFormat.JSON.name())
+                                    .code(SerializationFormat.JSON.code())
+                                    .build()))
+                            .build()),
+                    null);
+            assertThat(actual).isEmpty();
+        }
+
         private Client getClient() {
             return ProtocolAndFormatSupportedFilterTest.this.client;
         }
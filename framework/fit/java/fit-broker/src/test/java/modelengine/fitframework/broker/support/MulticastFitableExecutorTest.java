@@ -0,0 +1,121 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import modelengine.fitframework.broker.FitableExecutor;
+import modelengine.fitframework.broker.InvocationContext;
+import modelengine.fitframework.broker.Target;
+import modelengine.fitframework.ioc.BeanContainer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link MulticastFitableExecutor} 的测试类。
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@DisplayName("测试 MulticastFitableExecutor")
+public class MulticastFitableExecutorTest {
+    private DefaultFitable fitable;
+    private List<Target> targets;
+    private MulticastFitableExecutor executor;
+
+    @BeforeEach
+    void setup() {
+        this.fitable = new DefaultFitable(null, null, null, "f", "1.0.0");
+        this.fitable.genericable(new DefaultGenericable(null, "g", "1.0.0"));
+        this.targets = Arrays.asList(target("100"), target("200"), target("300"), target("fail"));
+        FitableExecutor remoteExecutor = (fitable, targets, context, args) -> {
+            String workerId = targets.get(0).workerId();
+            if ("fail".equals(workerId)) {
+                throw new IllegalStateException("failed");
+            }
+            long millis = Long.parseLong(workerId);
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            return millis;
+        };
+        this.executor = new MulticastFitableExecutor(mock(BeanContainer.class), remoteExecutor);
+    }
+
+    private static Target target(String workerId) {
+        return Target.custom().workerId(workerId).host("localhost").environment("local").build();
+    }
+
+    private static InvocationContext context(int parallelism, int quorum, long timeout) {
+        return InvocationContext.custom()
+                .localWorkerId("local")
+                .accumulator((first, second) -> (Long) first + (Long) second)
+                .multicastParallelism(parallelism)
+                .multicastQuorum(quorum)
+                .timeout(timeout)
+                .timeoutUnit(TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    @Test
+    @DisplayName("当并发度为 1 时，按顺序调用所有目标地址并忽略失败的调用")
+    void shouldExecuteSequentiallyWhenParallelismIsOne() {
+        Object result = this.executor.execute(this.fitable, this.targets, context(1, 0, 0), new Object[0]);
+        assertThat(result).isEqualTo(600L);
+    }
+
+    @Test
+    @DisplayName("当并发调用时，累加所有成功返回的结果")
+    void shouldAccumulateWhenExecuteConcurrently() {
+        Object result = this.executor.execute(this.fitable, this.targets, context(4, 0, 0), new Object[0]);
+        assertThat(result).isEqualTo(600L);
+    }
+
+    @Test
+    @DisplayName("当并发调用时，所有目标地址的调用同时进行")
+    void shouldExecuteAllTargetsAtTheSameTime() {
+        CountDownLatch arrived = new CountDownLatch(this.targets.size());
+        FitableExecutor remoteExecutor = (fitable, targets, context, args) -> {
+            arrived.countDown();
+            try {
+                // 只有所有目标地址的调用同时在进行时，每一个调用才能等到其他调用到达。
+                return arrived.await(5, TimeUnit.SECONDS) ? 1L : null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        };
+        MulticastFitableExecutor concurrent = new MulticastFitableExecutor(mock(BeanContainer.class), remoteExecutor);
+        Object result = concurrent.execute(this.fitable, this.targets, context(4, 0, 0), new Object[0]);
+        assertThat(result).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("当调用超时时，忽略超时的目标地址")
+    void shouldIgnoreTimeoutTargets() {
+        Object result = this.executor.execute(this.fitable, this.targets, context(4, 0, 250), new Object[0]);
+        assertThat(result).isEqualTo(300L);
+    }
+
+    @Test
+    @DisplayName("当成功返回数量达到法定数量时，返回部分结果")
+    void shouldReturnPartialResultWhenQuorumReached() {
+        Object result = this.executor.execute(this.fitable, this.targets, context(4, 1, 0), new Object[0]);
+        assertThat(result).isEqualTo(100L);
+    }
+}
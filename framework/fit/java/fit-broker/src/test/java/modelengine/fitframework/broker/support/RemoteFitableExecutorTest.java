@@ -6,13 +6,22 @@
 
 package modelengine.fitframework.broker.support;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import modelengine.fit.client.Client;
+import modelengine.fit.client.Request;
+import modelengine.fit.client.Response;
 import modelengine.fit.service.RegisterAuthService;
 import modelengine.fit.service.entity.ClientTokenInfo;
 import modelengine.fit.service.entity.TokenInfo;
+import modelengine.fitframework.broker.Endpoint;
 import modelengine.fitframework.broker.Format;
+import modelengine.fitframework.broker.InvocationContext;
+import modelengine.fitframework.broker.Target;
 import modelengine.fitframework.conf.runtime.DefaultAvailableService;
 import modelengine.fitframework.conf.runtime.DefaultMatata;
 import modelengine.fitframework.conf.runtime.DefaultRegistry;
@@ -21,17 +30,21 @@ import modelengine.fitframework.conf.runtime.MatataConfig;
 import modelengine.fitframework.ioc.BeanContainer;
 import modelengine.fitframework.ioc.BeanFactory;
 import modelengine.fitframework.serialization.RequestMetadata;
+import modelengine.fitframework.serialization.ResponseMetadata;
+import modelengine.fitframework.serialization.TagLengthValues;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * {@link RemoteFitableExecutor} 的测试类。
@@ -42,6 +55,7 @@ import java.util.List;
 @DisplayName("测试 RemoteFitableExecutor")
 public class RemoteFitableExecutorTest {
     private RemoteFitableExecutor remoteFitableExecutor;
+    private BeanContainer container;
 
     @BeforeEach
     void setUp() {
@@ -60,6 +74,7 @@ public class RemoteFitableExecutorTest {
         mockMatata.setRegistry(mockRegistry);
         RegisterAuthService mockService = mock(RegisterAuthService.class);
         BeanContainer container = mock(BeanContainer.class);
+        this.container = container;
         remoteFitableExecutor = new RemoteFitableExecutor(container);
         BeanFactory matataConfigFactory = mock(BeanFactory.class);
         BeanFactory registerFactory = mock(BeanFactory.class);
@@ -75,13 +90,107 @@ public class RemoteFitableExecutorTest {
 
     @Test
     @DisplayName("测试正确返回元数据")
-    void shouldReturnMeta() {
-        Format format = Format.custom().name("1").code(1).build();
+    void shouldReturnMeta() throws NoSuchMethodException {
+        Client client = mock(Client.class);
+        when(client.getSupportedProtocols()).thenReturn(Collections.singleton("http"));
+        when(client.requestResponse(any())).thenReturn(Response.create(ResponseMetadata.custom()
+                .code(ResponseMetadata.CODE_OK)
+                .tagValues(TagLengthValues.create())
+                .build(), "ok"));
+        BeanFactory clientFactory = mock(BeanFactory.class);
+        when(clientFactory.get()).thenReturn(client);
+        when(this.container.all(Client.class)).thenReturn(Collections.singletonList(clientFactory));
         DefaultFitable fitable = new DefaultFitable(null, null, null, "1", "1.0.0");
         DefaultGenericable genericable = new DefaultGenericable(null, "testGenericableId", "1.0.0");
+        genericable.method(String.class.getMethod("valueOf", Object.class));
         fitable.genericable(genericable);
-        RequestMetadata requestMetadata = this.remoteFitableExecutor.getRequestMetadataBytes(format, fitable);
+        Target target = Target.custom()
+                .workerId("w")
+                .host("localhost")
+                .environment("local")
+                .endpoints(Collections.singletonList(Endpoint.custom().protocol("http", 2).port(8080).build()))
+                .formats(Collections.singletonList(Format.custom().name("1").code(1).build()))
+                .build();
+        InvocationContext context = InvocationContext.custom().timeout(1).timeoutUnit(TimeUnit.SECONDS).build();
+        this.remoteFitableExecutor.execute(fitable, target, context, new Object[] {"arg"});
+        ArgumentCaptor<Request> captor = ArgumentCaptor.forClass(Request.class);
+        verify(client).requestResponse(captor.capture());
+        RequestMetadata requestMetadata = captor.getValue().metadata();
         Assertions.assertEquals("mockAccessToken", requestMetadata.accessToken());
         Assertions.assertEquals("testGenericableId", requestMetadata.genericableId());
     }
+
+    @Test
+    @DisplayName("测试远程调用计划被缓存，且只在其服务失效或全部失效后重新生成")
+    void shouldCacheRemoteCallPlan() throws NoSuchMethodException {
+        Client client = mock(Client.class);
+        when(client.getSupportedProtocols()).thenReturn(Collections.singleton("http"));
+        when(client.requestResponse(any())).thenReturn(Response.create(ResponseMetadata.custom()
+                .code(ResponseMetadata.CODE_OK)
+                .tagValues(TagLengthValues.create())
+                .build(), "ok"));
+        BeanFactory clientFactory = mock(BeanFactory.class);
+        when(clientFactory.get()).thenReturn(client);
+        when(this.container.all(Client.class)).thenReturn(Collections.singletonList(clientFactory));
+        DefaultFitable fitable = new DefaultFitable(null, null, null, "1", "1.0.0");
+        DefaultGenericable genericable = new DefaultGenericable(null, "otherGenericableId", "1.0.0");
+        genericable.method(String.class.getMethod("valueOf", Object.class));
+        fitable.genericable(genericable);
+        Target target = Target.custom()
+                .workerId("w")
+                .host("localhost")
+                .environment("local")
+                .endpoints(Collections.singletonList(Endpoint.custom().protocol("http", 2).port(8080).build()))
+                .formats(Collections.singletonList(Format.custom().name("json").code(1).build()))
+                .build();
+        InvocationContext context = InvocationContext.custom().timeout(1).timeoutUnit(TimeUnit.SECONDS).build();
+        Object[] args = new Object[] {"arg"};
+        Assertions.assertEquals("ok", this.remoteFitableExecutor.execute(fitable, target, context, args));
+        Assertions.assertEquals("ok", this.remoteFitableExecutor.execute(fitable, target, context, args));
+        verify(this.container, times(1)).all(Client.class);
+        RemoteCallPlanInvalidator.invalidate();
+        Assertions.assertEquals("ok", this.remoteFitableExecutor.execute(fitable, target, context, args));
+        verify(this.container, times(2)).all(Client.class);
+        RemoteCallPlanInvalidator.invalidate("unrelatedGenericableId");
+        Assertions.assertEquals("ok", this.remoteFitableExecutor.execute(fitable, target, context, args));
+        verify(this.container, times(2)).all(Client.class);
+        RemoteCallPlanInvalidator.invalidate("otherGenericableId");
+        Assertions.assertEquals("ok", this.remoteFitableExecutor.execute(fitable, target, context, args));
+        verify(this.container, times(3)).all(Client.class);
+    }
+
+    @Test
+    @DisplayName("测试目标地址同时提供多种协议时，不论端点的顺序都优先使用长连接协议")
+    void shouldPreferSocketEndpoint() throws NoSuchMethodException {
+        Client httpClient = mock(Client.class);
+        when(httpClient.getSupportedProtocols()).thenReturn(Collections.singleton("http"));
+        Client socketClient = mock(Client.class);
+        when(socketClient.getSupportedProtocols()).thenReturn(Collections.singleton("socket"));
+        when(socketClient.requestResponse(any())).thenReturn(Response.create(ResponseMetadata.custom()
+                .code(ResponseMetadata.CODE_OK)
+                .tagValues(TagLengthValues.create())
+                .build(), "ok"));
+        BeanFactory httpFactory = mock(BeanFactory.class);
+        when(httpFactory.get()).thenReturn(httpClient);
+        BeanFactory socketFactory = mock(BeanFactory.class);
+        when(socketFactory.get()).thenReturn(socketClient);
+        when(this.container.all(Client.class)).thenReturn(Arrays.asList(httpFactory, socketFactory));
+        DefaultFitable fitable = new DefaultFitable(null, null, null, "1", "1.0.0");
+        DefaultGenericable genericable = new DefaultGenericable(null, "socketGenericableId", "1.0.0");
+        genericable.method(String.class.getMethod("valueOf", Object.class));
+        fitable.genericable(genericable);
+        Target target = Target.custom()
+                .workerId("w")
+                .host("localhost")
+                .environment("local")
+                .endpoints(Arrays.asList(Endpoint.custom().protocol("http", 2).port(8080).build(),
+                        Endpoint.custom().protocol("socket", 1).port(8090).build()))
+                .formats(Collections.singletonList(Format.custom().name("json").code(1).build()))
+                .build();
+        InvocationContext context = InvocationContext.custom().timeout(1).timeoutUnit(TimeUnit.SECONDS).build();
+        Object[] args = new Object[] {"arg"};
+        Assertions.assertEquals("ok", this.remoteFitableExecutor.execute(fitable, target, context, args));
+        verify(socketClient, times(1)).requestResponse(any());
+        verify(httpClient, times(0)).requestResponse(any());
+    }
 }
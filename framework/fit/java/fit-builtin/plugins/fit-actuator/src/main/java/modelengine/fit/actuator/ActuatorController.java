@@ -10,6 +10,7 @@ import static modelengine.fitframework.inspection.Validation.notBlank;
 import static modelengine.fitframework.inspection.Validation.notNull;
 
 import modelengine.fit.actuator.entity.AddressVo;
+import modelengine.fit.actuator.entity.CacheVo;
 import modelengine.fit.actuator.entity.EndpointVo;
 import modelengine.fit.actuator.entity.FitableVo;
 import modelengine.fit.actuator.entity.FormatVo;
@@ -26,15 +27,21 @@ import modelengine.fitframework.broker.Genericable;
 import modelengine.fitframework.broker.Target;
 import modelengine.fitframework.broker.client.BrokerClient;
 import modelengine.fitframework.broker.client.filter.route.FitableIdFilter;
+import modelengine.fitframework.cache.Cache;
+import modelengine.fitframework.cache.CacheManager;
+import modelengine.fitframework.cache.CacheStatistics;
 import modelengine.fitframework.conf.Config;
 import modelengine.fitframework.conf.ConfigValueSupplier;
+import modelengine.fitframework.ioc.BeanFactory;
 import modelengine.fitframework.plugin.Plugin;
 import modelengine.fitframework.plugin.PluginComparators;
 import modelengine.fitframework.runtime.FitRuntime;
 import modelengine.fitframework.util.StringUtils;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 表示监控的控制器。
@@ -128,6 +135,44 @@ public class ActuatorController {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 获取当前进程中所有缓存实例的统计信息。
+     *
+     * @return 表示所有缓存实例统计信息的 {@link List}{@code <}{@link CacheVo}{@code >}。
+     */
+    @GetMapping(path = "/caches")
+    public List<CacheVo> getCaches() {
+        return Stream.concat(Stream.of(this.fitRuntime.root()), this.fitRuntime.plugins().stream())
+                .map(plugin -> plugin.container().factory(CacheManager.class))
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .<CacheManager>map(BeanFactory::get)
+                .distinct()
+                .flatMap(manager -> manager.getInstanceNames()
+                        .stream()
+                        .sorted()
+                        .map(manager::getInstance)
+                        .filter(Optional::isPresent)
+                        .map(Optional::get))
+                .map(this::convert)
+                .collect(Collectors.toList());
+    }
+
+    private CacheVo convert(Cache cache) {
+        CacheStatistics statistics = cache.statistics();
+        CacheVo vo = new CacheVo();
+        vo.setName(cache.name());
+        vo.setHitCount(statistics.hitCount());
+        vo.setMissCount(statistics.missCount());
+        vo.setHitRate(statistics.hitRate());
+        vo.setLoadSuccessCount(statistics.loadSuccessCount());
+        vo.setLoadFailureCount(statistics.loadFailureCount());
+        vo.setTotalLoadTime(statistics.totalLoadTime());
+        vo.setEvictionCount(statistics.evictionCount());
+        vo.setExpirationCount(statistics.expirationCount());
+        return vo;
+    }
+
     private PluginVo convert(Plugin plugin) {
         PluginVo vo = new PluginVo();
         vo.setGroup(plugin.metadata().group());
@@ -0,0 +1,28 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.actuator.entity;
+
+import lombok.Data;
+
+/**
+ * 表示缓存实例的统计信息。
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@Data
+public class CacheVo {
+    private String name;
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long loadSuccessCount;
+    private long loadFailureCount;
+    private long totalLoadTime;
+    private long evictionCount;
+    private long expirationCount;
+}
@@ -10,6 +10,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import modelengine.fit.actuator.entity.CacheVo;
 import modelengine.fit.actuator.entity.FitableVo;
 import modelengine.fit.actuator.entity.PluginVo;
 import modelengine.fitframework.broker.Aliases;
@@ -17,9 +18,15 @@ import modelengine.fitframework.broker.Fitable;
 import modelengine.fitframework.broker.Genericable;
 import modelengine.fitframework.broker.Tags;
 import modelengine.fitframework.broker.client.BrokerClient;
+import modelengine.fitframework.cache.Cache;
+import modelengine.fitframework.cache.CacheManager;
+import modelengine.fitframework.cache.CacheStatistics;
+import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.ioc.BeanFactory;
 import modelengine.fitframework.plugin.Plugin;
 import modelengine.fitframework.plugin.PluginCategory;
 import modelengine.fitframework.plugin.PluginMetadata;
+import modelengine.fitframework.plugin.RootPlugin;
 import modelengine.fitframework.runtime.FitRuntime;
 
 import org.junit.jupiter.api.AfterEach;
@@ -31,6 +38,7 @@ import org.mockito.Mockito;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 表示 {@link ActuatorController} 的单元测试。
@@ -120,4 +128,41 @@ public class ActuatorControllerTest {
                 .returns(Collections.singleton("t1"), FitableVo::getTags)
                 .returns("d1", FitableVo::getDegradation);
     }
+
+    @Test
+    @DisplayName("返回正确的缓存统计信息列表")
+    void shouldReturnCaches() {
+        CacheStatistics statistics = mock(CacheStatistics.class);
+        when(statistics.hitCount()).thenReturn(3L);
+        when(statistics.missCount()).thenReturn(1L);
+        when(statistics.hitRate()).thenCallRealMethod();
+        when(statistics.evictionCount()).thenReturn(2L);
+        Cache cache = mock(Cache.class);
+        when(cache.name()).thenReturn("c1");
+        when(cache.statistics()).thenReturn(statistics);
+        CacheManager manager = mock(CacheManager.class);
+        when(manager.getInstanceNames()).thenReturn(Collections.singleton("c1"));
+        when(manager.getInstance("c1")).thenReturn(Optional.of(cache));
+        BeanFactory factory = mock(BeanFactory.class);
+        when(factory.get()).thenReturn(manager);
+        BeanContainer rootContainer = mock(BeanContainer.class);
+        when(rootContainer.factory(CacheManager.class)).thenReturn(Optional.empty());
+        RootPlugin root = mock(RootPlugin.class);
+        when(root.container()).thenReturn(rootContainer);
+        BeanContainer pluginContainer = mock(BeanContainer.class);
+        when(pluginContainer.factory(CacheManager.class)).thenReturn(Optional.of(factory));
+        Plugin plugin = mock(Plugin.class);
+        when(plugin.container()).thenReturn(pluginContainer);
+        when(this.fitRuntime.root()).thenReturn(root);
+        when(this.fitRuntime.plugins()).thenReturn(Collections.singletonList(plugin));
+
+        List<CacheVo> caches = this.actuatorController.getCaches();
+        assertThat(caches).hasSize(1)
+                .element(0)
+                .returns("c1", CacheVo::getName)
+                .returns(3L, CacheVo::getHitCount)
+                .returns(1L, CacheVo::getMissCount)
+                .returns(0.75, CacheVo::getHitRate)
+                .returns(2L, CacheVo::getEvictionCount);
+    }
 }
@@ -0,0 +1,84 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.cache.memory;
+
+/**
+ * 表示按照访问顺序排列缓存项的双向链表，队首为最久未访问的缓存项。
+ * <p>该类型不是线程安全的，所有操作都需要在淘汰锁的保护下进行。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+final class AccessOrderQueue {
+    private CacheNode head;
+    private CacheNode tail;
+    private long size;
+
+    long size() {
+        return this.size;
+    }
+
+    CacheNode peekFirst() {
+        return this.head;
+    }
+
+    CacheNode peekLast() {
+        return this.tail;
+    }
+
+    /**
+     * 将缓存项添加到队尾。
+     *
+     * @param node 表示待添加的缓存项的 {@link CacheNode}。
+     */
+    void addLast(CacheNode node) {
+        node.previous = this.tail;
+        node.next = null;
+        if (this.tail == null) {
+            this.head = node;
+        } else {
+            this.tail.next = node;
+        }
+        this.tail = node;
+        node.linked = true;
+        this.size++;
+    }
+
+    /**
+     * 将缓存项从队列中移除。
+     *
+     * @param node 表示待移除的缓存项的 {@link CacheNode}。
+     */
+    void remove(CacheNode node) {
+        if (node.previous == null) {
+            this.head = node.next;
+        } else {
+            node.previous.next = node.next;
+        }
+        if (node.next == null) {
+            this.tail = node.previous;
+        } else {
+            node.next.previous = node.previous;
+        }
+        node.previous = null;
+        node.next = null;
+        node.linked = false;
+        this.size--;
+    }
+
+    /**
+     * 将缓存项移动到队尾。
+     *
+     * @param node 表示待移动的缓存项的 {@link CacheNode}。
+     */
+    void moveToLast(CacheNode node) {
+        if (node != this.tail) {
+            this.remove(node);
+            this.addLast(node);
+        }
+    }
+}
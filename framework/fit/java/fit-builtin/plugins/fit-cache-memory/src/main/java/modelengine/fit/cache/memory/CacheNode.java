@@ -0,0 +1,111 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.cache.memory;
+
+/**
+ * 表示内存缓存中的缓存项。
+ * <p>缓存项的值和时间戳可以被并发读取，缓存项在访问顺序队列中的位置只在淘汰锁的保护下修改。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+final class CacheNode {
+    /**
+     * 表示缓存项所在的队列。
+     */
+    enum Segment {
+        /** 表示新写入的缓存项所在的窗口队列。 */
+        WINDOW,
+
+        /** 表示从窗口队列晋升、等待再次访问的试用队列。 */
+        PROBATION,
+
+        /** 表示在试用队列中被再次访问过的保护队列。 */
+        PROTECTED
+    }
+
+    private final Object key;
+    private volatile Object value;
+    private volatile long writeTime;
+    private volatile long accessTime;
+    private volatile long timeToLive;
+    private volatile boolean retired;
+
+    Segment segment;
+    CacheNode previous;
+    CacheNode next;
+    boolean linked;
+
+    CacheNode(Object key, Object value, long now, long timeToLive) {
+        this.key = key;
+        this.value = value;
+        this.writeTime = now;
+        this.accessTime = now;
+        this.timeToLive = timeToLive;
+    }
+
+    Object key() {
+        return this.key;
+    }
+
+    Object value() {
+        return this.value;
+    }
+
+    /**
+     * 更新缓存项的值，同时重置写入时间和访问时间。
+     *
+     * @param value 表示新的值的 {@link Object}。
+     * @param now 表示当前时间的纳秒数的 {@code long}。
+     * @param timeToLive 表示新的存活时间的纳秒数的 {@code long}。
+     */
+    void update(Object value, long now, long timeToLive) {
+        this.value = value;
+        this.writeTime = now;
+        this.accessTime = now;
+        this.timeToLive = timeToLive;
+    }
+
+    void access(long now) {
+        this.accessTime = now;
+    }
+
+    /**
+     * 判断缓存项在指定时间是否已经过期。
+     *
+     * @param now 表示当前时间的纳秒数的 {@code long}。
+     * @param timeToIdle 表示缓存项自最后一次访问后的存活时间的纳秒数的 {@code long}，{@code 0} 表示不过期。
+     * @return 如果已经过期，返回 {@code true}，否则，返回 {@code false}。
+     */
+    boolean isExpired(long now, long timeToIdle) {
+        long ttl = this.timeToLive;
+        return (ttl > 0 && now - this.writeTime >= ttl) || (timeToIdle > 0 && now - this.accessTime >= timeToIdle);
+    }
+
+    /**
+     * 判断缓存项在指定时间是否需要提前刷新，即距离写入后过期的剩余时间不超过提前刷新时间。
+     *
+     * @param now 表示当前时间的纳秒数的 {@code long}。
+     * @param refreshAhead 表示在过期前提前刷新的时间的纳秒数的 {@code long}，{@code 0} 表示不提前刷新。
+     * @return 如果需要提前刷新，返回 {@code true}，否则，返回 {@code false}。
+     */
+    boolean needsRefresh(long now, long refreshAhead) {
+        long ttl = this.timeToLive;
+        return ttl > 0 && refreshAhead > 0 && now - this.writeTime >= ttl - refreshAhead;
+    }
+
+    boolean isRetired() {
+        return this.retired;
+    }
+
+    /**
+     * 标记缓存项已经从缓存中移除，移除后的缓存项不会再被加入访问顺序队列。
+     */
+    void retire() {
+        this.retired = true;
+    }
+}
@@ -0,0 +1,149 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.cache.memory;
+
+import static modelengine.fitframework.inspection.Validation.greaterThan;
+import static modelengine.fitframework.inspection.Validation.greaterThanOrEquals;
+import static modelengine.fitframework.inspection.Validation.isTrue;
+
+import modelengine.fitframework.conf.Config;
+import modelengine.fitframework.util.ObjectUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 表示内存缓存实例的配置。
+ * <p>配置从配置项 {@code 'plugin.cache.instances.<name>'} 中读取，缺失的配置项使用 {@code 'plugin.cache.default'}
+ * 中的值。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+final class CacheOptions {
+    private static final String DEFAULT_PREFIX = "plugin.cache.default.";
+    private static final String INSTANCE_PREFIX = "plugin.cache.instances.";
+    private static final long DEFAULT_MAXIMUM_SIZE = 10_000L;
+
+    private final long maximumSize;
+    private final long timeToLive;
+    private final long timeToIdle;
+    private final boolean allowsNullValue;
+    private final long refreshAhead;
+
+    /**
+     * 使用指定的配置值初始化 {@link CacheOptions} 的新实例，不提前刷新缓存项。
+     *
+     * @param maximumSize 表示最大缓存项数量的 {@code long}。
+     * @param timeToLive 表示缓存项自写入后的存活时间的纳秒数的 {@code long}，{@code 0} 表示不过期。
+     * @param timeToIdle 表示缓存项自最后一次访问后的存活时间的纳秒数的 {@code long}，{@code 0} 表示不过期。
+     * @param allowsNullValue 表示是否允许缓存 {@code null} 值的 {@code boolean}。
+     * @throws IllegalArgumentException 当 {@code maximumSize} 不是正数，或存活时间为负数时。
+     */
+    CacheOptions(long maximumSize, long timeToLive, long timeToIdle, boolean allowsNullValue) {
+        this(maximumSize, timeToLive, timeToIdle, allowsNullValue, 0L);
+    }
+
+    /**
+     * 使用指定的配置值初始化 {@link CacheOptions} 的新实例。
+     *
+     * @param maximumSize 表示最大缓存项数量的 {@code long}。
+     * @param timeToLive 表示缓存项自写入后的存活时间的纳秒数的 {@code long}，{@code 0} 表示不过期。
+     * @param timeToIdle 表示缓存项自最后一次访问后的存活时间的纳秒数的 {@code long}，{@code 0} 表示不过期。
+     * @param allowsNullValue 表示是否允许缓存 {@code null} 值的 {@code boolean}。
+     * @param refreshAhead 表示在写入后过期前提前异步刷新缓存项的时间的纳秒数的 {@code long}，{@code 0} 表示不提前刷新。
+     * @throws IllegalArgumentException 当 {@code maximumSize} 不是正数，存活时间或提前刷新时间为负数，或提前刷新时间
+     * 不小于写入后的存活时间时。
+     */
+    CacheOptions(long maximumSize, long timeToLive, long timeToIdle, boolean allowsNullValue, long refreshAhead) {
+        this.maximumSize = greaterThan(maximumSize, 0L, "The maximum size of cache must be positive. [size={0}]",
+                maximumSize);
+        this.timeToLive = greaterThanOrEquals(timeToLive, 0L, "The time to live cannot be negative. [ttl={0}]",
+                timeToLive);
+        this.timeToIdle = greaterThanOrEquals(timeToIdle, 0L, "The time to idle cannot be negative. [tti={0}]",
+                timeToIdle);
+        this.allowsNullValue = allowsNullValue;
+        this.refreshAhead = greaterThanOrEquals(refreshAhead, 0L,
+                "The refresh ahead time cannot be negative. [refreshAhead={0}]", refreshAhead);
+        isTrue(timeToLive == 0L || refreshAhead < timeToLive,
+                "The refresh ahead time must be less than the time to live. [refreshAhead={0}, ttl={1}]",
+                refreshAhead,
+                timeToLive);
+    }
+
+    /**
+     * 从配置中读取指定缓存实例的配置。
+     *
+     * @param config 表示配置的 {@link Config}。
+     * @param name 表示缓存实例名字的 {@link String}。
+     * @return 表示缓存实例配置的 {@link CacheOptions}。
+     */
+    static CacheOptions from(Config config, String name) {
+        long maximumSize = read(config, name, "maximum-size", Long.class, DEFAULT_MAXIMUM_SIZE);
+        long timeToLive = read(config, name, "time-to-live", Long.class, 0L);
+        long timeToIdle = read(config, name, "time-to-idle", Long.class, 0L);
+        boolean allowsNullValue = read(config, name, "allows-null-value", Boolean.class, true);
+        long refreshAhead = read(config, name, "refresh-ahead", Long.class, 0L);
+        return new CacheOptions(maximumSize,
+                TimeUnit.MILLISECONDS.toNanos(timeToLive),
+                TimeUnit.MILLISECONDS.toNanos(timeToIdle),
+                allowsNullValue,
+                TimeUnit.MILLISECONDS.toNanos(refreshAhead));
+    }
+
+    private static <T> T read(Config config, String name, String key, Class<T> clazz, T defaultValue) {
+        T value = config.get(INSTANCE_PREFIX + name + "." + key, clazz);
+        if (value == null) {
+            value = config.get(DEFAULT_PREFIX + key, clazz);
+        }
+        return ObjectUtils.nullIf(value, defaultValue);
+    }
+
+    /**
+     * 获取最大缓存项数量。
+     *
+     * @return 表示最大缓存项数量的 {@code long}。
+     */
+    long maximumSize() {
+        return this.maximumSize;
+    }
+
+    /**
+     * 获取缓存项自写入后的存活时间。
+     *
+     * @return 表示存活时间的纳秒数的 {@code long}，{@code 0} 表示不过期。
+     */
+    long timeToLive() {
+        return this.timeToLive;
+    }
+
+    /**
+     * 获取缓存项自最后一次访问后的存活时间。
+     *
+     * @return 表示存活时间的纳秒数的 {@code long}，{@code 0} 表示不过期。
+     */
+    long timeToIdle() {
+        return this.timeToIdle;
+    }
+
+    /**
+     * 判断是否允许缓存 {@code null} 值。
+     *
+     * @return 如果允许，返回 {@code true}，否则，返回 {@code false}。
+     */
+    boolean allowsNullValue() {
+        return this.allowsNullValue;
+    }
+
+    /**
+     * 获取在写入后过期前提前异步刷新缓存项的时间。
+     *
+     * @return 表示提前刷新时间的纳秒数的 {@code long}，{@code 0} 表示不提前刷新。
+     */
+    long refreshAhead() {
+        return this.refreshAhead;
+    }
+}
@@ -0,0 +1,107 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.cache.memory;
+
+/**
+ * 表示估算缓存键访问频率的 Count-Min Sketch。
+ * <p>每个键对应 4 个 4 位的计数器，估算的频率为其中的最小值，最大为 15。当记录的访问次数达到缓存容量的 10 倍时，
+ * 所有计数器减半，使得频率能够反映最近一段时间的访问情况。</p>
+ * <p>该类型不是线程安全的，所有操作都需要在淘汰锁的保护下进行。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+final class FrequencySketch {
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int MAXIMUM_TABLE_SIZE = 1 << 20;
+    private static final int MAXIMUM_COUNT = 15;
+
+    private final long[] table;
+    private final int tableMask;
+    private final long sampleSize;
+    private long size;
+
+    /**
+     * 使用缓存的最大容量初始化 {@link FrequencySketch} 的新实例。
+     *
+     * @param maximumSize 表示缓存最大容量的 {@code long}。
+     */
+    FrequencySketch(long maximumSize) {
+        int tableSize = (int) Math.min(Math.max(Long.highestOneBit(Math.max(maximumSize, 8L) - 1) << 1, 8L),
+                MAXIMUM_TABLE_SIZE);
+        this.table = new long[tableSize];
+        this.tableMask = tableSize - 1;
+        this.sampleSize = 10L * Math.max(maximumSize, 1L);
+    }
+
+    /**
+     * 估算指定键的访问频率。
+     *
+     * @param key 表示指定键的 {@link Object}。
+     * @return 表示估算的访问频率的 {@code int}。
+     */
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int start = (hash & 3) << 2;
+        int frequency = MAXIMUM_COUNT;
+        for (int i = 0; i < SEEDS.length; i++) {
+            int index = this.indexOf(hash, i);
+            int count = (int) ((this.table[index] >>> ((start + i) << 2)) & 0xFL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * 记录一次对指定键的访问。
+     *
+     * @param key 表示指定键的 {@link Object}。
+     */
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            added |= this.incrementAt(this.indexOf(hash, i), start + i);
+        }
+        if (added && ++this.size >= this.sampleSize) {
+            this.reset();
+        }
+    }
+
+    private boolean incrementAt(int index, int counter) {
+        int offset = counter << 2;
+        long mask = 0xFL << offset;
+        if ((this.table[index] & mask) != mask) {
+            this.table[index] += 1L << offset;
+            return true;
+        }
+        return false;
+    }
+
+    private void reset() {
+        for (int i = 0; i < this.table.length; i++) {
+            this.table[i] = (this.table[i] >>> 1) & RESET_MASK;
+        }
+        this.size >>>= 1;
+    }
+
+    private int indexOf(int hash, int index) {
+        long value = (hash + SEEDS[index]) * SEEDS[index];
+        value += value >>> 32;
+        return (int) value & this.tableMask;
+    }
+
+    private static int spread(int hash) {
+        int value = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        value = ((value >>> 16) ^ value) * 0x45d9f3b;
+        return (value >>> 16) ^ value;
+    }
+}
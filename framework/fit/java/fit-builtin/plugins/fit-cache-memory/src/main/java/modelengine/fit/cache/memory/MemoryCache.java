@@ -0,0 +1,493 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.cache.memory;
+
+import static modelengine.fitframework.inspection.Validation.notBlank;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.cache.Cache;
+import modelengine.fitframework.cache.CacheStatistics;
+import modelengine.fitframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 表示容量有界、支持过期的内存缓存实例。
+ * <p>淘汰策略为 W-TinyLFU：新写入的缓存项先进入容量为 1% 的窗口队列，从窗口队列淘汰的缓存项作为候选进入主区域的试用队列，
+ * 当主区域超出容量时，比较候选与试用队列队首的访问频率，淘汰频率较低的一方。试用队列中被再次访问的缓存项晋升到保护队列，
+ * 保护队列占主区域容量的 80%。访问频率由 {@link FrequencySketch} 估算，因此偶发的大量一次性访问不会冲掉热点数据。</p>
+ * <p>读操作不会阻塞在淘汰锁上：只有成功获取到淘汰锁时才更新访问顺序和访问频率，否则跳过本次记录。
+ * 过期的缓存项在被访问时，或在写操作后的维护过程中被移除。</p>
+ * <p>通过 {@link #getOrLoad(Object, Supplier)} 加载缓存项时，同一个键的并发加载只会执行一次，并支持在缓存项过期前异步
+ * 提前刷新，参见 {@link CacheOptions#refreshAhead()}。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public final class MemoryCache implements Cache {
+    private static final Object NULL_VALUE = new Object();
+    private static final int MAINTENANCE_SCAN_LIMIT = 8;
+    private static final double WINDOW_RATIO = 0.01;
+    private static final double PROTECTED_RATIO = 0.8;
+
+    private final String name;
+    private final CacheOptions options;
+    private final LongSupplier ticker;
+    private final Map<Object, CacheNode> data = new ConcurrentHashMap<>();
+    private final MemoryCacheStatistics statistics = new MemoryCacheStatistics();
+    private final Map<Object, Loading> loadings = new ConcurrentHashMap<>();
+    private final Executor refresher;
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final FrequencySketch sketch;
+    private final AccessOrderQueue window = new AccessOrderQueue();
+    private final AccessOrderQueue probation = new AccessOrderQueue();
+    private final AccessOrderQueue protectedQueue = new AccessOrderQueue();
+    private final long windowMaximum;
+    private final long protectedMaximum;
+
+    MemoryCache(String name, CacheOptions options) {
+        this(name, options, System::nanoTime, ForkJoinPool.commonPool());
+    }
+
+    MemoryCache(String name, CacheOptions options, LongSupplier ticker, Executor refresher) {
+        this.name = notBlank(name, "The cache instance name cannot be blank.");
+        this.options = notNull(options, "The cache options cannot be null.");
+        this.ticker = notNull(ticker, "The ticker cannot be null.");
+        this.refresher = notNull(refresher, "The refresher cannot be null.");
+        this.sketch = new FrequencySketch(options.maximumSize());
+        this.windowMaximum = Math.max(1L, (long) (options.maximumSize() * WINDOW_RATIO));
+        this.protectedMaximum = (long) ((options.maximumSize() - this.windowMaximum) * PROTECTED_RATIO);
+    }
+
+    @Override
+    public String name() {
+        return this.name;
+    }
+
+    @Override
+    public boolean contains(Object key) {
+        notNull(key, "The cache key cannot be null.");
+        CacheNode node = this.data.get(key);
+        return node != null && !this.expireIfNecessary(node, this.ticker.getAsLong());
+    }
+
+    @Override
+    public Object get(Object key) {
+        notNull(key, "The cache key cannot be null.");
+        CacheNode node = this.data.get(key);
+        long now = this.ticker.getAsLong();
+        if (node == null || this.expireIfNecessary(node, now)) {
+            this.statistics.recordMiss();
+            return null;
+        }
+        this.statistics.recordHit();
+        node.access(now);
+        this.afterRead(node);
+        return fromStoreValue(node.value());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>同一个键同一时刻只会有一次加载，并发未命中该键的调用等待这次加载的结果，加载失败时所有等待的调用都抛出相同的异常。
+     * 加载程序中再次加载同一个键时直接调用加载程序，不等待自身。</p>
+     * <p>当配置了提前刷新时间，且命中的缓存项即将在写入后过期时，返回当前的值，同时在后台异步调用加载程序刷新该缓存项。</p>
+     * <p>加载的耗时和结果会被记录到统计信息中。</p>
+     */
+    @Override
+    public Object getOrLoad(Object key, Supplier<?> loader) {
+        notNull(key, "The cache key cannot be null.");
+        notNull(loader, "The cache loader cannot be null.");
+        CacheNode node = this.data.get(key);
+        long now = this.ticker.getAsLong();
+        if (node != null && !this.expireIfNecessary(node, now)) {
+            this.statistics.recordHit();
+            node.access(now);
+            this.afterRead(node);
+            if (node.needsRefresh(now, this.options.refreshAhead())) {
+                this.refresh(node, loader);
+            }
+            return fromStoreValue(node.value());
+        }
+        this.statistics.recordMiss();
+        Loading loading = new Loading();
+        Loading existing = this.loadings.putIfAbsent(key, loading);
+        if (existing != null) {
+            return existing.isOwnedByCurrentThread() ? this.load(key, loader) : existing.await();
+        }
+        try {
+            CacheNode loaded = this.data.get(key);
+            Object value = loaded != null && !loaded.isExpired(this.ticker.getAsLong(), this.options.timeToIdle())
+                    ? fromStoreValue(loaded.value())
+                    : this.load(key, loader);
+            loading.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            loading.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.loadings.remove(key, loading);
+        }
+    }
+
+    private Object load(Object key, Supplier<?> loader) {
+        long start = this.ticker.getAsLong();
+        Object value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException | Error e) {
+            this.statistics.recordLoadFailure(this.ticker.getAsLong() - start);
+            throw e;
+        }
+        this.statistics.recordLoadSuccess(this.ticker.getAsLong() - start);
+        this.put(key, value);
+        return value;
+    }
+
+    private void refresh(CacheNode node, Supplier<?> loader) {
+        Loading loading = new Loading();
+        if (this.loadings.putIfAbsent(node.key(), loading) != null) {
+            return;
+        }
+        try {
+            this.refresher.execute(() -> this.refresh(node, loader, loading));
+        } catch (RejectedExecutionException e) {
+            this.loadings.remove(node.key(), loading);
+            loading.completeExceptionally(e);
+        }
+    }
+
+    private void refresh(CacheNode node, Supplier<?> loader, Loading loading) {
+        loading.claim();
+        long start = this.ticker.getAsLong();
+        try {
+            Object value = loader.get();
+            this.statistics.recordLoadSuccess(this.ticker.getAsLong() - start);
+            if (!node.isRetired()) {
+                this.put(node.key(), value);
+            }
+            loading.complete(value);
+        } catch (RuntimeException | Error e) {
+            this.statistics.recordLoadFailure(this.ticker.getAsLong() - start);
+            loading.completeExceptionally(e);
+        } finally {
+            this.loadings.remove(node.key(), loading);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        this.put(key, value, this.options.timeToLive());
+    }
+
+    /**
+     * 设置指定键的值，并为该缓存项单独指定自写入后的存活时间。
+     *
+     * @param key 表示指定键的 {@link Object}。
+     * @param value 表示待设置的值的 {@link Object}。
+     * @param timeToLive 表示缓存项自写入后的存活时间的 {@link Duration}，{@link Duration#ZERO} 表示不过期。
+     * @throws IllegalArgumentException 当 {@code key} 或 {@code timeToLive} 为 {@code null}，或
+     * {@code timeToLive} 为负数时。
+     * @throws IllegalStateException 当缓存实例不允许存储 {@code null} 值，而 {@code value} 为 {@code null} 时。
+     */
+    public void put(Object key, Object value, Duration timeToLive) {
+        notNull(timeToLive, "The time to live cannot be null.");
+        if (timeToLive.isNegative()) {
+            throw new IllegalArgumentException(StringUtils.format("The time to live cannot be negative. [ttl={0}]",
+                    timeToLive));
+        }
+        this.put(key, value, timeToLive.toNanos());
+    }
+
+    private void put(Object key, Object value, long timeToLive) {
+        notNull(key, "The cache key cannot be null.");
+        if (!this.options.allowsNullValue() && value == null) {
+            throw new IllegalStateException(StringUtils.format(
+                    "Cache instance is not allowed to store null value. [instance={0}, key={1}]",
+                    this.name,
+                    key));
+        }
+        Object storeValue = toStoreValue(value);
+        long now = this.ticker.getAsLong();
+        CacheNode node = this.data.compute(key, (k, existing) -> {
+            if (existing == null) {
+                return new CacheNode(k, storeValue, now, timeToLive);
+            }
+            existing.update(storeValue, now, timeToLive);
+            return existing;
+        });
+        this.afterWrite(node);
+    }
+
+    @Override
+    public void remove(Object key) {
+        notNull(key, "The cache key cannot be null.");
+        CacheNode[] removed = new CacheNode[1];
+        this.data.computeIfPresent(key, (k, node) -> {
+            node.retire();
+            removed[0] = node;
+            return null;
+        });
+        CacheNode node = removed[0];
+        if (node != null) {
+            this.evictionLock.lock();
+            try {
+                this.unlink(node);
+            } finally {
+                this.evictionLock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public CacheStatistics statistics() {
+        return this.statistics;
+    }
+
+    /**
+     * 获取当前缓存实例中缓存项的数量，其中可能包含已经过期但尚未被移除的缓存项。
+     *
+     * @return 表示缓存项数量的 {@code long}。
+     */
+    public long size() {
+        return this.data.size();
+    }
+
+    /**
+     * 移除当前缓存实例中所有已经过期的缓存项。
+     */
+    public void cleanUp() {
+        long now = this.ticker.getAsLong();
+        this.data.values().forEach(node -> this.expireIfNecessary(node, now));
+    }
+
+    private boolean expireIfNecessary(CacheNode node, long now) {
+        if (!node.isExpired(now, this.options.timeToIdle())) {
+            return false;
+        }
+        if (this.discard(node, true, now)) {
+            this.statistics.recordExpiration();
+            this.evictionLock.lock();
+            try {
+                this.unlink(node);
+            } finally {
+                this.evictionLock.unlock();
+            }
+        }
+        return true;
+    }
+
+    private void afterRead(CacheNode node) {
+        if (!this.evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            this.sketch.increment(node.key());
+            this.onAccess(node);
+        } finally {
+            this.evictionLock.unlock();
+        }
+    }
+
+    private void afterWrite(CacheNode node) {
+        this.evictionLock.lock();
+        try {
+            this.sketch.increment(node.key());
+            if (node.isRetired()) {
+                return;
+            }
+            if (node.linked) {
+                this.onAccess(node);
+            } else {
+                node.segment = CacheNode.Segment.WINDOW;
+                this.window.addLast(node);
+            }
+            this.evict();
+            this.expireHeads(this.ticker.getAsLong());
+        } finally {
+            this.evictionLock.unlock();
+        }
+    }
+
+    private void onAccess(CacheNode node) {
+        if (!node.linked) {
+            return;
+        }
+        switch (node.segment) {
+            case WINDOW:
+                this.window.moveToLast(node);
+                break;
+            case PROBATION:
+                this.probation.remove(node);
+                node.segment = CacheNode.Segment.PROTECTED;
+                this.protectedQueue.addLast(node);
+                this.demoteProtected();
+                break;
+            case PROTECTED:
+                this.protectedQueue.moveToLast(node);
+                break;
+            default:
+                throw new IllegalStateException("Unknown cache segment: " + node.segment);
+        }
+    }
+
+    private void demoteProtected() {
+        while (this.protectedQueue.size() > this.protectedMaximum) {
+            CacheNode demoted = this.protectedQueue.peekFirst();
+            this.protectedQueue.remove(demoted);
+            demoted.segment = CacheNode.Segment.PROBATION;
+            this.probation.addLast(demoted);
+        }
+    }
+
+    private void evict() {
+        long candidates = 0;
+        while (this.window.size() > this.windowMaximum) {
+            CacheNode candidate = this.window.peekFirst();
+            this.window.remove(candidate);
+            candidate.segment = CacheNode.Segment.PROBATION;
+            this.probation.addLast(candidate);
+            candidates++;
+        }
+        while (this.linkedSize() > this.options.maximumSize()) {
+            CacheNode victim = this.probation.peekFirst();
+            CacheNode candidate = candidates > 0 ? this.probation.peekLast() : null;
+            if (victim == null) {
+                victim = this.protectedQueue.peekFirst() == null
+                        ? this.window.peekFirst()
+                        : this.protectedQueue.peekFirst();
+                this.evictEntry(victim);
+            } else if (candidate == null || candidate == victim) {
+                this.evictEntry(victim);
+            } else if (this.sketch.frequency(candidate.key()) > this.sketch.frequency(victim.key())) {
+                this.evictEntry(victim);
+            } else {
+                this.evictEntry(candidate);
+                candidates--;
+            }
+        }
+    }
+
+    private long linkedSize() {
+        return this.window.size() + this.probation.size() + this.protectedQueue.size();
+    }
+
+    private void evictEntry(CacheNode node) {
+        this.unlink(node);
+        if (this.discard(node, false, 0L)) {
+            this.statistics.recordEviction();
+        }
+    }
+
+    private void expireHeads(long now) {
+        this.expireHead(this.window, now);
+        this.expireHead(this.probation, now);
+        this.expireHead(this.protectedQueue, now);
+    }
+
+    private void expireHead(AccessOrderQueue queue, long now) {
+        for (int i = 0; i < MAINTENANCE_SCAN_LIMIT; i++) {
+            CacheNode node = queue.peekFirst();
+            if (node == null || !node.isExpired(now, this.options.timeToIdle())) {
+                return;
+            }
+            if (!this.discard(node, true, now)) {
+                // 缓存项刚刚被更新，或者正在被其他线程移除，停止本次维护。
+                return;
+            }
+            this.unlink(node);
+            this.statistics.recordExpiration();
+        }
+    }
+
+    /**
+     * 从缓存中移除指定的缓存项，移除与标记缓存项已移除在同一个原子操作中完成。
+     *
+     * @param node 表示待移除的缓存项的 {@link CacheNode}。
+     * @param onlyIfExpired 表示是否只在缓存项已经过期时移除的 {@code boolean}。
+     * @param now 表示当前时间的纳秒数的 {@code long}。
+     * @return 如果缓存项被移除，返回 {@code true}，否则，返回 {@code false}。
+     */
+    private boolean discard(CacheNode node, boolean onlyIfExpired, long now) {
+        boolean[] isDiscarded = new boolean[1];
+        this.data.computeIfPresent(node.key(), (key, current) -> {
+            if (current != node || (onlyIfExpired && !node.isExpired(now, this.options.timeToIdle()))) {
+                return current;
+            }
+            node.retire();
+            isDiscarded[0] = true;
+            return null;
+        });
+        return isDiscarded[0];
+    }
+
+    private void unlink(CacheNode node) {
+        if (!node.linked) {
+            return;
+        }
+        switch (node.segment) {
+            case WINDOW:
+                this.window.remove(node);
+                break;
+            case PROBATION:
+                this.probation.remove(node);
+                break;
+            case PROTECTED:
+                this.protectedQueue.remove(node);
+                break;
+            default:
+                throw new IllegalStateException("Unknown cache segment: " + node.segment);
+        }
+    }
+
+    private static Object toStoreValue(Object value) {
+        return value == null ? NULL_VALUE : value;
+    }
+
+    private static Object fromStoreValue(Object storeValue) {
+        return storeValue == NULL_VALUE ? null : storeValue;
+    }
+
+    /**
+     * 表示一个正在进行的加载，记录发起加载的线程以识别加载程序中对同一个键的重入加载。
+     */
+    private static final class Loading extends CompletableFuture<Object> {
+        private volatile Thread owner = Thread.currentThread();
+
+        void claim() {
+            this.owner = Thread.currentThread();
+        }
+
+        boolean isOwnedByCurrentThread() {
+            return this.owner == Thread.currentThread();
+        }
+
+        Object await() {
+            try {
+                return this.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw e;
+            }
+        }
+    }
+}
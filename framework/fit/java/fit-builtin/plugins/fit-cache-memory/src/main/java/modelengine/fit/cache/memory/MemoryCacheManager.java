@@ -0,0 +1,58 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.cache.memory;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.annotation.Component;
+import modelengine.fitframework.cache.Cache;
+import modelengine.fitframework.cache.CacheManager;
+import modelengine.fitframework.conf.Config;
+import modelengine.fitframework.util.StringUtils;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 表示内置的 {@link CacheManager}，管理容量有界、支持过期的 {@link MemoryCache}。
+ * <p>缓存实例在第一次被获取时按照配置创建，配置项参见 {@link CacheOptions}。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@Component
+public class MemoryCacheManager implements CacheManager {
+    private final Config config;
+    private final Map<String, MemoryCache> instances = new ConcurrentHashMap<>();
+
+    /**
+     * 使用指定的配置初始化 {@link MemoryCacheManager} 的新实例。
+     *
+     * @param config 表示配置的 {@link Config}。
+     * @throws IllegalArgumentException 当 {@code config} 为 {@code null} 时。
+     */
+    public MemoryCacheManager(Config config) {
+        this.config = notNull(config, "The config cannot be null.");
+    }
+
+    @Override
+    public Optional<Cache> getInstance(String name) {
+        if (StringUtils.isBlank(name)) {
+            return Optional.empty();
+        }
+        return Optional.of(this.instances.computeIfAbsent(name,
+                key -> new MemoryCache(key, CacheOptions.from(this.config, key))));
+    }
+
+    @Override
+    public Set<String> getInstanceNames() {
+        return Collections.unmodifiableSet(this.instances.keySet());
+    }
+}
@@ -0,0 +1,88 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.cache.memory;
+
+import modelengine.fitframework.cache.CacheStatistics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 表示内存缓存实例的 {@link CacheStatistics}，统计值实时反映缓存实例的状态。
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+final class MemoryCacheStatistics implements CacheStatistics {
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder loadSuccessCount = new LongAdder();
+    private final LongAdder loadFailureCount = new LongAdder();
+    private final LongAdder totalLoadTime = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder expirationCount = new LongAdder();
+
+    void recordHit() {
+        this.hitCount.increment();
+    }
+
+    void recordMiss() {
+        this.missCount.increment();
+    }
+
+    void recordLoadSuccess(long loadTime) {
+        this.loadSuccessCount.increment();
+        this.totalLoadTime.add(loadTime);
+    }
+
+    void recordLoadFailure(long loadTime) {
+        this.loadFailureCount.increment();
+        this.totalLoadTime.add(loadTime);
+    }
+
+    void recordEviction() {
+        this.evictionCount.increment();
+    }
+
+    void recordExpiration() {
+        this.expirationCount.increment();
+    }
+
+    @Override
+    public long hitCount() {
+        return this.hitCount.sum();
+    }
+
+    @Override
+    public long missCount() {
+        return this.missCount.sum();
+    }
+
+    @Override
+    public long loadSuccessCount() {
+        return this.loadSuccessCount.sum();
+    }
+
+    @Override
+    public long loadFailureCount() {
+        return this.loadFailureCount.sum();
+    }
+
+    @Override
+    public long totalLoadTime() {
+        return this.totalLoadTime.sum();
+    }
+
+    @Override
+    public long evictionCount() {
+        return this.evictionCount.sum();
+    }
+
+    @Override
+    public long expirationCount() {
+        return this.expirationCount.sum();
+    }
+}
@@ -0,0 +1,263 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.cache.memory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import modelengine.fitframework.cache.Cache;
+import modelengine.fitframework.cache.CacheStatistics;
+import modelengine.fitframework.conf.Config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 表示 {@link MemoryCache} 的单元测试。
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@DisplayName("测试 MemoryCache")
+public class MemoryCacheTest {
+    private final AtomicLong ticker = new AtomicLong();
+
+    private MemoryCache cache(long maximumSize, long timeToLive, long timeToIdle, boolean allowsNullValue) {
+        return new MemoryCache("test",
+                new CacheOptions(maximumSize, timeToLive, timeToIdle, allowsNullValue),
+                this.ticker::get,
+                Runnable::run);
+    }
+
+    private void advance(long millis) {
+        this.ticker.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    @Test
+    @DisplayName("缓存项数量不超过上限，且频繁访问的缓存项不会被一次性访问的缓存项淘汰")
+    void shouldKeepFrequentEntriesWhenBounded() {
+        MemoryCache cache = this.cache(10, 0, 0, true);
+        for (int i = 0; i < 10; i++) {
+            cache.put(i, "v" + i);
+        }
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 5; i++) {
+                cache.get(i);
+            }
+        }
+        for (int i = 100; i < 200; i++) {
+            cache.put(i, "v" + i);
+        }
+        assertThat(cache.size()).isLessThanOrEqualTo(10);
+        for (int i = 0; i < 5; i++) {
+            assertThat(cache.contains(i)).isTrue();
+        }
+        assertThat(cache.statistics().evictionCount()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("缓存项在写入后超过存活时间时过期")
+    void shouldExpireAfterWrite() {
+        MemoryCache cache = this.cache(100, TimeUnit.MILLISECONDS.toNanos(100), 0, true);
+        cache.put("k", "v");
+        this.advance(50);
+        assertThat(cache.get("k")).isEqualTo("v");
+        this.advance(50);
+        assertThat(cache.contains("k")).isFalse();
+        assertThat(cache.get("k")).isNull();
+        assertThat(cache.size()).isEqualTo(0);
+        assertThat(cache.statistics().expirationCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("缓存项在超过空闲时间未被访问时过期，访问会刷新空闲时间")
+    void shouldExpireAfterAccess() {
+        MemoryCache cache = this.cache(100, 0, TimeUnit.MILLISECONDS.toNanos(100), true);
+        cache.put("k", "v");
+        this.advance(80);
+        assertThat(cache.get("k")).isEqualTo("v");
+        this.advance(80);
+        assertThat(cache.get("k")).isEqualTo("v");
+        this.advance(100);
+        assertThat(cache.contains("k")).isFalse();
+    }
+
+    @Test
+    @DisplayName("单个缓存项的存活时间优先于缓存实例的存活时间")
+    void shouldUsePerEntryTimeToLive() {
+        MemoryCache cache = this.cache(100, TimeUnit.MILLISECONDS.toNanos(1000), 0, true);
+        cache.put("short", "v", Duration.ofMillis(10));
+        cache.put("forever", "v", Duration.ZERO);
+        cache.put("default", "v");
+        this.advance(10);
+        assertThat(cache.contains("short")).isFalse();
+        this.advance(1000);
+        assertThat(cache.contains("default")).isFalse();
+        assertThat(cache.contains("forever")).isTrue();
+        cache.cleanUp();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("统计命中、未命中与加载的信息")
+    void shouldRecordStatistics() {
+        MemoryCache cache = this.cache(100, 0, 0, true);
+        assertThat(cache.getOrLoad("k", () -> {
+            this.advance(5);
+            return "v";
+        })).isEqualTo("v");
+        assertThat(cache.getOrLoad("k", () -> "other")).isEqualTo("v");
+        assertThatThrownBy(() -> cache.getOrLoad("error", () -> {
+            throw new IllegalStateException("load failed");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(cache.get("absent")).isNull();
+
+        CacheStatistics statistics = cache.statistics();
+        assertThat(statistics.hitCount()).isEqualTo(1);
+        assertThat(statistics.missCount()).isEqualTo(3);
+        assertThat(statistics.hitRate()).isEqualTo(0.25);
+        assertThat(statistics.loadSuccessCount()).isEqualTo(1);
+        assertThat(statistics.loadFailureCount()).isEqualTo(1);
+        assertThat(statistics.totalLoadTime()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(5));
+        assertThat(cache.contains("error")).isFalse();
+    }
+
+    @Test
+    @DisplayName("同一个键的并发加载只执行一次，其余调用等待加载结果")
+    void shouldLoadOnceWhenConcurrentMisses() throws Exception {
+        MemoryCache cache = this.cache(100, 0, 0, true);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> cache.getOrLoad("k", () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return "v";
+                })));
+            }
+            while (loads.get() == 0) {
+                Thread.yield();
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<Object> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("v");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.statistics().loadSuccessCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("加载程序中加载同一个键时不等待自身")
+    void shouldNotWaitForItselfWhenReentrant() {
+        MemoryCache cache = this.cache(100, 0, 0, true);
+        Object value = cache.getOrLoad("k", () -> "outer-" + cache.getOrLoad("k", () -> "inner"));
+        assertThat(value).isEqualTo("outer-inner");
+        assertThat(cache.get("k")).isEqualTo("outer-inner");
+    }
+
+    @Test
+    @DisplayName("缓存项即将过期时返回当前的值，并在后台提前刷新")
+    void shouldRefreshAheadOfExpiration() {
+        List<Runnable> refreshes = new ArrayList<>();
+        MemoryCache cache = new MemoryCache("test",
+                new CacheOptions(100, TimeUnit.MILLISECONDS.toNanos(100), 0, true, TimeUnit.MILLISECONDS.toNanos(20)),
+                this.ticker::get,
+                refreshes::add);
+        AtomicInteger version = new AtomicInteger();
+        cache.getOrLoad("k", () -> "v" + version.incrementAndGet());
+        this.advance(50);
+        assertThat(cache.getOrLoad("k", () -> "v" + version.incrementAndGet())).isEqualTo("v1");
+        assertThat(refreshes).isEmpty();
+
+        this.advance(30);
+        assertThat(cache.getOrLoad("k", () -> "v" + version.incrementAndGet())).isEqualTo("v1");
+        assertThat(cache.getOrLoad("k", () -> "v" + version.incrementAndGet())).isEqualTo("v1");
+        assertThat(refreshes).hasSize(1);
+        refreshes.get(0).run();
+        assertThat(cache.get("k")).isEqualTo("v2");
+
+        this.advance(90);
+        assertThat(cache.contains("k")).isTrue();
+    }
+
+    @Test
+    @DisplayName("提前刷新时间不小于存活时间时抛出异常")
+    void shouldRejectRefreshAheadNotLessThanTimeToLive() {
+        assertThatThrownBy(() -> new CacheOptions(100, 10, 0, true, 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    @DisplayName("按照配置决定是否允许存储 null 值")
+    void shouldHandleNullValue() {
+        MemoryCache allowed = this.cache(100, 0, 0, true);
+        allowed.put("k", null);
+        assertThat(allowed.contains("k")).isTrue();
+        assertThat(allowed.getOrLoad("k", () -> "v")).isNull();
+
+        MemoryCache disallowed = this.cache(100, 0, 0, false);
+        assertThatThrownBy(() -> disallowed.put("k", null)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("移除缓存项后不再包含该缓存项")
+    void shouldRemoveEntry() {
+        MemoryCache cache = this.cache(100, 0, 0, true);
+        cache.put("k", "v");
+        cache.remove("k");
+        assertThat(cache.contains("k")).isFalse();
+        cache.put("k", "v2");
+        assertThat(cache.get("k")).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("缓存管理器按照实例配置创建缓存实例")
+    void shouldCreateInstancesFromConfig() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("plugin.cache.default.maximum-size", 5);
+        values.put("plugin.cache.instances.small.maximum-size", 1);
+        MemoryCacheManager manager = new MemoryCacheManager(Config.fromHierarchical("test", values));
+        Cache small = manager.getInstance("small").orElseThrow(IllegalStateException::new);
+        Cache other = manager.getInstance("other").orElseThrow(IllegalStateException::new);
+        for (int i = 0; i < 10; i++) {
+            small.put(i, i);
+            other.put(i, i);
+        }
+        assertThat(((MemoryCache) small).size()).isEqualTo(1);
+        assertThat(((MemoryCache) other).size()).isEqualTo(5);
+        assertThat(manager.getInstance("small")).containsSame(small);
+        assertThat(manager.getInstanceNames()).containsExactlyInAnyOrder("small", "other");
+    }
+}
@@ -0,0 +1 @@
+memberSearchIndex = [{"p":"modelengine.fit.cache.memory","c":"MemoryCache","l":"cleanUp()"},{"p":"modelengine.fit.cache.memory","c":"MemoryCache","l":"contains(Object)","u":"contains(java.lang.Object)"},{"p":"modelengine.fit.cache.memory","c":"MemoryCache","l":"get(Object)","u":"get(java.lang.Object)"},{"p":"modelengine.fit.cache.memory","c":"MemoryCacheManager","l":"getInstance(String)","u":"getInstance(java.lang.String)"},{"p":"modelengine.fit.cache.memory","c":"MemoryCacheManager","l":"getInstanceNames()"},{"p":"modelengine.fit.cache.memory","c":"MemoryCache","l":"getOrLoad(Object, Supplier<?>)","u":"getOrLoad(java.lang.Object,java.util.function.Supplier)"},{"p":"modelengine.fit.cache.memory","c":"MemoryCacheManager","l":"MemoryCacheManager(Config)","u":"%3Cinit%3E(modelengine.fitframework.conf.Config)"},{"p":"modelengine.fit.cache.memory","c":"MemoryCache","l":"name()"},{"p":"modelengine.fit.cache.memory","c":"MemoryCache","l":"put(Object, Object)","u":"put(java.lang.Object,java.lang.Object)"},{"p":"modelengine.fit.cache.memory","c":"MemoryCache","l":"put(Object, Object, Duration)","u":"put(java.lang.Object,java.lang.Object,java.time.Duration)"},{"p":"modelengine.fit.cache.memory","c":"MemoryCache","l":"remove(Object)","u":"remove(java.lang.Object)"},{"p":"modelengine.fit.cache.memory","c":"MemoryCache","l":"size()"},{"p":"modelengine.fit.cache.memory","c":"MemoryCache","l":"statistics()"}];updateSearchResults();
\ No newline at end of file
@@ -0,0 +1 @@
+packageSearchIndex = [{"l":"All Packages","u":"allpackages-index.html"},{"l":"modelengine.fit.cache.memory"}];updateSearchResults();
\ No newline at end of file
@@ -0,0 +1 @@
+typeSearchIndex = [{"l":"All Classes and Interfaces","u":"allclasses-index.html"},{"p":"modelengine.fit.cache.memory","l":"MemoryCache"},{"p":"modelengine.fit.cache.memory","l":"MemoryCacheManager"}];updateSearchResults();
\ No newline at end of file
@@ -129,7 +129,7 @@ public class HttpClientUtils {
                 .orElseThrow(() -> new IllegalStateException(StringUtils.format(
                         "MessageSerializer required but not found. [format={0}]",
                         format)));
-        return messageSerializer.deserializeResponse(request.returnType(), clientResponse.entityBytes());
+        return messageSerializer.deserializeResponse(request.returnType(), clientResponse.entityStream());
     }
 
     private static ResponseMetadata getResponseMetadata(Request request,
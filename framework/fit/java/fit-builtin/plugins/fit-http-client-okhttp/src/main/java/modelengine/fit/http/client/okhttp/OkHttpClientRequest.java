@@ -17,10 +17,12 @@ import modelengine.fit.http.protocol.RequestLine;
 import modelengine.fit.http.protocol.WritableMessageBody;
 import modelengine.fit.http.protocol.support.ClientRequestBody;
 import modelengine.fitframework.model.MultiValueMap;
+import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
+import okio.BufferedSink;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -42,6 +44,7 @@ public class OkHttpClientRequest implements ClientRequest {
     private final OkHttpClient okHttpClient;
     private final okhttp3.Request.Builder requestBuilder;
     private final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    private boolean hasBody;
 
     /**
      * 表示 {@link OkHttpClientRequest} 类的构造方法。
@@ -85,18 +88,14 @@ public class OkHttpClientRequest implements ClientRequest {
     public void writeBody(int b) throws IOException {
         this.checkIfClosed();
         this.stream.write(b);
-        this.updateRequestBody();
+        this.hasBody = true;
     }
 
     @Override
     public void writeBody(byte[] bytes, int off, int len) throws IOException {
         this.checkIfClosed();
         this.stream.write(bytes, off, len);
-        this.updateRequestBody();
-    }
-
-    private void updateRequestBody() {
-        this.requestBuilder.method(this.method.name(), RequestBody.create(this.stream.toByteArray(), null));
+        this.hasBody = true;
     }
 
     @Override
@@ -105,6 +104,10 @@ public class OkHttpClientRequest implements ClientRequest {
     @Override
     public ClientResponse readResponse() throws IOException {
         this.checkIfClosed();
+        if (this.hasBody) {
+            // 消息体在发送时才从缓冲区写出，避免每次写入时复制已写入的全部数据。
+            this.requestBuilder.method(this.method.name(), new BufferedRequestBody(this.stream));
+        }
         Response response = this.okHttpClient.newCall(this.requestBuilder.build()).execute();
         notNull(response.body(), () -> new IllegalStateException("The response body cannot be null."));
         return ClientResponse.create(response.code(),
@@ -133,4 +136,30 @@ public class OkHttpClientRequest implements ClientRequest {
         this.isClosed = true;
         this.body.close();
     }
-}
\ No newline at end of file
+
+    /**
+     * 表示直接从缓冲区写出的请求消息体。
+     */
+    private static final class BufferedRequestBody extends RequestBody {
+        private final ByteArrayOutputStream stream;
+
+        BufferedRequestBody(ByteArrayOutputStream stream) {
+            this.stream = stream;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return null;
+        }
+
+        @Override
+        public long contentLength() {
+            return this.stream.size();
+        }
+
+        @Override
+        public void writeTo(BufferedSink sink) throws IOException {
+            this.stream.writeTo(sink.outputStream());
+        }
+    }
+}
@@ -10,6 +10,7 @@ import static modelengine.fitframework.inspection.Validation.notNull;
 import static modelengine.fitframework.util.ObjectUtils.cast;
 
 import modelengine.fit.http.annotation.DocumentIgnored;
+import modelengine.fit.http.annotation.NonBlocking;
 import modelengine.fit.http.annotation.RequestMapping;
 import modelengine.fit.http.protocol.HttpResponseStatus;
 import modelengine.fit.http.server.HttpClassicServer;
@@ -162,6 +163,7 @@ public class DefaultHttpHandlerResolver implements HttpHandlerResolver {
             List<HttpHandler> handlers = new ArrayList<>();
             int statusCode = this.resolveStatusCode();
             boolean isDocumentIgnored = DefaultHttpHandlerResolver.this.isDocumentIgnored(this.candidate, this.method);
+            boolean isNonBlocking = DefaultHttpHandlerResolver.this.isNonBlocking(this.candidate, this.method);
             for (String pathPatternPrefix : this.pathPatternPrefixes) {
                 for (String pathPatternSuffix : pathPatternSuffixes) {
                     String pathPattern = pathPatternPrefix + pathPatternSuffix;
@@ -170,6 +172,7 @@ public class DefaultHttpHandlerResolver implements HttpHandlerResolver {
                             .statusCode(statusCode)
                             .propertyValueMetadata(propertyValueMetadata)
                             .isDocumentIgnored(isDocumentIgnored)
+                            .isNonBlocking(isNonBlocking)
                             .summary(DefaultHttpHandlerResolver.this.resolveSummary(this.method))
                             .description(DefaultHttpHandlerResolver.this.resolveDescription(this.method))
                             .returnDescription(DefaultHttpHandlerResolver.this.resolveReturnDescription(this.method))
@@ -262,6 +265,13 @@ public class DefaultHttpHandlerResolver implements HttpHandlerResolver {
         return this.getAnnotation(element, DocumentIgnored.class).isPresent();
     }
 
+    private boolean isNonBlocking(BeanFactory candidate, Method method) {
+        if (this.getAnnotation(method, NonBlocking.class).isPresent()) {
+            return true;
+        }
+        return this.getAnnotation(TypeUtils.toClass(candidate.metadata().type()), NonBlocking.class).isPresent();
+    }
+
     private String resolveSummary(AnnotatedElement element) {
         return this.getAnnotation(element, RequestMapping.class).map(RequestMapping::summary).orElse(StringUtils.EMPTY);
     }
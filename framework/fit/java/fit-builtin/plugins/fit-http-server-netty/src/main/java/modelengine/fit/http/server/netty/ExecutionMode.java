@@ -0,0 +1,67 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.server.netty;
+
+import modelengine.fitframework.util.StringUtils;
+
+/**
+ * 表示 Http 请求的执行方式。
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public enum ExecutionMode {
+    /** 表示所有请求都在业务线程池中执行。 */
+    THREAD_POOL("thread-pool"),
+
+    /**
+     * 表示每一个请求都在一个新的虚拟线程中执行。
+     * <p>当运行时的 JDK 不支持虚拟线程时，退化为 {@link #THREAD_POOL}。</p>
+     */
+    VIRTUAL_THREAD("virtual-thread"),
+
+    /**
+     * 表示不会发生阻塞的请求在完整接收后直接在 IO 线程上执行，其余请求在业务线程池中执行。
+     *
+     * @see modelengine.fit.http.annotation.NonBlocking
+     */
+    EVENT_LOOP("event-loop");
+
+    private final String value;
+
+    ExecutionMode(String value) {
+        this.value = value;
+    }
+
+    /**
+     * 获取执行方式的配置值。
+     *
+     * @return 表示执行方式的配置值的 {@link String}。
+     */
+    public String value() {
+        return this.value;
+    }
+
+    /**
+     * 将指定的配置值转换为执行方式。
+     *
+     * @param value 表示指定的配置值的 {@link String}。
+     * @return 表示转换后的执行方式的 {@link ExecutionMode}。当配置值为空白字符串时，返回 {@link #THREAD_POOL}。
+     * @throws IllegalArgumentException 当配置值不是合法的执行方式时。
+     */
+    public static ExecutionMode from(String value) {
+        if (StringUtils.isBlank(value)) {
+            return THREAD_POOL;
+        }
+        for (ExecutionMode mode : ExecutionMode.values()) {
+            if (mode.value.equalsIgnoreCase(value.trim()) || mode.name().equalsIgnoreCase(value.trim())) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException(StringUtils.format("Unknown execution mode. [mode={0}]", value));
+    }
+}
@@ -38,19 +38,16 @@ import modelengine.fit.http.server.HttpClassicServer;
 import modelengine.fit.http.server.HttpClassicServerRequest;
 import modelengine.fit.http.server.HttpClassicServerResponse;
 import modelengine.fit.http.server.HttpHandler;
+import modelengine.fit.http.server.HttpHandlerNotFoundException;
 import modelengine.fit.http.server.HttpServerFilterChain;
 import modelengine.fit.http.server.HttpServerResponseException;
 import modelengine.fit.http.server.support.DefaultHttpServerFilterChain;
 import modelengine.fitframework.log.Logger;
 import modelengine.fitframework.pattern.builder.BuilderFactory;
-import modelengine.fitframework.schedule.Task;
-import modelengine.fitframework.schedule.ThreadPoolExecutor;
 import modelengine.fitframework.serialization.ObjectSerializer;
 import modelengine.fitframework.util.StringUtils;
 
 import java.io.IOException;
-import java.util.concurrent.ThreadPoolExecutor.AbortPolicy;
-import java.util.concurrent.TimeUnit;
 
 /**
  * {@link HttpClassicServerRequest} 的组装器。
@@ -62,29 +59,31 @@ import java.util.concurrent.TimeUnit;
 public class HttpClassicRequestAssembler extends SimpleChannelInboundHandler<HttpObject> {
     private static final Logger log = Logger.get(HttpClassicRequestAssembler.class);
     private static final AttributeKey<NettyHttpServerRequest> REQUEST = AttributeKey.valueOf("request");
+    private static final AttributeKey<Runnable> INLINE_EXECUTION = AttributeKey.valueOf("inline-execution");
 
     private final HttpClassicServer server;
     private final boolean secure;
     private final Config config;
-    private final ThreadPoolExecutor threadPoolExecutor;
+    private final RequestExecutor executor;
 
     public HttpClassicRequestAssembler(HttpClassicServer server, boolean secure, Config config) {
+        this(server, secure, config, new RequestExecutor(config));
+    }
+
+    HttpClassicRequestAssembler(HttpClassicServer server, boolean secure, Config config, RequestExecutor executor) {
         this.server = notNull(server, "The http server cannot be null.");
         this.secure = secure;
         this.config = notNull(config, "The assembler config cannot be null.");
-        this.threadPoolExecutor = ThreadPoolExecutor.custom()
-                .threadPoolName("netty-request-assembler")
-                .awaitTermination(3, TimeUnit.SECONDS)
-                .isImmediateShutdown(!this.config.isGracefulExit())
-                .corePoolSize(config.coreThreadNum())
-                .maximumPoolSize(config.maxThreadNum())
-                .keepAliveTime(60, TimeUnit.SECONDS)
-                .workQueueCapacity(config.queueCapacity())
-                .isDaemonThread(!this.config.isGracefulExit())
-                .exceptionHandler((thread, cause) -> log.error("Failed to handle http request by request assembler.",
-                        cause))
-                .rejectedExecutionHandler(new AbortPolicy())
-                .build();
+        this.executor = notNull(executor, "The request executor cannot be null.");
+    }
+
+    /**
+     * 获取当前组装器执行请求的统计信息。
+     *
+     * @return 表示当前组装器执行请求的统计信息的 {@link RequestExecutionMetrics}。
+     */
+    public RequestExecutionMetrics metrics() {
+        return this.executor;
     }
 
     private static void setRequest(ChannelHandlerContext ctx, NettyHttpServerRequest serverRequest) {
@@ -100,6 +99,14 @@ public class HttpClassicRequestAssembler extends SimpleChannelInboundHandler<Htt
         ctx.channel().attr(REQUEST).set(null);
     }
 
+    private static void setInlineExecution(ChannelHandlerContext ctx, Runnable execution) {
+        ctx.channel().attr(INLINE_EXECUTION).set(execution);
+    }
+
+    private static Runnable removeInlineExecution(ChannelHandlerContext ctx) {
+        return ctx.channel().attr(INLINE_EXECUTION).getAndSet(null);
+    }
+
     @Override
     public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
         log.error("Failed to handle http request by netty worker.", cause);
@@ -129,6 +136,7 @@ public class HttpClassicRequestAssembler extends SimpleChannelInboundHandler<Htt
             request.interruptExecution();
             clearRequest(ctx);
         }
+        removeInlineExecution(ctx);
         ctx.close();
     }
 
@@ -149,28 +157,59 @@ public class HttpClassicRequestAssembler extends SimpleChannelInboundHandler<Htt
         setRequest(ctx, serverRequest);
         if (HttpUtil.is100ContinueExpected(request)) {
             this.return100Continue(ctx);
-        } else {
-            this.threadPoolExecutor.execute(Task.builder()
-                    .runnable(() -> this.doHttpRequest(ctx, serverRequest))
-                    .uncaughtExceptionHandler((thread, cause) -> this.exceptionCaught(ctx, cause, serverRequest))
-                    .buildDisposable());
+            return;
+        }
+        if (!this.executor.isInlineAllowed()) {
+            this.executor.execute(() -> this.doHttpRequest(ctx, serverRequest, null, null),
+                    (thread, cause) -> this.exceptionCaught(ctx, cause, serverRequest));
+            return;
+        }
+        HttpClassicServerRequest classicRequest = HttpClassicServerRequest.create(this.server, serverRequest);
+        HttpHandler handler = this.dispatchIfPresent(classicRequest);
+        if (handler != null && handler.isNonBlocking()) {
+            // 不会发生阻塞的处理器需要等待消息体完整接收之后，才能在 IO 线程上执行，否则读取消息体时会阻塞 IO 线程。
+            setInlineExecution(ctx, () -> this.processHttpRequest(ctx, serverRequest, classicRequest, handler));
+            return;
+        }
+        this.executor.execute(() -> this.doHttpRequest(ctx, serverRequest, classicRequest, handler),
+                (thread, cause) -> this.exceptionCaught(ctx, cause, serverRequest));
+    }
+
+    private HttpHandler dispatchIfPresent(HttpClassicServerRequest classicRequest) {
+        try {
+            return this.server.httpDispatcher().dispatch(classicRequest, null);
+        } catch (HttpHandlerNotFoundException e) {
+            return null;
         }
     }
 
-    private void doHttpRequest(ChannelHandlerContext ctx, NettyHttpServerRequest request) {
+    private void doHttpRequest(ChannelHandlerContext ctx, NettyHttpServerRequest request,
+            HttpClassicServerRequest dispatchedRequest, HttpHandler dispatchedHandler) {
         request.setExecuteThread(Thread.currentThread());
-        try (HttpClassicServerRequest classicRequest = HttpClassicServerRequest.create(this.server, request);
-             NettyHttpServerResponse response = new NettyHttpServerResponse(ctx, request);
+        try {
+            this.processHttpRequest(ctx, request, dispatchedRequest, dispatchedHandler);
+        } finally {
+            request.removeExecuteThread();
+        }
+    }
+
+    private void processHttpRequest(ChannelHandlerContext ctx, NettyHttpServerRequest request,
+            HttpClassicServerRequest dispatchedRequest, HttpHandler dispatchedHandler) {
+        try (HttpClassicServerRequest classicRequest = dispatchedRequest != null
+                ? dispatchedRequest
+                : HttpClassicServerRequest.create(this.server, request);
+             NettyHttpServerResponse response =
+                     new NettyHttpServerResponse(ctx, request);
              HttpClassicServerResponse classicResponse = HttpClassicServerResponse.create(this.server, response)) {
-            HttpHandler handler = this.server.httpDispatcher().dispatch(classicRequest, classicResponse);
+            HttpHandler handler = dispatchedHandler != null
+                    ? dispatchedHandler
+                    : this.server.httpDispatcher().dispatch(classicRequest, classicResponse);
             classicRequest.attributes().set(PATH_PATTERN.key(), handler.pathPattern());
             classicRequest.attributes().set(HTTP_HANDLER.key(), handler);
             HttpServerFilterChain filterChain = new DefaultHttpServerFilterChain(handler);
             this.doFilterChain(filterChain, classicRequest, classicResponse);
         } catch (Exception cause) {
             this.exceptionCaught(ctx, cause, request);
-        } finally {
-            request.removeExecuteThread();
         }
     }
 
@@ -185,6 +224,12 @@ public class HttpClassicRequestAssembler extends SimpleChannelInboundHandler<Htt
             throw new IllegalStateException(message);
         }
         this.receiveHttpContent(ctx, request, content);
+        if (content instanceof LastHttpContent) {
+            Runnable inlineExecution = removeInlineExecution(ctx);
+            if (inlineExecution != null) {
+                this.executor.executeInline(inlineExecution);
+            }
+        }
     }
 
     private void receiveHttpContent(ChannelHandlerContext ctx, NettyHttpServerRequest serverRequest,
@@ -298,6 +343,13 @@ public class HttpClassicRequestAssembler extends SimpleChannelInboundHandler<Htt
          */
         boolean isGracefulExit();
 
+        /**
+         * 获取请求的执行方式。
+         *
+         * @return 表示请求的执行方式的 {@link ExecutionMode}。
+         */
+        ExecutionMode executionMode();
+
         /**
          * 表示 {@link Config} 的构建器。
          */
@@ -350,6 +402,14 @@ public class HttpClassicRequestAssembler extends SimpleChannelInboundHandler<Htt
              */
             Builder isGracefulExit(boolean isGracefulExit);
 
+            /**
+             * 向当前构建器中设置请求的执行方式。
+             *
+             * @param executionMode 表示待设置的请求的执行方式的 {@link ExecutionMode}。
+             * @return 表示当前构建器的 {@link Builder}。
+             */
+            Builder executionMode(ExecutionMode executionMode);
+
             /**
              * 构建对象。
              *
@@ -12,17 +12,17 @@ import static modelengine.fitframework.inspection.Validation.lessThanOrEquals;
 import static modelengine.fitframework.inspection.Validation.notNull;
 
 import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.ChannelGroupFuture;
 import io.netty.channel.group.DefaultChannelGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.handler.codec.http.HttpServerCodec;
 import io.netty.handler.ssl.SslHandler;
 import io.netty.util.NettyRuntime;
@@ -57,6 +57,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.locks.Lock;
 
@@ -85,6 +86,8 @@ public class NettyHttpClassicServer implements HttpClassicServer {
     private final int coreThreadNum;
     private final int maxThreadNum;
     private final int queueCapacity;
+    private final ExecutionMode executionMode;
+    private final NettyTransport transport;
     private final long largeBodySize;
     private final NettyHttpServerConfig nettyConfig;
     private final ServerConfig.Secure httpsConfig;
@@ -98,6 +101,8 @@ public class NettyHttpClassicServer implements HttpClassicServer {
     private volatile int httpsPort;
     private final boolean isGracefulExit;
     private volatile boolean isStarted = false;
+    private volatile RequestExecutor requestExecutor;
+    private volatile RequestExecutor secureRequestExecutor;
     private final Lock lock = LockUtils.newReentrantLock();
 
     NettyHttpClassicServer(BeanContainer container, Map<String, ObjectSerializer> serializers,
@@ -115,6 +120,8 @@ public class NettyHttpClassicServer implements HttpClassicServer {
                 : Math.max(NettyRuntime.availableProcessors() * 2, 10);
         this.maxThreadNum = Math.max(this.nettyConfig.getMaxThreadNum(), this.coreThreadNum);
         this.queueCapacity = Math.max(this.nettyConfig.getQueueCapacity(), 0);
+        this.executionMode = ExecutionMode.from(this.nettyConfig.getExecutionMode());
+        this.transport = NettyTransport.select(this.nettyConfig.isNativeTransportEnabled());
         this.isGracefulExit = isGracefulExit;
         this.httpsConfig = notNull(httpConfig, "The http config cannot be null.").secure().orElse(null);
         this.largeBodySize = httpConfig.largeBodySize();
@@ -198,21 +205,31 @@ public class NettyHttpClassicServer implements HttpClassicServer {
     }
 
     private void startServer() {
-        EventLoopGroup bossGroup = createBossGroup();
+        EventLoopGroup bossGroup = this.createBossGroup();
         EventLoopGroup workerGroup = this.createWorkerGroup();
+        HttpClassicRequestAssembler.Config assemblerConfig = this.getAssemblerConfig();
+        // http 和 https 的请求组装器各自使用独立的执行器，两个端口分别拥有配置的全部线程数和队列容量。
+        RequestExecutor requestExecutor = new RequestExecutor(assemblerConfig);
+        RequestExecutor secureRequestExecutor = new RequestExecutor(assemblerConfig);
+        this.requestExecutor = requestExecutor;
+        this.secureRequestExecutor = secureRequestExecutor;
         try {
             SSLContext sslContext = null;
             if (this.httpsPort > 0 && this.httpsConfig.isSslEnabled()) {
                 sslContext = this.createSslContext();
             }
             ChannelHandler channelHandler = new ChannelInitializerHandler(this,
-                    this.getAssemblerConfig(),
+                    assemblerConfig,
+                    requestExecutor,
+                    secureRequestExecutor,
                     this.httpsPort,
                     sslContext,
                     this.httpsConfig);
             ServerBootstrap serverBootstrap = new ServerBootstrap();
             serverBootstrap.group(bossGroup, workerGroup)
-                    .channel(NioServerSocketChannel.class)
+                    .channel(this.transport.serverChannelClass())
+                    .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                    .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
                     .childHandler(channelHandler);
             this.logServerStarted();
             if (this.httpPort > 0) {
@@ -231,10 +248,27 @@ public class NettyHttpClassicServer implements HttpClassicServer {
         } finally {
             workerGroup.shutdownGracefully();
             bossGroup.shutdownGracefully();
+            requestExecutor.shutdown();
+            secureRequestExecutor.shutdown();
             log.info("Http server has been terminated.");
         }
     }
 
+    /**
+     * 获取指定监听端口执行请求的统计信息。
+     * <p>http 和 https 端口各自使用独立的执行器，因此分别统计排队深度、正在执行的请求数量和被拒绝的请求数量。</p>
+     *
+     * @param isSecure 表示是否获取 https 端口的统计信息的 {@code boolean}。
+     * @return 表示指定监听端口执行请求的统计信息的 {@link Optional}{@code <}{@link RequestExecutionMetrics}{@code >}。
+     * 当服务器还未启动或者未监听该端口时，返回 {@link Optional#empty()}。
+     */
+    public Optional<RequestExecutionMetrics> executionMetrics(boolean isSecure) {
+        if (isSecure) {
+            return this.httpsPort > 0 ? Optional.ofNullable(this.secureRequestExecutor) : Optional.empty();
+        }
+        return this.httpPort > 0 ? Optional.ofNullable(this.requestExecutor) : Optional.empty();
+    }
+
     private HttpClassicRequestAssembler.Config getAssemblerConfig() {
         return HttpClassicRequestAssembler.Config.custom()
                 .shouldDisplayError(this.nettyConfig.isDisplayError())
@@ -243,30 +277,37 @@ public class NettyHttpClassicServer implements HttpClassicServer {
                 .maxThreadNum(this.maxThreadNum)
                 .queueCapacity(this.queueCapacity)
                 .isGracefulExit(this.isGracefulExit)
+                .executionMode(this.executionMode)
                 .build();
     }
 
     private void logServerStarted() {
         if (this.httpPort > 0 && this.httpsPort > 0) {
-            log.info("Start netty http server successfully. [httpPort={}, httpsPort={}]",
+            log.info("Start netty http server successfully. [httpPort={}, httpsPort={}, transport={}]",
                     this.httpPort,
-                    this.httpsPort);
+                    this.httpsPort,
+                    this.transport.name());
         } else if (this.httpPort > 0) {
-            log.info("Start netty http server successfully. [httpPort={}]", this.httpPort);
+            log.info("Start netty http server successfully. [httpPort={}, transport={}]",
+                    this.httpPort,
+                    this.transport.name());
         } else {
-            log.info("Start netty http server successfully. [httpsPort={}]", this.httpsPort);
+            log.info("Start netty http server successfully. [httpsPort={}, transport={}]",
+                    this.httpsPort,
+                    this.transport.name());
         }
     }
 
-    private static EventLoopGroup createBossGroup() {
-        return new NioEventLoopGroup(1, new DefaultThreadFactory("netty-boss-group", false, (thread, exception) -> {
-            log.error("Netty boss group occurs exception.", exception);
-        }));
+    private EventLoopGroup createBossGroup() {
+        return this.transport.createEventLoopGroup(1,
+                new DefaultThreadFactory("netty-boss-group", false, (thread, exception) -> {
+                    log.error("Netty boss group occurs exception.", exception);
+                }));
     }
 
     private EventLoopGroup createWorkerGroup() {
         boolean isDaemon = !this.isGracefulExit;
-        return new NioEventLoopGroup(this.coreThreadNum,
+        return this.transport.createEventLoopGroup(this.coreThreadNum,
                 new DefaultThreadFactory("netty-worker-group", isDaemon, (thread, exception) -> {
                     log.error("Netty worker group occurs exception.", exception);
                 }));
@@ -362,7 +403,8 @@ public class NettyHttpClassicServer implements HttpClassicServer {
         private final HttpClassicRequestAssembler secureAssembler;
 
         ChannelInitializerHandler(HttpClassicServer server, HttpClassicRequestAssembler.Config assemblerConfig,
-                int httpsPort, SSLContext sslContext, ServerConfig.Secure httpsConfig) {
+                RequestExecutor requestExecutor, RequestExecutor secureRequestExecutor, int httpsPort,
+                SSLContext sslContext, ServerConfig.Secure httpsConfig) {
             this.httpsPort = httpsPort;
             this.sslContext = sslContext;
             this.httpsConfig = httpsConfig;
@@ -374,8 +416,9 @@ public class NettyHttpClassicServer implements HttpClassicServer {
                     true,
                     assemblerConfig.largeBodySize(),
                     assemblerConfig.isGracefulExit());
-            this.assembler = new HttpClassicRequestAssembler(server, false, assemblerConfig);
-            this.secureAssembler = new HttpClassicRequestAssembler(server, true, assemblerConfig);
+            this.assembler = new HttpClassicRequestAssembler(server, false, assemblerConfig, requestExecutor);
+            this.secureAssembler =
+                    new HttpClassicRequestAssembler(server, true, assemblerConfig, secureRequestExecutor);
         }
 
         @Override
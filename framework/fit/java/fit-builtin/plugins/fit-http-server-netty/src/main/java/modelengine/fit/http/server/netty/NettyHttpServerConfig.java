@@ -34,6 +34,22 @@ public interface NettyHttpServerConfig {
      */
     int getQueueCapacity();
 
+    /**
+     * 获取业务请求的执行方式。
+     * <p>可选的值为 {@code 'thread-pool'}、{@code 'virtual-thread'} 和 {@code 'event-loop'}，参见 {@link ExecutionMode}。</p>
+     *
+     * @return 表示业务请求的执行方式的 {@link String}。
+     */
+    String getExecutionMode();
+
+    /**
+     * 获取是否允许使用本地传输方式。
+     * <p>允许使用时，如果运行在 x86_64 或 aarch64 平台的 Linux 上，则使用 epoll 传输方式。</p>
+     *
+     * @return 表示是否允许使用本地传输方式的 {@code boolean}。
+     */
+    boolean isNativeTransportEnabled();
+
     /**
      * 获取 Http 响应发生错误时，是否显示错误详细信息。
      *
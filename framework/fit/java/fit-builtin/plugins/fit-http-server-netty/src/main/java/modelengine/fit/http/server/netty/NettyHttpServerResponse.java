@@ -8,42 +8,60 @@ package modelengine.fit.http.server.netty;
 
 import static modelengine.fitframework.inspection.Validation.notNull;
 
-import io.netty.buffer.Unpooled;
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.DefaultFileRegion;
 import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.DefaultHttpResponse;
-import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.ssl.SslHandler;
 import modelengine.fit.http.protocol.ConfigurableMessageHeaders;
 import modelengine.fit.http.protocol.ConfigurableStatusLine;
 import modelengine.fit.http.protocol.HttpVersion;
+import modelengine.fit.http.protocol.MessageHeaderNames;
+import modelengine.fit.http.protocol.MimeType;
 import modelengine.fit.http.protocol.ServerResponse;
 import modelengine.fit.http.protocol.WritableMessageBody;
 import modelengine.fit.http.protocol.support.ServerResponseBody;
+import modelengine.fitframework.util.IoUtils;
 import modelengine.fitframework.util.StringUtils;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * {@link ServerResponse} 的 Netty 实现。
+ * <p>消息体会先被合并写入池化的缓冲区中，当缓冲区的数据量达到 {@value #FLUSH_THRESHOLD} 字节或者响应结束时才统一发送，
+ * 起始行和消息头随第一次发送的消息体一起发送，以减少系统调用的次数。对于事件流（{@code text/event-stream}）和
+ * NDJSON（{@code application/x-ndjson}）等流式类型的响应，消息头和每一次写入都会立即发送。</p>
  *
  * @author 季聿阶
  * @since 2022-07-08
  */
 public class NettyHttpServerResponse implements ServerResponse {
+    private static final int FLUSH_THRESHOLD = 8192;
+    private static final List<String> STREAMING_CONTENT_TYPES =
+            Arrays.asList(MimeType.TEXT_EVENT_STREAM.value(), "application/x-ndjson");
+
     private final ConfigurableStatusLine startLine;
     private final ConfigurableMessageHeaders headers;
     private final ChannelHandlerContext ctx;
     private final boolean keepAlive;
     private final ServerResponseBody body;
+    private ByteBuf pendingBody;
+    private boolean isStreaming;
     private boolean hasAddedClosedListener;
     private boolean isClosed;
 
@@ -91,25 +109,94 @@ public class NettyHttpServerResponse implements ServerResponse {
         } else {
             response.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE);
         }
-        this.ctx.writeAndFlush(response);
+        this.isStreaming = this.headers()
+                .first(MessageHeaderNames.CONTENT_TYPE)
+                .filter(contentType -> STREAMING_CONTENT_TYPES.stream()
+                        .anyMatch(streamingType -> StringUtils.startsWithIgnoreCase(contentType, streamingType)))
+                .isPresent();
+        if (this.isStreaming) {
+            this.ctx.writeAndFlush(response);
+        } else {
+            this.ctx.write(response);
+        }
     }
 
     @Override
     public void writeBody(int b) throws IOException {
-        this.writeBody(new byte[] {(byte) b});
+        this.checkIfClosed();
+        if (this.isStreaming) {
+            this.writeBody(new byte[] {(byte) b});
+            return;
+        }
+        this.pendingBody(1).writeByte(b);
+        this.flushIfFull();
     }
 
     @Override
     public void writeBody(byte[] bytes, int off, int len) throws IOException {
         this.checkIfClosed();
-        HttpContent httpContent = new DefaultHttpContent(Unpooled.copiedBuffer(bytes, off, len));
-        this.ctx.writeAndFlush(httpContent);
+        if (len == 0) {
+            return;
+        }
+        if (this.isStreaming) {
+            ByteBuf content = this.ctx.alloc().buffer(len);
+            content.writeBytes(bytes, off, len);
+            this.ctx.writeAndFlush(new DefaultHttpContent(content));
+            return;
+        }
+        this.pendingBody(len).writeBytes(bytes, off, len);
+        this.flushIfFull();
+    }
+
+    private ByteBuf pendingBody(int len) {
+        if (this.pendingBody == null) {
+            this.pendingBody = this.ctx.alloc().buffer(Math.min(Math.max(len, 256), FLUSH_THRESHOLD));
+        }
+        return this.pendingBody;
+    }
+
+    private void flushIfFull() {
+        if (this.pendingBody.readableBytes() >= FLUSH_THRESHOLD) {
+            this.ctx.writeAndFlush(new DefaultHttpContent(this.removePendingBody()));
+        }
+    }
+
+    @Override
+    public void writeBody(FileChannel channel, long position, long count, Closeable owner) throws IOException {
+        this.checkIfClosed();
+        notNull(channel, "The file channel to write cannot be null.");
+        notNull(owner, "The owner of file channel cannot be null.");
+        if (this.ctx.pipeline().get(SslHandler.class) != null) {
+            // 加密通道无法直接发送文件内容，因此退化为内存拷贝的方式。
+            ServerResponse.super.writeBody(channel, position, count, owner);
+            return;
+        }
+        this.writePendingBody();
+        // 文件内容在 IO 线程上异步发送，发送结束后再关闭文件，发送失败时响应已经不完整，只能关闭连接。
+        this.ctx.writeAndFlush(new DefaultFileRegion(channel, position, count))
+                .addListener(ChannelFutureListener.CLOSE_ON_FAILURE)
+                .addListener(future -> IoUtils.close(owner));
+    }
+
+    private void writePendingBody() {
+        if (this.pendingBody != null) {
+            this.ctx.write(new DefaultHttpContent(this.removePendingBody()));
+        }
+    }
+
+    private ByteBuf removePendingBody() {
+        ByteBuf pending = this.pendingBody;
+        this.pendingBody = null;
+        return pending;
     }
 
     @Override
     public void flush() throws IOException {
         this.checkIfClosed();
-        ChannelFuture channelFuture = this.ctx.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
+        LastHttpContent lastContent = this.pendingBody == null
+                ? LastHttpContent.EMPTY_LAST_CONTENT
+                : new DefaultLastHttpContent(this.removePendingBody());
+        ChannelFuture channelFuture = this.ctx.writeAndFlush(lastContent);
         if (!this.keepAlive && !this.hasAddedClosedListener) {
             channelFuture.addListener(ChannelFutureListener.CLOSE);
             this.hasAddedClosedListener = true;
@@ -124,6 +211,9 @@ public class NettyHttpServerResponse implements ServerResponse {
     @Override
     public void close() throws IOException {
         this.isClosed = true;
+        if (this.pendingBody != null) {
+            this.removePendingBody().release();
+        }
         this.body.close();
     }
 }
@@ -98,6 +98,10 @@ public abstract class NettyReadableMessageBody extends AbstractReadableMessageBo
                 try {
                     this.condition.await();
                     read = this.read0(bytes, off, len);
+                    if (read == 0 && this.writingFinished) {
+                        // 最后的消息内容可能为空，此时需要结束读取，否则将一直等待。
+                        read = -1;
+                    }
                 } catch (InterruptedException e) {
                     throw new IOException(e);
                 }
@@ -0,0 +1,116 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.server.netty;
+
+import static modelengine.fitframework.util.ObjectUtils.cast;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.IoHandlerFactory;
+import io.netty.channel.MultiThreadIoEventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.nio.NioIoHandler;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import modelengine.fitframework.log.Logger;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Supplier;
+
+/**
+ * 表示 Netty 服务器所使用的网络传输方式。
+ * <p>插件随包提供了 Linux x86_64 和 aarch64 的 {@code netty-transport-native-epoll}，当运行在这两种平台的 Linux 上时，
+ * 优先使用 epoll 传输方式，否则使用 NIO 传输方式。本地传输的包仅在运行时依赖，因此 epoll 相关的类通过反射加载。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+final class NettyTransport {
+    private static final Logger log = Logger.get(NettyTransport.class);
+    private static final String EPOLL_CLASS = "io.netty.channel.epoll.Epoll";
+    private static final String EPOLL_IO_HANDLER_CLASS = "io.netty.channel.epoll.EpollIoHandler";
+    private static final String EPOLL_SERVER_SOCKET_CHANNEL_CLASS = "io.netty.channel.epoll.EpollServerSocketChannel";
+
+    private static final NettyTransport NIO = new NettyTransport("nio", NioIoHandler::newFactory,
+            NioServerSocketChannel.class);
+
+    private final String name;
+    private final Supplier<IoHandlerFactory> ioHandlerFactorySupplier;
+    private final Class<? extends ServerChannel> serverChannelClass;
+
+    private NettyTransport(String name, Supplier<IoHandlerFactory> ioHandlerFactorySupplier,
+            Class<? extends ServerChannel> serverChannelClass) {
+        this.name = name;
+        this.ioHandlerFactorySupplier = ioHandlerFactorySupplier;
+        this.serverChannelClass = serverChannelClass;
+    }
+
+    /**
+     * 获取传输方式的名字。
+     *
+     * @return 表示传输方式的名字的 {@link String}。
+     */
+    String name() {
+        return this.name;
+    }
+
+    /**
+     * 获取服务端通道的类型。
+     *
+     * @return 表示服务端通道的类型的 {@link Class}{@code <? extends }{@link ServerChannel}{@code >}。
+     */
+    Class<? extends ServerChannel> serverChannelClass() {
+        return this.serverChannelClass;
+    }
+
+    /**
+     * 创建当前传输方式的事件循环组。
+     *
+     * @param threadNum 表示事件循环组的线程数量的 {@code int}。
+     * @param threadFactory 表示事件循环组的线程工厂的 {@link ThreadFactory}。
+     * @return 表示创建的事件循环组的 {@link EventLoopGroup}。
+     */
+    EventLoopGroup createEventLoopGroup(int threadNum, ThreadFactory threadFactory) {
+        return new MultiThreadIoEventLoopGroup(threadNum, threadFactory, this.ioHandlerFactorySupplier.get());
+    }
+
+    /**
+     * 选择可用的传输方式。
+     *
+     * @param isNativeEnabled 表示是否允许使用本地传输方式的 {@code boolean}。
+     * @return 表示选择的传输方式的 {@link NettyTransport}。
+     */
+    static NettyTransport select(boolean isNativeEnabled) {
+        if (!isNativeEnabled) {
+            return NIO;
+        }
+        try {
+            ClassLoader classLoader = NettyTransport.class.getClassLoader();
+            Class<?> epollClass = Class.forName(EPOLL_CLASS, true, classLoader);
+            boolean isAvailable = (boolean) epollClass.getMethod("isAvailable").invoke(null);
+            if (!isAvailable) {
+                return NIO;
+            }
+            Method newFactory = Class.forName(EPOLL_IO_HANDLER_CLASS, true, classLoader).getMethod("newFactory");
+            Class<? extends ServerChannel> serverChannelClass =
+                    cast(Class.forName(EPOLL_SERVER_SOCKET_CHANNEL_CLASS, true, classLoader));
+            return new NettyTransport("epoll", () -> invokeFactory(newFactory), serverChannelClass);
+        } catch (ClassNotFoundException e) {
+            return NIO;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            log.warn("Failed to load netty epoll transport, use nio instead. [cause={}]", e.getMessage());
+            return NIO;
+        }
+    }
+
+    private static IoHandlerFactory invokeFactory(Method newFactory) {
+        try {
+            return cast(newFactory.invoke(null));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to create netty epoll io handler factory.", e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.server.netty;
+
+/**
+ * 表示 Http 请求执行情况的统计信息。
+ * <p>统计信息可以用于评估业务线程池的容量是否合适：排队深度持续升高或者出现拒绝，说明业务线程不足。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public interface RequestExecutionMetrics {
+    /**
+     * 获取实际生效的执行方式。
+     *
+     * @return 表示实际生效的执行方式的 {@link ExecutionMode}。
+     */
+    ExecutionMode executionMode();
+
+    /**
+     * 获取已经提交但还未开始执行的请求数量。
+     *
+     * @return 表示已经提交但还未开始执行的请求数量的 {@code int}。
+     */
+    int queueDepth();
+
+    /**
+     * 获取历史上排队深度的最大值。
+     *
+     * @return 表示历史上排队深度的最大值的 {@code int}。
+     */
+    int peakQueueDepth();
+
+    /**
+     * 获取正在执行的请求数量。
+     *
+     * @return 表示正在执行的请求数量的 {@code int}。
+     */
+    int activeCount();
+
+    /**
+     * 获取已经执行完成的请求数量。
+     *
+     * @return 表示已经执行完成的请求数量的 {@code long}。
+     */
+    long completedCount();
+
+    /**
+     * 获取因为执行器饱和而被拒绝的请求数量。
+     *
+     * @return 表示被拒绝的请求数量的 {@code long}。
+     */
+    long rejectedCount();
+
+    /**
+     * 获取直接在 IO 线程上执行的请求数量。
+     *
+     * @return 表示直接在 IO 线程上执行的请求数量的 {@code long}。
+     */
+    long inlineCount();
+}
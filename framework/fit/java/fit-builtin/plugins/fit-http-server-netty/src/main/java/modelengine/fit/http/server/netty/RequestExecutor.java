@@ -0,0 +1,209 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.server.netty;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+import static modelengine.fitframework.util.ObjectUtils.cast;
+import static modelengine.fitframework.util.ObjectUtils.nullIf;
+
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.schedule.Task;
+import modelengine.fitframework.schedule.ThreadPoolExecutor;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor.AbortPolicy;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 表示 Http 请求的执行器。
+ * <p>执行器根据 {@link ExecutionMode} 将请求交给业务线程池或者虚拟线程执行，也可以直接在调用线程上执行，
+ * 并统计执行过程中的排队与拒绝情况。每个监听端口的请求组装器各自持有一个执行器，执行器在服务器停止时关闭。</p>
+ * <p>当前工程以 JDK 17 为编译目标，因此虚拟线程通过反射创建，当运行时的 JDK 不支持虚拟线程时，退化为业务线程池。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+class RequestExecutor implements RequestExecutionMetrics {
+    private static final Logger log = Logger.get(RequestExecutor.class);
+    private static final String THREAD_POOL_NAME = "netty-request-assembler";
+
+    private final ExecutionMode executionMode;
+    private final ThreadPoolExecutor threadPoolExecutor;
+    private final ExecutorService virtualThreadExecutor;
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicInteger peakQueueDepth = new AtomicInteger();
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final LongAdder completedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder inlineCount = new LongAdder();
+
+    RequestExecutor(HttpClassicRequestAssembler.Config config) {
+        notNull(config, "The assembler config cannot be null.");
+        ExecutionMode expectedMode = nullIf(config.executionMode(), ExecutionMode.THREAD_POOL);
+        this.virtualThreadExecutor =
+                expectedMode == ExecutionMode.VIRTUAL_THREAD ? createVirtualThreadExecutor() : null;
+        this.executionMode = expectedMode == ExecutionMode.VIRTUAL_THREAD && this.virtualThreadExecutor == null
+                ? ExecutionMode.THREAD_POOL
+                : expectedMode;
+        this.threadPoolExecutor = this.virtualThreadExecutor == null ? createThreadPoolExecutor(config) : null;
+    }
+
+    private static ThreadPoolExecutor createThreadPoolExecutor(HttpClassicRequestAssembler.Config config) {
+        return ThreadPoolExecutor.custom()
+                .threadPoolName(THREAD_POOL_NAME)
+                .awaitTermination(3, TimeUnit.SECONDS)
+                .isImmediateShutdown(!config.isGracefulExit())
+                .corePoolSize(config.coreThreadNum())
+                .maximumPoolSize(config.maxThreadNum())
+                .keepAliveTime(60, TimeUnit.SECONDS)
+                .workQueueCapacity(config.queueCapacity())
+                .isDaemonThread(!config.isGracefulExit())
+                .exceptionHandler((thread, cause) -> log.error("Failed to handle http request by request assembler.",
+                        cause))
+                .rejectedExecutionHandler(new AbortPolicy())
+                .build();
+    }
+
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            Method ofVirtual = Thread.class.getMethod("ofVirtual");
+            Class<?> builderClass = ofVirtual.getReturnType();
+            Object builder = ofVirtual.invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class)
+                    .invoke(builder, THREAD_POOL_NAME + "-", 0L);
+            ThreadFactory threadFactory = cast(builderClass.getMethod("factory").invoke(builder));
+            return cast(Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, threadFactory));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.warn("Virtual thread is not supported by current jdk, use thread pool instead. [jdk={}]",
+                    System.getProperty("java.version"));
+            log.debug("Failed to create virtual thread executor.", e);
+            return null;
+        }
+    }
+
+    /**
+     * 判断执行器是否允许不会发生阻塞的请求直接在 IO 线程上执行。
+     *
+     * @return 如果允许，则返回 {@code true}，否则，返回 {@code false}。
+     */
+    boolean isInlineAllowed() {
+        return this.executionMode == ExecutionMode.EVENT_LOOP;
+    }
+
+    /**
+     * 异步执行指定的请求处理任务。
+     *
+     * @param runnable 表示待执行的请求处理任务的 {@link Runnable}。
+     * @param handler 表示任务执行发生异常时的处理器的 {@link Thread.UncaughtExceptionHandler}。
+     * @throws RejectedExecutionException 当执行器已经饱和时。
+     */
+    void execute(Runnable runnable, Thread.UncaughtExceptionHandler handler) {
+        Runnable tracked = () -> {
+            this.queueDepth.decrementAndGet();
+            this.activeCount.incrementAndGet();
+            try {
+                runnable.run();
+            } finally {
+                this.activeCount.decrementAndGet();
+                this.completedCount.increment();
+            }
+        };
+        this.peakQueueDepth.accumulateAndGet(this.queueDepth.incrementAndGet(), Math::max);
+        try {
+            if (this.virtualThreadExecutor != null) {
+                this.virtualThreadExecutor.execute(() -> {
+                    try {
+                        tracked.run();
+                    } catch (Throwable cause) {
+                        handler.uncaughtException(Thread.currentThread(), cause);
+                    }
+                });
+            } else {
+                this.threadPoolExecutor.execute(Task.builder()
+                        .runnable(tracked)
+                        .uncaughtExceptionHandler(handler)
+                        .buildDisposable());
+            }
+        } catch (RejectedExecutionException e) {
+            this.queueDepth.decrementAndGet();
+            this.rejectedCount.increment();
+            log.warn("Http request is rejected by request executor. [mode={}, active={}, queueDepth={}]",
+                    this.executionMode.value(),
+                    this.activeCount.get(),
+                    this.queueDepth.get());
+            throw e;
+        }
+    }
+
+    /**
+     * 在当前线程上直接执行指定的请求处理任务。
+     *
+     * @param runnable 表示待执行的请求处理任务的 {@link Runnable}。
+     */
+    void executeInline(Runnable runnable) {
+        this.inlineCount.increment();
+        runnable.run();
+    }
+
+    @Override
+    public ExecutionMode executionMode() {
+        return this.executionMode;
+    }
+
+    @Override
+    public int queueDepth() {
+        return this.queueDepth.get();
+    }
+
+    @Override
+    public int peakQueueDepth() {
+        return this.peakQueueDepth.get();
+    }
+
+    @Override
+    public int activeCount() {
+        return this.activeCount.get();
+    }
+
+    @Override
+    public long completedCount() {
+        return this.completedCount.sum();
+    }
+
+    @Override
+    public long rejectedCount() {
+        return this.rejectedCount.sum();
+    }
+
+    @Override
+    public long inlineCount() {
+        return this.inlineCount.sum();
+    }
+
+    /**
+     * 关闭执行器，不再接收新的请求处理任务。
+     */
+    void shutdown() {
+        if (this.virtualThreadExecutor != null) {
+            this.virtualThreadExecutor.shutdown();
+            return;
+        }
+        try {
+            this.threadPoolExecutor.shutdown();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -70,7 +70,7 @@ public class ByteBufReadableMessageBody extends NettyReadableMessageBody {
 
     @Override
     protected int write0(@Nonnull ByteBuf data, boolean isLast) {
-        this.byteBuffers.addLast(data.copy());
+        this.byteBuffers.addLast(data.retainedDuplicate());
         int dataSize = data.readableBytes();
         this.available.addAndGet(dataSize);
         return dataSize;
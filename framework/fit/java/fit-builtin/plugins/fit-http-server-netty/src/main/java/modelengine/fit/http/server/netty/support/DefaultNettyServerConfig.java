@@ -34,6 +34,16 @@ public class DefaultNettyServerConfig implements NettyHttpServerConfig {
      */
     private int queueCapacity;
 
+    /**
+     * 配置项：{@code 'execution-mode'}。
+     */
+    private String executionMode;
+
+    /**
+     * 配置项：{@code 'native-transport-enabled'}。
+     */
+    private boolean nativeTransportEnabled;
+
     /**
      * 配置项：{@code 'display-error'}。
      */
@@ -81,6 +91,34 @@ public class DefaultNettyServerConfig implements NettyHttpServerConfig {
         this.queueCapacity = queueCapacity;
     }
 
+    @Override
+    public String getExecutionMode() {
+        return this.executionMode;
+    }
+
+    /**
+     * 设置请求的执行方式。
+     *
+     * @param executionMode 表示请求的执行方式的 {@link String}。
+     */
+    public void setExecutionMode(String executionMode) {
+        this.executionMode = executionMode;
+    }
+
+    @Override
+    public boolean isNativeTransportEnabled() {
+        return this.nativeTransportEnabled;
+    }
+
+    /**
+     * 设置是否允许使用本地传输方式的标志。
+     *
+     * @param nativeTransportEnabled 表示是否允许使用本地传输方式的标志的 {@code boolean}。
+     */
+    public void setNativeTransportEnabled(boolean nativeTransportEnabled) {
+        this.nativeTransportEnabled = nativeTransportEnabled;
+    }
+
     @Override
     public boolean isDisplayError() {
         return this.displayError;
@@ -6,9 +6,14 @@
 
 package modelengine.fit.http.server.netty;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.netty.channel.Channel;
@@ -16,12 +21,15 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelId;
 import io.netty.handler.codec.http.DefaultHttpHeaders;
 import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpVersion;
 import io.netty.util.Attribute;
+import io.netty.util.AttributeMap;
+import io.netty.util.DefaultAttributeMap;
 import modelengine.fit.http.protocol.HttpRequestMethod;
 import modelengine.fit.http.server.HttpHandler;
 import modelengine.fit.http.server.netty.support.DefaultNettyServerConfig;
@@ -33,9 +41,14 @@ import modelengine.fitframework.value.ValueFetcher;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.net.InetSocketAddress;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 表示 {@link HttpClassicRequestAssembler} 的单元测试。
@@ -47,6 +60,7 @@ import java.util.Map;
 class HttpClassicRequestAssemblerTest {
     private HttpClassicRequestAssembler requestAssembler;
     private ChannelHandlerContext ctx;
+    private NettyHttpClassicServer classicServer;
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     @BeforeEach
@@ -62,13 +76,13 @@ class HttpClassicRequestAssemblerTest {
         nettyServerConfig.setDisplayError(true);
         HttpConfig httpConfig = mock(HttpConfig.class);
         BeanContainer container = mock(BeanContainer.class);
-        NettyHttpClassicServer classicServer = new NettyHttpClassicServer(container,
+        this.classicServer = new NettyHttpClassicServer(container,
                 serializersMap,
                 valueFetcher,
                 nettyServerConfig,
                 httpConfig,
                 true);
-        classicServer.httpDispatcher().register(HttpRequestMethod.GET.name(), handler);
+        this.classicServer.httpDispatcher().register(HttpRequestMethod.GET.name(), handler);
         this.ctx = mock(ChannelHandlerContext.class);
         Channel channel = mock(Channel.class);
         when(this.ctx.channel()).thenReturn(channel);
@@ -76,7 +90,7 @@ class HttpClassicRequestAssemblerTest {
         Attribute attribute = mock(Attribute.class);
         when(channel.attr(any())).thenReturn(attribute);
         when(channelId.asLongText()).thenReturn("requestId");
-        this.requestAssembler = new HttpClassicRequestAssembler(classicServer,
+        this.requestAssembler = new HttpClassicRequestAssembler(this.classicServer,
                 false,
                 HttpClassicRequestAssembler.Config.custom()
                         .maxThreadNum(1)
@@ -93,4 +107,95 @@ class HttpClassicRequestAssemblerTest {
         DefaultHttpRequest httpRequest = new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/a", headers);
         assertDoesNotThrow(() -> this.requestAssembler.channelRead0(this.ctx, httpRequest));
     }
+
+    @Nested
+    @DisplayName("当请求在 IO 线程上执行时")
+    class GivenEventLoopExecutionMode {
+        private final AttributeMap attributes = new DefaultAttributeMap();
+        private HttpClassicRequestAssembler assembler;
+        private HttpHandler nonBlockingHandler;
+
+        @BeforeEach
+        void setup() {
+            this.nonBlockingHandler = mock(HttpHandler.class);
+            when(this.nonBlockingHandler.pathPattern()).thenReturn("/non-blocking");
+            when(this.nonBlockingHandler.isNonBlocking()).thenReturn(true);
+            HttpClassicRequestAssemblerTest.this.classicServer.httpDispatcher()
+                    .register(HttpRequestMethod.GET.name(), this.nonBlockingHandler);
+            ChannelHandlerContext context = HttpClassicRequestAssemblerTest.this.ctx;
+            Channel channel = context.channel();
+            when(channel.attr(any())).thenAnswer(invocation -> this.attributes.attr(invocation.getArgument(0)));
+            when(channel.remoteAddress()).thenReturn(new InetSocketAddress("127.0.0.1", 8080));
+            this.assembler = new HttpClassicRequestAssembler(HttpClassicRequestAssemblerTest.this.classicServer,
+                    false,
+                    HttpClassicRequestAssembler.Config.custom()
+                            .maxThreadNum(1)
+                            .largeBodySize(2048)
+                            .executionMode(ExecutionMode.EVENT_LOOP)
+                            .build());
+        }
+
+        @Test
+        @DisplayName("不会发生阻塞的处理器在完整接收请求之后直接执行")
+        void shouldHandleNonBlockingRequestInline() {
+            ChannelHandlerContext context = HttpClassicRequestAssemblerTest.this.ctx;
+            DefaultHttpRequest httpRequest = new DefaultHttpRequest(HttpVersion.HTTP_1_1,
+                    HttpMethod.GET,
+                    "/non-blocking",
+                    new DefaultHttpHeaders());
+            this.assembler.channelRead0(context, httpRequest);
+            verify(this.nonBlockingHandler, never()).handle(any(), any());
+            this.assembler.channelRead0(context, new DefaultLastHttpContent());
+            verify(this.nonBlockingHandler, times(1)).handle(any(), any());
+            RequestExecutionMetrics metrics = this.assembler.metrics();
+            assertThat(metrics.executionMode()).isEqualTo(ExecutionMode.EVENT_LOOP);
+            assertThat(metrics.inlineCount()).isEqualTo(1);
+            assertThat(metrics.queueDepth()).isEqualTo(0);
+            assertThat(metrics.rejectedCount()).isEqualTo(0);
+        }
+    }
+
+    @Test
+    @DisplayName("当执行方式为空时，默认使用业务线程池")
+    void givenNoExecutionModeThenUseThreadPool() {
+        assertThat(this.requestAssembler.metrics().executionMode()).isEqualTo(ExecutionMode.THREAD_POOL);
+    }
+
+    @Test
+    @DisplayName("当业务线程池饱和时，拒绝请求并统计被拒绝的请求数量")
+    void givenSaturatedThreadPoolThenCountRejectedRequests() throws InterruptedException {
+        RequestExecutor executor = new RequestExecutor(HttpClassicRequestAssembler.Config.custom()
+                .coreThreadNum(1)
+                .maxThreadNum(1)
+                .queueCapacity(0)
+                .build());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            executor.execute(() -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, (thread, cause) -> {});
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThatThrownBy(() -> executor.execute(() -> {}, (thread, cause) -> {}))
+                    .isInstanceOf(RejectedExecutionException.class);
+            assertThat(executor.activeCount()).isEqualTo(1);
+            assertThat(executor.queueDepth()).isEqualTo(0);
+            assertThat(executor.rejectedCount()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("当解析执行方式的配置值时，返回对应的执行方式，配置值为空时返回业务线程池")
+    void givenExecutionModeValueThenReturnExecutionMode() {
+        assertThat(ExecutionMode.from("virtual-thread")).isEqualTo(ExecutionMode.VIRTUAL_THREAD);
+        assertThat(ExecutionMode.from(null)).isEqualTo(ExecutionMode.THREAD_POOL);
+    }
 }
@@ -0,0 +1,153 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.server.netty;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import modelengine.fit.http.protocol.MessageHeaderNames;
+import modelengine.fit.http.protocol.MimeType;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * 表示 {@link NettyHttpServerResponse} 的单元测试。
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@DisplayName("测试 NettyHttpServerResponse 类")
+class NettyHttpServerResponseTest {
+    private EmbeddedChannel channel;
+    private ChannelHandlerContext ctx;
+    private NettyHttpServerRequest request;
+
+    @BeforeEach
+    void setup() {
+        this.channel = new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+        this.ctx = this.channel.pipeline().firstContext();
+        DefaultHttpRequest httpRequest =
+                new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/a", new DefaultHttpHeaders());
+        this.request = new NettyHttpServerRequest(httpRequest, this.ctx, false, 2048);
+    }
+
+    @AfterEach
+    void teardown() {
+        this.channel.finishAndReleaseAll();
+    }
+
+    @Test
+    @DisplayName("当消息体长度已知时，起始行、消息头、消息体和结束标识合并为一次发送")
+    void shouldCoalesceWhenBodyIsComplete() throws IOException {
+        try (NettyHttpServerResponse response = new NettyHttpServerResponse(this.ctx, this.request)) {
+            response.headers().set(MessageHeaderNames.CONTENT_LENGTH, "3");
+            response.writeStartLineAndHeaders();
+            response.writeBody("abc".getBytes(UTF_8));
+            assertThat(this.channel.outboundMessages()).isEmpty();
+            response.flush();
+        }
+        assertThat(this.channel.<Object>readOutbound()).isInstanceOf(HttpResponse.class);
+        LastHttpContent content = this.channel.readOutbound();
+        assertThat(content.content().toString(UTF_8)).isEqualTo("abc");
+        content.release();
+        assertThat(this.channel.outboundMessages()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("当消息体分多次写入时，合并为一次发送")
+    void shouldCoalesceWhenBodyIsWrittenInPieces() throws IOException {
+        try (NettyHttpServerResponse response = new NettyHttpServerResponse(this.ctx, this.request)) {
+            response.headers().set(MessageHeaderNames.TRANSFER_ENCODING, "chunked");
+            response.writeStartLineAndHeaders();
+            response.writeBody("ab".getBytes(UTF_8));
+            for (byte b : "cd".getBytes(UTF_8)) {
+                response.writeBody(b);
+            }
+            response.writeBody("ef".getBytes(UTF_8));
+            assertThat(this.channel.outboundMessages()).isEmpty();
+            response.flush();
+        }
+        assertThat(this.channel.<Object>readOutbound()).isInstanceOf(HttpResponse.class);
+        LastHttpContent content = this.channel.readOutbound();
+        assertThat(content.content().toString(UTF_8)).isEqualTo("abcdef");
+        content.release();
+        assertThat(this.channel.outboundMessages()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("当合并的消息体达到阈值时，立即发送")
+    void shouldFlushWhenThresholdIsReached() throws IOException {
+        byte[] piece = new byte[1024];
+        Arrays.fill(piece, (byte) 'a');
+        try (NettyHttpServerResponse response = new NettyHttpServerResponse(this.ctx, this.request)) {
+            response.writeStartLineAndHeaders();
+            for (int i = 0; i < 7; i++) {
+                response.writeBody(piece);
+            }
+            assertThat(this.channel.outboundMessages()).isEmpty();
+            response.writeBody(piece);
+            assertThat(this.channel.<Object>readOutbound()).isInstanceOf(HttpResponse.class);
+            HttpContent content = this.channel.readOutbound();
+            assertThat(content.content().readableBytes()).isEqualTo(8192);
+            content.release();
+            response.writeBody(piece);
+            assertThat(this.channel.outboundMessages()).isEmpty();
+            response.flush();
+        }
+        LastHttpContent last = this.channel.readOutbound();
+        assertThat(last.content().readableBytes()).isEqualTo(1024);
+        last.release();
+    }
+
+    @Test
+    @DisplayName("当响应为事件流时，每一次写入都立即发送")
+    void shouldWriteThroughWhenEventStream() throws IOException {
+        try (NettyHttpServerResponse response = new NettyHttpServerResponse(this.ctx, this.request)) {
+            response.headers().set(MessageHeaderNames.CONTENT_TYPE, MimeType.TEXT_EVENT_STREAM.value());
+            response.writeStartLineAndHeaders();
+            assertThat(this.channel.<Object>readOutbound()).isInstanceOf(HttpResponse.class);
+            response.writeBody("data:1\n\n".getBytes(UTF_8));
+            HttpContent content = this.channel.readOutbound();
+            assertThat(content.content().toString(UTF_8)).isEqualTo("data:1\n\n");
+            content.release();
+            response.flush();
+        }
+        assertThat(this.channel.<Object>readOutbound()).isEqualTo(LastHttpContent.EMPTY_LAST_CONTENT);
+    }
+
+    @Test
+    @DisplayName("当响应为 NDJSON 时，每一次写入都立即发送")
+    void shouldWriteThroughWhenNdjson() throws IOException {
+        try (NettyHttpServerResponse response = new NettyHttpServerResponse(this.ctx, this.request)) {
+            response.headers().set(MessageHeaderNames.CONTENT_TYPE, "application/x-ndjson");
+            response.writeStartLineAndHeaders();
+            assertThat(this.channel.<Object>readOutbound()).isInstanceOf(HttpResponse.class);
+            response.writeBody("{}\n".getBytes(UTF_8));
+            HttpContent content = this.channel.readOutbound();
+            assertThat(content.content().toString(UTF_8)).isEqualTo("{}\n");
+            content.release();
+            response.flush();
+        }
+        assertThat(this.channel.<Object>readOutbound()).isEqualTo(LastHttpContent.EMPTY_LAST_CONTENT);
+    }
+}
@@ -0,0 +1,36 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.server.netty;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+/**
+ * 表示 {@link NettyTransport} 的单元测试。
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@DisplayName("测试 NettyTransport 类")
+class NettyTransportTest {
+    @Test
+    @EnabledOnOs(value = OS.LINUX, architectures = {"amd64", "aarch64"})
+    @DisplayName("当在 Linux 上允许使用本地传输方式时，选择随插件提供的 epoll 传输方式")
+    void shouldSelectEpollOnLinux() {
+        assertThat(NettyTransport.select(true).name()).isEqualTo("epoll");
+    }
+
+    @Test
+    @DisplayName("当不允许使用本地传输方式时，选择 NIO 传输方式")
+    void shouldSelectNioWhenNativeDisabled() {
+        assertThat(NettyTransport.select(false).name()).isEqualTo("nio");
+    }
+}
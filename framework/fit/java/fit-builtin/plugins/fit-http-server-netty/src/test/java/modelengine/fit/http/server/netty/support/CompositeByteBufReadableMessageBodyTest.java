@@ -16,6 +16,10 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * 表示 {@link CompositeByteBufReadableMessageBody} 的单元测试。
@@ -99,4 +103,21 @@ class CompositeByteBufReadableMessageBodyTest {
         assertThat(body.read0(actual, 11, 7)).isEqualTo(7);
         assertThat(new String(actual, StandardCharsets.UTF_8)).isEqualTo("hello world, Cheng");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("等待数据时收到空的最后内容，批量读取返回 -1")
+    void shouldReturnEndWhenLastContentIsEmptyWhileWaiting()
+            throws IOException, InterruptedException, ExecutionException, TimeoutException {
+        CompositeByteBufReadableMessageBody body = new CompositeByteBufReadableMessageBody();
+        CompletableFuture<Integer> read = CompletableFuture.supplyAsync(() -> {
+            try {
+                return body.read(new byte[8], 0, 8);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(100);
+        body.write(Unpooled.EMPTY_BUFFER, true);
+        assertThat(read.get(5, TimeUnit.SECONDS)).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,117 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.serialization.cbor;
+
+import static modelengine.fitframework.util.ObjectUtils.cast;
+
+import modelengine.fitframework.beans.BeanAccessor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 表示自定义对象的 CBOR 编解码器。
+ * <p>编解码器在首次使用时根据 {@link BeanAccessor} 解析自定义对象的属性，并预先编码属性的名称，此后编码时直接将属性写入字节流，
+ * 解码时直接将字节流中的属性设置到新创建的对象中，不再经过中间的映射。</p>
+ * <p>属性的顺序、别名以及空值的处理与 {@link modelengine.fitframework.util.ObjectUtils#toJavaObject(Object)} 和
+ * {@link BeanAccessor#instantiate(Map)} 保持一致，因此编码结果与原有的方式完全相同。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+final class CborBeanCodec {
+    private static final Map<Class<?>, CborBeanCodec> CODECS = new ConcurrentHashMap<>();
+
+    private final BeanAccessor accessor;
+    private final String[] properties;
+    private final byte[][] encodedNames;
+    private final Map<String, Type> types;
+
+    private CborBeanCodec(Class<?> type) {
+        this.accessor = BeanAccessor.of(type);
+        this.properties = this.accessor.properties()
+                .stream()
+                .filter(property -> !Objects.equals(property, "class"))
+                .toArray(String[]::new);
+        this.encodedNames = new byte[this.properties.length][];
+        for (int i = 0; i < this.properties.length; i++) {
+            this.encodedNames[i] = CborEncoder.encodeString(this.accessor.getAlias(this.properties[i]));
+        }
+        this.types = new HashMap<>();
+        for (String property : this.accessor.properties()) {
+            this.types.put(property, this.accessor.getType(property));
+        }
+    }
+
+    /**
+     * 获取指定类型的自定义对象的编解码器。
+     *
+     * @param type 表示自定义对象的类型的 {@link Class}{@code <?>}。
+     * @return 表示自定义对象的编解码器的 {@link CborBeanCodec}。
+     */
+    static CborBeanCodec of(Class<?> type) {
+        return CODECS.computeIfAbsent(type, CborBeanCodec::new);
+    }
+
+    /**
+     * 将指定的自定义对象编码为 CBOR 的映射，值为 {@code null} 的属性不会被编码。
+     *
+     * @param bean 表示待编码的自定义对象的 {@link Object}。
+     * @param encoder 表示用以编码属性值的 {@link CborEncoder}。
+     * @param out 表示待写入的输出字节流的 {@link OutputStream}。
+     * @throws IOException 当编码过程中发生错误时。
+     */
+    void encode(Object bean, CborEncoder encoder, OutputStream out) throws IOException {
+        Object[] values = new Object[this.properties.length];
+        int size = 0;
+        for (int i = 0; i < this.properties.length; i++) {
+            values[i] = this.accessor.get(bean, this.properties[i]);
+            if (values[i] != null) {
+                size++;
+            }
+        }
+        out.write(CborEncoder.encodeUnsignedInteger(size, 5));
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                out.write(this.encodedNames[i]);
+                encoder.encode(values[i], out);
+            }
+        }
+    }
+
+    /**
+     * 从指定字节输入流中读取 CBOR 映射的内容，并解码为自定义对象。
+     * <p>映射中不存在对应属性的键值对会被跳过。</p>
+     *
+     * @param in 表示指定的字节输入流的 {@link InputStream}。
+     * @param size 表示映射中键值对数量的 {@code long}。
+     * @param decoder 表示用以解码键和属性值的 {@link CborDecoder}。
+     * @return 表示解码后的自定义对象的 {@link Object}。
+     * @throws IOException 当解码过程中发生错误时。
+     */
+    Object decode(InputStream in, long size, CborDecoder decoder) throws IOException {
+        Object bean = this.accessor.instantiate(Collections.emptyMap());
+        for (long i = 0; i < size; i++) {
+            String key = cast(decoder.decode(in));
+            String property = this.accessor.getAlias(key);
+            Type type = this.types.get(property);
+            if (type == null) {
+                decoder.decode(in);
+                continue;
+            }
+            this.accessor.set(bean, property, decoder.decode(in, type));
+        }
+        return bean;
+    }
+}
@@ -12,24 +12,38 @@ import static modelengine.fitframework.inspection.Validation.notNull;
 
 import modelengine.fitframework.inspection.Validation;
 import modelengine.fitframework.util.Convert;
+import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.StringUtils;
+import modelengine.fitframework.util.TypeUtils;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * 表示 CBOR 的解码器。
+ * <p>解码为指定类型时，结果与先解码再通过 {@link ObjectUtils#toCustomObject(Object, Type)} 转换一致，但自定义对象、列表、
+ * 集合和映射直接从字节流中构建，不再生成中间的映射和列表。</p>
  *
  * @author 季聿阶
  * @since 2024-01-28
  */
 public class CborDecoder {
+    private static final Type LIST_TYPE = TypeUtils.parameterized(List.class, new Type[] {Object.class});
+    private static final int MAX_INITIAL_CAPACITY = 1024;
+
     /**
      * 将指定的二进制数组进行解码。
      *
@@ -52,8 +66,119 @@ public class CborDecoder {
      * @throws IOException 当解码过程中发生错误时。
      */
     public Object decode(InputStream in) throws IOException {
-        int first = greaterThanOrEquals(in.read(), 0, "No enough byte to decode by CBOR.");
-        int type = (first & 0b111_00000) >> 5;
+        return this.decode(in, readFirst(in));
+    }
+
+    /**
+     * 从指定字节输入流中读取字节，并解码为指定类型的对象。
+     *
+     * @param in 表示指定的字节输入流的 {@link InputStream}。
+     * @param type 表示解码后的对象的类型的 {@link Type}。
+     * @return 表示解码后的对象的 {@link Object}。
+     * @throws IOException 当解码过程中发生错误时。
+     */
+    public Object decode(InputStream in, Type type) throws IOException {
+        int first = readFirst(in);
+        int major = majorType(first);
+        if (major == 5 && type instanceof Class && isBeanClass((Class<?>) type)) {
+            long size = this.decodeLength(in, first);
+            return CborBeanCodec.of((Class<?>) type).decode(in, size, this);
+        }
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            Type rawType = parameterizedType.getRawType();
+            Type[] arguments = parameterizedType.getActualTypeArguments();
+            if (major == 4 && (rawType == List.class || rawType == Set.class)) {
+                long len = this.decodeLength(in, first);
+                Collection<Object> collection =
+                        rawType == List.class ? new ArrayList<>(capacityOf(len)) : new HashSet<>(capacityOf(len));
+                for (long i = 0; i < len; i++) {
+                    collection.add(this.decode(in, arguments[0]));
+                }
+                return collection;
+            }
+            if (major == 5 && rawType == Map.class) {
+                long size = this.decodeLength(in, first);
+                Map<Object, Object> map = new HashMap<>(capacityOf(size));
+                for (long i = 0; i < size; i++) {
+                    Object key = this.decode(in, arguments[0]);
+                    map.put(key, this.decode(in, arguments[1]));
+                }
+                return map;
+            }
+        }
+        return ObjectUtils.toCustomObject(this.decode(in, first), type);
+    }
+
+    /**
+     * 从指定字节输入流中读取一个数组，并将其中的元素依次解码为指定类型的对象。
+     * <p>数组中的元素少于指定类型的数量时，缺少的元素为 {@code null}。</p>
+     *
+     * @param in 表示指定的字节输入流的 {@link InputStream}。
+     * @param types 表示数组中元素的类型的 {@link Type}{@code []}。
+     * @return 表示解码后的元素的 {@link Object}{@code []}，长度与 {@code types} 一致。
+     * @throws IOException 当解码过程中发生错误时。
+     * @throws IllegalStateException 当数组中的元素多于指定类型的数量时。
+     */
+    public Object[] decodeArray(InputStream in, Type[] types) throws IOException {
+        Object[] array = new Object[types.length];
+        int first = readFirst(in);
+        if (majorType(first) != 4) {
+            List<Object> list = ObjectUtils.toCustomObject(this.decode(in, first), LIST_TYPE);
+            validateArrayLength(list.size(), types.length);
+            for (int i = 0; i < list.size(); i++) {
+                array[i] = ObjectUtils.toCustomObject(list.get(i), types[i]);
+            }
+            return array;
+        }
+        long len = this.decodeLength(in, first);
+        validateArrayLength(len, types.length);
+        for (int i = 0; i < len; i++) {
+            array[i] = this.decode(in, types[i]);
+        }
+        return array;
+    }
+
+    private static void validateArrayLength(long actual, int expected) {
+        if (actual > expected) {
+            throw new IllegalStateException(StringUtils.format(
+                    "Too many elements to decode by CBOR. [expected={0}, actual={1}]",
+                    expected,
+                    actual));
+        }
+    }
+
+    /**
+     * 判断自定义对象是否可以直接从 CBOR 的映射中构建。
+     * <p>与 {@link ObjectUtils#toCustomObject(Object, Type)} 一致，基本类型、数组、枚举以及可以直接接收映射的类型不作为
+     * 自定义对象。</p>
+     */
+    private static boolean isBeanClass(Class<?> clazz) {
+        return !clazz.isPrimitive() && !clazz.isArray() && !clazz.isEnum() && clazz != Void.class
+                && !clazz.isAssignableFrom(LinkedHashMap.class);
+    }
+
+    private static int capacityOf(long length) {
+        // 长度来自数据本身，因此初始容量需要限定，避免异常数据申请过多内存。
+        return (int) Math.min(length, MAX_INITIAL_CAPACITY);
+    }
+
+    private static int readFirst(InputStream in) throws IOException {
+        return greaterThanOrEquals(in.read(), 0, "No enough byte to decode by CBOR.");
+    }
+
+    private static int majorType(int first) {
+        return (first & 0b111_00000) >> 5;
+    }
+
+    private long decodeLength(InputStream in, int first) throws IOException {
+        long len = this.decodeUnsignedInteger(in, first);
+        between(len, 0L, (long) Integer.MAX_VALUE, "The length is out of range. [length={0}]", len);
+        return len;
+    }
+
+    private Object decode(InputStream in, int first) throws IOException {
+        int type = majorType(first);
         switch (type) {
             case 0:
                 return this.decodeUnsignedInteger(in, first);
@@ -117,7 +242,7 @@ public class CborDecoder {
         if (len == 0) {
             return bytes;
         }
-        int read = in.read(bytes);
+        int read = in.readNBytes(bytes, 0, bytes.length);
         Validation.equals(read,
                 (int) len,
                 "No enough bytes to decode to bytes by CBOR. [total={0}, actual={1}]",
@@ -178,7 +303,7 @@ public class CborDecoder {
 
     private void readBytes(InputStream in, byte[] bytes) throws IOException {
         int len = bytes.length;
-        int read = in.read(bytes);
+        int read = in.readNBytes(bytes, 0, bytes.length);
         Validation.equals(read, len, "No enough bytes to decode. [need={0}, read={1}]", len, read);
     }
 }
@@ -9,14 +9,16 @@ package modelengine.fit.serialization.cbor;
 import static modelengine.fitframework.inspection.Validation.between;
 import static modelengine.fitframework.inspection.Validation.greaterThanOrEquals;
 import static modelengine.fitframework.util.ObjectUtils.cast;
-import static modelengine.fitframework.util.ObjectUtils.toJavaObject;
 
 import modelengine.fitframework.util.Convert;
+import modelengine.fitframework.util.ObjectUtils;
+import modelengine.fitframework.util.ReflectionUtils;
 import modelengine.fitframework.util.StringUtils;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.lang.reflect.Array;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
@@ -25,6 +27,8 @@ import java.util.Map;
 
 /**
  * 表示 CBOR 的编码器。
+ * <p>编码的结果与先通过 {@link ObjectUtils#toJavaObject(Object)} 转换再编码一致，但自定义对象通过按类型缓存的
+ * {@link CborBeanCodec} 直接写出其属性，数组直接写出其元素，不再生成中间的映射和列表。</p>
  *
  * @author 季聿阶
  * @since 2024-01-25
@@ -52,24 +56,36 @@ public class CborEncoder {
      * @throws IOException 当编码过程中发生错误时。
      */
     public void encode(Object data, OutputStream out) throws IOException {
-        Object actual = toJavaObject(data);
-        if (actual == null) {
+        if (data == null) {
             this.encodeNull(out);
-        } else if (actual instanceof Boolean) {
-            this.encodeBoolean((boolean) actual, out);
-        } else if (actual instanceof Number) {
-            this.encodeNumber((Number) actual, out);
-        } else if (actual instanceof byte[]) {
-            this.encodeBytes((byte[]) actual, out);
-        } else if (actual instanceof String) {
-            this.encodeString((String) actual, out);
-        } else if (actual instanceof List) {
-            this.encodeList(cast(actual), out);
-        } else if (actual instanceof Map) {
-            this.encodeObject(cast(actual), out);
+            return;
+        }
+        Class<?> clazz = data.getClass();
+        if (ReflectionUtils.isPrimitiveWrapper(clazz) || data instanceof BigInteger || data instanceof BigDecimal) {
+            this.encodeScalar(data, out);
+        } else if (data instanceof byte[]) {
+            this.encodeBytes((byte[]) data, out);
+        } else if (data instanceof String) {
+            this.encodeString((String) data, out);
+        } else if (data instanceof Map) {
+            this.encodeObject(cast(data), out);
+        } else if (data instanceof List) {
+            this.encodeList(cast(data), out);
+        } else if (clazz.isArray()) {
+            this.encodeArray(data, out);
+        } else {
+            CborBeanCodec.of(clazz).encode(data, this, out);
+        }
+    }
+
+    private void encodeScalar(Object data, OutputStream out) throws IOException {
+        if (data instanceof Boolean) {
+            this.encodeBoolean((boolean) data, out);
+        } else if (data instanceof Number) {
+            this.encodeNumber((Number) data, out);
         } else {
             throw new IllegalArgumentException(StringUtils.format("Unsupported data type to encode by CBOR. [type={0}]",
-                    actual.getClass().getName()));
+                    data.getClass().getName()));
         }
     }
 
@@ -112,11 +128,11 @@ public class CborEncoder {
     }
 
     private void encodeUnsignedInteger(long data, OutputStream out) throws IOException {
-        out.write(this.encodeUnsignedInteger(data, 0));
+        out.write(encodeUnsignedInteger(data, 0));
     }
 
     private void encodeNegativeInteger(long data, OutputStream out) throws IOException {
-        out.write(this.encodeUnsignedInteger(-data - 1, 1));
+        out.write(encodeUnsignedInteger(-data - 1, 1));
     }
 
     private void encodeDouble(double data, OutputStream out) throws IOException {
@@ -131,55 +147,82 @@ public class CborEncoder {
 
     private void encodeBytes(byte[] data, OutputStream out) throws IOException {
         int len = data.length;
-        out.write(this.encodeUnsignedInteger(len, 2));
+        out.write(encodeUnsignedInteger(len, 2));
         out.write(data);
     }
 
     private void encodeString(String data, OutputStream out) throws IOException {
-        byte[] bytes = data.getBytes(StandardCharsets.UTF_8);
-        int len = bytes.length;
-        out.write(this.encodeUnsignedInteger(len, 3));
-        out.write(bytes);
+        out.write(encodeString(data));
     }
 
     private void encodeList(List<Object> dataList, OutputStream out) throws IOException {
         int len = dataList.size();
-        out.write(this.encodeUnsignedInteger(len, 4));
+        out.write(encodeUnsignedInteger(len, 4));
         for (Object data : dataList) {
             this.encode(data, out);
         }
     }
 
+    private void encodeArray(Object array, OutputStream out) throws IOException {
+        int len = Array.getLength(array);
+        out.write(encodeUnsignedInteger(len, 4));
+        for (int i = 0; i < len; i++) {
+            this.encode(Array.get(array, i), out);
+        }
+    }
+
     private void encodeObject(Map<Object, Object> data, OutputStream out) throws IOException {
         int len = data.size();
-        out.write(this.encodeUnsignedInteger(len, 5));
+        out.write(encodeUnsignedInteger(len, 5));
         for (Map.Entry<Object, Object> entry : data.entrySet()) {
             this.encode(entry.getKey(), out);
             this.encode(entry.getValue(), out);
         }
     }
 
-    private byte[] encodeUnsignedInteger(long data, int type) {
+    /**
+     * 将指定的字符串编码为 CBOR 的文本字符串。
+     *
+     * @param data 表示待编码的字符串的 {@link String}。
+     * @return 表示编码后的二进制数组的 {@code byte[]}。
+     */
+    static byte[] encodeString(String data) {
+        byte[] bytes = data.getBytes(StandardCharsets.UTF_8);
+        byte[] head = encodeUnsignedInteger(bytes.length, 3);
+        byte[] encoded = new byte[head.length + bytes.length];
+        System.arraycopy(head, 0, encoded, 0, head.length);
+        System.arraycopy(bytes, 0, encoded, head.length, bytes.length);
+        return encoded;
+    }
+
+    /**
+     * 将指定的无符号整数编码为指定主类型的数据头。
+     *
+     * @param data 表示待编码的无符号整数的 {@code long}。
+     * @param type 表示 CBOR 的主类型的 {@code int}。
+     * @return 表示编码后的二进制数组的 {@code byte[]}。
+     */
+    static byte[] encodeUnsignedInteger(long data, int type) {
         greaterThanOrEquals(data, 0, "The integer to encode must be unsigned. [integer={0}]", data);
         between(type, 0, 5, "The type is out of range. [type={0}]", type);
         if (data < 24) {
-            return this.encodeUnsignedInteger(data, 0, this.firstByte((byte) data, type));
+            return encodeUnsignedInteger(data, 0, firstByte((byte) data, type));
         } else if (data < 0xFF) {
-            return this.encodeUnsignedInteger(data, 1, this.firstByte((byte) 0b000_11000, type));
+            return encodeUnsignedInteger(data, 1, firstByte((byte) 0b000_11000, type));
         } else if (data < 0xFF_FF) {
-            return this.encodeUnsignedInteger(data, 2, this.firstByte((byte) 0b000_11001, type));
+            return encodeUnsignedInteger(data, 2, firstByte((byte) 0b000_11001, type));
         } else if (data < 0xFF_FF_FF_FFL) {
-            return this.encodeUnsignedInteger(data, 4, this.firstByte((byte) 0b000_11010, type));
+            return encodeUnsignedInteger(data, 4, firstByte((byte) 0b000_11010, type));
         } else {
-            return this.encodeUnsignedInteger(data, 8, this.firstByte((byte) 0b000_11011, type));
+            return encodeUnsignedInteger(data, 8, firstByte((byte) 0b000_11011, type));
         }
     }
 
-    private byte firstByte(byte flag, int type) {
+    private static byte firstByte(byte flag, int type) {
         return (byte) (flag | (type << 5));
     }
 
-    private byte[] encodeUnsignedInteger(long data, int byteNum, byte first) {
+    private static byte[] encodeUnsignedInteger(long data, int byteNum, byte first) {
         long value = data;
         byte[] bs = new byte[byteNum + 1];
         bs[0] = first;
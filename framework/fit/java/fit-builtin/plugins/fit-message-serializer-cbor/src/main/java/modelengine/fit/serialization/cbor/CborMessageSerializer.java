@@ -17,13 +17,16 @@ import modelengine.fitframework.annotation.Order;
 import modelengine.fitframework.conf.Config;
 import modelengine.fitframework.conf.runtime.SerializationFormat;
 import modelengine.fitframework.serialization.ObjectSerializer;
+import modelengine.fitframework.serialization.SerializationException;
 import modelengine.fitframework.util.ArrayUtils;
-import modelengine.fitframework.util.ObjectUtils;
-import modelengine.fitframework.util.TypeUtils;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
-import java.util.List;
 
 /**
  * 表示 {@link MessageSerializer} 的 CBOR 的实现。
@@ -37,6 +40,7 @@ import java.util.List;
 public class CborMessageSerializer implements MessageSerializer {
     private final ObjectSerializer serializer;
     private final Config config;
+    private final CborDecoder decoder = new CborDecoder();
 
     /**
      * 构造一个新的 {@link CborMessageSerializer} 实例。
@@ -54,17 +58,29 @@ public class CborMessageSerializer implements MessageSerializer {
         return this.serializer.serialize(arguments, UTF_8);
     }
 
+    @Override
+    public void serializeRequest(Type[] argumentTypes, Object[] arguments, OutputStream out) {
+        this.serializer.serialize(arguments, UTF_8, out);
+    }
+
     @Override
     public Object[] deserializeRequest(Type[] argumentTypes, byte[] serialized) {
         MessageSerializerUtils.isSupportedLength(serialized.length, this.config);
-        List<Object> deserialized = this.serializer.deserialize(serialized,
-                UTF_8,
-                TypeUtils.parameterized(List.class, new Type[] {Object.class}));
-        Object[] array = new Object[argumentTypes.length];
-        for (int i = 0; i < deserialized.size(); i++) {
-            array[i] = ObjectUtils.toCustomObject(deserialized.get(i), argumentTypes[i]);
+        return this.deserializeArguments(argumentTypes, new ByteArrayInputStream(serialized));
+    }
+
+    @Override
+    public Object[] deserializeRequest(Type[] argumentTypes, InputStream in) {
+        return this.deserializeArguments(argumentTypes, this.buffered(in));
+    }
+
+    private Object[] deserializeArguments(Type[] argumentTypes, InputStream in) {
+        // 每个参数直接按照其声明的类型解码，不再先解码为通用的列表和映射再进行转换。
+        try {
+            return this.decoder.decodeArray(in, argumentTypes);
+        } catch (IOException e) {
+            throw new SerializationException("Failed to deserialize by CBOR.", e);
         }
-        return array;
     }
 
     @Override
@@ -81,6 +97,31 @@ public class CborMessageSerializer implements MessageSerializer {
         return this.serializer.deserialize(serialized, UTF_8, returnType);
     }
 
+    @Override
+    public <T> void serializeResponse(Type returnType, T returnData, OutputStream out) {
+        this.serializer.serialize(returnData, UTF_8, out);
+    }
+
+    @Override
+    public <T> T deserializeResponse(Type returnType, InputStream in) {
+        BufferedInputStream buffered = this.buffered(in);
+        try {
+            buffered.mark(1);
+            if (buffered.read() < 0) {
+                return null;
+            }
+            buffered.reset();
+        } catch (IOException e) {
+            throw new SerializationException("Failed to read serialized response.", e);
+        }
+        return this.serializer.deserialize(buffered, UTF_8, returnType);
+    }
+
+    private BufferedInputStream buffered(InputStream in) {
+        // 解码时逐字节读取数据头，因此通过缓冲减少对消息体的读取次数。
+        return new BufferedInputStream(MessageSerializerUtils.limitLength(in, this.config));
+    }
+
     @Override
     public boolean isSupported(Method method) {
         return true;
@@ -6,11 +6,12 @@
 
 package modelengine.fit.serialization.cbor;
 
+import static modelengine.fitframework.util.ObjectUtils.cast;
+
 import modelengine.fitframework.annotation.Component;
 import modelengine.fitframework.serialization.ObjectSerializer;
 import modelengine.fitframework.serialization.SerializationException;
 import modelengine.fitframework.serialization.annotation.BuiltinSerializer;
-import modelengine.fitframework.util.ObjectUtils;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -46,8 +47,7 @@ public class CborObjectSerializer implements ObjectSerializer {
     public <T> T deserialize(InputStream in, Charset charset, Type objectType, Map<String, Object> context)
             throws SerializationException {
         try {
-            Object decoded = this.decoder.decode(in);
-            return ObjectUtils.toCustomObject(decoded, objectType);
+            return cast(this.decoder.decode(in, objectType));
         } catch (IOException e) {
             throw new SerializationException("Failed to deserialize by CBOR.", e);
         }
@@ -0,0 +1,111 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.serialization.cbor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import modelengine.fit.serialization.cbor.test.person.Person;
+import modelengine.fit.serialization.cbor.test.person.PersonName;
+import modelengine.fitframework.annotation.Property;
+import modelengine.fitframework.util.MapBuilder;
+import modelengine.fitframework.util.ObjectUtils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 表示 {@link CborBeanCodec} 的单元测试。
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@DisplayName("测试 CborBeanCodec")
+public class CborBeanCodecTest {
+    private final CborEncoder encoder = new CborEncoder();
+    private final CborDecoder decoder = new CborDecoder();
+
+    @Test
+    @DisplayName("直接编码自定义对象的结果与先转换为映射再编码的结果一致")
+    void shouldEncodeSameBytesAsJavaObject() throws IOException {
+        Person person = person();
+        byte[] expected = this.encoder.encode(ObjectUtils.toJavaObject(person));
+        assertThat(this.encoder.encode(person)).isEqualTo(expected);
+        Person[] people = new Person[] {person, null};
+        assertThat(this.encoder.encode(people)).isEqualTo(this.encoder.encode(ObjectUtils.toJavaObject(people)));
+    }
+
+    @Test
+    @DisplayName("直接解码自定义对象的结果与先解码为映射再转换的结果一致")
+    void shouldDecodeSameObjectAsCustomObject() throws IOException {
+        byte[] encoded = this.encoder.encode(person());
+        Person expected = ObjectUtils.toCustomObject(this.decoder.decode(encoded), Person.class);
+        Object actual = this.decoder.decode(new ByteArrayInputStream(encoded), Person.class);
+        assertThat(actual).isEqualTo(expected).isEqualTo(person());
+    }
+
+    @Test
+    @DisplayName("编解码时使用属性的别名，并跳过未知的属性")
+    void shouldUseAliasAndSkipUnknownProperties() throws IOException {
+        Aliased aliased = new Aliased();
+        aliased.setFullName("Ada");
+        aliased.setAge(36);
+        byte[] encoded = this.encoder.encode(aliased);
+        Map<String, Object> decoded = ObjectUtils.cast(this.decoder.decode(encoded));
+        assertThat(decoded).containsEntry("full_name", "Ada").containsEntry("age", 36L);
+
+        Map<String, Object> withUnknown = MapBuilder.<String, Object>get()
+                .put("unknown", Arrays.asList(1, 2))
+                .put("full_name", "Grace")
+                .put("age", 85)
+                .build();
+        Aliased actual = ObjectUtils.cast(this.decoder.decode(new ByteArrayInputStream(this.encoder.encode(
+                withUnknown)), Aliased.class));
+        assertThat(actual.getFullName()).isEqualTo("Grace");
+        assertThat(actual.getAge()).isEqualTo(85);
+    }
+
+    private static Person person() {
+        PersonName name = new PersonName();
+        name.setFirst("Nikola");
+        name.setLast("Tesla");
+        Person person = new Person();
+        person.setName(name);
+        person.setInventions(List.of("AC motor", "Tesla coil"));
+        return person;
+    }
+
+    /**
+     * 表示包含别名属性的自定义对象。
+     */
+    public static class Aliased {
+        @Property(name = "full_name")
+        private String fullName;
+        private int age;
+
+        public String getFullName() {
+            return this.fullName;
+        }
+
+        public void setFullName(String fullName) {
+            this.fullName = fullName;
+        }
+
+        public int getAge() {
+            return this.age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+    }
+}
@@ -7,10 +7,14 @@
 package modelengine.fit.serialization.cbor;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import modelengine.fit.serialization.cbor.test.box.Box;
 import modelengine.fitframework.conf.Config;
 import modelengine.fitframework.conf.support.PropertiesConfig;
+import modelengine.fitframework.serialization.SerializationException;
 import modelengine.fitframework.util.MapBuilder;
 import modelengine.fitframework.util.ObjectUtils;
 
@@ -20,9 +24,15 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Properties;
 
 /**
@@ -57,6 +67,39 @@ public class CborMessageSerializerTest {
         assertThat(arguments).isEqualTo(values);
     }
 
+    @Test
+    @DisplayName("通过流序列化并反序列化请求，即使每次只能读取到部分数据，结果也等于原来的值")
+    void shouldEqualsOriginWhenSerializeAndDeserializeRequestByStream() {
+        Type[] argumentTypes = new Type[] {String.class, byte[].class};
+        Object[] values = new Object[] {"用以UTF-8编码的中文", new byte[] {1, 2, 3, 4, 5}};
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        this.cborMessageSerializer.serializeRequest(argumentTypes, values, out);
+        assertThat(out.toByteArray()).isEqualTo(this.cborMessageSerializer.serializeRequest(argumentTypes, values));
+        Object[] arguments = this.cborMessageSerializer.deserializeRequest(argumentTypes,
+                new TrickleInputStream(new ByteArrayInputStream(out.toByteArray())));
+        assertThat(arguments).isEqualTo(values);
+    }
+
+    @Test
+    @DisplayName("通过流反序列化空的响应时，返回 null")
+    void shouldReturnNullWhenDeserializeEmptyResponseByStream() {
+        Object actual = this.cborMessageSerializer.deserializeResponse(String.class,
+                new ByteArrayInputStream(new byte[0]));
+        assertThat(actual).isNull();
+    }
+
+    @Test
+    @DisplayName("通过流反序列化的数据超过阈值时，抛出异常")
+    void shouldThrowWhenStreamExceedsLargeDataSize() {
+        Config limited = mock(Config.class);
+        when(limited.keys()).thenReturn(Collections.singleton("fit.message-serializer.large-data-size"));
+        when(limited.get("fit.message-serializer.large-data-size", Long.class)).thenReturn(8L);
+        CborMessageSerializer serializer = new CborMessageSerializer(new CborObjectSerializer(), limited);
+        byte[] serialized = serializer.serializeResponse(String.class, "a string longer than 8 bytes");
+        assertThatThrownBy(() -> serializer.deserializeResponse(String.class,
+                new ByteArrayInputStream(serialized))).isInstanceOf(SerializationException.class);
+    }
+
     @Nested
     @DisplayName("给定一个结构体对象")
     class GivenParamsAreCustom {
@@ -125,4 +168,18 @@ public class CborMessageSerializerTest {
             }
         }
     }
+
+    /**
+     * 表示每次最多读取一个字节的输入流，用以模拟网络数据分批到达。
+     */
+    private static class TrickleInputStream extends FilterInputStream {
+        TrickleInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read(byte[] bytes, int off, int len) throws IOException {
+            return super.in.read(bytes, off, Math.min(len, 1));
+        }
+    }
 }
@@ -10,7 +10,11 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static modelengine.fitframework.inspection.Validation.notNull;
 import static modelengine.fitframework.util.ObjectUtils.cast;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 
 import modelengine.fit.serialization.MessageSerializer;
@@ -24,7 +28,10 @@ import modelengine.fitframework.serialization.SerializationException;
 import modelengine.fitframework.util.ArrayUtils;
 import modelengine.fitframework.util.StringUtils;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 
@@ -39,6 +46,8 @@ import java.lang.reflect.Type;
 public class JacksonMessageSerializer implements MessageSerializer {
     private final ObjectSerializer serializer;
     private final ObjectMapper mapper;
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
     private final Config config;
 
     /**
@@ -51,6 +60,9 @@ public class JacksonMessageSerializer implements MessageSerializer {
         this.serializer = notNull(serializer, "The Jackson serializer cannot be null.");
         JacksonObjectSerializer jacksonObjectSerializer = cast(this.serializer);
         this.mapper = jacksonObjectSerializer.getMapper();
+        // 基于流的读写不关闭 Http 消息体，由消息的所有者负责关闭。
+        this.reader = this.mapper.reader().without(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        this.writer = this.mapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
         this.config = notNull(config, "The message serializer config cannot be null.");
     }
 
@@ -59,6 +71,11 @@ public class JacksonMessageSerializer implements MessageSerializer {
         return this.serializer.serialize(arguments, UTF_8);
     }
 
+    @Override
+    public void serializeRequest(Type[] argumentTypes, Object[] arguments, OutputStream out) {
+        this.write(arguments, out);
+    }
+
     @Override
     public Object[] deserializeRequest(Type[] argumentTypes, byte[] serialized) {
         ArrayNode array;
@@ -68,6 +85,21 @@ public class JacksonMessageSerializer implements MessageSerializer {
         } catch (IOException e) {
             throw new SerializationException("Failed to read JSON request from serialized bytes.", e);
         }
+        return this.toArguments(argumentTypes, array);
+    }
+
+    @Override
+    public Object[] deserializeRequest(Type[] argumentTypes, InputStream in) {
+        ArrayNode array;
+        try {
+            array = this.reader.forType(ArrayNode.class).readValue(MessageSerializerUtils.limitLength(in, this.config));
+        } catch (IOException e) {
+            throw new SerializationException("Failed to read JSON request from input stream.", e);
+        }
+        return this.toArguments(argumentTypes, array);
+    }
+
+    private Object[] toArguments(Type[] argumentTypes, ArrayNode array) {
         if (array.size() != argumentTypes.length) {
             throw new SerializationException(StringUtils.format("Total {0} arguments supplied but {1} required.",
                     array.size(),
@@ -94,6 +126,34 @@ public class JacksonMessageSerializer implements MessageSerializer {
         return this.serializer.deserialize(serialized, UTF_8, returnType);
     }
 
+    @Override
+    public <T> void serializeResponse(Type returnType, T returnData, OutputStream out) {
+        this.write(returnData, out);
+    }
+
+    @Override
+    public <T> T deserializeResponse(Type returnType, InputStream in) {
+        BufferedInputStream buffered = new BufferedInputStream(MessageSerializerUtils.limitLength(in, this.config));
+        try {
+            buffered.mark(1);
+            if (buffered.read() < 0) {
+                return null;
+            }
+            buffered.reset();
+            return this.reader.forType(this.mapper.constructType(returnType)).readValue(buffered);
+        } catch (IOException e) {
+            throw new SerializationException("Failed to read JSON response from input stream.", e);
+        }
+    }
+
+    private void write(Object value, OutputStream out) {
+        try {
+            this.writer.writeValue(out, value);
+        } catch (IOException e) {
+            throw new SerializationException("Failed to serialize by Jackson.", e);
+        }
+    }
+
     @Override
     public boolean isSupported(Method method) {
         return true;
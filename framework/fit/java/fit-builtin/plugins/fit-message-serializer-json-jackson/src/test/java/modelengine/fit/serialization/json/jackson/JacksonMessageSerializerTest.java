@@ -22,6 +22,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
@@ -58,6 +61,36 @@ public class JacksonMessageSerializerTest {
         assertThat(actual).isEqualTo(expected);
     }
 
+    @Test
+    @DisplayName("通过流序列化和反序列化请求，结果等于原来的值，且不关闭流")
+    void shouldEqualsOriginWhenSerializeAndDeserializeRequestByStream() {
+        Type[] argumentTypes = new Type[] {String.class, Integer.class};
+        Object[] expected = new Object[] {"用以UTF-8编码的中文", 1};
+        ClosingAwareOutputStream out = new ClosingAwareOutputStream();
+        this.messageSerializer.serializeRequest(argumentTypes, expected, out);
+        assertThat(out.closed).isFalse();
+        Object[] actual =
+                this.messageSerializer.deserializeRequest(argumentTypes, new ByteArrayInputStream(out.toByteArray()));
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("通过流序列化和反序列化响应，结果等于原来的值")
+    void shouldEqualsOriginWhenSerializeAndDeserializeResponseByStream() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        this.messageSerializer.serializeResponse(String.class, "用以UTF-8编码的中文", out);
+        String actual = this.messageSerializer.deserializeResponse(String.class,
+                new ByteArrayInputStream(out.toByteArray()));
+        assertThat(actual).isEqualTo("用以UTF-8编码的中文");
+    }
+
+    @Test
+    @DisplayName("通过流反序列化空的响应时，返回 null")
+    void shouldReturnNullWhenDeserializeEmptyResponseByStream() {
+        Object actual = this.messageSerializer.deserializeResponse(String.class, new ByteArrayInputStream(new byte[0]));
+        assertThat(actual).isNull();
+    }
+
     @Test
     @DisplayName("支持所有方法")
     void shouldReturnTrue() {
@@ -95,7 +128,9 @@ public class JacksonMessageSerializerTest {
         @Test
         @DisplayName("当反序列 null 时，结果为 null")
         void givenNullWhenDeserializeThenReturnNull() {
-            String actual = JacksonMessageSerializerTest.this.messageSerializer.deserializeResponse(String.class, null);
+            byte[] serialized = null;
+            String actual = JacksonMessageSerializerTest.this.messageSerializer.deserializeResponse(String.class,
+                    serialized);
             assertThat(actual).isNull();
         }
 
@@ -242,4 +277,17 @@ public class JacksonMessageSerializerTest {
                     .returns(null, PersonName::getLast);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 表示记录是否被关闭的输出流。
+     */
+    private static class ClosingAwareOutputStream extends ByteArrayOutputStream {
+        private boolean closed;
+
+        @Override
+        public void close() throws IOException {
+            this.closed = true;
+            super.close();
+        }
+    }
+}
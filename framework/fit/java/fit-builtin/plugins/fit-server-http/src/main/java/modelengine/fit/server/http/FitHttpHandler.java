@@ -37,21 +37,28 @@ import modelengine.fitframework.util.StringUtils;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 /**
  * 表示处理 FIT 通信方式的处理器。
+ * <p>每个（服务，服务版本，数据格式）在第一次被请求时解析为一个分发条目并缓存，条目中包含泛服务方法的参数类型、解析后的服务版本和数据格式对应的
+ * 消息序列化器，后续请求只需要一次查表即可开始反序列化。插件启动或停止时，本地服务和消息序列化器都可能发生变化，需要调用
+ * {@link #invalidate()} 清空缓存。</p>
  *
  * @author 季聿阶
  * @since 2022-09-14
  */
 public class FitHttpHandler extends AbstractHttpHandler {
+    private static final Version DEFAULT_FITABLE_VERSION = Version.builder(FitableMetadata.DEFAULT_VERSION).build();
+
     private final BeanContainer container;
     private final Dispatcher dispatcher;
     private final LocalGenericableRepository repository;
     private final WorkerConfig workerConfig;
+    private final Map<DispatchKey, DispatchEntry> entries = new ConcurrentHashMap<>();
 
     FitHttpHandler(BeanContainer container, Dispatcher dispatcher, LocalGenericableRepository repository,
             WorkerConfig workerConfig, StaticInfo staticInfo, ExecutionInfo executionInfo) {
@@ -65,63 +72,102 @@ public class FitHttpHandler extends AbstractHttpHandler {
     @Override
     public void handle(HttpClassicServerRequest request, HttpClassicServerResponse response)
             throws DoHttpHandlerException {
-        RequestMetadata metadata = this.getRequestMetadata(request);
-        Object[] data = this.getRequestData(request.entityBytes(), metadata);
-        String asyncTaskId = HttpUtils.getAsyncTaskId(metadata.tagValues());
-        if (StringUtils.isBlank(asyncTaskId)) {
-            this.doSyncHandle(metadata, data, response);
-        } else {
-            this.doAsyncHandle(metadata, data, response);
-        }
-    }
-
-    private RequestMetadata getRequestMetadata(HttpClassicServerRequest request) {
-        List<String> pathList = StringUtils.split(request.path(), '/', ArrayList::new, StringUtils::isNotBlank);
-        greaterThanOrEquals(pathList.size(), 3, "Illegal fit path. [path={0}]", request.path());
-        String genericableId = pathList.get(pathList.size() - 2);
-        String fitableId = pathList.get(pathList.size() - 1);
+        String[] ids = getIds(request.path());
+        DispatchEntry entry = this.getDispatchEntry(ids[0],
+                HttpServerUtils.getGenericableVersion(request),
+                HttpServerUtils.getDataFormat(request));
         TagLengthValues tagLengthValues = request.headers()
                 .first(FIT_TLV.value())
                 .map(HttpUtils::decode)
                 .map(TagLengthValues::deserialize)
                 .orElseGet(TagLengthValues::create);
-        return RequestMetadata.custom()
-                .dataFormat(HttpServerUtils.getDataFormat(request))
-                .genericableId(genericableId)
-                .genericableVersion(Version.builder(HttpServerUtils.getGenericableVersion(request)).build())
-                .fitableId(fitableId)
-                .fitableVersion(Version.builder(FitableMetadata.DEFAULT_VERSION).build())
+        RequestMetadata metadata = RequestMetadata.custom()
+                .dataFormat(entry.dataFormat)
+                .genericableId(ids[0])
+                .genericableVersion(entry.genericableVersion)
+                .fitableId(ids[1])
+                .fitableVersion(DEFAULT_FITABLE_VERSION)
                 .tagValues(tagLengthValues)
                 .build();
+        Object[] data = entry.messageSerializer.deserializeRequest(entry.argumentTypes, request.entityStream());
+        String asyncTaskId = HttpUtils.getAsyncTaskId(metadata.tagValues());
+        if (StringUtils.isBlank(asyncTaskId)) {
+            this.doSyncHandle(metadata, data, entry.messageSerializer, response);
+        } else {
+            this.doAsyncHandle(metadata, data, response);
+        }
+    }
+
+    /**
+     * 清空已缓存的分发条目。
+     */
+    void invalidate() {
+        this.entries.clear();
+    }
+
+    /**
+     * 从请求路径中获取服务和服务实现的唯一标识。
+     * <p>请求路径中非空的最后两段依次为服务和服务实现的唯一标识，且路径至少需要包含三段非空内容。</p>
+     *
+     * @param path 表示请求路径的 {@link String}。
+     * @return 表示服务和服务实现的唯一标识的 {@link String}{@code []}。
+     * @throws IllegalArgumentException 当请求路径少于三段时。
+     */
+    private static String[] getIds(String path) {
+        String[] segments = new String[3];
+        int count = 0;
+        int end = path.length();
+        while (count < segments.length) {
+            while (end > 0 && path.charAt(end - 1) == '/') {
+                end--;
+            }
+            if (end == 0) {
+                break;
+            }
+            int start = path.lastIndexOf('/', end - 1) + 1;
+            segments[count++] = path.substring(start, end);
+            end = start;
+        }
+        greaterThanOrEquals(count, 3, "Illegal fit path. [path={0}]", path);
+        return new String[] {segments[1], segments[0]};
+    }
+
+    private DispatchEntry getDispatchEntry(String genericableId, String genericableVersion, int format) {
+        DispatchKey key = new DispatchKey(genericableId, genericableVersion, format);
+        DispatchEntry entry = this.entries.get(key);
+        if (entry == null) {
+            // 解析失败时不缓存，服务注册之后的请求可以正常解析。
+            entry = this.entries.computeIfAbsent(key, this::createDispatchEntry);
+        }
+        return entry;
     }
 
-    private Object[] getRequestData(byte[] dataBytes, RequestMetadata metadata) {
-        Genericable genericable = this.getGenericable(metadata);
+    private DispatchEntry createDispatchEntry(DispatchKey key) {
+        Genericable genericable = this.repository.get(key.genericableId, key.genericableVersion)
+                .orElseThrow(() -> new DoHttpHandlerException(StringUtils.format(
+                        "No genericable. [genericableId={0}, genericableVersion={1}]",
+                        key.genericableId,
+                        key.genericableVersion)));
         Method method = genericable.method().method();
         notNull(method, "The genericable method cannot be null. [genericableId={0}]", genericable.id());
-        int format = metadata.dataFormat();
-        MessageSerializer messageSerializer = MessageSerializerUtils.getMessageSerializer(this.container, format)
+        MessageSerializer messageSerializer = MessageSerializerUtils.getMessageSerializer(this.container, key.format)
                 .orElseThrow(() -> new IllegalStateException(StringUtils.format(
                         "MessageSerializer required but not found. [format={0}]",
-                        format)));
+                        key.format)));
         Type[] argumentTypes =
                 Stream.of(method.getParameters()).map(Parameter::getParameterizedType).toArray(Type[]::new);
-        return messageSerializer.deserializeRequest(argumentTypes, dataBytes);
-    }
-
-    private Genericable getGenericable(RequestMetadata metadata) {
-        return this.repository.get(metadata.genericableId(), metadata.genericableVersion().toString())
-                .orElseThrow(() -> new DoHttpHandlerException(StringUtils.format(
-                        "No genericable. [genericableId={0}, genericableVersion={1}]",
-                        metadata.genericableId(),
-                        metadata.genericableVersion().toString())));
+        return new DispatchEntry(Version.builder(key.genericableVersion).build(),
+                key.format,
+                argumentTypes,
+                messageSerializer);
     }
 
-    private void doSyncHandle(RequestMetadata metadata, Object[] data, HttpClassicServerResponse response) {
+    private void doSyncHandle(RequestMetadata metadata, Object[] data, MessageSerializer messageSerializer,
+            HttpClassicServerResponse response) {
         Response result = this.dispatcher.dispatch(metadata, data);
         HttpServerUtils.setResponseCode(response, HttpResponseStatus.OK);
         HttpServerUtils.setResponseHeaders(response, result);
-        HttpServerUtils.setResponseEntity(this.container, metadata.dataFormat(), response, result);
+        HttpServerUtils.writeResponseEntity(messageSerializer, metadata.dataFormat(), response, result);
     }
 
     private void doAsyncHandle(RequestMetadata metadata, Object[] data, HttpClassicServerResponse response) {
@@ -140,4 +186,55 @@ public class FitHttpHandler extends AbstractHttpHandler {
         HttpServerUtils.setResponseHeaders(response, result);
         HttpServerUtils.setResponseEntity(this.container, metadata.dataFormat(), response, result);
     }
+
+    /**
+     * 表示分发条目的键。
+     */
+    private static final class DispatchKey {
+        private final String genericableId;
+        private final String genericableVersion;
+        private final int format;
+
+        DispatchKey(String genericableId, String genericableVersion, int format) {
+            this.genericableId = genericableId;
+            this.genericableVersion = genericableVersion;
+            this.format = format;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof DispatchKey)) {
+                return false;
+            }
+            DispatchKey another = (DispatchKey) obj;
+            return this.format == another.format && Objects.equals(this.genericableId, another.genericableId)
+                    && Objects.equals(this.genericableVersion, another.genericableVersion);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.genericableId, this.genericableVersion, this.format);
+        }
+    }
+
+    /**
+     * 表示预先解析的分发条目。
+     */
+    private static final class DispatchEntry {
+        private final Version genericableVersion;
+        private final int dataFormat;
+        private final Type[] argumentTypes;
+        private final MessageSerializer messageSerializer;
+
+        DispatchEntry(Version genericableVersion, int dataFormat, Type[] argumentTypes,
+                MessageSerializer messageSerializer) {
+            this.genericableVersion = genericableVersion;
+            this.dataFormat = dataFormat;
+            this.argumentTypes = argumentTypes;
+            this.messageSerializer = messageSerializer;
+        }
+    }
 }
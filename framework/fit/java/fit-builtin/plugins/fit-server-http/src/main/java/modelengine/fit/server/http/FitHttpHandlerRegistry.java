@@ -19,19 +19,27 @@ import modelengine.fitframework.broker.LocalGenericableRepository;
 import modelengine.fitframework.broker.server.Dispatcher;
 import modelengine.fitframework.conf.runtime.WorkerConfig;
 import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.plugin.Plugin;
+import modelengine.fitframework.plugin.PluginStartedObserver;
+import modelengine.fitframework.plugin.PluginStoppedObserver;
 import modelengine.fitframework.util.StringUtils;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 /**
  * FIT 通信方式的处理器的注册器。
+ * <p>插件启动或停止时，本地服务和消息序列化器可能发生变化，注册器负责使已注册处理器中缓存的分发条目失效。</p>
  *
  * @author 季聿阶
  * @since 2022-09-14
  */
 @Component
-public class FitHttpHandlerRegistry {
+public class FitHttpHandlerRegistry implements PluginStartedObserver, PluginStoppedObserver {
     private final BeanContainer container;
     private final LocalGenericableRepository repository;
     private final String contextPath;
+    private final List<FitHttpHandler> handlers = new CopyOnWriteArrayList<>();
 
     /**
      * 创建 FIT 通信的处理器的注册器对象。
@@ -67,12 +75,14 @@ public class FitHttpHandlerRegistry {
 
     private HttpHandler createHttpHandler(HttpClassicServer httpServer, Dispatcher dispatcher, String pathPattern,
             WorkerConfig worker) {
-        return new FitHttpHandler(this.container,
+        FitHttpHandler handler = new FitHttpHandler(this.container,
                 dispatcher,
                 this.repository,
                 worker,
                 HttpHandler.StaticInfo.builder().pathPattern(pathPattern).build(),
                 HttpHandler.ExecutionInfo.builder().httpServer(httpServer).build());
+        this.handlers.add(handler);
+        return handler;
     }
 
     private HttpHandler createAsyncHttpHandler(HttpClassicServer httpServer, WorkerConfig worker, String pathPattern) {
@@ -82,6 +92,16 @@ public class FitHttpHandlerRegistry {
                 HttpHandler.ExecutionInfo.builder().httpServer(httpServer).build());
     }
 
+    @Override
+    public void onPluginStarted(Plugin plugin) {
+        this.handlers.forEach(FitHttpHandler::invalidate);
+    }
+
+    @Override
+    public void onPluginStopped(Plugin plugin) {
+        this.handlers.forEach(FitHttpHandler::invalidate);
+    }
+
     String getContextPath() {
         return this.contextPath;
     }
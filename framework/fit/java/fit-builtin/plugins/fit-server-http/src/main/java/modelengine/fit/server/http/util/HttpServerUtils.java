@@ -31,9 +31,12 @@ import modelengine.fitframework.conf.runtime.SerializationFormat;
 import modelengine.fitframework.ioc.BeanContainer;
 import modelengine.fitframework.log.Logger;
 import modelengine.fitframework.resource.UrlUtils;
+import modelengine.fitframework.serialization.SerializationException;
 import modelengine.fitframework.util.StringUtils;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
 import java.lang.reflect.Type;
 
 /**
@@ -119,11 +122,72 @@ public class HttpServerUtils {
         }
     }
 
+    /**
+     * 将响应结果通过流式接口序列化后设置为响应的消息体。
+     * <p>与 {@link #setResponseEntity(BeanContainer, int, HttpClassicServerResponse, Response)} 不同，响应数据直接序列化到
+     * 可增长的缓冲区中，并以该缓冲区作为消息体，不再额外拷贝一份二进制序列。序列化完成之前响应不会提交，因此序列化失败时
+     * 调用方仍然可以返回错误响应。对于 Json 格式，行为与
+     * {@link #setResponseEntity(BeanContainer, int, HttpClassicServerResponse, Response)} 一致。</p>
+     *
+     * @param container 表示 Bean 容器的 {@link BeanContainer}。
+     * @param dataFormat 表示请求的数据格式的 {@code int}。
+     * @param response 表示响应的 {@link HttpClassicServerResponse}。
+     * @param result 表示响应结果的 {@link Response}。
+     * @throws SerializationException 当序列化响应的消息体失败时。
+     */
+    public static void writeResponseEntity(BeanContainer container, int dataFormat, HttpClassicServerResponse response,
+            Response result) {
+        if (dataFormat == SerializationFormat.JSON.code()) {
+            setResponseEntity(container, dataFormat, response, result);
+            return;
+        }
+        writeResponseEntity(getMessageSerializer(container, dataFormat), dataFormat, response, result);
+    }
+
+    /**
+     * 使用指定的消息序列化器将响应结果序列化后设置为响应的消息体。
+     * <p>行为与 {@link #writeResponseEntity(BeanContainer, int, HttpClassicServerResponse, Response)} 一致，适用于调用方已经
+     * 解析并缓存了消息序列化器的场景。</p>
+     *
+     * @param messageSerializer 表示数据格式对应的消息序列化器的 {@link MessageSerializer}。
+     * @param dataFormat 表示请求的数据格式的 {@code int}。
+     * @param response 表示响应的 {@link HttpClassicServerResponse}。
+     * @param result 表示响应结果的 {@link Response}。
+     * @throws SerializationException 当序列化响应的消息体失败时。
+     */
+    public static void writeResponseEntity(MessageSerializer messageSerializer, int dataFormat,
+            HttpClassicServerResponse response, Response result) {
+        if (dataFormat == SerializationFormat.JSON.code()) {
+            response.entity(new DefaultObjectEntity<>(response, result.data()));
+            return;
+        }
+        ResponseBuffer buffer = new ResponseBuffer();
+        messageSerializer.serializeResponse(result.type(), result.data(), buffer);
+        response.headers().set(MessageHeaderNames.CONTENT_LENGTH, Integer.toString(buffer.size()));
+        response.entity(Entity.createBinaryEntity(response, buffer.toInputStream()));
+    }
+
     private static byte[] getResponseData(BeanContainer container, Type returnType, Object data, int format) {
-        MessageSerializer messageSerializer = MessageSerializerUtils.getMessageSerializer(container, format)
+        return getMessageSerializer(container, format).serializeResponse(returnType, data);
+    }
+
+    private static MessageSerializer getMessageSerializer(BeanContainer container, int format) {
+        return MessageSerializerUtils.getMessageSerializer(container, format)
                 .orElseThrow(() -> new IllegalStateException(StringUtils.format(
                         "MessageSerializer required but not found. [format={0}]",
                         format)));
-        return messageSerializer.serializeResponse(returnType, data);
+    }
+
+    /**
+     * 表示响应消息体的缓冲区，序列化结束后直接以内部数组作为消息体的输入流，避免再拷贝一次。
+     */
+    private static final class ResponseBuffer extends ByteArrayOutputStream {
+        ResponseBuffer() {
+            super(256);
+        }
+
+        InputStream toInputStream() {
+            return new ByteArrayInputStream(this.buf, 0, this.count);
+        }
     }
 }
@@ -0,0 +1,193 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.server.http;
+
+import static modelengine.fit.http.header.HttpHeaderKey.FIT_DATA_FORMAT;
+import static modelengine.fit.http.header.HttpHeaderKey.FIT_GENERICABLE_VERSION;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import modelengine.fit.http.entity.Entity;
+import modelengine.fit.http.entity.ReadableBinaryEntity;
+import modelengine.fit.http.protocol.ConfigurableMessageHeaders;
+import modelengine.fit.http.protocol.MessageHeaderNames;
+import modelengine.fit.http.protocol.MessageHeaders;
+import modelengine.fit.http.server.HttpClassicServer;
+import modelengine.fit.http.server.HttpClassicServerRequest;
+import modelengine.fit.http.server.HttpClassicServerResponse;
+import modelengine.fit.http.server.HttpHandler;
+import modelengine.fit.serialization.MessageSerializer;
+import modelengine.fitframework.broker.Genericable;
+import modelengine.fitframework.broker.GenericableMethod;
+import modelengine.fitframework.broker.LocalGenericableRepository;
+import modelengine.fitframework.broker.server.Dispatcher;
+import modelengine.fitframework.broker.server.Response;
+import modelengine.fitframework.conf.runtime.SerializationFormat;
+import modelengine.fitframework.conf.runtime.WorkerConfig;
+import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.ioc.BeanFactory;
+import modelengine.fitframework.serialization.RequestMetadata;
+import modelengine.fitframework.serialization.ResponseMetadata;
+import modelengine.fitframework.serialization.SerializationException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * 为 {@link FitHttpHandler} 提供单元测试。
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@DisplayName("测试 FitHttpHandler")
+public class FitHttpHandlerTest {
+    private static final int FORMAT = SerializationFormat.CBOR.code();
+
+    private LocalGenericableRepository repository;
+    private MessageSerializer messageSerializer;
+    private Dispatcher dispatcher;
+    private FitHttpHandler handler;
+
+    @BeforeEach
+    void setup() throws NoSuchMethodException {
+        Method method = Service.class.getDeclaredMethod("echo", String.class, int.class);
+        GenericableMethod genericableMethod = mock(GenericableMethod.class);
+        when(genericableMethod.method()).thenReturn(method);
+        Genericable genericable = mock(Genericable.class);
+        when(genericable.method()).thenReturn(genericableMethod);
+        this.repository = mock(LocalGenericableRepository.class);
+        when(this.repository.get("g", "1.0.0")).thenReturn(Optional.of(genericable));
+        this.messageSerializer = mock(MessageSerializer.class);
+        when(this.messageSerializer.getFormat()).thenReturn(FORMAT);
+        when(this.messageSerializer.deserializeRequest(any(Type[].class), any(InputStream.class))).thenReturn(
+                new Object[] {"hello", 1});
+        BeanFactory factory = mock(BeanFactory.class);
+        when(factory.get()).thenReturn(this.messageSerializer);
+        BeanContainer container = mock(BeanContainer.class);
+        when(container.all(MessageSerializer.class)).thenReturn(Collections.singletonList(factory));
+        this.dispatcher = mock(Dispatcher.class);
+        when(this.dispatcher.dispatch(any(), any())).thenReturn(Response.create(ResponseMetadata.custom()
+                .dataFormat(FORMAT)
+                .build(), String.class, "hello"));
+        this.handler = new FitHttpHandler(container,
+                this.dispatcher,
+                this.repository,
+                mock(WorkerConfig.class),
+                HttpHandler.StaticInfo.builder().pathPattern("/fit/{genericableId}/{fitableId}").build(),
+                HttpHandler.ExecutionInfo.builder().httpServer(mock(HttpClassicServer.class)).build());
+    }
+
+    @Test
+    @DisplayName("多次请求同一服务时，只解析一次分发条目")
+    void shouldResolveDispatchEntryOnce() {
+        this.handler.handle(this.request("/fit/g/f"), this.response());
+        this.handler.handle(this.request("/fit//g/f/"), this.response());
+        verify(this.repository, times(1)).get("g", "1.0.0");
+        ArgumentCaptor<RequestMetadata> metadata = ArgumentCaptor.forClass(RequestMetadata.class);
+        verify(this.dispatcher, times(2)).dispatch(metadata.capture(), eq(new Object[] {"hello", 1}));
+        assertThat(metadata.getValue().genericableId()).isEqualTo("g");
+        assertThat(metadata.getValue().fitableId()).isEqualTo("f");
+        assertThat(metadata.getValue().genericableVersion().toString()).isEqualTo("1.0.0");
+        ArgumentCaptor<Type[]> types = ArgumentCaptor.forClass(Type[].class);
+        verify(this.messageSerializer, times(2)).deserializeRequest(types.capture(), any(InputStream.class));
+        assertThat(types.getValue()).containsExactly(String.class, int.class);
+    }
+
+    @Test
+    @DisplayName("分发条目失效后，重新解析分发条目")
+    void shouldResolveDispatchEntryAgainAfterInvalidated() {
+        this.handler.handle(this.request("/fit/g/f"), this.response());
+        this.handler.invalidate();
+        this.handler.handle(this.request("/fit/g/f"), this.response());
+        verify(this.repository, times(2)).get("g", "1.0.0");
+    }
+
+    @Test
+    @DisplayName("响应序列化成功后，以完整的消息体和长度设置响应")
+    void shouldSetEntityWithContentLengthAfterSerialized() throws IOException {
+        doAnswer(invocation -> {
+            invocation.getArgument(2, OutputStream.class).write(new byte[] {1, 2, 3});
+            return null;
+        }).when(this.messageSerializer).serializeResponse(any(Type.class), any(), any(OutputStream.class));
+        HttpClassicServerResponse response = this.response();
+        this.handler.handle(this.request("/fit/g/f"), response);
+        verify(response.headers()).set(MessageHeaderNames.CONTENT_LENGTH, "3");
+        ArgumentCaptor<Entity> entity = ArgumentCaptor.forClass(Entity.class);
+        verify(response).entity(entity.capture());
+        assertThat(entity.getValue()).isInstanceOf(ReadableBinaryEntity.class);
+        verify(response, never()).writableBinaryEntity();
+    }
+
+    @Test
+    @DisplayName("响应序列化失败时，抛出 SerializationException 且不设置响应的消息体")
+    void shouldNotSetEntityWhenSerializeFailed() throws IOException {
+        doThrow(new SerializationException("broken")).when(this.messageSerializer)
+                .serializeResponse(any(Type.class), any(), any(OutputStream.class));
+        HttpClassicServerResponse response = this.response();
+        SerializationException exception = catchThrowableOfType(SerializationException.class,
+                () -> this.handler.handle(this.request("/fit/g/f"), response));
+        assertThat(exception).hasMessage("broken");
+        verify(response, never()).entity(any());
+        verify(response, never()).writableBinaryEntity();
+        verify(response, never()).send();
+    }
+
+    @Test
+    @DisplayName("请求路径少于三段时，抛出 IllegalArgumentException")
+    void shouldThrowWhenPathIsIllegal() {
+        IllegalArgumentException exception = catchThrowableOfType(IllegalArgumentException.class,
+                () -> this.handler.handle(this.request("/g/f/"), this.response()));
+        assertThat(exception).hasMessage("Illegal fit path. [path=/g/f/]");
+    }
+
+    private HttpClassicServerRequest request(String path) {
+        MessageHeaders headers = mock(MessageHeaders.class);
+        when(headers.first(anyString())).thenReturn(Optional.empty());
+        when(headers.first(FIT_DATA_FORMAT.value())).thenReturn(Optional.of(Integer.toString(FORMAT)));
+        when(headers.first(FIT_GENERICABLE_VERSION.value())).thenReturn(Optional.of("1.0.0"));
+        HttpClassicServerRequest request = mock(HttpClassicServerRequest.class);
+        when(request.path()).thenReturn(path);
+        when(request.headers()).thenReturn(headers);
+        when(request.entityStream()).thenReturn(new ByteArrayInputStream(new byte[0]));
+        return request;
+    }
+
+    private HttpClassicServerResponse response() {
+        HttpClassicServerResponse response = mock(HttpClassicServerResponse.class);
+        when(response.headers()).thenReturn(mock(ConfigurableMessageHeaders.class, RETURNS_SELF));
+        return response;
+    }
+
+    /**
+     * 表示用以测试的服务。
+     */
+    interface Service {
+        String echo(String message, int times);
+    }
+}
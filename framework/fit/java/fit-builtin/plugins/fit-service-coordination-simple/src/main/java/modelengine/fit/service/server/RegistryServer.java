@@ -7,6 +7,7 @@
 package modelengine.fit.service.server;
 
 import static modelengine.fitframework.inspection.Validation.notNull;
+import static modelengine.fitframework.util.ObjectUtils.getIfNull;
 
 import modelengine.fit.service.RegistryService;
 import modelengine.fit.service.WorkerCache;
@@ -14,6 +15,7 @@ import modelengine.fit.service.entity.Address;
 import modelengine.fit.service.entity.Application;
 import modelengine.fit.service.entity.ApplicationInstance;
 import modelengine.fit.service.entity.Endpoint;
+import modelengine.fit.service.entity.FitableAddressChanges;
 import modelengine.fit.service.entity.FitableAddressInstance;
 import modelengine.fit.service.entity.FitableInfo;
 import modelengine.fit.service.entity.FitableMeta;
@@ -25,6 +27,7 @@ import modelengine.fitframework.annotation.Fitable;
 import modelengine.fitframework.annotation.Value;
 import modelengine.fitframework.conf.runtime.CommunicationProtocol;
 import modelengine.fitframework.util.CollectionUtils;
+import modelengine.fitframework.util.LockUtils;
 import modelengine.fitframework.util.StringUtils;
 
 import java.time.Instant;
@@ -33,18 +36,26 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 /**
  * 用于提供本地注册中心的服务。
  * <p><b>注意：该注册中心服务为内存版实现，仅提供于非生产环境测试使用。</b></p>
+ * <p>注册中心维护了从服务到服务实现、从服务实现到应用、从应用到进程的倒排索引，查询时仅访问相关的应用和进程。每一次注册信息发生实质变化时，
+ * 注册中心的版本号递增，并记录受影响的服务实现的版本号，以便调用方通过 {@link #queryFitableChanges(List, String, long, long)}
+ * 仅获取自上一次查询以来发生变化的服务实现。注册的应用和进程的数量不设上限。</p>
+ * <p>变化查询可以在没有变化时等待一段时间。等待会占用处理请求的线程，因此同时等待的查询数量受到限制，超出限制的查询立即返回；
+ * 等待期间注册中心会定期检查进程是否过期，进程过期导致的变化同样会结束等待。</p>
  *
  * @author 邬涨财
  * @author 季聿阶
@@ -52,17 +63,27 @@ import java.util.stream.Collectors;
  */
 @Component
 public class RegistryServer implements RegistryService {
-    /** 表示最大允许的进程数量。 */
-    public static final int MAX_WORKER_NUM = 500;
-    private static final int MAX_APP_NUM = 20;
+    private static final int MAX_WAITING_QUERIES = 8;
     private static final String CLUSTER_DOMAIN_KEY = "cluster.domain";
     private static final Pattern CLUSTER_PORT_PATTERN = Pattern.compile("cluster\\.(.*?)\\.port");
+    private static final long EXPIRE_INTERVAL_MILLIS = 1000L;
+    private static final long MAX_WAIT_MILLIS = TimeUnit.SECONDS.toMillis(30);
 
     private final Map<String, Worker> workers = new ConcurrentHashMap<>();
     private final Map<String, Application> applications = new ConcurrentHashMap<>();
     private final Map<String, Application> workerApplications = new ConcurrentHashMap<>();
     private final Map<String, Set<FitableMeta>> applicationMetas = new ConcurrentHashMap<>();
 
+    private final Map<String, Set<String>> applicationWorkers = new HashMap<>();
+    private final Map<FitableInfo, Map<String, FitableMeta>> fitableApplications = new HashMap<>();
+    private final Map<String, Set<FitableInfo>> genericableFitables = new HashMap<>();
+    private final Map<FitableInfo, Long> fitableRevisions = new ConcurrentHashMap<>();
+    private final ReadWriteLock lock = LockUtils.newReentrantReadWriteLock();
+    private final Object revisionMonitor = LockUtils.newSynchronizedLock();
+    private final Semaphore waitingQueries = new Semaphore(MAX_WAITING_QUERIES);
+    private volatile long revision;
+    private volatile long lastExpireTime;
+
     private final int defaultExpireTime;
     private final WorkerCache cache;
 
@@ -87,22 +108,29 @@ public class RegistryServer implements RegistryService {
         return this.applicationMetas;
     }
 
+    /**
+     * 获取注册中心当前的版本号。
+     *
+     * @return 表示注册中心当前的版本号的 {@code long}。
+     */
+    public long getRevision() {
+        return this.revision;
+    }
+
     @Override
     @Fitable(id = "dedaa28cfb2742819a9b0271bc34f72a")
     public void registerFitables(List<FitableMeta> fitableMetas, Worker worker, Application application) {
-        if (!this.workers.containsKey(worker.getId()) && this.workers.size() >= MAX_WORKER_NUM) {
-            throw new IllegalStateException("Too many workers.");
-        }
-        if (!this.applications.containsKey(application.getNameVersion()) && this.applications.size() >= MAX_APP_NUM) {
-            throw new IllegalStateException("Too many applications.");
-        }
-        this.workers.put(worker.getId(), worker);
-        this.applications.put(application.getNameVersion(), application);
-        this.workerApplications.put(worker.getId(), application);
-        this.applicationMetas.put(application.getNameVersion(), new HashSet<>(fitableMetas));
         Instant expireTime = Instant.now().plus(this.getActualExpire(worker), ChronoUnit.SECONDS);
-        this.cache.refreshWorker(worker.getId(), expireTime);
-        this.expire();
+        LockUtils.synchronize(this.lock.writeLock(), () -> {
+            Set<FitableInfo> changedFitables = new HashSet<>();
+            this.expire(changedFitables);
+            this.commit(changedFitables);
+            // 进程的过期时间需要在提交变化之前刷新，否则被唤醒的变化查询会将新注册的进程视为已过期。
+            this.cache.refreshWorker(worker.getId(), expireTime);
+            changedFitables.clear();
+            this.register(getIfNull(fitableMetas, Collections::emptyList), worker, application, changedFitables);
+            this.commit(changedFitables);
+        });
     }
 
     private int getActualExpire(Worker worker) {
@@ -120,54 +148,241 @@ public class RegistryServer implements RegistryService {
         return actualExpire;
     }
 
+    private void register(List<FitableMeta> fitableMetas, Worker worker, Application application,
+            Set<FitableInfo> changedFitables) {
+        String workerId = worker.getId();
+        String applicationKey = application.getNameVersion();
+        Worker previousWorker = this.workers.put(workerId, worker);
+        Application previousWorkerApplication = this.workerApplications.put(workerId, application);
+        if (previousWorkerApplication != null
+                && !Objects.equals(previousWorkerApplication.getNameVersion(), applicationKey)) {
+            this.detachWorker(workerId, previousWorkerApplication.getNameVersion(), changedFitables);
+        }
+        Application previousApplication = this.applications.put(applicationKey, application);
+        Map<FitableInfo, FitableMeta> previousMetas = this.toMetaMap(this.applicationMetas.put(applicationKey,
+                new HashSet<>(fitableMetas)));
+        Map<FitableInfo, FitableMeta> currentMetas = this.toMetaMap(fitableMetas);
+        for (FitableInfo fitable : previousMetas.keySet()) {
+            if (!currentMetas.containsKey(fitable)) {
+                this.unindexFitable(fitable, applicationKey);
+                changedFitables.add(fitable);
+            }
+        }
+        for (FitableMeta meta : currentMetas.values()) {
+            this.indexFitable(meta, applicationKey);
+            if (!this.isSameMeta(previousMetas.get(meta.getFitable()), meta)) {
+                changedFitables.add(meta.getFitable());
+            }
+        }
+        boolean isWorkerAdded =
+                this.applicationWorkers.computeIfAbsent(applicationKey, key -> new HashSet<>()).add(workerId);
+        if (isWorkerAdded || !this.isSameWorker(previousWorker, worker)
+                || !this.isSameApplication(previousApplication, application)) {
+            changedFitables.addAll(currentMetas.keySet());
+        }
+    }
+
+    private Map<FitableInfo, FitableMeta> toMetaMap(Iterable<FitableMeta> metas) {
+        Map<FitableInfo, FitableMeta> metaMap = new HashMap<>();
+        if (metas != null) {
+            metas.forEach(meta -> metaMap.put(meta.getFitable(), meta));
+        }
+        return metaMap;
+    }
+
+    private void indexFitable(FitableMeta meta, String applicationKey) {
+        FitableInfo fitable = meta.getFitable();
+        this.fitableApplications.computeIfAbsent(fitable, key -> new HashMap<>()).put(applicationKey, meta);
+        this.genericableFitables.computeIfAbsent(this.genericableKey(fitable.getGenericableId(),
+                fitable.getGenericableVersion()), key -> new HashSet<>()).add(fitable);
+    }
+
+    private void unindexFitable(FitableInfo fitable, String applicationKey) {
+        Map<String, FitableMeta> metas = this.fitableApplications.get(fitable);
+        if (metas == null) {
+            return;
+        }
+        metas.remove(applicationKey);
+        if (!metas.isEmpty()) {
+            return;
+        }
+        this.fitableApplications.remove(fitable);
+        String genericableKey = this.genericableKey(fitable.getGenericableId(), fitable.getGenericableVersion());
+        Set<FitableInfo> fitables = this.genericableFitables.get(genericableKey);
+        if (fitables != null && fitables.remove(fitable) && fitables.isEmpty()) {
+            this.genericableFitables.remove(genericableKey);
+        }
+    }
+
+    private void detachWorker(String workerId, String applicationKey, Set<FitableInfo> changedFitables) {
+        Set<String> workerIds = this.applicationWorkers.get(applicationKey);
+        if (workerIds == null || !workerIds.remove(workerId)) {
+            return;
+        }
+        Set<FitableMeta> metas = this.applicationMetas.getOrDefault(applicationKey, Collections.emptySet());
+        metas.forEach(meta -> changedFitables.add(meta.getFitable()));
+        if (!workerIds.isEmpty()) {
+            return;
+        }
+        this.applicationWorkers.remove(applicationKey);
+        this.applications.remove(applicationKey);
+        this.applicationMetas.remove(applicationKey);
+        metas.forEach(meta -> this.unindexFitable(meta.getFitable(), applicationKey));
+    }
+
+    private boolean isSameWorker(Worker previous, Worker current) {
+        return previous != null && Objects.equals(previous.getEnvironment(), current.getEnvironment())
+                && Objects.equals(previous.getAddresses(), current.getAddresses())
+                && Objects.equals(previous.getExtensions(), current.getExtensions());
+    }
+
+    private boolean isSameApplication(Application previous, Application current) {
+        return previous != null && Objects.equals(previous.getExtensions(), current.getExtensions());
+    }
+
+    private boolean isSameMeta(FitableMeta previous, FitableMeta current) {
+        return previous != null && Objects.equals(previous.getFormats(), current.getFormats())
+                && Objects.equals(previous.getAliases(), current.getAliases())
+                && Objects.equals(previous.getTags(), current.getTags());
+    }
+
+    private String genericableKey(String genericableId, String genericableVersion) {
+        return genericableId + ':' + genericableVersion;
+    }
+
+    private void commit(Set<FitableInfo> changedFitables) {
+        if (changedFitables.isEmpty()) {
+            return;
+        }
+        long current = this.revision + 1;
+        changedFitables.forEach(fitable -> this.fitableRevisions.put(fitable, current));
+        this.revision = current;
+        synchronized (this.revisionMonitor) {
+            this.revisionMonitor.notifyAll();
+        }
+    }
+
     @Override
     public void unregisterFitables(List<FitableInfo> fitables, String workerId) {}
 
     @Override
     @Fitable(id = "5807f06a3a704708b264ea3c6cfbbd53")
     public List<FitableAddressInstance> queryFitables(List<FitableInfo> fitables, String workerId) {
-        List<FitableAddressInstance> instances = new ArrayList<>();
-        for (Map.Entry<String, Set<FitableMeta>> entry : this.applicationMetas.entrySet()) {
+        this.expireIfNecessary();
+        return LockUtils.synchronize(this.lock.readLock(), () -> {
+            List<FitableAddressInstance> instances = new ArrayList<>();
+            for (FitableInfo fitable : new LinkedHashSet<>(fitables)) {
+                FitableAddressInstance instance = this.buildInstance(fitable);
+                if (CollectionUtils.isNotEmpty(instance.getApplicationInstances())) {
+                    instances.add(instance);
+                }
+            }
+            return instances;
+        });
+    }
+
+    @Override
+    @Fitable(id = "01ddf3998a614f64b7306d4f21c99279")
+    public FitableAddressChanges queryFitableChanges(List<FitableInfo> fitables, String workerId, long revision,
+            long waitMillis) {
+        this.expireIfNecessary();
+        this.awaitChanges(fitables, revision, Math.min(waitMillis, MAX_WAIT_MILLIS));
+        return LockUtils.synchronize(this.lock.readLock(), () -> {
+            boolean isFull = this.isFullRevision(revision);
+            List<FitableAddressInstance> instances = new ArrayList<>();
+            for (FitableInfo fitable : new LinkedHashSet<>(fitables)) {
+                if (isFull || this.fitableRevisions.getOrDefault(fitable, 0L) > revision) {
+                    instances.add(this.buildInstance(fitable));
+                }
+            }
+            FitableAddressChanges changes = new FitableAddressChanges();
+            changes.setRevision(this.revision);
+            changes.setInstances(instances);
+            return changes;
+        });
+    }
+
+    private boolean isFullRevision(long revision) {
+        return revision <= 0 || revision > this.revision;
+    }
+
+    private void awaitChanges(List<FitableInfo> fitables, long revision, long waitMillis) {
+        if (waitMillis <= 0 || !this.waitingQueries.tryAcquire()) {
+            return;
+        }
+        try {
+            long deadline = System.currentTimeMillis() + waitMillis;
+            long remaining = waitMillis;
+            while (remaining > 0 && this.awaitOnce(fitables, revision, Math.min(remaining, EXPIRE_INTERVAL_MILLIS))) {
+                // 等待期间没有注册请求时，过期的进程只能在这里清理，清理产生的变化会结束所有相关的等待。
+                this.expireIfNecessary();
+                remaining = deadline - System.currentTimeMillis();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            this.waitingQueries.release();
+        }
+    }
+
+    private boolean awaitOnce(List<FitableInfo> fitables, long revision, long waitMillis) throws InterruptedException {
+        synchronized (this.revisionMonitor) {
+            if (this.hasChanges(fitables, revision)) {
+                return false;
+            }
+            this.revisionMonitor.wait(waitMillis);
+            return !this.hasChanges(fitables, revision);
+        }
+    }
+
+    private boolean hasChanges(List<FitableInfo> fitables, long revision) {
+        return this.isFullRevision(revision)
+                || fitables.stream().anyMatch(fitable -> this.fitableRevisions.getOrDefault(fitable, 0L) > revision);
+    }
+
+    private FitableAddressInstance buildInstance(FitableInfo fitable) {
+        FitableAddressInstance instance = new FitableAddressInstance();
+        instance.setFitable(fitable);
+        Map<String, FitableMeta> metas = this.fitableApplications.getOrDefault(fitable, Collections.emptyMap());
+        for (Map.Entry<String, FitableMeta> entry : metas.entrySet()) {
             Application application = this.applications.get(entry.getKey());
-            if (application == null) {
+            List<Worker> liveWorkers = this.getLiveWorkers(entry.getKey());
+            if (application == null || liveWorkers.isEmpty()) {
                 continue;
             }
-            for (FitableMeta meta : entry.getValue()) {
-                if (!this.isMetaInFitables(meta, fitables)) {
-                    continue;
-                }
-                Set<Worker> filteredWorkers = this.workerApplications.entrySet()
-                        .stream()
-                        .filter(appEntry -> Objects.equals(appEntry.getValue(), application))
-                        .map(Map.Entry::getKey)
-                        .filter(curWorkerId -> !this.cache.isExpired(curWorkerId))
-                        .map(this.workers::get)
-                        .filter(Objects::nonNull)
-                        .collect(Collectors.toSet());
-                if (CollectionUtils.isEmpty(filteredWorkers)) {
-                    continue;
-                }
-                if (application.getExtensions().containsKey(CLUSTER_DOMAIN_KEY)) {
-                    filteredWorkers = Collections.singleton(new ArrayList<>(filteredWorkers).get(0));
-                    this.replaceAddresses(filteredWorkers, application);
-                }
-                FitableAddressInstance instance = this.getOrCreate(meta, instances);
-                List<ApplicationInstance> applicationInstances = instance.getApplicationInstances();
-                ApplicationInstance applicationInstance = new ApplicationInstance();
-                applicationInstance.setApplication(application);
-                applicationInstance.setFormats(meta.getFormats());
-                applicationInstance.setWorkers(new ArrayList<>(filteredWorkers));
-                applicationInstances.add(applicationInstance);
+            if (application.getExtensions().containsKey(CLUSTER_DOMAIN_KEY)) {
+                liveWorkers = Collections.singletonList(this.copyWithClusterAddress(liveWorkers.get(0), application));
             }
+            ApplicationInstance applicationInstance = new ApplicationInstance();
+            applicationInstance.setApplication(application);
+            applicationInstance.setFormats(entry.getValue().getFormats());
+            applicationInstance.setWorkers(liveWorkers);
+            instance.getApplicationInstances().add(applicationInstance);
         }
-        return instances;
+        return instance;
     }
 
-    private void replaceAddresses(Set<Worker> workers, Application application) {
+    private List<Worker> getLiveWorkers(String applicationKey) {
+        List<Worker> liveWorkers = new ArrayList<>();
+        for (String workerId : this.applicationWorkers.getOrDefault(applicationKey, Collections.emptySet())) {
+            Worker worker = this.workers.get(workerId);
+            if (worker != null && !this.cache.isExpired(workerId)) {
+                liveWorkers.add(worker);
+            }
+        }
+        return liveWorkers;
+    }
+
+    private Worker copyWithClusterAddress(Worker origin, Application application) {
         Address address = new Address();
         address.setHost(application.getExtensions().get(CLUSTER_DOMAIN_KEY));
         address.setEndpoints(this.buildEndPoints(application.getExtensions()));
-        workers.forEach(worker -> worker.setAddresses(Collections.singletonList(address)));
+        Worker worker = new Worker();
+        worker.setId(origin.getId());
+        worker.setEnvironment(origin.getEnvironment());
+        worker.setExtensions(origin.getExtensions());
+        worker.setAddresses(Collections.singletonList(address));
+        return worker;
     }
 
     private List<Endpoint> buildEndPoints(Map<String, String> extensions) {
@@ -186,22 +401,6 @@ public class RegistryServer implements RegistryService {
         return endpoints;
     }
 
-    private FitableAddressInstance getOrCreate(FitableMeta meta, List<FitableAddressInstance> instances) {
-        return instances.stream()
-                .filter(instance -> Objects.equals(meta.getFitable(), instance.getFitable()))
-                .findFirst()
-                .orElseGet(() -> {
-                    FitableAddressInstance instance = new FitableAddressInstance();
-                    instance.setFitable(meta.getFitable());
-                    instances.add(instance);
-                    return instance;
-                });
-    }
-
-    private boolean isMetaInFitables(FitableMeta meta, List<FitableInfo> fitables) {
-        return fitables.stream().anyMatch(fitable -> Objects.equals(meta.getFitable(), fitable));
-    }
-
     @Override
     @Fitable(id = "ee0a8337d3654a22a548d5d5abe1d5f3")
     public List<FitableAddressInstance> subscribeFitables(List<FitableInfo> fitables, String workerId,
@@ -215,78 +414,65 @@ public class RegistryServer implements RegistryService {
     @Override
     @Fitable(id = "33b1f9b8f1cc49d19719a6536c96e854")
     public List<FitableMetaInstance> queryFitableMetas(List<GenericableInfo> genericables) {
-        Map<FitableMeta, FitableMetaInstance> instances = new HashMap<>();
-        for (Map.Entry<String, Set<FitableMeta>> entry : this.applicationMetas.entrySet()) {
-            Application application = this.applications.get(entry.getKey());
-            if (application == null) {
-                continue;
-            }
-            for (FitableMeta meta : entry.getValue()) {
-                if (!this.isMetaInGenericables(meta, genericables)) {
-                    continue;
+        this.expireIfNecessary();
+        return LockUtils.synchronize(this.lock.readLock(), () -> {
+            Map<FitableMeta, FitableMetaInstance> instances = new HashMap<>();
+            for (GenericableInfo genericable : genericables) {
+                Set<FitableInfo> fitables = this.genericableFitables.getOrDefault(this.genericableKey(
+                        genericable.getGenericableId(), genericable.getGenericableVersion()), Collections.emptySet());
+                for (FitableInfo fitable : fitables) {
+                    this.collectFitableMetas(fitable, instances);
                 }
-                Set<String> environments = this.workerApplications.entrySet()
-                        .stream()
-                        .filter(appEntry -> Objects.equals(appEntry.getValue(), application))
-                        .map(Map.Entry::getKey)
-                        .filter(curWorkerId -> !this.cache.isExpired(curWorkerId))
-                        .map(this.workers::get)
-                        .filter(Objects::nonNull)
-                        .map(Worker::getEnvironment)
-                        .collect(Collectors.toSet());
-                if (CollectionUtils.isEmpty(environments)) {
-                    continue;
-                }
-                FitableMetaInstance instance = instances.computeIfAbsent(meta, key -> {
-                    FitableMetaInstance metaInstance = new FitableMetaInstance();
-                    metaInstance.setMeta(key);
-                    return metaInstance;
-                });
-                environments.addAll(instance.getEnvironments());
-                instance.setEnvironments(new ArrayList<>(environments));
             }
-        }
-        return new ArrayList<>(instances.values());
+            return new ArrayList<>(instances.values());
+        });
     }
 
-    private boolean isMetaInGenericables(FitableMeta meta, List<GenericableInfo> genericables) {
-        for (GenericableInfo genericable : genericables) {
-            FitableInfo fitable = meta.getFitable();
-            if (Objects.equals(fitable.getGenericableId(), genericable.getGenericableId())
-                    && Objects.equals(fitable.getGenericableVersion(), genericable.getGenericableVersion())) {
-                return true;
+    private void collectFitableMetas(FitableInfo fitable, Map<FitableMeta, FitableMetaInstance> instances) {
+        Map<String, FitableMeta> metas = this.fitableApplications.getOrDefault(fitable, Collections.emptyMap());
+        for (Map.Entry<String, FitableMeta> entry : metas.entrySet()) {
+            Set<String> environments = new HashSet<>();
+            this.getLiveWorkers(entry.getKey()).forEach(worker -> environments.add(worker.getEnvironment()));
+            if (CollectionUtils.isEmpty(environments)) {
+                continue;
             }
+            FitableMetaInstance instance = instances.computeIfAbsent(entry.getValue(), key -> {
+                FitableMetaInstance metaInstance = new FitableMetaInstance();
+                metaInstance.setMeta(key);
+                return metaInstance;
+            });
+            environments.addAll(instance.getEnvironments());
+            instance.setEnvironments(new ArrayList<>(environments));
+        }
+    }
+
+    private void expireIfNecessary() {
+        if (System.currentTimeMillis() - this.lastExpireTime < EXPIRE_INTERVAL_MILLIS) {
+            return;
         }
-        return false;
+        LockUtils.synchronize(this.lock.writeLock(), () -> {
+            Set<FitableInfo> changedFitables = new HashSet<>();
+            this.expire(changedFitables);
+            this.commit(changedFitables);
+        });
     }
 
-    private void expire() {
+    private void expire(Set<FitableInfo> changedFitables) {
+        long now = System.currentTimeMillis();
+        if (now - this.lastExpireTime < EXPIRE_INTERVAL_MILLIS) {
+            return;
+        }
+        this.lastExpireTime = now;
         List<String> workerIds = new ArrayList<>(this.workers.keySet());
         for (String workerId : workerIds) {
-            boolean expired = this.cache.isExpired(workerId);
-            if (!expired) {
+            if (!this.cache.isExpired(workerId)) {
                 continue;
             }
             this.workers.remove(workerId);
-            this.workerApplications.remove(workerId);
-        }
-        List<String> applicationNameVersions = new ArrayList<>(this.applications.keySet());
-        Set<Application> workerApplicationItems = new HashSet<>(this.workerApplications.values());
-        for (String applicationNameVersion : applicationNameVersions) {
-            if (this.isInApplications(applicationNameVersion, workerApplicationItems)) {
-                continue;
-            }
-            this.applications.remove(applicationNameVersion);
-            this.applicationMetas.remove(applicationNameVersion);
-        }
-    }
-
-    private boolean isInApplications(String applicationNameVersion, Set<Application> applications) {
-        for (Application application : applications) {
-            if (Objects.equals(applicationNameVersion, application.getNameVersion())) {
-                return true;
+            Application application = this.workerApplications.remove(workerId);
+            if (application != null) {
+                this.detachWorker(workerId, application.getNameVersion(), changedFitables);
             }
         }
-        return false;
     }
 }
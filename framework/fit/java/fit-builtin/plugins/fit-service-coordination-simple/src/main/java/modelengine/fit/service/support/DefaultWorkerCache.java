@@ -6,7 +6,6 @@
 
 package modelengine.fit.service.support;
 
-import static modelengine.fit.service.server.RegistryServer.MAX_WORKER_NUM;
 import static modelengine.fitframework.inspection.Validation.notBlank;
 import static modelengine.fitframework.inspection.Validation.notNull;
 
@@ -35,9 +34,6 @@ public class DefaultWorkerCache implements WorkerCache {
         notNull(expireTime, "The expire time cannot be null.");
         Instant existExpireTime = this.expires.get(workerId);
         if (existExpireTime == null || expireTime.isAfter(existExpireTime)) {
-            if (!this.expires.containsKey(workerId) && this.expires.size() >= MAX_WORKER_NUM) {
-                throw new IllegalStateException("Too many workers.");
-            }
             this.expires.put(workerId, expireTime);
         }
         this.expire();
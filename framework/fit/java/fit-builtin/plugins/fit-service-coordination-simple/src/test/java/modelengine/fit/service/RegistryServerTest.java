@@ -11,6 +11,7 @@ import static org.assertj.core.api.Assertions.assertThatNoException;
 
 import modelengine.fit.service.entity.Address;
 import modelengine.fit.service.entity.Application;
+import modelengine.fit.service.entity.FitableAddressChanges;
 import modelengine.fit.service.entity.FitableAddressInstance;
 import modelengine.fit.service.entity.FitableInfo;
 import modelengine.fit.service.entity.FitableMeta;
@@ -27,6 +28,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * {@link RegistryServer} 的单测类。
@@ -93,6 +95,92 @@ public class RegistryServerTest {
         assertThat(foundInstances.get(0).getFitable().getFitableId()).isEqualTo("fid1");
     }
 
+    @Test
+    @DisplayName("当注册信息发生变化时，增量查询仅返回发生变化的服务实现")
+    void testQueryFitableChanges() {
+        // given
+        FitableInfo fitable1 = this.buildFitable("fid1", "gid1");
+        FitableInfo fitable2 = this.buildFitable("fid2", "gid1");
+        List<FitableMeta> fitableMetas = Collections.singletonList(
+                this.buildFitableMeta(fitable1, Collections.singletonList(1)));
+        WorkerCache cache = Mockito.mock(WorkerCache.class);
+        RegistryServer server = new RegistryServer(90, cache);
+        server.registerFitables(fitableMetas, this.buildWorker(), this.buildApplication());
+        List<FitableInfo> fitables = Arrays.asList(fitable1, fitable2);
+        FitableAddressChanges full = server.queryFitableChanges(fitables, "wid1", 0, 0);
+        server.registerFitables(fitableMetas, this.buildWorker(), this.buildApplication());
+        FitableAddressChanges unchanged = server.queryFitableChanges(fitables, "wid1", full.getRevision(), 0);
+        Worker another = this.buildWorker();
+        another.setId("wid2");
+        server.registerFitables(fitableMetas, another, this.buildApplication());
+
+        // when
+        FitableAddressChanges changes = server.queryFitableChanges(fitables, "wid1", unchanged.getRevision(), 0);
+
+        // then
+        assertThat(full.getInstances()).hasSize(2);
+        assertThat(unchanged.getRevision()).isEqualTo(full.getRevision());
+        assertThat(unchanged.getInstances()).isEmpty();
+        assertThat(changes.getRevision()).isGreaterThan(full.getRevision());
+        assertThat(changes.getInstances()).hasSize(1);
+        assertThat(changes.getInstances().get(0).getFitable()).isEqualTo(fitable1);
+        assertThat(changes.getInstances().get(0).getApplicationInstances().get(0).getWorkers()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("当注册数千个进程和大量应用时，注册成功且可以查询到所有进程")
+    void testRegisterThousandsOfWorkers() {
+        // given
+        int workerNum = 2000;
+        int applicationNum = 50;
+        FitableInfo fitable = this.buildFitable("fid1", "gid1");
+        List<FitableMeta> fitableMetas =
+                Collections.singletonList(this.buildFitableMeta(fitable, Collections.singletonList(1)));
+        WorkerCache cache = Mockito.mock(WorkerCache.class);
+        RegistryServer server = new RegistryServer(90, cache);
+
+        // when
+        for (int i = 0; i < workerNum; i++) {
+            Worker worker = this.buildWorker();
+            worker.setId("wid" + i);
+            Application application = this.buildApplication();
+            application.setNameVersion("1.0." + (i % applicationNum));
+            server.registerFitables(fitableMetas, worker, application);
+        }
+        List<FitableAddressInstance> foundInstances = server.queryFitables(Collections.singletonList(fitable), "wid1");
+
+        // then
+        assertThat(server.getWorkers()).hasSize(workerNum);
+        assertThat(server.getApplications()).hasSize(applicationNum);
+        assertThat(foundInstances.get(0).getApplicationInstances()).hasSize(applicationNum)
+                .allSatisfy(instance -> assertThat(instance.getWorkers()).hasSize(workerNum / applicationNum));
+    }
+
+    @Test
+    @DisplayName("当进程在变化查询等待期间过期时，变化查询返回该进程提供的服务实现")
+    void testQueryFitableChangesWhenWorkerExpiresWhileWaiting() {
+        // given
+        FitableInfo fitable = this.buildFitable("fid1", "gid1");
+        List<FitableMeta> fitableMetas =
+                Collections.singletonList(this.buildFitableMeta(fitable, Collections.singletonList(1)));
+        AtomicBoolean expired = new AtomicBoolean();
+        WorkerCache cache = Mockito.mock(WorkerCache.class);
+        Mockito.when(cache.isExpired("wid1")).thenAnswer(invocation -> expired.get());
+        RegistryServer server = new RegistryServer(90, cache);
+        server.registerFitables(fitableMetas, this.buildWorker(), this.buildApplication());
+        long revision = server.getRevision();
+        expired.set(true);
+
+        // when
+        FitableAddressChanges changes =
+                server.queryFitableChanges(Collections.singletonList(fitable), "wid2", revision, 10000);
+
+        // then
+        assertThat(changes.getRevision()).isGreaterThan(revision);
+        assertThat(changes.getInstances()).hasSize(1);
+        assertThat(changes.getInstances().get(0).getApplicationInstances()).isEmpty();
+    }
+
     private Application buildApplication() {
         Application application = new Application();
         application.setName("appName1");
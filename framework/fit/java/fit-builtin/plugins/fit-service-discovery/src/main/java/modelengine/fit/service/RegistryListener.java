@@ -18,6 +18,7 @@ import modelengine.fit.service.entity.Address;
 import modelengine.fit.service.entity.Application;
 import modelengine.fit.service.entity.ApplicationInstance;
 import modelengine.fit.service.entity.Endpoint;
+import modelengine.fit.service.entity.FitableAddressChanges;
 import modelengine.fit.service.entity.FitableAddressInstance;
 import modelengine.fit.service.entity.FitableInfo;
 import modelengine.fit.service.entity.Worker;
@@ -40,16 +41,17 @@ import modelengine.fitframework.schedule.ExecutePolicy;
 import modelengine.fitframework.schedule.Task;
 import modelengine.fitframework.schedule.ThreadPoolScheduler;
 import modelengine.fitframework.util.CollectionUtils;
-import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.StringUtils;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -60,8 +62,10 @@ import java.util.stream.Collectors;
  * <p>注册中心监听器有三种工作模式，分别为 {@link RegistryListenerMode#PULL 拉模式}、{@link RegistryListenerMode#PUSH
  * 推模式} 和 {@link RegistryListenerMode#PUSH_AND_PULL 推拉结合模式}。</p>
  * <ul>
- *     <li>拉模式：注册中心监听器会开启一个定时任务，用于定时调用 {@link RegistryService#queryFitables
- *     注册中心服务端的查询接口} 来获取本地缓存中的服务地址列表，并更新本地缓存。</li>
+ *     <li>拉模式：注册中心监听器会开启一个定时任务，用于定时调用 {@link RegistryService#queryFitableChanges
+ *     注册中心服务端的变化查询接口} 来获取本地缓存中自上一次查询以来发生变化的服务地址列表，并更新本地缓存。当注册中心服务端不支持变化查询时，
+ *     退化为调用 {@link RegistryService#queryFitables 注册中心服务端的查询接口} 来分批获取所有本地缓存中的服务地址列表，
+ *     并在一段时间内不再尝试变化查询。</li>
  *     <li>推模式：注册中心监听器会在第一次获取某个服务地址列表时，调用 {@link RegistryService#subscribeFitables
  *     注册中心服务端的订阅接口} 来获取服务地址列表，而在后续获取其服务地址列表时，会调用 {@link
  *     RegistryService#queryFitables 注册中心服务端的查询接口}。</li>
@@ -90,6 +94,8 @@ import java.util.stream.Collectors;
  *     <li>拉模式：定时获取地址的服务信息来源于本地缓存，更新本地缓存时，如果本地缓存没有指定的服务，则忽略。</li>
  *     <li>推模式：本地缓存中没有指定服务时，代表是第一次查询，需要订阅注册中心服务端。</li>
  * </ul>
+ * <p>在本地缓存之上，注册中心监听器还会为每一个服务实现维护一份不可变的 {@link TargetSnapshot 地址列表快照}，快照仅在拉取或推送的结果更新了本地缓存，或本地服务实现发生变化时重新构建，
+ * 因此 {@link #getFitableTargets(UniqueFitableId)} 在绝大多数情况下只需要读取一次快照。</p>
  *
  * @author 夏斐
  * @author 季聿阶
@@ -101,6 +107,8 @@ public class RegistryListener implements Registry {
     private static final String NOTIFY_FITABLE_ID = "347fd33f3cde4aa891614a9e244ae5e8";
     private static final long INITIAL_DELAY = 10L;
     private static final int BATCH_NUM = 10;
+    private static final long CHANGES_WAIT_MILLIS = 2000L;
+    private static final long CHANGES_RETRY_INTERVAL_MILLIS = 5 * 60 * 1000L;
     private static final Pattern CLUSTER_PORT_PATTERN = Pattern.compile("cluster\\.(.*?)\\.port");
     private static final String CLUSTER_CONTEXT_PATH_KEY = "cluster.context-path";
     private static final String CLUSTER_DOMAIN_KEY = "cluster.domain";
@@ -111,6 +119,10 @@ public class RegistryListener implements Registry {
 
     private final Map<UniqueFitableId, Optional<FitableAddressInstance>> fitableInstancesCache =
             new ConcurrentHashMap<>();
+    private final Map<UniqueFitableId, TargetSnapshot> targetSnapshots = new ConcurrentHashMap<>();
+    private final AtomicLong snapshotVersion = new AtomicLong();
+    private volatile long registryRevision;
+    private volatile long changesRetryTime;
     private final ApplicationConfig application;
     private final WorkerConfig worker;
     private final RegistryListenerMode listenerMode;
@@ -195,6 +207,13 @@ public class RegistryListener implements Registry {
         if (CollectionUtils.isEmpty(cachedFitables)) {
             return;
         }
+        Optional<FitableAddressChanges> changes = this.queryChanges(cachedFitables);
+        if (changes.isPresent()) {
+            this.registryRevision = changes.get().getRevision();
+            this.updateLocalCacheIfPresent(changes.get().getInstances());
+            return;
+        }
+        this.registryRevision = 0;
         int batch = (cachedFitables.size() - 1) / BATCH_NUM + 1;
         for (int i = 0; i < batch; i++) {
             int max = Math.min((i + 1) * BATCH_NUM, cachedFitables.size());
@@ -237,62 +256,106 @@ public class RegistryListener implements Registry {
 
     @Override
     public List<Target> getFitableTargets(UniqueFitableId id) {
-        FitableAddressInstance fitableInstance =
-                ObjectUtils.<Optional<FitableAddressInstance>>nullIf(this.fitableInstancesCache.get(id),
-                        Optional.empty()).orElseGet(() -> this.loadFitableInstance(id).orElse(null));
-        if (fitableInstance == null) {
-            this.fitableInstancesCache.put(id, Optional.empty());
-            fitableInstance = new FitableAddressInstance();
-            fitableInstance.setApplicationInstances(new ArrayList<>());
-            log.debug("No fitable instance in cache. "
-                            + "[genericableId={}, genericableVersion={}, fitableId={}, fitableVersion={}]",
-                    id.genericableId(),
-                    id.genericableVersion(),
-                    id.fitableId(),
-                    id.fitableVersion());
-        }
-        this.updateInstances(fitableInstance.getApplicationInstances());
-        if (this.localFitableCache.contains(id)) {
-            ApplicationInstance localApp = this.getOrCreateLocalApplication(fitableInstance);
-            boolean isContains = this.isApplicationContainsLocalWorker(localApp);
-            if (!isContains) {
-                localApp.getWorkers().add(WorkerUtils.getLocalWorker(this.container, this.worker));
+        Optional<FitableAddressInstance> cached = this.fitableInstancesCache.get(id);
+        boolean isLocal = this.localFitableCache.contains(id);
+        TargetSnapshot snapshot = this.targetSnapshots.get(id);
+        if (snapshot != null && snapshot.isValid(cached, isLocal)) {
+            return snapshot.targets();
+        }
+        if (cached == null || !cached.isPresent()) {
+            cached = this.loadFitableInstance(id);
+            if (!cached.isPresent()) {
+                this.fitableInstancesCache.put(id, Optional.empty());
+                cached = Optional.empty();
+                log.debug("No fitable instance in cache. "
+                                + "[genericableId={}, genericableVersion={}, fitableId={}, fitableVersion={}]",
+                        id.genericableId(),
+                        id.genericableVersion(),
+                        id.fitableId(),
+                        id.fitableVersion());
+            } else {
+                cached = this.fitableInstancesCache.getOrDefault(id, cached);
             }
         }
-        List<Target> targets = FitableInstanceUtils.toTargets(fitableInstance);
-        for (Target target : targets) {
-            String workerId = target.workerId();
-            fitableInstance.getApplicationInstances()
-                    .stream()
-                    .filter(instance -> this.isWorkerIdInApplicationInstance(workerId, instance))
-                    .findFirst()
-                    .ifPresent(instance -> this.updateContextPath(target, instance.getApplication()));
+        snapshot = new TargetSnapshot(this.snapshotVersion.incrementAndGet(),
+                cached,
+                isLocal,
+                this.buildTargets(cached.orElse(null), isLocal));
+        if (cached.isPresent()) {
+            this.targetSnapshots.put(id, snapshot);
         }
-        return targets;
+        return snapshot.targets();
     }
 
-    private boolean isWorkerIdInApplicationInstance(String workerId, ApplicationInstance applicationInstance) {
-        return applicationInstance.getWorkers().stream().anyMatch(worker -> Objects.equals(worker.getId(), workerId));
+    /**
+     * 根据缓存的服务地址信息构建地址列表。
+     * <p>构建过程不会修改缓存中的服务地址信息，集群域名的地址替换和本地进程的补充都作用在副本上。</p>
+     *
+     * @param fitableInstance 表示缓存的服务地址信息的 {@link FitableAddressInstance}，可能为 {@code null}。
+     * @param isLocal 表示本地进程是否提供该服务实现的 {@code boolean}。
+     * @return 表示不可变的地址列表的 {@link List}{@code <}{@link Target}{@code >}。
+     */
+    private List<Target> buildTargets(FitableAddressInstance fitableInstance, boolean isLocal) {
+        List<ApplicationInstance> applicationInstances = new ArrayList<>();
+        if (fitableInstance != null && fitableInstance.getApplicationInstances() != null) {
+            fitableInstance.getApplicationInstances()
+                    .stream()
+                    .filter(Objects::nonNull)
+                    .map(this::copyWithClusterAddress)
+                    .forEach(applicationInstances::add);
+        }
+        if (isLocal) {
+            this.addLocalWorker(applicationInstances);
+        }
+        List<Target> targets = new ArrayList<>();
+        for (ApplicationInstance applicationInstance : applicationInstances) {
+            FitableAddressInstance single = new FitableAddressInstance();
+            single.setApplicationInstances(Collections.singletonList(applicationInstance));
+            String contextPath = Optional.ofNullable(applicationInstance.getApplication())
+                    .map(Application::getExtensions)
+                    .map(extensions -> extensions.get(CLUSTER_CONTEXT_PATH_KEY))
+                    .orElse(null);
+            for (Target target : FitableInstanceUtils.toTargets(single)) {
+                targets.add(this.withContextPath(target, contextPath));
+            }
+        }
+        return Collections.unmodifiableList(targets);
     }
 
-    private void updateContextPath(Target target, Application application) {
-        if (!application.getExtensions().containsKey(CLUSTER_CONTEXT_PATH_KEY)) {
-            return;
+    private Target withContextPath(Target target, String contextPath) {
+        Map<String, String> extensions = new HashMap<>(target.extensions());
+        if (contextPath != null) {
+            extensions.put(CLUSTER_CONTEXT_PATH_KEY, contextPath);
         }
-        target.extensions().put(CLUSTER_CONTEXT_PATH_KEY, application.getExtensions().get(CLUSTER_CONTEXT_PATH_KEY));
+        return Target.custom(target).extensions(extensions).build();
     }
 
-    private void updateInstances(List<ApplicationInstance> applicationInstances) {
-        applicationInstances.stream()
-                .filter(instance -> instance.getApplication().getExtensions().containsKey(CLUSTER_DOMAIN_KEY))
-                .forEach(instance -> this.replaceAddress(instance.getWorkers(), instance.getApplication()));
+    private ApplicationInstance copyWithClusterAddress(ApplicationInstance origin) {
+        ApplicationInstance copy = new ApplicationInstance();
+        copy.setApplication(origin.getApplication());
+        copy.setFormats(origin.getFormats());
+        List<Worker> workers = new ArrayList<>(getIfNull(origin.getWorkers(), Collections::emptyList));
+        Application application = origin.getApplication();
+        if (application != null && application.getExtensions().containsKey(CLUSTER_DOMAIN_KEY)) {
+            Address address = new Address();
+            address.setHost(application.getExtensions().get(CLUSTER_DOMAIN_KEY));
+            address.setEndpoints(this.buildEndPoints(application.getExtensions()));
+            workers = workers.stream()
+                    .filter(Objects::nonNull)
+                    .map(worker -> this.copyWithAddress(worker, address))
+                    .collect(Collectors.toList());
+        }
+        copy.setWorkers(workers);
+        return copy;
     }
 
-    private void replaceAddress(List<Worker> workers, Application application) {
-        Address address = new Address();
-        address.setHost(application.getExtensions().get(CLUSTER_DOMAIN_KEY));
-        address.setEndpoints(this.buildEndPoints(application.getExtensions()));
-        workers.forEach(worker -> worker.setAddresses(Collections.singletonList(address)));
+    private Worker copyWithAddress(Worker origin, Address address) {
+        Worker copy = new Worker();
+        copy.setId(origin.getId());
+        copy.setEnvironment(origin.getEnvironment());
+        copy.setExtensions(origin.getExtensions());
+        copy.setAddresses(Collections.singletonList(address));
+        return copy;
     }
 
     private List<Endpoint> buildEndPoints(Map<String, String> extensions) {
@@ -317,24 +380,27 @@ public class RegistryListener implements Registry {
         return endpoints;
     }
 
-    private ApplicationInstance getOrCreateLocalApplication(FitableAddressInstance fitableInstance) {
-        return fitableInstance.getApplicationInstances()
-                .stream()
-                .filter(Objects::nonNull)
-                .filter(app -> app.getApplication() != null)
-                .filter(app -> Objects.equals(app.getApplication().getName(), this.application.name()))
-                .findFirst()
-                .orElseGet(() -> {
-                    ApplicationInstance applicationInstance = new ApplicationInstance();
-                    Application localApplication = new Application();
-                    localApplication.setName(this.application.name());
-                    localApplication.setExtensions(this.application.visualExtensions());
-                    applicationInstance.setApplication(localApplication);
-                    applicationInstance.setWorkers(new ArrayList<>());
-                    applicationInstance.setFormats(new ArrayList<>());
-                    fitableInstance.getApplicationInstances().add(applicationInstance);
-                    return applicationInstance;
-                });
+    private void addLocalWorker(List<ApplicationInstance> applicationInstances) {
+        for (int i = 0; i < applicationInstances.size(); i++) {
+            ApplicationInstance instance = applicationInstances.get(i);
+            if (instance.getApplication() != null
+                    && Objects.equals(instance.getApplication().getName(), this.application.name())) {
+                if (!this.isApplicationContainsLocalWorker(instance)) {
+                    instance.getWorkers().add(WorkerUtils.getLocalWorker(this.container, this.worker));
+                }
+                return;
+            }
+        }
+        ApplicationInstance applicationInstance = new ApplicationInstance();
+        Application localApplication = new Application();
+        localApplication.setName(this.application.name());
+        localApplication.setExtensions(this.application.visualExtensions());
+        applicationInstance.setApplication(localApplication);
+        List<Worker> workers = new ArrayList<>();
+        workers.add(WorkerUtils.getLocalWorker(this.container, this.worker));
+        applicationInstance.setWorkers(workers);
+        applicationInstance.setFormats(new ArrayList<>());
+        applicationInstances.add(applicationInstance);
     }
 
     private boolean isApplicationContainsLocalWorker(ApplicationInstance localApp) {
@@ -451,6 +517,34 @@ public class RegistryListener implements Registry {
         }
     }
 
+    private Optional<FitableAddressChanges> queryChanges(List<FitableInfo> fitables) {
+        if (System.currentTimeMillis() < this.changesRetryTime) {
+            return Optional.empty();
+        }
+        long revision = this.registryRevision;
+        try {
+            log.debug("Prepare to query fitable changes. [revision={}]", revision);
+            FitableAddressChanges changes =
+                    this.registryService.queryFitableChanges(fitables, this.worker.id(), revision, CHANGES_WAIT_MILLIS);
+            if (changes == null) {
+                return Optional.empty();
+            }
+            log.debug("Query fitable changes successfully. [revision={}, latestRevision={}, changed={}]",
+                    revision,
+                    changes.getRevision(),
+                    changes.getInstances().size());
+            return Optional.of(changes);
+        } catch (Exception e) {
+            // 注册中心不支持变化查询时，每次都先尝试会多一次失败的远程调用，因此在一段时间内直接使用分批查询。
+            this.changesRetryTime = System.currentTimeMillis() + CHANGES_RETRY_INTERVAL_MILLIS;
+            log.info("Failed to query fitable changes, fallback to query all fitables. [retryAfter={}ms, cause={}]",
+                    CHANGES_RETRY_INTERVAL_MILLIS,
+                    e.getMessage());
+            log.debug("Failed to query fitable changes.", e);
+            return Optional.empty();
+        }
+    }
+
     private void unsubscribe(List<FitableInfo> fitables) {
         if (CollectionUtils.isEmpty(fitables)) {
             return;
@@ -494,4 +588,36 @@ public class RegistryListener implements Registry {
             this.fitableInstancesCache.put(fitableKey, Optional.of(fitableInstance));
         }
     }
+
+    /**
+     * 表示指定服务实现的地址列表快照。
+     * <p>快照由构建时所使用的缓存对象和本地进程是否提供该服务实现共同决定，当缓存被拉取或推送的结果替换，或本地服务实现发生变化时，快照即失效。</p>
+     */
+    private static final class TargetSnapshot {
+        private final long version;
+        private final Optional<FitableAddressInstance> source;
+        private final boolean isLocal;
+        private final List<Target> targets;
+
+        private TargetSnapshot(long version, Optional<FitableAddressInstance> source, boolean isLocal,
+                List<Target> targets) {
+            this.version = version;
+            this.source = source;
+            this.isLocal = isLocal;
+            this.targets = targets;
+        }
+
+        private boolean isValid(Optional<FitableAddressInstance> current, boolean isLocal) {
+            return this.source == current && this.isLocal == isLocal;
+        }
+
+        private List<Target> targets() {
+            return this.targets;
+        }
+
+        @Override
+        public String toString() {
+            return StringUtils.format("/{\"version\": {0}, \"targets\": {1}/}", this.version, this.targets);
+        }
+    }
 }
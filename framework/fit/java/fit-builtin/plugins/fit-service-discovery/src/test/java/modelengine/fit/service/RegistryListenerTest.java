@@ -140,6 +140,24 @@ class RegistryListenerTest {
         assertDoesNotThrow(() -> this.registryListener.notifyFitables(fitableInstances));
     }
 
+    @Test
+    @DisplayName("提供 RegistryListener 类有实例时，复用地址列表快照直到收到新的服务地址")
+    void givenRegistryListenerWhenQueryTwiceThenReuseSnapshot() {
+        UniqueFitableId fitableId = UniqueFitableId.create(GENERICABLE_ID, VERSION, FITABLE_ID, VERSION);
+        this.createRegister("push-and-pull", true);
+        List<Target> first = this.registryListener.getFitableTargets(fitableId);
+        List<Target> second = this.registryListener.getFitableTargets(fitableId);
+        assertThat(second).isSameAs(first);
+        Address another = new Address();
+        another.setHost("B");
+        FitableAddressInstance fitableInstance = this.buildServiceAddress(this.fitable, another);
+        this.registryListener.notifyFitables(Collections.singletonList(fitableInstance));
+        List<Target> third = this.registryListener.getFitableTargets(fitableId);
+        assertThat(third).isNotSameAs(first).hasSize(1);
+        assertThat(third.get(0).host()).isEqualTo("B");
+        assertThat(fitableInstance.getApplicationInstances().get(0).getWorkers()).hasSize(1);
+    }
+
     private Address buildAddress() {
         Address constructAddress = new Address();
         constructAddress.setHost("A");
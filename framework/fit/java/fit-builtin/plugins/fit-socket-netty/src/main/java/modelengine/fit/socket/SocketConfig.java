@@ -0,0 +1,67 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.socket;
+
+/**
+ * 表示 FIT 长连接通信的配置。
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public interface SocketConfig {
+    /**
+     * 获取服务端监听的端口。
+     *
+     * @return 表示服务端监听的端口的 {@code int}。
+     */
+    int getPort();
+
+    /**
+     * 获取服务端向注册中心注册的端口。
+     * <p>未配置时，注册的端口与监听的端口相同。</p>
+     *
+     * @return 表示服务端向注册中心注册的端口的 {@code int}。
+     */
+    int getToRegisterPort();
+
+    /**
+     * 获取客户端和服务端的 I/O 线程数。
+     * <p>不大于 {@code 0} 时，使用 Netty 的默认线程数。</p>
+     *
+     * @return 表示 I/O 线程数的 {@code int}。
+     */
+    int getIoThreadNum();
+
+    /**
+     * 获取服务端业务线程池的核心线程数。
+     *
+     * @return 表示服务端业务线程池的核心线程数的 {@code int}。
+     */
+    int getCoreThreadNum();
+
+    /**
+     * 获取服务端业务线程池的最大线程数。
+     *
+     * @return 表示服务端业务线程池的最大线程数的 {@code int}。
+     */
+    int getMaxThreadNum();
+
+    /**
+     * 获取服务端业务线程池的等待队列数。
+     *
+     * @return 表示服务端业务线程池的等待队列数的 {@code int}。
+     */
+    int getQueueCapacity();
+
+    /**
+     * 获取帧的最大长度。
+     * <p>单位为字节，超过最大长度的帧将导致连接被关闭。</p>
+     *
+     * @return 表示帧的最大长度的 {@code int}。
+     */
+    int getMaxFrameLength();
+}
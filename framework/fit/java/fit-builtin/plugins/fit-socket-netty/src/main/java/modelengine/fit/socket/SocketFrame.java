@@ -0,0 +1,116 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.socket;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+/**
+ * 表示 FIT 长连接通信中的一个二进制帧。
+ * <p>请求帧的元数据为序列化后的 {@link modelengine.fitframework.serialization.RequestMetadata}，响应帧的元数据为序列化后的
+ * {@link modelengine.fitframework.serialization.ResponseMetadata}，二者均包含 TLV。消息体为按照元数据中的数据格式序列化后的
+ * 请求参数或响应结果。同一连接上的多个调用通过关联标识区分，响应帧的关联标识与对应请求帧的关联标识相同。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public final class SocketFrame {
+    /** 表示请求帧的类型。 */
+    public static final byte TYPE_REQUEST = 0;
+
+    /** 表示响应帧的类型。 */
+    public static final byte TYPE_RESPONSE = 1;
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final byte type;
+    private final long correlationId;
+    private final byte[] metadata;
+    private final byte[] payload;
+
+    private SocketFrame(byte type, long correlationId, byte[] metadata, byte[] payload) {
+        this.type = type;
+        this.correlationId = correlationId;
+        this.metadata = notNull(metadata, "The frame metadata cannot be null.");
+        this.payload = payload == null ? EMPTY : payload;
+    }
+
+    /**
+     * 创建一个请求帧。
+     *
+     * @param correlationId 表示调用的关联标识的 {@code long}。
+     * @param metadata 表示序列化后的请求元数据的 {@code byte[]}。
+     * @param payload 表示序列化后的请求参数的 {@code byte[]}。
+     * @return 表示创建的请求帧的 {@link SocketFrame}。
+     * @throws IllegalArgumentException 当 {@code metadata} 为 {@code null} 时。
+     */
+    public static SocketFrame request(long correlationId, byte[] metadata, byte[] payload) {
+        return new SocketFrame(TYPE_REQUEST, correlationId, metadata, payload);
+    }
+
+    /**
+     * 创建一个响应帧。
+     *
+     * @param correlationId 表示调用的关联标识的 {@code long}。
+     * @param metadata 表示序列化后的响应元数据的 {@code byte[]}。
+     * @param payload 表示序列化后的响应结果的 {@code byte[]}，为 {@code null} 时表示没有响应结果。
+     * @return 表示创建的响应帧的 {@link SocketFrame}。
+     * @throws IllegalArgumentException 当 {@code metadata} 为 {@code null} 时。
+     */
+    public static SocketFrame response(long correlationId, byte[] metadata, byte[] payload) {
+        return new SocketFrame(TYPE_RESPONSE, correlationId, metadata, payload);
+    }
+
+    /**
+     * 创建一个指定类型的帧。
+     *
+     * @param type 表示帧的类型的 {@code byte}。
+     * @param correlationId 表示调用的关联标识的 {@code long}。
+     * @param metadata 表示序列化后的元数据的 {@code byte[]}。
+     * @param payload 表示序列化后的消息体的 {@code byte[]}。
+     * @return 表示创建的帧的 {@link SocketFrame}。
+     * @throws IllegalArgumentException 当 {@code metadata} 为 {@code null} 时。
+     */
+    static SocketFrame of(byte type, long correlationId, byte[] metadata, byte[] payload) {
+        return new SocketFrame(type, correlationId, metadata, payload);
+    }
+
+    /**
+     * 获取帧的类型。
+     *
+     * @return 表示帧的类型的 {@code byte}，为 {@link #TYPE_REQUEST} 或 {@link #TYPE_RESPONSE}。
+     */
+    public byte type() {
+        return this.type;
+    }
+
+    /**
+     * 获取调用的关联标识。
+     *
+     * @return 表示调用的关联标识的 {@code long}。
+     */
+    public long correlationId() {
+        return this.correlationId;
+    }
+
+    /**
+     * 获取序列化后的元数据。
+     *
+     * @return 表示序列化后的元数据的 {@code byte[]}。
+     */
+    public byte[] metadata() {
+        return this.metadata;
+    }
+
+    /**
+     * 获取序列化后的消息体。
+     *
+     * @return 表示序列化后的消息体的 {@code byte[]}，没有消息体时为空数组。
+     */
+    public byte[] payload() {
+        return this.payload;
+    }
+}
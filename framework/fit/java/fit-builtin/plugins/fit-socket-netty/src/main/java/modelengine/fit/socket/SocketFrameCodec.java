@@ -0,0 +1,106 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.socket;
+
+import static modelengine.fitframework.inspection.Validation.greaterThan;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageCodec;
+import io.netty.handler.codec.CorruptedFrameException;
+import io.netty.handler.codec.TooLongFrameException;
+import modelengine.fitframework.util.StringUtils;
+
+import java.util.List;
+
+/**
+ * 表示 {@link SocketFrame} 的编解码器。
+ * <p>帧的格式如下，其中长度为其后所有内容的字节数，所有整数均为大端序：</p>
+ * <pre>
+ * +--------+------+----------------+-----------------+----------+---------+
+ * | length | type | correlation id | metadata length | metadata | payload |
+ * | int32  | int8 | int64          | int32           | bytes    | bytes   |
+ * +--------+------+----------------+-----------------+----------+---------+
+ * </pre>
+ * <p>每个连接需要使用独立的编解码器。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class SocketFrameCodec extends ByteToMessageCodec<SocketFrame> {
+    private static final int LENGTH_FIELD_LENGTH = 4;
+    private static final int HEADER_LENGTH = 1 + 8 + 4;
+
+    private final int maxFrameLength;
+
+    /**
+     * 使用帧的最大长度初始化 {@link SocketFrameCodec} 类的新实例。
+     *
+     * @param maxFrameLength 表示帧的最大长度的 {@code int}，不包含长度字段本身。
+     * @throws IllegalArgumentException 当 {@code maxFrameLength} 不大于帧头的长度时。
+     */
+    public SocketFrameCodec(int maxFrameLength) {
+        this.maxFrameLength = greaterThan(maxFrameLength,
+                HEADER_LENGTH,
+                "The max frame length must be greater than {0}. [maxFrameLength={1}]",
+                HEADER_LENGTH,
+                maxFrameLength);
+    }
+
+    @Override
+    protected void encode(ChannelHandlerContext ctx, SocketFrame frame, ByteBuf out) {
+        int length = HEADER_LENGTH + frame.metadata().length + frame.payload().length;
+        if (length > this.maxFrameLength) {
+            throw new TooLongFrameException(StringUtils.format(
+                    "The frame to send is too long. [length={0}, maxFrameLength={1}]",
+                    length,
+                    this.maxFrameLength));
+        }
+        out.ensureWritable(LENGTH_FIELD_LENGTH + length);
+        out.writeInt(length);
+        out.writeByte(frame.type());
+        out.writeLong(frame.correlationId());
+        out.writeInt(frame.metadata().length);
+        out.writeBytes(frame.metadata());
+        out.writeBytes(frame.payload());
+    }
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+        if (in.readableBytes() < LENGTH_FIELD_LENGTH) {
+            return;
+        }
+        int length = in.getInt(in.readerIndex());
+        if (length < HEADER_LENGTH || length > this.maxFrameLength) {
+            in.skipBytes(in.readableBytes());
+            throw new TooLongFrameException(StringUtils.format(
+                    "Illegal frame length. [length={0}, maxFrameLength={1}]",
+                    length,
+                    this.maxFrameLength));
+        }
+        if (in.readableBytes() < LENGTH_FIELD_LENGTH + length) {
+            return;
+        }
+        in.skipBytes(LENGTH_FIELD_LENGTH);
+        byte type = in.readByte();
+        long correlationId = in.readLong();
+        int metadataLength = in.readInt();
+        int payloadLength = length - HEADER_LENGTH - metadataLength;
+        if (metadataLength < 0 || payloadLength < 0) {
+            in.skipBytes(in.readableBytes());
+            throw new CorruptedFrameException(StringUtils.format(
+                    "Illegal frame metadata length. [length={0}, metadataLength={1}]",
+                    length,
+                    metadataLength));
+        }
+        byte[] metadata = new byte[metadataLength];
+        in.readBytes(metadata);
+        byte[] payload = new byte[payloadLength];
+        in.readBytes(payload);
+        out.add(SocketFrame.of(type, correlationId, metadata, payload));
+    }
+}
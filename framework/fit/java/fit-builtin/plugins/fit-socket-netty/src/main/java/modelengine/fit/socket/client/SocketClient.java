@@ -0,0 +1,221 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.socket.client;
+
+import static io.netty.handler.flush.FlushConsolidationHandler.DEFAULT_EXPLICIT_FLUSH_AFTER_FLUSHES;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.MultiThreadIoEventLoopGroup;
+import io.netty.channel.nio.NioIoHandler;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.flush.FlushConsolidationHandler;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import modelengine.fit.client.Address;
+import modelengine.fit.client.Client;
+import modelengine.fit.client.Request;
+import modelengine.fit.client.Response;
+import modelengine.fit.serialization.MessageSerializer;
+import modelengine.fit.serialization.util.MessageSerializerUtils;
+import modelengine.fit.socket.SocketConfig;
+import modelengine.fit.socket.SocketFrame;
+import modelengine.fit.socket.SocketFrameCodec;
+import modelengine.fitframework.annotation.Component;
+import modelengine.fitframework.conf.runtime.CommunicationProtocol;
+import modelengine.fitframework.conf.runtime.WorkerConfig;
+import modelengine.fitframework.exception.ClientException;
+import modelengine.fitframework.flowable.Publisher;
+import modelengine.fitframework.inspection.Nonnull;
+import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.ioc.annotation.PreDestroy;
+import modelengine.fitframework.plugin.Plugin;
+import modelengine.fitframework.plugin.PluginStartedObserver;
+import modelengine.fitframework.plugin.PluginStoppedObserver;
+import modelengine.fitframework.serialization.ResponseMetadata;
+import modelengine.fitframework.serialization.TagLengthValues;
+import modelengine.fitframework.serialization.tlv.TlvUtils;
+import modelengine.fitframework.util.LazyLoader;
+import modelengine.fitframework.util.StringUtils;
+import modelengine.fitframework.util.TypeUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 为 Broker 提供基于 TCP 长连接调用的客户端。
+ * <p>客户端到每个服务端地址只维护一个长连接，所有调用复用该连接并通过关联标识区分，连接断开后在下一次调用时重新建立。同步和异步的
+ * 通信方式都以等待响应帧的方式完成，不需要额外的异步任务轮询。</p>
+ * <p>参数或返回值为响应式类型的调用需要流式传输，当前客户端不支持，负载均衡时会通过 {@link #isSupported(Method)} 跳过长连接
+ * 协议，改用其他协议调用。</p>
+ * <p>调用上下文中的超时时间换算为毫秒后为 {@code 0} 时表示不限制等待时间，与 Http 客户端一致，建立连接和等待响应都不会超时。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@Component
+public class SocketClient implements Client, PluginStartedObserver, PluginStoppedObserver {
+    private static final String PROTOCOL_NAME = StringUtils.toLowerCase(CommunicationProtocol.SOCKET.name());
+
+    private final BeanContainer container;
+    private final WorkerConfig workerConfig;
+    private final SocketConfig config;
+    private final LazyLoader<EventLoopGroup> group;
+    private final Map<String, SocketConnection> connections = new ConcurrentHashMap<>();
+    private final Map<Integer, MessageSerializer> serializers = new ConcurrentHashMap<>();
+
+    /**
+     * 创建基于 TCP 长连接调用的客户端。
+     *
+     * @param container 表示 Bean 容器的 {@link BeanContainer}。
+     * @param workerConfig 表示当前进程的配置的 {@link WorkerConfig}。
+     * @param config 表示长连接通信配置的 {@link SocketConfig}。
+     */
+    public SocketClient(BeanContainer container, WorkerConfig workerConfig, SocketConfig config) {
+        this.container = notNull(container, "The bean container cannot be null.");
+        this.workerConfig = notNull(workerConfig, "The worker config cannot be null.");
+        this.config = notNull(config, "The socket config cannot be null.");
+        this.group = new LazyLoader<>(() -> new MultiThreadIoEventLoopGroup(Math.max(config.getIoThreadNum(), 0),
+                new DefaultThreadFactory("fit-socket-client", true),
+                NioIoHandler.newFactory()));
+    }
+
+    @Override
+    public Response requestResponse(@Nonnull Request request) {
+        if (isReactor(request.returnType()) || this.hasReactorArgument(request)) {
+            throw new ClientException(StringUtils.format(
+                    "Reactive invocation is not supported by socket client. [genericableId={0}]",
+                    request.metadata().genericableId()));
+        }
+        TagLengthValues tagLengthValues = request.metadata().tagValues();
+        TlvUtils.setWorkerId(tagLengthValues, this.workerConfig.id());
+        TlvUtils.setWorkerInstanceId(tagLengthValues, this.workerConfig.instanceId());
+        byte[] payload = this.getMessageSerializer(request.metadata().dataFormat())
+                .serializeRequest(request.dataTypes(), request.data());
+        long timeout = request.context().timeoutUnit().toMillis(request.context().timeout());
+        SocketConnection connection = this.getConnection(request.address(), timeout);
+        SocketFrame frame = connection.exchange(request.metadata().serialize(), payload, timeout);
+        ResponseMetadata metadata = ResponseMetadata.deserialize(frame.metadata());
+        if (metadata.code() != ResponseMetadata.CODE_OK) {
+            return Response.create(metadata, null);
+        }
+        Object data = this.getMessageSerializer(metadata.dataFormat())
+                .deserializeResponse(request.returnType(), frame.payload());
+        return Response.create(metadata, data);
+    }
+
+    @Override
+    public boolean isSupported(Method method) {
+        if (method == null) {
+            return true;
+        }
+        if (isReactor(method.getGenericReturnType())) {
+            return false;
+        }
+        for (Type type : method.getGenericParameterTypes()) {
+            if (isReactor(type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean hasReactorArgument(Request request) {
+        for (Type type : request.dataTypes()) {
+            if (isReactor(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isReactor(Type type) {
+        return type != null && Publisher.class.isAssignableFrom(TypeUtils.toClass(type));
+    }
+
+    private MessageSerializer getMessageSerializer(int format) {
+        MessageSerializer serializer = this.serializers.get(format);
+        if (serializer == null) {
+            serializer = this.serializers.computeIfAbsent(format,
+                    key -> MessageSerializerUtils.getMessageSerializer(this.container, key)
+                            .orElseThrow(() -> new IllegalStateException(StringUtils.format(
+                                    "MessageSerializer required but not found. [format={0}]",
+                                    key))));
+        }
+        return serializer;
+    }
+
+    private SocketConnection getConnection(Address address, long timeout) {
+        String key = address.host() + ":" + address.port();
+        SocketConnection connection = this.connections.get(key);
+        if (connection == null || connection.isClosed()) {
+            // 映射中只登记发起连接的结果，等待连接建立在映射之外进行，避免阻塞其他地址的调用。
+            connection = this.connections.compute(key,
+                    (ignored, existing) -> existing != null && !existing.isClosed()
+                            ? existing
+                            : this.connect(address, key, timeout));
+        }
+        connection.awaitConnected(timeout);
+        return connection;
+    }
+
+    private SocketConnection connect(Address address, String key, long timeout) {
+        SocketConnection connection = new SocketConnection(key);
+        Bootstrap bootstrap = new Bootstrap().group(this.group.get())
+                .channel(NioSocketChannel.class)
+                .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                .option(ChannelOption.TCP_NODELAY, true)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) Math.min(Math.max(timeout, 0), Integer.MAX_VALUE))
+                .handler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel channel) {
+                        channel.pipeline()
+                                .addLast(new FlushConsolidationHandler(DEFAULT_EXPLICIT_FLUSH_AFTER_FLUSHES, true))
+                                .addLast(new SocketFrameCodec(SocketClient.this.config.getMaxFrameLength()))
+                                .addLast(connection);
+                    }
+                });
+        connection.connecting(bootstrap.connect(address.host(), address.port()));
+        return connection;
+    }
+
+    /**
+     * 关闭所有的连接，并释放客户端使用的线程。
+     */
+    @PreDestroy
+    public void close() {
+        this.connections.values().forEach(SocketConnection::close);
+        this.connections.clear();
+        if (this.group.isLoaded()) {
+            this.group.get().shutdownGracefully();
+        }
+    }
+
+    @Override
+    public Set<String> getSupportedProtocols() {
+        return Collections.singleton(PROTOCOL_NAME);
+    }
+
+    @Override
+    public void onPluginStarted(Plugin plugin) {
+        this.serializers.clear();
+    }
+
+    @Override
+    public void onPluginStopped(Plugin plugin) {
+        this.serializers.clear();
+    }
+}
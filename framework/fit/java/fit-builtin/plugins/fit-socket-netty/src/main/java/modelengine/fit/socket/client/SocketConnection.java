@@ -0,0 +1,168 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.socket.client;
+
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import modelengine.fit.socket.SocketFrame;
+import modelengine.fitframework.exception.ClientException;
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.util.StringUtils;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 表示客户端到一个服务端地址的长连接。
+ * <p>连接上同时存在的多个调用通过关联标识区分：发送请求帧前为调用分配新的关联标识并登记等待中的结果，收到响应帧后根据其关联标识完成
+ * 对应的结果。连接断开时，所有等待中的调用都以异常结束。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+final class SocketConnection extends SimpleChannelInboundHandler<SocketFrame> {
+    private static final Logger log = Logger.get(SocketConnection.class);
+
+    private final String address;
+    private final Map<Long, CompletableFuture<SocketFrame>> pending = new ConcurrentHashMap<>();
+    private final AtomicLong nextCorrelationId = new AtomicLong();
+    private volatile ChannelFuture connectFuture;
+
+    SocketConnection(String address) {
+        this.address = address;
+    }
+
+    /**
+     * 设置建立连接的结果。
+     *
+     * @param connectFuture 表示建立连接的结果的 {@link ChannelFuture}。
+     */
+    void connecting(ChannelFuture connectFuture) {
+        this.connectFuture = connectFuture;
+    }
+
+    /**
+     * 判断连接是否已经不可用。
+     * <p>正在建立中的连接仍然可用，建立失败或已经断开的连接不可用。</p>
+     *
+     * @return 如果连接已经不可用，则返回 {@code true}，否则，返回 {@code false}。
+     */
+    boolean isClosed() {
+        ChannelFuture future = this.connectFuture;
+        return future.isDone() && (!future.isSuccess() || !future.channel().isActive());
+    }
+
+    /**
+     * 等待连接建立完成。
+     *
+     * @param timeout 表示等待的超时时间的 {@code long}，单位为毫秒，不大于 {@code 0} 时表示不限制等待时间。
+     * @throws ClientException 当连接建立失败或等待超时时。
+     */
+    void awaitConnected(long timeout) {
+        ChannelFuture future = this.connectFuture;
+        if (timeout <= 0) {
+            future.awaitUninterruptibly();
+        } else if (!future.awaitUninterruptibly(timeout)) {
+            throw new ClientException(StringUtils.format("Connect socket server timeout. [address={0}, timeout={1}ms]",
+                    this.address,
+                    timeout));
+        }
+        if (!future.isSuccess()) {
+            throw new ClientException(StringUtils.format("Failed to connect socket server. [address={0}]",
+                    this.address), future.cause());
+        }
+    }
+
+    /**
+     * 关闭连接。
+     */
+    void close() {
+        this.connectFuture.channel().close();
+    }
+
+    /**
+     * 发送请求帧，并等待对应的响应帧。
+     *
+     * @param metadata 表示序列化后的请求元数据的 {@code byte[]}。
+     * @param payload 表示序列化后的请求参数的 {@code byte[]}。
+     * @param timeout 表示等待响应的超时时间的 {@code long}，单位为毫秒，不大于 {@code 0} 时表示不限制等待时间。
+     * @return 表示对应的响应帧的 {@link SocketFrame}。
+     * @throws ClientException 当发送失败、连接断开或等待超时时。
+     */
+    SocketFrame exchange(byte[] metadata, byte[] payload, long timeout) {
+        long correlationId = this.nextCorrelationId.incrementAndGet();
+        CompletableFuture<SocketFrame> future = new CompletableFuture<>();
+        this.pending.put(correlationId, future);
+        SocketFrame request = SocketFrame.request(correlationId, metadata, payload);
+        this.connectFuture.channel().writeAndFlush(request).addListener(written -> {
+            if (!written.isSuccess()) {
+                this.fail(correlationId, written.cause());
+            }
+        });
+        try {
+            return timeout <= 0 ? future.get() : future.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ClientException(StringUtils.format("Socket request timeout. [address={0}, timeout={1}ms]",
+                    this.address,
+                    timeout), e);
+        } catch (ExecutionException e) {
+            throw new ClientException(StringUtils.format("Failed to send socket request. [address={0}, cause={1}]",
+                    this.address,
+                    e.getCause().getMessage()), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ClientException("Socket request is interrupted.", e);
+        } finally {
+            this.pending.remove(correlationId);
+        }
+    }
+
+    private void fail(long correlationId, Throwable cause) {
+        CompletableFuture<SocketFrame> future = this.pending.remove(correlationId);
+        if (future != null) {
+            future.completeExceptionally(cause);
+        }
+    }
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, SocketFrame frame) {
+        if (frame.type() != SocketFrame.TYPE_RESPONSE) {
+            log.warn("Unexpected socket frame type, ignored. [type={}, address={}]", frame.type(), this.address);
+            return;
+        }
+        CompletableFuture<SocketFrame> future = this.pending.remove(frame.correlationId());
+        if (future == null) {
+            log.debug("No pending socket request, response ignored. [correlationId={}, address={}]",
+                    frame.correlationId(),
+                    this.address);
+            return;
+        }
+        future.complete(frame);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        ClientException cause =
+                new ClientException(StringUtils.format("Socket connection closed. [address={0}]", this.address));
+        this.pending.keySet().forEach(correlationId -> this.fail(correlationId, cause));
+        super.channelInactive(ctx);
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        log.warn("Socket connection occurs exception, close it. [address={}, cause={}]",
+                this.address,
+                cause.getMessage());
+        ctx.close();
+    }
+}
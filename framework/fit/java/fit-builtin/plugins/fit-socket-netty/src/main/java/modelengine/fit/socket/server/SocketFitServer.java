@@ -0,0 +1,173 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.socket.server;
+
+import static io.netty.handler.flush.FlushConsolidationHandler.DEFAULT_EXPLICIT_FLUSH_AFTER_FLUSHES;
+import static modelengine.fitframework.inspection.Validation.greaterThan;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.MultiThreadIoEventLoopGroup;
+import io.netty.channel.nio.NioIoHandler;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.flush.FlushConsolidationHandler;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import modelengine.fit.server.FitServer;
+import modelengine.fit.server.StartServerException;
+import modelengine.fit.socket.SocketConfig;
+import modelengine.fit.socket.SocketFrameCodec;
+import modelengine.fitframework.annotation.Component;
+import modelengine.fitframework.broker.Endpoint;
+import modelengine.fitframework.conf.runtime.CommunicationProtocol;
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.runtime.FitRuntime;
+import modelengine.fitframework.runtime.FitRuntimeStartedObserver;
+import modelengine.fitframework.schedule.ThreadPoolExecutor;
+import modelengine.fitframework.util.StringUtils;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor.AbortPolicy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基于 TCP 长连接的 FIT 服务器。
+ * <p>客户端与服务器之间的每个连接上可以同时存在多个调用，调用通过 {@link modelengine.fit.socket.SocketFrame} 的关联标识区分。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@Component(name = "socket")
+public class SocketFitServer implements FitServer, FitRuntimeStartedObserver {
+    private static final Logger log = Logger.get(SocketFitServer.class);
+    private static final String PROTOCOL_NAME = StringUtils.toLowerCase(CommunicationProtocol.SOCKET.name());
+
+    private final SocketRequestDispatcher dispatcher;
+    private final SocketConfig config;
+    private final int port;
+    private final int toRegisterPort;
+
+    private EventLoopGroup bossGroup;
+    private EventLoopGroup workerGroup;
+    private ThreadPoolExecutor executor;
+    private Channel channel;
+
+    /**
+     * 创建基于 TCP 长连接的 FIT 服务器。
+     *
+     * @param dispatcher 表示请求帧的分发器的 {@link SocketRequestDispatcher}。
+     * @param config 表示长连接通信配置的 {@link SocketConfig}。
+     */
+    public SocketFitServer(SocketRequestDispatcher dispatcher, SocketConfig config) {
+        this.dispatcher = notNull(dispatcher, "The socket request dispatcher cannot be null.");
+        this.config = notNull(config, "The socket config cannot be null.");
+        this.port = greaterThan(config.getPort(), 0, "The server socket port must be positive.");
+        log.debug("Config 'plugin.socket.netty.port' is {}.", this.port);
+        this.toRegisterPort = config.getToRegisterPort() > 0 ? config.getToRegisterPort() : this.port;
+        log.debug("Config 'plugin.socket.netty.to-register-port' is {}.", this.toRegisterPort);
+    }
+
+    @Override
+    public void onRuntimeStarted(FitRuntime runtime) {
+        this.start();
+    }
+
+    @Override
+    public synchronized void start() throws StartServerException {
+        if (this.channel != null) {
+            return;
+        }
+        this.bossGroup = new MultiThreadIoEventLoopGroup(1,
+                new DefaultThreadFactory("fit-socket-boss", true),
+                NioIoHandler.newFactory());
+        this.workerGroup = new MultiThreadIoEventLoopGroup(Math.max(this.config.getIoThreadNum(), 0),
+                new DefaultThreadFactory("fit-socket-worker", true),
+                NioIoHandler.newFactory());
+        this.executor = this.createExecutor();
+        SocketRequestHandler handler = new SocketRequestHandler(this.dispatcher, this.executor);
+        ServerBootstrap bootstrap = new ServerBootstrap().group(this.bossGroup, this.workerGroup)
+                .channel(NioServerSocketChannel.class)
+                .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                .childOption(ChannelOption.TCP_NODELAY, true)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel channel) {
+                        channel.pipeline()
+                                .addLast(new FlushConsolidationHandler(DEFAULT_EXPLICIT_FLUSH_AFTER_FLUSHES, true))
+                                .addLast(new SocketFrameCodec(SocketFitServer.this.config.getMaxFrameLength()))
+                                .addLast(handler);
+                    }
+                });
+        ChannelFuture future = bootstrap.bind(this.port).awaitUninterruptibly();
+        if (!future.isSuccess()) {
+            this.release();
+            throw new StartServerException(StringUtils.format("Failed to start socket server. [port={0}]", this.port),
+                    future.cause());
+        }
+        this.channel = future.channel();
+        log.info("Start netty socket server successfully. [port={}]", this.port);
+    }
+
+    private ThreadPoolExecutor createExecutor() {
+        int coreThreadNum = Math.max(this.config.getCoreThreadNum(), 1);
+        return ThreadPoolExecutor.custom()
+                .threadPoolName("fit-socket-executor")
+                .awaitTermination(3, TimeUnit.SECONDS)
+                .isImmediateShutdown(true)
+                .corePoolSize(coreThreadNum)
+                .maximumPoolSize(Math.max(this.config.getMaxThreadNum(), coreThreadNum))
+                .keepAliveTime(60, TimeUnit.SECONDS)
+                .workQueueCapacity(Math.max(this.config.getQueueCapacity(), 0))
+                .isDaemonThread(true)
+                .exceptionHandler((thread, cause) -> log.error("Failed to handle socket request.", cause))
+                .rejectedExecutionHandler(new AbortPolicy())
+                .build();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (this.channel == null) {
+            return;
+        }
+        this.channel.close().awaitUninterruptibly();
+        this.channel = null;
+        this.release();
+        log.info("Terminate socket server successfully.");
+    }
+
+    private void release() {
+        this.bossGroup.shutdownGracefully();
+        this.workerGroup.shutdownGracefully();
+        try {
+            this.executor.shutdown();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public List<Endpoint> endpoints() {
+        return Collections.singletonList(Endpoint.custom()
+                .protocol(PROTOCOL_NAME, CommunicationProtocol.SOCKET.code())
+                .port(this.toRegisterPort)
+                .build());
+    }
+
+    @Override
+    public Map<String, String> extensions() {
+        return Collections.emptyMap();
+    }
+}
@@ -0,0 +1,222 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.socket.server;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fit.serialization.MessageSerializer;
+import modelengine.fit.serialization.util.MessageSerializerUtils;
+import modelengine.fit.socket.SocketFrame;
+import modelengine.fitframework.annotation.Component;
+import modelengine.fitframework.broker.Genericable;
+import modelengine.fitframework.broker.LocalGenericableRepository;
+import modelengine.fitframework.broker.server.Dispatcher;
+import modelengine.fitframework.broker.server.Response;
+import modelengine.fitframework.conf.runtime.WorkerConfig;
+import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.plugin.Plugin;
+import modelengine.fitframework.plugin.PluginStartedObserver;
+import modelengine.fitframework.plugin.PluginStoppedObserver;
+import modelengine.fitframework.serialization.RequestMetadata;
+import modelengine.fitframework.serialization.ResponseMetadata;
+import modelengine.fitframework.serialization.TagLengthValues;
+import modelengine.fitframework.serialization.Version;
+import modelengine.fitframework.serialization.tlv.TlvUtils;
+import modelengine.fitframework.util.StringUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 表示 FIT 长连接通信中请求帧的分发器。
+ * <p>请求帧中的元数据被反序列化后交给 {@link Dispatcher} 执行，执行结果被序列化为响应帧。与 Http 通信方式一样，每个（服务，服务版本，
+ * 数据格式）在第一次被请求时解析为一个分发条目并缓存，插件启动或停止时清空缓存。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@Component
+public class SocketRequestDispatcher implements PluginStartedObserver, PluginStoppedObserver {
+    private static final Logger log = Logger.get(SocketRequestDispatcher.class);
+    private static final int CODE_ERROR = -1;
+
+    private final BeanContainer container;
+    private final Dispatcher dispatcher;
+    private final LocalGenericableRepository repository;
+    private final WorkerConfig workerConfig;
+    private final Map<DispatchKey, DispatchEntry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 创建 FIT 长连接通信中请求帧的分发器。
+     *
+     * @param container 表示 Bean 容器的 {@link BeanContainer}。
+     * @param dispatcher 表示服务调用的分发器的 {@link Dispatcher}。
+     * @param repository 表示本地服务仓的 {@link LocalGenericableRepository}。
+     * @param workerConfig 表示当前进程配置的 {@link WorkerConfig}。
+     */
+    public SocketRequestDispatcher(BeanContainer container, Dispatcher dispatcher,
+            LocalGenericableRepository repository, WorkerConfig workerConfig) {
+        this.container = notNull(container, "The bean container cannot be null.");
+        this.dispatcher = notNull(dispatcher, "The dispatcher cannot be null.");
+        this.repository = notNull(repository, "The local genericable repository cannot be null.");
+        this.workerConfig = notNull(workerConfig, "The worker config cannot be null.");
+    }
+
+    /**
+     * 执行请求帧对应的服务调用。
+     * <p>请求无法解析或执行时，返回包含错误信息的响应帧，而不抛出异常。</p>
+     *
+     * @param request 表示请求帧的 {@link SocketFrame}。
+     * @return 表示与请求帧具有相同关联标识的响应帧的 {@link SocketFrame}。
+     */
+    public SocketFrame dispatch(SocketFrame request) {
+        RequestMetadata metadata;
+        try {
+            metadata = RequestMetadata.deserialize(request.metadata());
+        } catch (RuntimeException e) {
+            log.warn("Failed to deserialize socket request metadata. [cause={}]", e.getMessage());
+            return this.error(request, 0, e);
+        }
+        try {
+            DispatchEntry entry = this.getDispatchEntry(metadata);
+            Object[] data = entry.messageSerializer.deserializeRequest(entry.argumentTypes, request.payload());
+            Response result = this.dispatcher.dispatch(metadata, data);
+            byte[] payload = null;
+            if (result.metadata().code() == ResponseMetadata.CODE_OK) {
+                payload = entry.messageSerializer.serializeResponse(result.type(), result.data());
+            }
+            return SocketFrame.response(request.correlationId(), result.metadata().serialize(), payload);
+        } catch (RuntimeException e) {
+            log.warn("Failed to dispatch socket request. [genericableId={}, fitableId={}, cause={}]",
+                    metadata.genericableId(),
+                    metadata.fitableId(),
+                    e.getMessage());
+            return this.error(request, metadata.dataFormat(), e);
+        }
+    }
+
+    /**
+     * 创建表示请求无法得到正常响应的错误响应帧。
+     * <p>用于请求被拒绝执行，或正常的响应帧无法写回（例如超过帧的最大长度）的情况。</p>
+     *
+     * @param request 表示请求帧的 {@link SocketFrame}。
+     * @param cause 表示无法得到正常响应的原因的 {@link Throwable}。
+     * @return 表示与请求帧具有相同关联标识的错误响应帧的 {@link SocketFrame}。
+     */
+    public SocketFrame error(SocketFrame request, Throwable cause) {
+        return this.error(request, 0, cause);
+    }
+
+    private SocketFrame error(SocketFrame request, int dataFormat, Throwable cause) {
+        TagLengthValues tagLengthValues = TagLengthValues.create();
+        TlvUtils.setWorkerId(tagLengthValues, this.workerConfig.id());
+        TlvUtils.setWorkerInstanceId(tagLengthValues, this.workerConfig.instanceId());
+        ResponseMetadata metadata = ResponseMetadata.custom()
+                .dataFormat(dataFormat)
+                .code(CODE_ERROR)
+                .message(StringUtils.blankIf(cause.getMessage(), cause.getClass().getName()))
+                .tagValues(tagLengthValues)
+                .build();
+        return SocketFrame.response(request.correlationId(), metadata.serialize(), null);
+    }
+
+    private DispatchEntry getDispatchEntry(RequestMetadata metadata) {
+        DispatchKey key =
+                new DispatchKey(metadata.genericableId(), metadata.genericableVersion(), metadata.dataFormat());
+        DispatchEntry entry = this.entries.get(key);
+        if (entry == null) {
+            // 解析失败时不缓存，服务注册之后的请求可以正常解析。
+            entry = this.entries.computeIfAbsent(key, this::createDispatchEntry);
+        }
+        return entry;
+    }
+
+    private DispatchEntry createDispatchEntry(DispatchKey key) {
+        String genericableVersion = key.genericableVersion.toString();
+        Genericable genericable = this.repository.get(key.genericableId, genericableVersion)
+                .orElseThrow(() -> new IllegalStateException(StringUtils.format(
+                        "No genericable. [genericableId={0}, genericableVersion={1}]",
+                        key.genericableId,
+                        genericableVersion)));
+        Method method = genericable.method().method();
+        notNull(method, "The genericable method cannot be null. [genericableId={0}]", genericable.id());
+        MessageSerializer messageSerializer = MessageSerializerUtils.getMessageSerializer(this.container, key.format)
+                .orElseThrow(() -> new IllegalStateException(StringUtils.format(
+                        "MessageSerializer required but not found. [format={0}]",
+                        key.format)));
+        Type[] argumentTypes =
+                Stream.of(method.getParameters()).map(Parameter::getParameterizedType).toArray(Type[]::new);
+        return new DispatchEntry(argumentTypes, messageSerializer);
+    }
+
+    @Override
+    public void onPluginStarted(Plugin plugin) {
+        this.entries.clear();
+    }
+
+    @Override
+    public void onPluginStopped(Plugin plugin) {
+        this.entries.clear();
+    }
+
+    /**
+     * 表示分发条目的键。
+     * <p>服务版本按照其三段数字比较，避免每次请求都将其格式化为字符串。</p>
+     */
+    private static final class DispatchKey {
+        private final String genericableId;
+        private final Version genericableVersion;
+        private final int versionNumber;
+        private final int format;
+
+        DispatchKey(String genericableId, Version genericableVersion, int format) {
+            this.genericableId = genericableId;
+            this.genericableVersion = genericableVersion;
+            this.versionNumber = (Byte.toUnsignedInt(genericableVersion.major()) << 16)
+                    | (Byte.toUnsignedInt(genericableVersion.minor()) << 8)
+                    | Byte.toUnsignedInt(genericableVersion.revision());
+            this.format = format;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof DispatchKey)) {
+                return false;
+            }
+            DispatchKey another = (DispatchKey) obj;
+            return this.format == another.format && this.versionNumber == another.versionNumber
+                    && Objects.equals(this.genericableId, another.genericableId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.genericableId, this.versionNumber, this.format);
+        }
+    }
+
+    /**
+     * 表示预先解析的分发条目。
+     */
+    private static final class DispatchEntry {
+        private final Type[] argumentTypes;
+        private final MessageSerializer messageSerializer;
+
+        DispatchEntry(Type[] argumentTypes, MessageSerializer messageSerializer) {
+            this.argumentTypes = argumentTypes;
+            this.messageSerializer = messageSerializer;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.socket.server;
+
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import modelengine.fit.socket.SocketFrame;
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.schedule.Task;
+import modelengine.fitframework.schedule.ThreadPoolExecutor;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 表示服务端处理请求帧的处理器。
+ * <p>请求帧在业务线程池中执行，I/O 线程只负责编解码，因此同一连接上的多个调用可以并发执行，响应帧按照执行完成的顺序写回。</p>
+ * <p>响应帧写回失败时，改为写回携带相同关联标识的错误响应帧；错误响应帧也无法写回时关闭连接，由调用方重新建立连接。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@ChannelHandler.Sharable
+final class SocketRequestHandler extends SimpleChannelInboundHandler<SocketFrame> {
+    private static final Logger log = Logger.get(SocketRequestHandler.class);
+
+    private final SocketRequestDispatcher dispatcher;
+    private final ThreadPoolExecutor executor;
+
+    SocketRequestHandler(SocketRequestDispatcher dispatcher, ThreadPoolExecutor executor) {
+        this.dispatcher = dispatcher;
+        this.executor = executor;
+    }
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, SocketFrame frame) {
+        if (frame.type() != SocketFrame.TYPE_REQUEST) {
+            log.warn("Unexpected socket frame type, ignored. [type={}, remote={}]",
+                    frame.type(),
+                    ctx.channel().remoteAddress());
+            return;
+        }
+        try {
+            this.executor.execute(Task.builder()
+                    .runnable(() -> this.respond(ctx, frame, this.dispatcher.dispatch(frame)))
+                    .buildDisposable());
+        } catch (RejectedExecutionException e) {
+            log.warn("Socket request is rejected. [remote={}]", ctx.channel().remoteAddress());
+            this.respond(ctx, frame, this.dispatcher.error(frame, e));
+        }
+    }
+
+    private void respond(ChannelHandlerContext ctx, SocketFrame request, SocketFrame response) {
+        ctx.writeAndFlush(response).addListener(future -> {
+            if (future.isSuccess() || !ctx.channel().isActive()) {
+                return;
+            }
+            // 响应帧无法写回（例如超过帧的最大长度）时，写回错误响应帧，避免调用方一直等待到超时。
+            log.warn("Failed to write socket response. [remote={}, correlationId={}, cause={}]",
+                    ctx.channel().remoteAddress(),
+                    request.correlationId(),
+                    future.cause().getMessage());
+            ctx.writeAndFlush(this.dispatcher.error(request, future.cause()))
+                    .addListener(ChannelFutureListener.CLOSE_ON_FAILURE);
+        });
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        log.warn("Socket connection occurs exception, close it. [remote={}, cause={}]",
+                ctx.channel().remoteAddress(),
+                cause.getMessage());
+        ctx.close();
+    }
+}
@@ -0,0 +1,154 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.socket.support;
+
+import modelengine.fit.socket.SocketConfig;
+import modelengine.fitframework.annotation.AcceptConfigValues;
+import modelengine.fitframework.annotation.Component;
+
+/**
+ * {@link SocketConfig} 的默认实现。
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@Component
+@AcceptConfigValues("plugin.socket.netty")
+public class DefaultSocketConfig implements SocketConfig {
+    /**
+     * 配置项：{@code 'port'}。
+     */
+    private int port;
+
+    /**
+     * 配置项：{@code 'to-register-port'}。
+     */
+    private int toRegisterPort;
+
+    /**
+     * 配置项：{@code 'io-thread-num'}。
+     */
+    private int ioThreadNum;
+
+    /**
+     * 配置项：{@code 'core-thread-num'}。
+     */
+    private int coreThreadNum;
+
+    /**
+     * 配置项：{@code 'max-thread-num'}。
+     */
+    private int maxThreadNum;
+
+    /**
+     * 配置项：{@code 'queue-capacity'}。
+     */
+    private int queueCapacity;
+
+    /**
+     * 配置项：{@code 'max-frame-length'}。
+     */
+    private int maxFrameLength;
+
+    @Override
+    public int getPort() {
+        return this.port;
+    }
+
+    /**
+     * 设置监听端口。
+     *
+     * @param port 表示监听端口的 {@code int}。
+     */
+    public void setPort(int port) {
+        this.port = port;
+    }
+
+    @Override
+    public int getToRegisterPort() {
+        return this.toRegisterPort;
+    }
+
+    /**
+     * 设置注册端口。
+     *
+     * @param toRegisterPort 表示注册端口的 {@code int}。
+     */
+    public void setToRegisterPort(int toRegisterPort) {
+        this.toRegisterPort = toRegisterPort;
+    }
+
+    @Override
+    public int getIoThreadNum() {
+        return this.ioThreadNum;
+    }
+
+    /**
+     * 设置I/O 线程数量。
+     *
+     * @param ioThreadNum 表示I/O 线程数量的 {@code int}。
+     */
+    public void setIoThreadNum(int ioThreadNum) {
+        this.ioThreadNum = ioThreadNum;
+    }
+
+    @Override
+    public int getCoreThreadNum() {
+        return this.coreThreadNum;
+    }
+
+    /**
+     * 设置核心线程数量。
+     *
+     * @param coreThreadNum 表示核心线程数量的 {@code int}。
+     */
+    public void setCoreThreadNum(int coreThreadNum) {
+        this.coreThreadNum = coreThreadNum;
+    }
+
+    @Override
+    public int getMaxThreadNum() {
+        return this.maxThreadNum;
+    }
+
+    /**
+     * 设置最大线程数量。
+     *
+     * @param maxThreadNum 表示最大线程数量的 {@code int}。
+     */
+    public void setMaxThreadNum(int maxThreadNum) {
+        this.maxThreadNum = maxThreadNum;
+    }
+
+    @Override
+    public int getQueueCapacity() {
+        return this.queueCapacity;
+    }
+
+    /**
+     * 设置等待队列大小。
+     *
+     * @param queueCapacity 表示等待队列大小的 {@code int}。
+     */
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    @Override
+    public int getMaxFrameLength() {
+        return this.maxFrameLength;
+    }
+
+    /**
+     * 设置帧的最大长度。
+     *
+     * @param maxFrameLength 表示帧的最大长度的 {@code int}。
+     */
+    public void setMaxFrameLength(int maxFrameLength) {
+        this.maxFrameLength = maxFrameLength;
+    }
+}
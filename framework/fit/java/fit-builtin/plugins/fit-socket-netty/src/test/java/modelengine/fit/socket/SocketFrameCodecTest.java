@@ -0,0 +1,80 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.socket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.DecoderException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 表示 {@link SocketFrameCodec} 的单元测试。
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@DisplayName("测试 SocketFrameCodec")
+public class SocketFrameCodecTest {
+    @Test
+    @DisplayName("编码后的帧被拆分为多段到达时，可以解码出原始的帧")
+    void shouldDecodeFrameWhenArrivedInPieces() {
+        EmbeddedChannel channel = new EmbeddedChannel(new SocketFrameCodec(1024));
+        SocketFrame frame = SocketFrame.request(42L, bytes("metadata"), bytes("payload"));
+        assertThat(channel.writeOutbound(frame)).isTrue();
+        ByteBuf encoded = channel.readOutbound();
+        assertThat(encoded.readableBytes()).isEqualTo(4 + 13 + 8 + 7);
+
+        EmbeddedChannel decoder = new EmbeddedChannel(new SocketFrameCodec(1024));
+        assertThat(decoder.writeInbound(encoded.readRetainedSlice(3))).isFalse();
+        assertThat(decoder.writeInbound(encoded.readRetainedSlice(10))).isFalse();
+        assertThat(decoder.writeInbound(encoded.readRetainedSlice(encoded.readableBytes()))).isTrue();
+        encoded.release();
+        SocketFrame actual = decoder.readInbound();
+        assertThat(actual.type()).isEqualTo(SocketFrame.TYPE_REQUEST);
+        assertThat(actual.correlationId()).isEqualTo(42L);
+        assertThat(actual.metadata()).isEqualTo(bytes("metadata"));
+        assertThat(actual.payload()).isEqualTo(bytes("payload"));
+    }
+
+    @Test
+    @DisplayName("同一段数据中包含多个帧时，依次解码出所有的帧")
+    void shouldDecodeAllFramesInOneBuffer() {
+        EmbeddedChannel encoder = new EmbeddedChannel(new SocketFrameCodec(1024));
+        encoder.writeOutbound(SocketFrame.response(1L, bytes("a"), null), SocketFrame.response(2L, bytes("b"), null));
+        ByteBuf first = encoder.readOutbound();
+        ByteBuf second = encoder.readOutbound();
+
+        EmbeddedChannel decoder = new EmbeddedChannel(new SocketFrameCodec(1024));
+        decoder.writeInbound(Unpooled.wrappedBuffer(first, second));
+        SocketFrame actualFirst = decoder.readInbound();
+        SocketFrame actualSecond = decoder.readInbound();
+        assertThat(actualFirst.correlationId()).isEqualTo(1L);
+        assertThat(actualFirst.payload()).isEmpty();
+        assertThat(actualSecond.correlationId()).isEqualTo(2L);
+        assertThat(actualSecond.metadata()).isEqualTo(bytes("b"));
+    }
+
+    @Test
+    @DisplayName("帧的长度超过最大长度时，抛出异常")
+    void shouldThrowWhenFrameIsTooLong() {
+        EmbeddedChannel decoder = new EmbeddedChannel(new SocketFrameCodec(16));
+        ByteBuf buffer = Unpooled.buffer().writeInt(17).writeZero(17);
+        assertThatThrownBy(() -> decoder.writeInbound(buffer)).isInstanceOf(DecoderException.class);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
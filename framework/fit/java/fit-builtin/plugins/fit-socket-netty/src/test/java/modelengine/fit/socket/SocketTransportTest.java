@@ -0,0 +1,251 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.socket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import modelengine.fit.client.Address;
+import modelengine.fit.client.Request;
+import modelengine.fit.client.RequestContext;
+import modelengine.fit.client.Response;
+import modelengine.fit.serialization.MessageSerializer;
+import modelengine.fit.socket.client.SocketClient;
+import modelengine.fit.socket.server.SocketFitServer;
+import modelengine.fit.socket.server.SocketRequestDispatcher;
+import modelengine.fitframework.broker.CommunicationType;
+import modelengine.fitframework.conf.runtime.WorkerConfig;
+import modelengine.fitframework.flowable.Choir;
+import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.ioc.BeanFactory;
+import modelengine.fitframework.serialization.RequestMetadata;
+import modelengine.fitframework.serialization.ResponseMetadata;
+import modelengine.fitframework.serialization.TagLengthValues;
+import modelengine.fitframework.serialization.Version;
+import modelengine.fitframework.util.ThreadUtils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 表示 {@link SocketClient} 与 {@link SocketFitServer} 之间通信的单元测试。
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@DisplayName("测试基于长连接的通信")
+public class SocketTransportTest {
+    private static final int FORMAT = 1;
+
+    private SocketFitServer server;
+    private SocketClient client;
+    private int port;
+
+    @BeforeEach
+    void setup() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            this.port = socket.getLocalPort();
+        }
+        SocketConfig config = mock(SocketConfig.class);
+        when(config.getPort()).thenReturn(this.port);
+        when(config.getCoreThreadNum()).thenReturn(16);
+        when(config.getMaxThreadNum()).thenReturn(16);
+        when(config.getQueueCapacity()).thenReturn(64);
+        when(config.getMaxFrameLength()).thenReturn(1024 * 1024);
+        SocketRequestDispatcher dispatcher = mock(SocketRequestDispatcher.class);
+        when(dispatcher.dispatch(any())).thenAnswer(invocation -> echo(invocation.getArgument(0)));
+        when(dispatcher.error(any(), any())).thenAnswer(invocation -> failure(invocation.getArgument(0),
+                invocation.<Throwable>getArgument(1).getMessage()));
+        this.server = new SocketFitServer(dispatcher, config);
+        this.server.start();
+
+        BeanFactory factory = mock(BeanFactory.class);
+        when(factory.get()).thenReturn(new StringSerializer());
+        BeanContainer container = mock(BeanContainer.class);
+        when(container.all(MessageSerializer.class)).thenReturn(Collections.singletonList(factory));
+        WorkerConfig workerConfig = mock(WorkerConfig.class);
+        when(workerConfig.id()).thenReturn("worker");
+        when(workerConfig.instanceId()).thenReturn("instance");
+        this.client = new SocketClient(container, workerConfig, config);
+    }
+
+    @AfterEach
+    void teardown() {
+        this.client.close();
+        this.server.stop();
+    }
+
+    @Test
+    @DisplayName("同一连接上并发的多个调用，各自收到对应的响应")
+    void shouldMultiplexConcurrentCallsOnOneConnection() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Response>> futures = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                String argument = "call-" + i;
+                futures.add(executor.submit(() -> this.client.requestResponse(this.request(argument))));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                Response response = futures.get(i).get(10, TimeUnit.SECONDS);
+                assertThat(response.metadata().code()).isEqualTo(ResponseMetadata.CODE_OK);
+                assertThat(response.data()).isEqualTo("CALL-" + i);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("服务端返回错误码时，响应中不包含数据")
+    void shouldReturnNullDataWhenCodeIsNotOk() {
+        Response response = this.client.requestResponse(this.request("fail"));
+        assertThat(response.metadata().code()).isEqualTo(-1);
+        assertThat(response.metadata().message()).isEqualTo("failed");
+        assertThat(response.data()).isNull();
+    }
+
+    @Test
+    @DisplayName("响应帧超过最大长度无法写回时，调用方收到携带相同关联标识的错误响应")
+    void shouldReturnErrorWhenResponseFrameIsTooLong() {
+        Response response = this.client.requestResponse(this.request("huge"));
+        assertThat(response.metadata().code()).isEqualTo(-1);
+        assertThat(response.metadata().message()).contains("too long");
+        assertThat(response.data()).isNull();
+
+        Response next = this.client.requestResponse(this.request("call-0"));
+        assertThat(next.data()).isEqualTo("CALL-0");
+    }
+
+    @Test
+    @DisplayName("调用的超时时间换算为毫秒后为 0 时，不限制建立连接和等待响应的时间")
+    void shouldNotTimeoutWhenTimeoutIsZero() {
+        Response response = this.client.requestResponse(this.request("call-1", 500, TimeUnit.MICROSECONDS));
+        assertThat(response.metadata().code()).isEqualTo(ResponseMetadata.CODE_OK);
+        assertThat(response.data()).isEqualTo("CALL-1");
+    }
+
+    @Test
+    @DisplayName("参数或返回值为响应式类型的服务方法，客户端不支持调用")
+    void shouldNotSupportReactiveMethod() throws NoSuchMethodException {
+        assertThat(this.client.isSupported(Service.class.getMethod("plain", String.class))).isTrue();
+        assertThat(this.client.isSupported(Service.class.getMethod("stream", String.class))).isFalse();
+        assertThat(this.client.isSupported(Service.class.getMethod("consume", Choir.class))).isFalse();
+    }
+
+    private Request request(String argument) {
+        return this.request(argument, 10, TimeUnit.SECONDS);
+    }
+
+    private Request request(String argument, long timeout, TimeUnit timeoutUnit) {
+        RequestMetadata metadata = RequestMetadata.custom()
+                .dataFormat(FORMAT)
+                .genericableId("g")
+                .genericableVersion(Version.builder("1.0.0").build())
+                .fitableId("f")
+                .fitableVersion(Version.builder("1.0.0").build())
+                .tagValues(TagLengthValues.create())
+                .build();
+        return Request.custom()
+                .protocol("socket")
+                .address(Address.create("127.0.0.1", this.port))
+                .metadata(metadata)
+                .dataTypes(new Type[] {String.class})
+                .data(new Object[] {argument})
+                .returnType(String.class)
+                .context(RequestContext.create(timeout,
+                        timeoutUnit,
+                        CommunicationType.SYNC,
+                        Collections.emptyMap()))
+                .build();
+    }
+
+    private static SocketFrame echo(SocketFrame request) {
+        String argument = new String(request.payload(), StandardCharsets.UTF_8);
+        if (argument.equals("fail")) {
+            return failure(request, "failed");
+        }
+        if (argument.equals("huge")) {
+            ResponseMetadata metadata = ResponseMetadata.custom().dataFormat(FORMAT).code(0).message("").build();
+            return SocketFrame.response(request.correlationId(), metadata.serialize(), new byte[2 * 1024 * 1024]);
+        }
+        // 让后到达的请求先完成，使响应的顺序与请求的顺序不同。
+        ThreadUtils.sleep(64 - Integer.parseInt(argument.substring("call-".length())) % 8 * 8);
+        ResponseMetadata metadata = ResponseMetadata.custom().dataFormat(FORMAT).code(0).message("").build();
+        return SocketFrame.response(request.correlationId(),
+                metadata.serialize(),
+                argument.toUpperCase().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static SocketFrame failure(SocketFrame request, String message) {
+        ResponseMetadata metadata = ResponseMetadata.custom().dataFormat(FORMAT).code(-1).message(message).build();
+        return SocketFrame.response(request.correlationId(), metadata.serialize(), null);
+    }
+
+    /**
+     * 表示用于判断客户端是否支持调用的服务。
+     */
+    private interface Service {
+        String plain(String input);
+
+        Choir<String> stream(String input);
+
+        String consume(Choir<String> inputs);
+    }
+
+    /**
+     * 表示以字符串作为唯一参数和返回值的消息序列化器。
+     */
+    private static class StringSerializer implements MessageSerializer {
+        @Override
+        public byte[] serializeRequest(Type[] argumentTypes, Object[] arguments) {
+            return ((String) arguments[0]).getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public Object[] deserializeRequest(Type[] argumentTypes, byte[] serialized) {
+            return new Object[] {new String(serialized, StandardCharsets.UTF_8)};
+        }
+
+        @Override
+        public <T> byte[] serializeResponse(Type returnType, T returnData) {
+            return ((String) returnData).getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T deserializeResponse(Type returnType, byte[] serialized) {
+            return (T) new String(serialized, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public boolean isSupported(Method method) {
+            return true;
+        }
+
+        @Override
+        public int getFormat() {
+            return FORMAT;
+        }
+    }
+}
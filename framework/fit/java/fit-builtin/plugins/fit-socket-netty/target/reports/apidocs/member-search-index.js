@@ -0,0 +1 @@
+memberSearchIndex = [{"p":"modelengine.fit.socket","c":"SocketFrame","l":"correlationId()"},{"p":"modelengine.fit.socket","c":"SocketFrameCodec","l":"decode(ChannelHandlerContext, ByteBuf, List<Object>)","u":"decode(io.netty.channel.ChannelHandlerContext,io.netty.buffer.ByteBuf,java.util.List)"},{"p":"modelengine.fit.socket.support","c":"DefaultSocketConfig","l":"DefaultSocketConfig()","u":"%3Cinit%3E()"},{"p":"modelengine.fit.socket.server","c":"SocketRequestDispatcher","l":"dispatch(SocketFrame)","u":"dispatch(modelengine.fit.socket.SocketFrame)"},{"p":"modelengine.fit.socket","c":"SocketFrameCodec","l":"encode(ChannelHandlerContext, SocketFrame, ByteBuf)","u":"encode(io.netty.channel.ChannelHandlerContext,modelengine.fit.socket.SocketFrame,io.netty.buffer.ByteBuf)"},{"p":"modelengine.fit.socket.server","c":"SocketFitServer","l":"endpoints()"},{"p":"modelengine.fit.socket.server","c":"SocketFitServer","l":"extensions()"},{"p":"modelengine.fit.socket","c":"SocketConfig","l":"getCoreThreadNum()"},{"p":"modelengine.fit.socket.support","c":"DefaultSocketConfig","l":"getCoreThreadNum()"},{"p":"modelengine.fit.socket","c":"SocketConfig","l":"getIoThreadNum()"},{"p":"modelengine.fit.socket.support","c":"DefaultSocketConfig","l":"getIoThreadNum()"},{"p":"modelengine.fit.socket","c":"SocketConfig","l":"getMaxFrameLength()"},{"p":"modelengine.fit.socket.support","c":"DefaultSocketConfig","l":"getMaxFrameLength()"},{"p":"modelengine.fit.socket","c":"SocketConfig","l":"getMaxThreadNum()"},{"p":"modelengine.fit.socket.support","c":"DefaultSocketConfig","l":"getMaxThreadNum()"},{"p":"modelengine.fit.socket","c":"SocketConfig","l":"getPort()"},{"p":"modelengine.fit.socket.support","c":"DefaultSocketConfig","l":"getPort()"},{"p":"modelengine.fit.socket","c":"SocketConfig","l":"getQueueCapacity()"},{"p":"modelengine.fit.socket.support","c":"DefaultSocketConfig","l":"getQueueCapacity()"},{"p":"modelengine.fit.socket.client","c":"SocketClient","l":"getSupportedProtocols()"},{"p":"modelengine.fit.socket","c":"SocketConfig","l":"getToRegisterPort()"},{"p":"modelengine.fit.socket.support","c":"DefaultSocketConfig","l":"getToRegisterPort()"},{"p":"modelengine.fit.socket","c":"SocketFrame","l":"metadata()"},{"p":"modelengine.fit.socket.client","c":"SocketClient","l":"onPluginStarted(Plugin)","u":"onPluginStarted(modelengine.fitframework.plugin.Plugin)"},{"p":"modelengine.fit.socket.server","c":"SocketRequestDispatcher","l":"onPluginStarted(Plugin)","u":"onPluginStarted(modelengine.fitframework.plugin.Plugin)"},{"p":"modelengine.fit.socket.client","c":"SocketClient","l":"onPluginStopped(Plugin)","u":"onPluginStopped(modelengine.fitframework.plugin.Plugin)"},{"p":"modelengine.fit.socket.server","c":"SocketRequestDispatcher","l":"onPluginStopped(Plugin)","u":"onPluginStopped(modelengine.fitframework.plugin.Plugin)"},{"p":"modelengine.fit.socket.server","c":"SocketFitServer","l":"onRuntimeStarted(FitRuntime)","u":"onRuntimeStarted(modelengine.fitframework.runtime.FitRuntime)"},{"p":"modelengine.fit.socket","c":"SocketFrame","l":"payload()"},{"p":"modelengine.fit.socket.server","c":"SocketRequestDispatcher","l":"reject(SocketFrame, Throwable)","u":"reject(modelengine.fit.socket.SocketFrame,java.lang.Throwable)"},{"p":"modelengine.fit.socket","c":"SocketFrame","l":"request(long, byte[], byte[])","u":"request(long,byte[],byte[])"},{"p":"modelengine.fit.socket.client","c":"SocketClient","l":"requestResponse(Request)","u":"requestResponse(modelengine.fit.client.Request)"},{"p":"modelengine.fit.socket","c":"SocketFrame","l":"response(long, byte[], byte[])","u":"response(long,byte[],byte[])"},{"p":"modelengine.fit.socket.support","c":"DefaultSocketConfig","l":"setCoreThreadNum(int)"},{"p":"modelengine.fit.socket.support","c":"DefaultSocketConfig","l":"setIoThreadNum(int)"},{"p":"modelengine.fit.socket.support","c":"DefaultSocketConfig","l":"setMaxFrameLength(int)"},{"p":"modelengine.fit.socket.support","c":"DefaultSocketConfig","l":"setMaxThreadNum(int)"},{"p":"modelengine.fit.socket.support","c":"DefaultSocketConfig","l":"setPort(int)"},{"p":"modelengine.fit.socket.support","c":"DefaultSocketConfig","l":"setQueueCapacity(int)"},{"p":"modelengine.fit.socket.support","c":"DefaultSocketConfig","l":"setToRegisterPort(int)"},{"p":"modelengine.fit.socket.client","c":"SocketClient","l":"SocketClient(BeanContainer, WorkerConfig, SocketConfig)","u":"%3Cinit%3E(modelengine.fitframework.ioc.BeanContainer,modelengine.fitframework.conf.runtime.WorkerConfig,modelengine.fit.socket.SocketConfig)"},{"p":"modelengine.fit.socket.server","c":"SocketFitServer","l":"SocketFitServer(SocketRequestDispatcher, SocketConfig)","u":"%3Cinit%3E(modelengine.fit.socket.server.SocketRequestDispatcher,modelengine.fit.socket.SocketConfig)"},{"p":"modelengine.fit.socket","c":"SocketFrameCodec","l":"SocketFrameCodec(int)","u":"%3Cinit%3E(int)"},{"p":"modelengine.fit.socket.server","c":"SocketRequestDispatcher","l":"SocketRequestDispatcher(BeanContainer, Dispatcher, LocalGenericableRepository, WorkerConfig)","u":"%3Cinit%3E(modelengine.fitframework.ioc.BeanContainer,modelengine.fitframework.broker.server.Dispatcher,modelengine.fitframework.broker.LocalGenericableRepository,modelengine.fitframework.conf.runtime.WorkerConfig)"},{"p":"modelengine.fit.socket.server","c":"SocketFitServer","l":"start()"},{"p":"modelengine.fit.socket.server","c":"SocketFitServer","l":"stop()"},{"p":"modelengine.fit.socket","c":"SocketFrame","l":"TYPE_REQUEST"},{"p":"modelengine.fit.socket","c":"SocketFrame","l":"TYPE_RESPONSE"},{"p":"modelengine.fit.socket","c":"SocketFrame","l":"type()"}];updateSearchResults();
\ No newline at end of file
@@ -0,0 +1 @@
+packageSearchIndex = [{"l":"All Packages","u":"allpackages-index.html"},{"l":"modelengine.fit.socket"},{"l":"modelengine.fit.socket.client"},{"l":"modelengine.fit.socket.server"},{"l":"modelengine.fit.socket.support"}];updateSearchResults();
\ No newline at end of file
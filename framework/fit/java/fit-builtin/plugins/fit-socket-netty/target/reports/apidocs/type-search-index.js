@@ -0,0 +1 @@
+typeSearchIndex = [{"l":"All Classes and Interfaces","u":"allclasses-index.html"},{"p":"modelengine.fit.socket.support","l":"DefaultSocketConfig"},{"p":"modelengine.fit.socket.client","l":"SocketClient"},{"p":"modelengine.fit.socket","l":"SocketConfig"},{"p":"modelengine.fit.socket.server","l":"SocketFitServer"},{"p":"modelengine.fit.socket","l":"SocketFrame"},{"p":"modelengine.fit.socket","l":"SocketFrameCodec"},{"p":"modelengine.fit.socket.server","l":"SocketRequestDispatcher"}];updateSearchResults();
\ No newline at end of file
@@ -8,6 +8,7 @@ package modelengine.fit.client;
 
 import modelengine.fitframework.inspection.Nonnull;
 
+import java.lang.reflect.Method;
 import java.util.Set;
 
 /**
@@ -31,4 +32,15 @@ public interface Client {
      * @return 表示支持的协议号集合的 {@link Set}{@code <}{@link String}{@code >}。
      */
     Set<String> getSupportedProtocols();
+
+    /**
+     * 判断当前客户端是否可以调用指定的服务方法。
+     * <p>默认可以调用所有的服务方法。当客户端无法传输某些参数或返回值时，负载均衡会跳过该客户端支持的协议，选择其他协议。</p>
+     *
+     * @param method 表示待调用的服务方法的 {@link Method}。
+     * @return 如果可以调用，则返回 {@code true}，否则，返回 {@code false}。
+     */
+    default boolean isSupported(Method method) {
+        return true;
+    }
 }
@@ -0,0 +1,26 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 表示 Http 处理器不会发生阻塞。
+ * <p>被标记的 Http 处理器在执行过程中不能进行任何阻塞操作（例如远程调用、读写文件或等待锁），
+ * 当 Http 服务器支持时，会在完整接收请求之后直接在 IO 线程上执行，以节省线程切换的开销。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface NonBlocking {}
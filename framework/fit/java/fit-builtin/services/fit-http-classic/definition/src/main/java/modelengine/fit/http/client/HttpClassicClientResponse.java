@@ -12,6 +12,7 @@ import modelengine.fit.http.entity.TextEntity;
 import modelengine.fit.http.entity.TextEventStreamEntity;
 
 import java.io.Closeable;
+import java.io.InputStream;
 import java.util.Optional;
 
 /**
@@ -50,4 +51,13 @@ public interface HttpClassicClientResponse<T> extends HttpClassicResponse, Close
      * @return 表示消息体的结构化数据的二进制内容的 {@code byte[]}。
      */
     byte[] entityBytes();
+
+    /**
+     * 获取 Http 消息的消息体的输入流。
+     * <p>输入流直接读取消息体，不会将消息体完整地读入内存，且只能被读取一次。如果已经调用过 {@link #entityBytes()}
+     * 方法，则返回读取已缓存内容的输入流。如果已经调用过 {@link #entity()} 方法来获取消息体，则无法调用当前方法。</p>
+     *
+     * @return 表示消息体的输入流的 {@link InputStream}。
+     */
+    InputStream entityStream();
 }
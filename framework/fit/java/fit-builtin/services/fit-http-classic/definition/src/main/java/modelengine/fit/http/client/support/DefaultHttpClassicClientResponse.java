@@ -25,6 +25,7 @@ import modelengine.fitframework.util.LazyLoader;
 import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.StringUtils;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Type;
@@ -72,6 +73,14 @@ public class DefaultHttpClassicClientResponse<T> extends AbstractHttpClassicResp
         return this.entityBytesLoader.get();
     }
 
+    @Override
+    public InputStream entityStream() {
+        if (this.entityBytesLoader.isLoaded()) {
+            return new ByteArrayInputStream(this.entityBytes());
+        }
+        return this.clientResponse.getBodyInputStream();
+    }
+
     @Override
     public Optional<ObjectEntity<T>> objectEntity() {
         return ObjectUtils.cast(this.entity());
@@ -44,6 +44,16 @@ public interface HttpHandler extends HttpResourceSupplier {
      */
     void handle(HttpClassicServerRequest request, HttpClassicServerResponse response) throws DoHttpHandlerException;
 
+    /**
+     * 判断处理器是否不会发生阻塞。
+     * <p>不会发生阻塞的处理器可以由 Http 服务器直接在 IO 线程上执行。</p>
+     *
+     * @return 如果处理器不会发生阻塞，则返回 {@code true}，否则，返回 {@code false}。
+     */
+    default boolean isNonBlocking() {
+        return false;
+    }
+
     /**
      * 表示 Http 处理器的相关静态信息。
      */
@@ -78,6 +88,13 @@ public interface HttpHandler extends HttpResourceSupplier {
          */
         boolean isDocumentIgnored();
 
+        /**
+         * 获取 Http 处理器是否不会发生阻塞。
+         *
+         * @return 如果不会发生阻塞，则返回 {@code true}，否则，返回 {@code false}。
+         */
+        boolean isNonBlocking();
+
         /**
          * 获取 Http 处理器的简短摘要。
          *
@@ -136,6 +153,14 @@ public interface HttpHandler extends HttpResourceSupplier {
              */
             Builder isDocumentIgnored(boolean ignored);
 
+            /**
+             * 向当前构建器中设置 Http 处理器是否不会发生阻塞的标记。
+             *
+             * @param nonBlocking 表示待设置的 Http 处理器是否不会发生阻塞的标记的 {@code boolean}。
+             * @return 表示当前构建器的 {@link Builder}。
+             */
+            Builder isNonBlocking(boolean nonBlocking);
+
             /**
              * 向当前构建器中设置 Http 处理器的简短摘要。
              *
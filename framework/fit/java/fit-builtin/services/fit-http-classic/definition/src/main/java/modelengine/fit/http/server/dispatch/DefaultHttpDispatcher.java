@@ -20,19 +20,14 @@ import modelengine.fit.http.server.RegisterHttpHandlerException;
 import modelengine.fit.http.server.dispatch.support.DefaultMappingTree;
 import modelengine.fitframework.log.Logger;
 import modelengine.fitframework.resource.UrlUtils;
-import modelengine.fitframework.util.MapUtils;
-import modelengine.fitframework.util.OptionalUtils;
 import modelengine.fitframework.util.StringUtils;
-import modelengine.fitframework.util.wildcard.PathPattern;
-import modelengine.fitframework.util.wildcard.Pattern;
 
-import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
 /**
  * 表示 {@link HttpDispatcher} 的默认实现。
@@ -42,43 +37,18 @@ import java.util.stream.Collectors;
  */
 public class DefaultHttpDispatcher implements HttpDispatcher {
     private static final Logger log = Logger.get(DefaultHttpDispatcher.class);
-    private static final char PATH_SEPARATOR = '/';
 
     /**
-     * 表示路径样式中没有路径变量的处理器集合。
-     * <p>其键值对映射分别表示的含义如下：
-     *     <ul>
-     *         <li>第一层映射中的键表示 Http 请求的方法的 {@link HttpRequestMethod}。</li>
-     *         <li>第二层映射中的键表示路径样式，如 {@code /a/b}，当前映射中的路径样式不存在变量，即没有类似
-     *         {@code /a/*} 这样的路径样式。</li>
-     *         <li>第二层映射中的值为其对应的 Http 请求的处理器的 {@link HttpHandler}。</li>
-     *     </ul>
-     * </p>
-     */
-    private final Map<HttpRequestMethod, Map<String, HttpHandler>> noPathVariableHandlers = new ConcurrentHashMap<>();
-
-    /**
-     * 表示路径样式中存在路径变量的处理器集合。
+     * 表示所有的处理器集合。
      * <p>其键值对映射分别表示的含义如下：
      *     <ul>
      *         <li>映射中的键表示 Http 请求的方法的 {@link HttpRequestMethod}。</li>
-     *         <li>映射中的值表示 Http 请求路径的匹配树的 {@link MappingTree}{@code <}{@link HttpHandler}{@code >}。</li>
+     *         <li>映射中的值表示 Http 请求路径的匹配树的 {@link MappingTree}{@code <}{@link HttpHandler}{@code >}，
+     *         匹配树中同时包含普通路径、含路径变量的路径以及含 {@code '**'} 通配符的路径。</li>
      *     </ul>
      * </p>
      */
-    private final Map<HttpRequestMethod, MappingTree<HttpHandler>> pathVariableHandlers = new ConcurrentHashMap<>();
-
-    /**
-     * 表示路径样式中存在 {@code '**'} 通配符的处理器集合。
-     * <p>其键值对映射分别表示的含义如下：
-     *     <ul>
-     *         <li>第一层映射中的键表示 Http 请求的方法的 {@link HttpRequestMethod}。</li>
-     *         <li>第二层映射中的键表示路径样式，如 {@code /**}。</li>
-     *         <li>第二层映射中的值为其对应的 Http 请求的处理器的 {@link HttpHandler}。</li>
-     *     </ul>
-     * </p>
-     */
-    private final Map<HttpRequestMethod, Map<String, HttpHandler>> wildcardHandlers = new ConcurrentHashMap<>();
+    private final Map<HttpRequestMethod, MappingTree<HttpHandler>> handlers = new ConcurrentHashMap<>();
 
     private final Map<String, HttpHandlerGroup> groups = new ConcurrentHashMap<>();
 
@@ -86,49 +56,20 @@ public class DefaultHttpDispatcher implements HttpDispatcher {
     public HttpHandler dispatch(HttpClassicServerRequest request, HttpClassicResponse response) {
         log.debug("Remote address accessed. [path={}, remote={}]",
                 request.path(), request.remoteAddress().hostAddress());
-        return OptionalUtils.get(() -> this.selectFromNoPathVariableHandlers(request))
-                .orElse(() -> this.selectFromPathVariableHandlers(request))
-                .orElse(() -> this.selectFromWildcardHandlers(request))
-                .orElseThrow(() -> {
-                    String message = StringUtils.format("No http handler for http request. [method={0}, path={1}]",
-                            request.method().name(),
-                            request.path());
-                    return new HttpHandlerNotFoundException(message);
-                });
-    }
-
-    private Optional<HttpHandler> selectFromNoPathVariableHandlers(HttpClassicServerRequest request) {
-        Map<String, HttpHandler> handlers = this.noPathVariableHandlers.get(request.method());
-        if (MapUtils.isEmpty(handlers)) {
-            return Optional.empty();
-        }
-        String path = UrlUtils.decodePath(request.path());
-        HttpHandler handler = handlers.get(path);
-        return Optional.ofNullable(handler);
+        return this.select(request).orElseThrow(() -> {
+            String message = StringUtils.format("No http handler for http request. [method={0}, path={1}]",
+                    request.method().name(),
+                    request.path());
+            return new HttpHandlerNotFoundException(message);
+        });
     }
 
-    private Optional<HttpHandler> selectFromPathVariableHandlers(HttpClassicServerRequest request) {
-        MappingTree<HttpHandler> mappingTree = this.pathVariableHandlers.get(request.method());
+    private Optional<HttpHandler> select(HttpClassicServerRequest request) {
+        MappingTree<HttpHandler> mappingTree = this.handlers.get(request.method());
         if (mappingTree == null) {
             return Optional.empty();
         }
-        String path = UrlUtils.decodePath(request.path());
-        return mappingTree.search(path);
-    }
-
-    private Optional<HttpHandler> selectFromWildcardHandlers(HttpClassicServerRequest request) {
-        Map<String, HttpHandler> handlers = this.wildcardHandlers.get(request.method());
-        if (MapUtils.isEmpty(handlers)) {
-            return Optional.empty();
-        }
-        String path = UrlUtils.decodePath(request.path());
-        for (Map.Entry<String, HttpHandler> entry : handlers.entrySet()) {
-            PathPattern pattern = Pattern.forPath(entry.getKey(), PATH_SEPARATOR);
-            if (pattern.matches(path)) {
-                return Optional.of(entry.getValue());
-            }
-        }
-        return Optional.empty();
+        return mappingTree.search(UrlUtils.decodePath(request.path()));
     }
 
     @Override
@@ -138,20 +79,9 @@ public class DefaultHttpDispatcher implements HttpDispatcher {
         notNull(handler, "The http handler cannot be null.");
         String pathPattern = MappingTree.convertToMatchedPathPattern(handler.pathPattern());
         notBlank(pathPattern, "The path pattern cannot be blank.");
-        HttpHandler preHandler;
-        if (pathPattern.contains("**")) {
-            Map<String, HttpHandler> handlers =
-                    this.wildcardHandlers.computeIfAbsent(method, methodName -> new ConcurrentHashMap<>());
-            preHandler = handlers.put(pathPattern, handler);
-        } else if (pathPattern.contains("*")) {
-            MappingTree<HttpHandler> mappingTree =
-                    this.pathVariableHandlers.computeIfAbsent(method, methodName -> new DefaultMappingTree<>());
-            preHandler = mappingTree.register(pathPattern, handler).orElse(null);
-        } else {
-            Map<String, HttpHandler> handlers =
-                    this.noPathVariableHandlers.computeIfAbsent(method, methodName -> new ConcurrentHashMap<>());
-            preHandler = handlers.put(pathPattern, handler);
-        }
+        MappingTree<HttpHandler> mappingTree =
+                this.handlers.computeIfAbsent(method, methodName -> new DefaultMappingTree<>());
+        HttpHandler preHandler = mappingTree.register(pathPattern, handler).orElse(null);
         if (preHandler != null) {
             String message = StringUtils.format("Http handler has been registered. [method={0}, pattern={1}]",
                     httpMethod,
@@ -167,29 +97,17 @@ public class DefaultHttpDispatcher implements HttpDispatcher {
         notNull(handler, "The http handler cannot be null.");
         String pathPattern = MappingTree.convertToMatchedPathPattern(handler.pathPattern());
         notBlank(pathPattern, "The path pattern cannot be blank.");
-        if (pathPattern.contains("**")) {
-            Optional.ofNullable(this.wildcardHandlers.get(method)).ifPresent(handlers -> handlers.remove(pathPattern));
-        } else if (pathPattern.contains("*")) {
-            Optional.ofNullable(this.pathVariableHandlers.get(method))
-                    .ifPresent(mappingTree -> mappingTree.unregister(pathPattern));
-        } else {
-            Optional.ofNullable(this.noPathVariableHandlers.get(method))
-                    .ifPresent(handlers -> handlers.remove(pathPattern));
-        }
+        Optional.ofNullable(this.handlers.get(method)).ifPresent(mappingTree -> mappingTree.unregister(pathPattern));
     }
 
     @Override
     public Map<HttpRequestMethod, List<HttpHandler>> getHttpHandlersMapping() {
-        Map<HttpRequestMethod, List<HttpHandler>> map = this.noPathVariableHandlers.entrySet()
-                .stream()
-                .collect(Collectors.toMap(Map.Entry::getKey, entry -> new ArrayList<>(entry.getValue().values())));
-        this.pathVariableHandlers.forEach((requestMethod, mappingTree) -> {
-            List<HttpHandler> handlerList = map.computeIfAbsent(requestMethod, key -> new ArrayList<>());
-            handlerList.addAll(mappingTree.getAllHandlers());
-        });
-        this.wildcardHandlers.forEach((requestMethod, httpHandlers) -> {
-            List<HttpHandler> handlerList = map.computeIfAbsent(requestMethod, key -> new ArrayList<>());
-            handlerList.addAll(httpHandlers.values());
+        Map<HttpRequestMethod, List<HttpHandler>> map = new HashMap<>();
+        this.handlers.forEach((requestMethod, mappingTree) -> {
+            List<HttpHandler> handlerList = mappingTree.getAllHandlers();
+            if (!handlerList.isEmpty()) {
+                map.put(requestMethod, handlerList);
+            }
         });
         return map;
     }
@@ -20,6 +20,14 @@ import java.util.stream.Collectors;
  * 表示 Http 请求路径的匹配树。
  * <p>当处理器为 {@link HttpHandler} 时，每一棵匹配树都代表一种特定的 Http 请求方法，比如
  * {@link HttpRequestMethod#GET}</p>
+ * <p>路径样式按照 {@code '/'} 切分为路径段，每一段可以是：</p>
+ * <ul>
+ *     <li>普通路径段，如 {@code a}，仅匹配完全相同的路径段；</li>
+ *     <li>单段通配符 {@code *}，匹配任意一个路径段；</li>
+ *     <li>含通配符的路径段，如 {@code *.js}，其中 {@code '*'} 匹配任意个字符，{@code '?'} 匹配一个字符；</li>
+ *     <li>多段通配符 {@code **}，匹配任意个（包括 0 个）路径段。</li>
+ * </ul>
+ * <p>搜索时，不经过多段通配符的匹配结果优先，其次在每一个路径段上依次按照普通路径段、单段通配符、含通配符的路径段和多段通配符的顺序进行匹配。</p>
  *
  * @param <T> 表示匹配树上的处理器类型的 {@link T}。
  * @author 季聿阶
@@ -33,8 +41,7 @@ public interface MappingTree<T> {
      * @param handler 表示指定匹配路径样式的处理器的 {@link T}。
      * @return 当指定匹配路径样式已经存在处理器时，返回注册过的处理器的
      * {@link Optional}{@code <}{@link T}{@code >}，否则，返回 {@link Optional#empty()}。
-     * @throws IllegalArgumentException 当 {@code pathPattern} 为 {@code null} 或空白字符串或不以 {@code '/'}
-     * 开头或仅包含 {@code '/'} 时。
+     * @throws IllegalArgumentException 当 {@code pathPattern} 为 {@code null} 或空白字符串或不以 {@code '/'} 开头时。
      * @throws IllegalArgumentException 当 {@code handler} 为 {@code null} 时。
      */
     Optional<T> register(String pathPattern, T handler);
@@ -51,8 +58,7 @@ public interface MappingTree<T> {
      *
      * @param path 表示指定路径的 {@link String}。
      * @return 表示搜索到的指定路径的处理器的 {@link Optional}{@code <}{@link T}{@code >}。
-     * @throws IllegalArgumentException 当 {@code path} 为 {@code null} 或空白字符串或不以 {@code '/'}
-     * 开头或仅包含 {@code '/'} 时。
+     * @throws IllegalArgumentException 当 {@code path} 为 {@code null} 或空白字符串或不以 {@code '/'} 开头时。
      */
     Optional<T> search(String path);
 
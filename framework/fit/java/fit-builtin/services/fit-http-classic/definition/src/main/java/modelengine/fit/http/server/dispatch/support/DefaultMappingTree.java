@@ -11,23 +11,22 @@ import static modelengine.fitframework.inspection.Validation.notBlank;
 import static modelengine.fitframework.inspection.Validation.notNull;
 
 import modelengine.fit.http.server.dispatch.MappingTree;
-import modelengine.fitframework.util.CollectionUtils;
 import modelengine.fitframework.util.StringUtils;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.regex.Pattern;
 
 /**
  * {@link MappingTree} 的默认实现。
+ * <p>匹配树在注册时将路径样式预先编译为路径段的前缀树，搜索时仅需要对请求路径切分一次，并沿前缀树逐段匹配，
+ * 其耗时只与路径的段数相关，而与注册的路径样式的数量无关。</p>
  *
  * @author 季聿阶
  * @since 2022-07-26
@@ -37,8 +36,9 @@ public class DefaultMappingTree<T> implements MappingTree<T> {
     public static final String PATH_SEPARATOR = "/";
 
     private static final String WILD_KEY = "*";
+    private static final String MULTIPLE_WILD_KEY = "**";
 
-    private final Map<String, MappingTreeNode<T>> nodes = new ConcurrentHashMap<>();
+    private final MappingTreeNode<T> root = new MappingTreeNode<>(null);
 
     /**
      * 将指定路径按照路径分隔符进行切分。
@@ -60,12 +60,9 @@ public class DefaultMappingTree<T> implements MappingTree<T> {
         isTrue(actualPathPattern.startsWith(PATH_SEPARATOR),
                 "The path pattern is not start with '/'. [pathPattern={0}]",
                 pathPattern);
-        Queue<String> pathFragments = splitPath(actualPathPattern);
-        isTrue(CollectionUtils.isNotEmpty(pathFragments),
-                "The path pattern cannot only contain '/'. [pathPattern={0}]",
-                pathPattern);
-        return this.nodes.computeIfAbsent(pathFragments.remove(), fragment -> new MappingTreeNode<>())
-                .register(pathFragments, handler);
+        synchronized (this.root) {
+            return this.root.register(splitPath(actualPathPattern), handler);
+        }
     }
 
     @Override
@@ -75,18 +72,8 @@ public class DefaultMappingTree<T> implements MappingTree<T> {
         isTrue(actualPathPattern.startsWith(PATH_SEPARATOR),
                 "The path pattern is not start with '/'. [pathPattern={0}]",
                 pathPattern);
-        Queue<String> pathFragments = splitPath(actualPathPattern);
-        isTrue(CollectionUtils.isNotEmpty(pathFragments),
-                "The path pattern cannot only contain '/'. [pathPattern={0}]",
-                pathPattern);
-        String removed = pathFragments.remove();
-        if (!this.nodes.containsKey(removed)) {
-            return;
-        }
-        MappingTreeNode<T> treeNode = this.nodes.get(removed);
-        boolean isEmpty = treeNode.unregister(pathFragments);
-        if (isEmpty) {
-            this.nodes.remove(removed);
+        synchronized (this.root) {
+            this.root.unregister(splitPath(actualPathPattern));
         }
     }
 
@@ -95,91 +82,154 @@ public class DefaultMappingTree<T> implements MappingTree<T> {
         notBlank(path, "The search path cannot be blank.");
         String actualPath = path.trim();
         isTrue(actualPath.startsWith(PATH_SEPARATOR), "The search path is not start with '/'. [path={0}]", path);
-        Deque<String> pathFragments = splitPath(actualPath);
-        isTrue(CollectionUtils.isNotEmpty(pathFragments),
-                "The search path cannot only contain '/'. [pathPattern={0}]",
-                path);
-        MappingTreeNode<T> childNode = this.nodes.get(pathFragments.removeFirst());
-        Optional<T> httpHandler = Optional.ofNullable(childNode).flatMap(node -> node.search(pathFragments));
-        if (httpHandler.isPresent()) {
-            return httpHandler;
+        List<String> pathFragments =
+                StringUtils.split(actualPath, PATH_SEPARATOR, ArrayList::new, StringUtils::isNotBlank);
+        T handler = this.root.search(pathFragments, 0, false);
+        if (handler == null) {
+            handler = this.root.search(pathFragments, 0, true);
         }
-        MappingTreeNode<T> wildChildNode = this.nodes.get(WILD_KEY);
-        return Optional.ofNullable(wildChildNode).flatMap(node -> node.search(pathFragments));
+        return Optional.ofNullable(handler);
     }
 
     @Override
     public List<T> getAllHandlers() {
-        Collection<MappingTreeNode<T>> values = this.nodes.values();
-        return values.stream()
-                .filter(Objects::nonNull)
-                .flatMap(value -> this.getNodeHandlers(value).stream())
-                .collect(Collectors.toList());
+        List<T> handlers = new ArrayList<>();
+        this.root.collectHandlers(handlers);
+        return handlers;
     }
 
-    private List<T> getNodeHandlers(MappingTreeNode<T> node) {
-        List<T> handlers = new ArrayList<>();
-        if (node.handler != null) {
-            handlers.add(node.handler);
+    private static boolean isPatternFragment(String fragment) {
+        return fragment.contains(WILD_KEY) && !WILD_KEY.equals(fragment) && !MULTIPLE_WILD_KEY.equals(fragment);
+    }
+
+    private static Pattern compile(String fragment) {
+        StringBuilder regex = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        for (char ch : fragment.toCharArray()) {
+            if (ch != '*' && ch != '?') {
+                literal.append(ch);
+                continue;
+            }
+            if (!literal.isEmpty()) {
+                regex.append(Pattern.quote(literal.toString()));
+                literal.setLength(0);
+            }
+            regex.append(ch == '*' ? ".*" : ".");
         }
-        if (!node.children.isEmpty()) {
-            List<T> childrenHandlers = node.children.values()
-                    .stream()
-                    .filter(Objects::nonNull)
-                    .flatMap(child -> this.getNodeHandlers(child).stream())
-                    .collect(Collectors.toList());
-            handlers.addAll(childrenHandlers);
+        if (!literal.isEmpty()) {
+            regex.append(Pattern.quote(literal.toString()));
         }
-        return handlers;
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
     }
 
+    /**
+     * 表示匹配树上的一个路径段节点。
+     * <p>子节点按照路径段的类型分别存放，其中普通路径段通过哈希表直接定位，含通配符的路径段在注册时即被编译为正则表达式。</p>
+     */
     private static class MappingTreeNode<T> {
+        private final Pattern fragmentPattern;
         private final Map<String, MappingTreeNode<T>> children = new ConcurrentHashMap<>();
-        private T handler;
+        private volatile List<MappingTreeNode<T>> patternChildren = Collections.emptyList();
+        private volatile MappingTreeNode<T> wildChild;
+        private volatile MappingTreeNode<T> multipleWildChild;
+        private volatile T handler;
+
+        private MappingTreeNode(Pattern fragmentPattern) {
+            this.fragmentPattern = fragmentPattern;
+        }
 
-        private Optional<T> register(Queue<String> pathFragments, T handler) {
+        private Optional<T> register(Deque<String> pathFragments, T handler) {
             if (pathFragments.isEmpty()) {
                 T pre = this.handler;
                 this.handler = handler;
                 return Optional.ofNullable(pre);
             }
-            return this.children.computeIfAbsent(pathFragments.remove(), fragment -> new MappingTreeNode<>())
-                    .register(pathFragments, handler);
+            String fragment = pathFragments.removeFirst();
+            MappingTreeNode<T> child = this.children.get(fragment);
+            if (child == null) {
+                child = new MappingTreeNode<>(isPatternFragment(fragment) ? compile(fragment) : null);
+                this.children.put(fragment, child);
+                this.refreshChildren();
+            }
+            return child.register(pathFragments, handler);
         }
 
-        private boolean unregister(Queue<String> pathFragments) {
+        private boolean unregister(Deque<String> pathFragments) {
             if (pathFragments.isEmpty()) {
                 this.handler = null;
                 return this.children.isEmpty();
             }
-            String removed = pathFragments.remove();
-            if (!this.children.containsKey(removed)) {
-                return this.children.isEmpty();
-            }
-            boolean isEmpty = this.children.get(removed).unregister(pathFragments);
-            if (isEmpty) {
-                this.children.remove(removed);
+            String fragment = pathFragments.removeFirst();
+            MappingTreeNode<T> child = this.children.get(fragment);
+            if (child != null && child.unregister(pathFragments) && child.handler == null) {
+                this.children.remove(fragment);
+                this.refreshChildren();
             }
             return this.children.isEmpty();
         }
 
-        private Optional<T> search(Deque<String> pathFragments) {
-            if (pathFragments.isEmpty()) {
-                return Optional.ofNullable(this.handler);
+        private void refreshChildren() {
+            List<MappingTreeNode<T>> patterns = new ArrayList<>();
+            this.children.forEach((fragment, child) -> {
+                if (child.fragmentPattern != null) {
+                    patterns.add(child);
+                }
+            });
+            this.patternChildren = patterns;
+            this.wildChild = this.children.get(WILD_KEY);
+            this.multipleWildChild = this.children.get(MULTIPLE_WILD_KEY);
+        }
+
+        private T search(List<String> pathFragments, int index, boolean isMultipleWildAllowed) {
+            if (index == pathFragments.size()) {
+                if (this.handler != null) {
+                    return this.handler;
+                }
+                MappingTreeNode<T> multiple = this.multipleWildChild;
+                return isMultipleWildAllowed && multiple != null
+                        ? multiple.search(pathFragments, index, true)
+                        : null;
+            }
+            String fragment = pathFragments.get(index);
+            T found = searchChild(this.children.get(fragment), pathFragments, index + 1, isMultipleWildAllowed);
+            if (found != null) {
+                return found;
             }
-            String removed = pathFragments.removeFirst();
-            MappingTreeNode<T> child = this.children.get(removed);
-            Optional<T> httpHandler = Optional.ofNullable(child).flatMap(node -> node.search(pathFragments));
-            if (httpHandler.isPresent()) {
-                return httpHandler;
+            found = searchChild(this.wildChild, pathFragments, index + 1, isMultipleWildAllowed);
+            if (found != null) {
+                return found;
             }
-            MappingTreeNode<T> wildChild = this.children.get(WILD_KEY);
-            httpHandler = Optional.ofNullable(wildChild).flatMap(node -> node.search(pathFragments));
-            if (httpHandler.isPresent()) {
-                return httpHandler;
+            for (MappingTreeNode<T> child : this.patternChildren) {
+                if (child.fragmentPattern.matcher(fragment).matches()) {
+                    found = child.search(pathFragments, index + 1, isMultipleWildAllowed);
+                    if (found != null) {
+                        return found;
+                    }
+                }
+            }
+            MappingTreeNode<T> multiple = this.multipleWildChild;
+            if (!isMultipleWildAllowed || multiple == null) {
+                return null;
+            }
+            for (int next = index; next <= pathFragments.size(); next++) {
+                found = multiple.search(pathFragments, next, true);
+                if (found != null) {
+                    return found;
+                }
+            }
+            return null;
+        }
+
+        private static <T> T searchChild(MappingTreeNode<T> child, List<String> pathFragments, int index,
+                boolean isMultipleWildAllowed) {
+            return child == null ? null : child.search(pathFragments, index, isMultipleWildAllowed);
+        }
+
+        private void collectHandlers(List<T> handlers) {
+            if (this.handler != null) {
+                handlers.add(this.handler);
             }
-            pathFragments.addFirst(removed);
-            return Optional.empty();
+            this.children.values().forEach(child -> child.collectHandlers(handlers));
         }
     }
 }
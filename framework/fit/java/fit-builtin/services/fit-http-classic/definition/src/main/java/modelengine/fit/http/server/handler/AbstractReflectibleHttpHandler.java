@@ -15,7 +15,7 @@ import modelengine.fit.http.server.HttpHandler;
 import modelengine.fit.http.server.HttpServerResponseException;
 import modelengine.fit.http.server.ReflectibleMappingHandler;
 import modelengine.fitframework.exception.MethodInvocationException;
-import modelengine.fitframework.util.ReflectionUtils;
+import modelengine.fitframework.util.MethodInvoker;
 
 import java.lang.reflect.Method;
 import java.util.Collections;
@@ -30,7 +30,8 @@ import java.util.List;
 public abstract class AbstractReflectibleHttpHandler extends AbstractHttpHandler implements ReflectibleMappingHandler {
     private final Object target;
     private final Method method;
-    private final List<PropertyValueMapper> propertyValueMappers;
+    private final MethodInvoker invoker;
+    private final PropertyValueMapper[] propertyValueMappers;
     private final StaticInfo staticInfo;
     private final List<PropertyValueMetadata> propertyValueMetadata;
 
@@ -60,12 +61,15 @@ public abstract class AbstractReflectibleHttpHandler extends AbstractHttpHandler
         super(staticInfo, executionInfo);
         this.staticInfo = notNull(staticInfo, "The http handler static info cannot be null.");
         notNull(executionInfo, "The http handler execution info cannot be null.");
-        this.propertyValueMappers = notNull(executionInfo.httpMappers(), "The http mappers cannot be null.");
-        for (PropertyValueMapper propertyValueMapper : this.propertyValueMappers) {
+        List<PropertyValueMapper> httpMappers =
+                notNull(executionInfo.httpMappers(), "The http mappers cannot be null.");
+        for (PropertyValueMapper propertyValueMapper : httpMappers) {
             notNull(propertyValueMapper, "The http mapper cannot be null.");
         }
+        this.propertyValueMappers = httpMappers.toArray(new PropertyValueMapper[0]);
         this.target = notNull(executionInfo.target(), "The specified target of http handler cannot be null.");
         this.method = notNull(executionInfo.method(), "The specified method of http handler cannot be null.");
+        this.invoker = MethodInvoker.of(this.method);
         this.propertyValueMetadata =
                 notNull(staticInfo.propertyValueMetadata(), "The http value meta data cannot be null.");
     }
@@ -95,6 +99,11 @@ public abstract class AbstractReflectibleHttpHandler extends AbstractHttpHandler
         return this.staticInfo.isDocumentIgnored();
     }
 
+    @Override
+    public boolean isNonBlocking() {
+        return this.staticInfo.isNonBlocking();
+    }
+
     @Override
     public String summary() {
         return this.staticInfo.summary();
@@ -123,17 +132,17 @@ public abstract class AbstractReflectibleHttpHandler extends AbstractHttpHandler
     @Override
     public void handle(HttpClassicServerRequest request, HttpClassicServerResponse response)
             throws DoHttpHandlerException {
-        Object[] args;
+        Object[] args = new Object[this.propertyValueMappers.length];
         try {
-            args = this.propertyValueMappers.stream()
-                    .map(httpMapper -> httpMapper.map(request, response, null))
-                    .toArray();
+            for (int i = 0; i < args.length; i++) {
+                args[i] = this.propertyValueMappers[i].map(request, response, null);
+            }
         } catch (HttpServerResponseException e) {
             this.handleException(request, response, new Object[0], e);
             return;
         }
         try {
-            Object ret = ReflectionUtils.invoke(this.target, this.method, args);
+            Object ret = this.invoker.invoke(this.target, args);
             this.handleResult(request, response, args, ret);
         } catch (MethodInvocationException e) {
             this.handleException(request, response, args, e.getCause());
@@ -24,6 +24,7 @@ import modelengine.fit.http.support.DefaultAttributeCollection;
 import modelengine.fitframework.util.LazyLoader;
 import modelengine.fitframework.util.StringUtils;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
@@ -86,6 +87,14 @@ public class DefaultHttpClassicServerRequest extends AbstractHttpClassicRequest
         return this.entityBytesLoader.get();
     }
 
+    @Override
+    public InputStream entityStream() {
+        if (this.entityBytesLoader.isLoaded()) {
+            return new ByteArrayInputStream(this.entityBytes());
+        }
+        return this.serverRequest.getBodyInputStream();
+    }
+
     private Optional<Entity> actualEntity() {
         Charset charset = this.contentType().flatMap(ContentType::charset).orElse(StandardCharsets.UTF_8);
         try {
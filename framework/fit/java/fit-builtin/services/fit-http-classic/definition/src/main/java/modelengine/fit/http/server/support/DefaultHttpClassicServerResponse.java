@@ -41,7 +41,9 @@ import modelengine.fitframework.serialization.ObjectSerializer;
 import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.StringUtils;
 
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Optional;
@@ -62,6 +64,7 @@ public class DefaultHttpClassicServerResponse extends AbstractHttpClassicRespons
 
     private final ServerResponse serverResponse;
     private Entity entity;
+    private boolean isEntityTransferred;
 
     /**
      * 创建经典的服务端的 Http 响应对象。
@@ -156,12 +159,7 @@ public class DefaultHttpClassicServerResponse extends AbstractHttpClassicRespons
                     this.headers().set(TRANSFER_ENCODING, CHUNKED);
                 }
                 this.serverResponse.writeStartLineAndHeaders();
-                ReadableBinaryEntity readableBinaryEntity = cast(this.entity);
-                byte[] bytes = new byte[512];
-                int read;
-                while ((read = readableBinaryEntity.read(bytes)) > -1) {
-                    this.serverResponse.writeBody(bytes, 0, read);
-                }
+                this.sendReadableBinaryEntity(cast(this.entity));
             } else if (this.entity instanceof WritableBinaryEntity) {
                 // WritableBinaryEntity 已经在用户代码层面进行了输出，因此此处什么都不需要处理。
             } else if (this.entity instanceof TextEventStreamEntity) {
@@ -182,6 +180,24 @@ public class DefaultHttpClassicServerResponse extends AbstractHttpClassicRespons
         }
     }
 
+    private void sendReadableBinaryEntity(ReadableBinaryEntity readableBinaryEntity) throws IOException {
+        if (readableBinaryEntity instanceof FileEntity
+                && readableBinaryEntity.getInputStream() instanceof FileInputStream) {
+            // 文件内容直接通过文件通道写出，以便服务器采用零拷贝的方式发送，文件消息体交由服务器在发送结束后关闭。
+            FileEntity fileEntity = cast(readableBinaryEntity);
+            FileInputStream in = cast(readableBinaryEntity.getInputStream());
+            FileChannel channel = in.getChannel();
+            this.isEntityTransferred = true;
+            this.serverResponse.writeBody(channel, channel.position(), fileEntity.length(), fileEntity);
+            return;
+        }
+        byte[] bytes = new byte[8192];
+        int read;
+        while ((read = readableBinaryEntity.read(bytes)) > -1) {
+            this.serverResponse.writeBody(bytes, 0, read);
+        }
+    }
+
     private void sendTextEventStream(TextEventStreamEntity eventStreamEntity) throws IOException {
         ObjectSerializer objectSerializer = this.jsonSerializer()
                 .orElseThrow(() -> new IllegalStateException("The json serializer cannot be null."));
@@ -235,9 +251,9 @@ public class DefaultHttpClassicServerResponse extends AbstractHttpClassicRespons
     @Override
     public void close() throws IOException {
         this.serverResponse.close();
-        if (this.entity != null) {
+        if (this.entity != null && !this.isEntityTransferred) {
             this.entity.close();
-            this.entity = null;
         }
+        this.entity = null;
     }
 }
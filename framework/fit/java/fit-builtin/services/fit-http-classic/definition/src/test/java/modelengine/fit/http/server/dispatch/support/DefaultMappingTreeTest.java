@@ -16,6 +16,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -65,4 +66,46 @@ public class DefaultMappingTreeTest {
             assertThat(search).isNotEmpty().get().isEqualTo(DefaultMappingTreeTest.this.handler);
         }
     }
+
+    @Nested
+    @DisplayName("注册了含多段通配符的路径后")
+    class AfterRegisteringMultipleWildPattern {
+        @ParameterizedTest(name = "{index}: 注册路径样式为 `{0}`，搜索路径为 `{1}`")
+        @DisplayName("搜索匹配的路径可以获取处理器")
+        @CsvSource({"/**,/", "/a/**,/a", "/a/**,/a/b/c", "/a/**/c,/a/b/b/c", "/a/**/*.js,/a/b/c.js", "/a/*.js,/a/b.js"})
+        void returnHandlerWhenSearchingMatchedPath(String pathPattern, String searchPath) {
+            DefaultMappingTreeTest.this.mappingTree.register(pathPattern, DefaultMappingTreeTest.this.handler);
+            Optional<HttpHandler> search = DefaultMappingTreeTest.this.mappingTree.search(searchPath);
+            assertThat(search).isNotEmpty().get().isEqualTo(DefaultMappingTreeTest.this.handler);
+        }
+
+        @ParameterizedTest(name = "{index}: 注册路径样式为 `{0}`，搜索路径为 `{1}`")
+        @DisplayName("搜索不匹配的路径返回空的处理器")
+        @CsvSource({"/a/**,/b/c", "/a/**/c,/a/b/d", "/a/**/*.js,/a/b/c.css"})
+        void returnEmptyWhenSearchingNotMatchedPath(String pathPattern, String searchPath) {
+            DefaultMappingTreeTest.this.mappingTree.register(pathPattern, DefaultMappingTreeTest.this.handler);
+            Optional<HttpHandler> search = DefaultMappingTreeTest.this.mappingTree.search(searchPath);
+            assertThat(search).isEmpty();
+        }
+
+        @Test
+        @DisplayName("不经过多段通配符的路径样式优先匹配")
+        void preferPatternWithoutMultipleWildcard() {
+            HttpHandler wildHandler = mock(HttpHandler.class);
+            DefaultMappingTreeTest.this.mappingTree.register("/a/b/**", wildHandler);
+            DefaultMappingTreeTest.this.mappingTree.register("/a/*/c", DefaultMappingTreeTest.this.handler);
+            assertThat(DefaultMappingTreeTest.this.mappingTree.search("/a/b/c")).get()
+                    .isEqualTo(DefaultMappingTreeTest.this.handler);
+            assertThat(DefaultMappingTreeTest.this.mappingTree.search("/a/b/d")).get().isEqualTo(wildHandler);
+        }
+
+        @Test
+        @DisplayName("取消注册后不再匹配")
+        void returnEmptyAfterUnregistering() {
+            DefaultMappingTreeTest.this.mappingTree.register("/a/**", DefaultMappingTreeTest.this.handler);
+            DefaultMappingTreeTest.this.mappingTree.unregister("/a/**");
+            assertThat(DefaultMappingTreeTest.this.mappingTree.search("/a/b")).isEmpty();
+            assertThat(DefaultMappingTreeTest.this.mappingTree.getAllHandlers()).isEmpty();
+        }
+    }
 }
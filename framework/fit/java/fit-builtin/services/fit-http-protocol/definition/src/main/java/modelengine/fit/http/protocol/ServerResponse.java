@@ -8,8 +8,11 @@ package modelengine.fit.http.protocol;
 
 import static modelengine.fitframework.inspection.Validation.notNull;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 
 /**
  * 表示服务端的 Http 响应。
@@ -60,6 +63,37 @@ public interface ServerResponse
      */
     void writeBody(byte[] bytes, int off, int len) throws IOException;
 
+    /**
+     * 将指定文件通道中的数据写入 Http 消息体，写出结束后关闭文件通道所属的资源。
+     * <p>默认实现会将文件内容分段读入内存后写入，并在返回前关闭资源。具体实现可以采用零拷贝的方式异步发送文件内容，
+     * 此时方法返回时文件内容可能尚未写出，资源在写出结束后才会被关闭，因此调用方不能再读取文件通道，也不能自行关闭资源。</p>
+     *
+     * @param channel 表示待写入数据所在文件通道的 {@link FileChannel}。
+     * @param position 表示待写入数据在文件中的起始位置的 {@code long}。
+     * @param count 表示待写入数据的数量的 {@code long}。
+     * @param owner 表示文件通道所属的资源的 {@link Closeable}，关闭该资源时需要同时关闭文件通道。
+     * @throws IOException 当发生 I/O 异常时。
+     * @throws IllegalArgumentException 当 {@code channel} 或 {@code owner} 为 {@code null} 时。
+     */
+    default void writeBody(FileChannel channel, long position, long count, Closeable owner) throws IOException {
+        notNull(channel, "The file channel to write cannot be null.");
+        notNull(owner, "The owner of file channel cannot be null.");
+        try (Closeable ignored = owner) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(Math.max(count, 1), 8192));
+            long written = 0;
+            while (written < count) {
+                buffer.clear();
+                buffer.limit((int) Math.min(buffer.capacity(), count - written));
+                int read = channel.read(buffer, position + written);
+                if (read < 0) {
+                    break;
+                }
+                this.writeBody(buffer.array(), 0, read);
+                written += read;
+            }
+        }
+    }
+
     /**
      * 强制已经写入的数据执行写出，也就是说将之前写入到缓冲区的数据全部对外输出；同时发送响应结束标识符。
      *
@@ -6,11 +6,18 @@
 
 package modelengine.fit.serialization;
 
+import modelengine.fitframework.serialization.SerializationException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 
 /**
  * 调用泛服务的输入输出提供序列化程序。
+ * <p>除了基于二进制序列的方法以外，还提供了基于流的方法，以便直接读写 Http 消息体，避免大消息在内存中的多次完整复制。
+ * 基于流的方法的默认实现基于二进制序列的方法，具体的序列化程序应当重写它们以实现真正的流式读写。</p>
  *
  * @author 梁济时
  * @author 季聿阶
@@ -55,6 +62,78 @@ public interface MessageSerializer {
      */
     <T> T deserializeResponse(Type returnType, byte[] serialized);
 
+    /**
+     * 将调用的请求信息序列化到输出流中。
+     * <p>方法不会关闭输出流。</p>
+     *
+     * @param argumentTypes 表示请求参数类型列表的 {@link Type}{@code []}。
+     * @param arguments 表示请求参数列表的 {@link Object}{@code []}。
+     * @param out 表示接收序列化结果的输出流的 {@link OutputStream}。
+     * @throws SerializationException 当序列化过程中发生异常时。
+     */
+    default void serializeRequest(Type[] argumentTypes, Object[] arguments, OutputStream out) {
+        byte[] serialized = this.serializeRequest(argumentTypes, arguments);
+        try {
+            out.write(serialized);
+        } catch (IOException e) {
+            throw new SerializationException("Failed to write serialized request.", e);
+        }
+    }
+
+    /**
+     * 从输入流中反序列化出调用的请求参数列表。
+     * <p>方法不会关闭输入流。</p>
+     *
+     * @param argumentTypes 表示请求参数类型列表的 {@link Type}{@code []}。
+     * @param in 表示包含请求参数信息的输入流的 {@link InputStream}。
+     * @return 表示请求参数列表的 {@link Object}{@code []}。
+     * @throws SerializationException 当反序列化过程中发生异常时。
+     */
+    default Object[] deserializeRequest(Type[] argumentTypes, InputStream in) {
+        try {
+            return this.deserializeRequest(argumentTypes, in.readAllBytes());
+        } catch (IOException e) {
+            throw new SerializationException("Failed to read serialized request.", e);
+        }
+    }
+
+    /**
+     * 将调用的响应信息序列化到输出流中。
+     * <p>方法不会关闭输出流。</p>
+     *
+     * @param returnType 表示响应数据类型的 {@link Type}。
+     * @param returnData 表示响应数据的 {@link T}。
+     * @param out 表示接收序列化结果的输出流的 {@link OutputStream}。
+     * @param <T> 表示响应数据类型的 {@link T}。
+     * @throws SerializationException 当序列化过程中发生异常时。
+     */
+    default <T> void serializeResponse(Type returnType, T returnData, OutputStream out) {
+        byte[] serialized = this.serializeResponse(returnType, returnData);
+        try {
+            out.write(serialized);
+        } catch (IOException e) {
+            throw new SerializationException("Failed to write serialized response.", e);
+        }
+    }
+
+    /**
+     * 从输入流中反序列化出调用的响应信息。
+     * <p>方法不会关闭输入流。</p>
+     *
+     * @param returnType 表示响应数据类型的 {@link Type}。
+     * @param in 表示包含响应消息信息的输入流的 {@link InputStream}。
+     * @param <T> 表示响应数据类型的 {@link T}。
+     * @return 表示响应消息体的 {@link T}。
+     * @throws SerializationException 当反序列化过程中发生异常时。
+     */
+    default <T> T deserializeResponse(Type returnType, InputStream in) {
+        try {
+            return this.deserializeResponse(returnType, in.readAllBytes());
+        } catch (IOException e) {
+            throw new SerializationException("Failed to read serialized response.", e);
+        }
+    }
+
     /**
      * 根据指定的方法，判断当前的序列化方式是否支持。
      *
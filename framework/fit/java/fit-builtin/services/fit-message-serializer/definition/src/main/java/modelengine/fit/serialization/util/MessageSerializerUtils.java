@@ -14,6 +14,9 @@ import modelengine.fitframework.ioc.BeanFactory;
 import modelengine.fitframework.serialization.SerializationException;
 import modelengine.fitframework.util.StringUtils;
 
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -45,18 +48,92 @@ public class MessageSerializerUtils {
      * @param config 表示指定配置的 {@link Config}。
      */
     public static void isSupportedLength(long length, Config config) {
-        long largeDataSize = config.keys().contains(Constants.LARGE_DATA_SIZE) ? config.get(
-                Constants.LARGE_DATA_SIZE, Long.class) : 0L;
+        long largeDataSize = getLargeDataSize(config);
         if (largeDataSize != 0L && length > largeDataSize) {
-            throw new SerializationException(StringUtils.format("The deserialized data size exceeds the threshold. "
-                    + "[largeDataSize={0}]", largeDataSize));
+            throw exceedsLargeDataSize(largeDataSize);
         }
     }
 
+    /**
+     * 为待反序列化的输入流增加数据大小阈值的检查。
+     * <p>读取的数据超过阈值时，读取操作将抛出 {@link SerializationException}。未配置阈值时，直接返回原输入流。</p>
+     *
+     * @param in 表示待反序列化的输入流的 {@link InputStream}。
+     * @param config 表示指定配置的 {@link Config}。
+     * @return 表示增加了数据大小阈值检查的输入流的 {@link InputStream}。
+     */
+    public static InputStream limitLength(InputStream in, Config config) {
+        long largeDataSize = getLargeDataSize(config);
+        if (largeDataSize == 0L) {
+            return in;
+        }
+        return new LengthLimitedInputStream(in, largeDataSize);
+    }
+
+    private static long getLargeDataSize(Config config) {
+        return config.keys().contains(Constants.LARGE_DATA_SIZE) ? config.get(Constants.LARGE_DATA_SIZE, Long.class)
+                : 0L;
+    }
+
+    private static SerializationException exceedsLargeDataSize(long largeDataSize) {
+        return new SerializationException(StringUtils.format("The deserialized data size exceeds the threshold. "
+                + "[largeDataSize={0}]", largeDataSize));
+    }
+
     private static List<MessageSerializer> getMessageSerializers(BeanContainer container) {
         return container.all(MessageSerializer.class)
                 .stream()
                 .map(BeanFactory::<MessageSerializer>get)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * 表示检查已读取数据大小的输入流。
+     */
+    private static final class LengthLimitedInputStream extends FilterInputStream {
+        private final long limit;
+        private long read;
+
+        LengthLimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value >= 0) {
+                this.count(1L);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] bytes, int off, int len) throws IOException {
+            int actual = super.read(bytes, off, len);
+            if (actual > 0) {
+                this.count(actual);
+            }
+            return actual;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long actual = super.skip(n);
+            this.count(actual);
+            return actual;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        private void count(long bytes) {
+            this.read += bytes;
+            if (this.read > this.limit) {
+                throw exceedsLargeDataSize(this.limit);
+            }
+        }
+    }
 }
@@ -7,6 +7,7 @@
 package modelengine.fit.service;
 
 import modelengine.fit.service.entity.Application;
+import modelengine.fit.service.entity.FitableAddressChanges;
 import modelengine.fit.service.entity.FitableAddressInstance;
 import modelengine.fit.service.entity.FitableInfo;
 import modelengine.fit.service.entity.FitableMeta;
@@ -53,6 +54,21 @@ public interface RegistryService {
     @Genericable(id = "33be4142494e4742aa122555a451d996")
     List<FitableAddressInstance> queryFitables(List<FitableInfo> fitables, String workerId);
 
+    /**
+     * 向注册中心服务端查询指定服务实现自指定版本以来发生变化的实例信息。
+     * <p>当指定版本不大于 {@code 0} 或已经不被注册中心服务端识别时，返回所有指定服务实现的实例信息；
+     * 当指定服务实现均未发生变化时，注册中心服务端最多会等待 {@code waitMillis} 毫秒，直到其中任意一个服务实现发生变化为止。</p>
+     *
+     * @param fitables 表示指定服务实现列表的 {@link List}{@code <}{@link FitableInfo}{@code >}。
+     * @param workerId 表示指定的进程的唯一标识的 {@link String}。
+     * @param revision 表示上一次查询所获得的注册中心版本号的 {@code long}。
+     * @param waitMillis 表示没有变化时的最长等待时间的 {@code long}，单位为毫秒。
+     * @return 表示指定服务实现发生变化的实例信息的 {@link FitableAddressChanges}。
+     */
+    @Genericable(id = "dc77abc46a9344d2ba870d485ef21c0d")
+    FitableAddressChanges queryFitableChanges(List<FitableInfo> fitables, String workerId, long revision,
+            long waitMillis);
+
     /**
      * 向注册中心服务端订阅指定服务实现的实例信息。
      *
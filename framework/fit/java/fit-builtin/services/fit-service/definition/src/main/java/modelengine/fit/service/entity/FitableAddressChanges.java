@@ -0,0 +1,61 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.service.entity;
+
+import static modelengine.fitframework.util.ObjectUtils.getIfNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 表示服务实现实例信息自指定版本以来的变化。
+ * <p>当服务实现在指定版本之后不再有任何可用的实例时，其实例信息中的应用实例列表为空。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class FitableAddressChanges {
+    private long revision;
+    private List<FitableAddressInstance> instances = new ArrayList<>();
+
+    /**
+     * 获取变化所对应的注册中心的版本号。
+     *
+     * @return 表示变化所对应的注册中心的版本号的 {@code long}。
+     */
+    public long getRevision() {
+        return this.revision;
+    }
+
+    /**
+     * 设置变化所对应的注册中心的版本号。
+     *
+     * @param revision 表示变化所对应的注册中心的版本号的 {@code long}。
+     */
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+
+    /**
+     * 获取发生变化的服务实现的最新实例信息列表。
+     *
+     * @return 表示发生变化的服务实现的最新实例信息列表的 {@link List}{@code <}{@link FitableAddressInstance}{@code >}。
+     */
+    public List<FitableAddressInstance> getInstances() {
+        return this.instances;
+    }
+
+    /**
+     * 设置发生变化的服务实现的最新实例信息列表。
+     *
+     * @param instances 表示发生变化的服务实现的最新实例信息列表的 {@link List}{@code <}{@link
+     * FitableAddressInstance}{@code >}。
+     */
+    public void setInstances(List<FitableAddressInstance> instances) {
+        this.instances = getIfNull(instances, ArrayList::new);
+    }
+}
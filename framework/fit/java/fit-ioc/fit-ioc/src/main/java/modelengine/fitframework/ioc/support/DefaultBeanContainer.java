@@ -45,17 +45,23 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * 为 {@link BeanContainer} 提供默认实现。
+ * <p>按照类型查找 Bean 的结果会被缓存，缓存以全局的版本号标记。任意容器注册或移除 Bean、启动或停止时版本号递增，
+ * 所有容器中版本号过期的缓存在下一次查找时重新计算，因此查找的开销与容器中 Bean 的数量无关。</p>
  *
  * @author 梁济时
  * @since 2022-04-28
  */
 public final class DefaultBeanContainer extends AbstractDisposable implements BeanContainer, BeanRegistry {
+    private static final AtomicLong GENERATION = new AtomicLong();
+
     private final Plugin plugin;
 
     private final Beans beans;
@@ -65,6 +71,11 @@ public final class DefaultBeanContainer extends AbstractDisposable implements Be
 
     private final List<BeanRegisteredObserver> beanRegisteredObservers;
 
+    private final TypeCache<List<BeanFactory>> localFactories;
+    private final TypeCache<Optional<BeanFactory>> localFactory;
+    private final TypeCache<Optional<BeanFactory>> lookups;
+    private final TypeCache<List<BeanFactory>> allFactories;
+
     public DefaultBeanContainer(Plugin plugin) {
         this.plugin = notNull(plugin, "The owning plugin of a bean container cannot be null.");
 
@@ -74,6 +85,11 @@ public final class DefaultBeanContainer extends AbstractDisposable implements Be
         this.monitor = LockUtils.newReentrantReadWriteLock();
 
         this.beanRegisteredObservers = new LinkedList<>();
+
+        this.localFactories = new TypeCache<>();
+        this.localFactory = new TypeCache<>();
+        this.lookups = new TypeCache<>();
+        this.allFactories = new TypeCache<>();
     }
 
     private BeanMetadata register(BeanFactory factory) {
@@ -86,6 +102,7 @@ public final class DefaultBeanContainer extends AbstractDisposable implements Be
                     .collect(Collectors.toSet());
             if (existing.isEmpty()) {
                 this.factories.add(factory);
+                invalidate();
             } else {
                 throw new BeanDefinitionException(StringUtils.format(
                         "Beans with the same name already exists. [names={0}]",
@@ -197,9 +214,11 @@ public final class DefaultBeanContainer extends AbstractDisposable implements Be
 
     @Override
     public void removeBean(String beanName) {
-        synchronized (this.monitor) {
-            this.factories.removeIf(beanFactory -> names(beanFactory).contains(beanName));
-        }
+        LockUtils.synchronize(this.monitor.writeLock(), () -> {
+            if (this.factories.removeIf(beanFactory -> names(beanFactory).contains(beanName))) {
+                invalidate();
+            }
+        });
     }
 
     @Override
@@ -210,8 +229,12 @@ public final class DefaultBeanContainer extends AbstractDisposable implements Be
 
     @Override
     public Optional<BeanFactory> factory(Type type) {
+        return this.localFactory.get(type, this::factory0);
+    }
+
+    private Optional<BeanFactory> factory0(Type type) {
         return LockUtils.synchronize(this.monitor.readLock(), () -> {
-            List<BeanFactory> filteredFactories = this.factories(type);
+            List<BeanFactory> filteredFactories = this.localFactories.get(type, this::factories0);
             if (filteredFactories.isEmpty()) {
                 return Optional.empty();
             } else if (filteredFactories.size() > 1) {
@@ -245,6 +268,10 @@ public final class DefaultBeanContainer extends AbstractDisposable implements Be
 
     @Override
     public List<BeanFactory> factories(Type type) {
+        return new ArrayList<>(this.localFactories.get(type, this::factories0));
+    }
+
+    private List<BeanFactory> factories0(Type type) {
         return LockUtils.synchronize(this.monitor.readLock(),
                 () -> this.factories.stream()
                         .filter(factory -> TypeMatcher.match(factory.metadata().type(), type))
@@ -263,7 +290,7 @@ public final class DefaultBeanContainer extends AbstractDisposable implements Be
 
     @Override
     public Optional<BeanFactory> lookup(Type type) {
-        return this.lookup(container -> container.factory(type));
+        return this.lookups.get(type, key -> this.lookup(container -> container.factory(key)));
     }
 
     private Optional<BeanFactory> lookup(Function<BeanContainer, Optional<BeanFactory>> mapper) {
@@ -282,6 +309,10 @@ public final class DefaultBeanContainer extends AbstractDisposable implements Be
 
     @Override
     public List<BeanFactory> all(Type type) {
+        return new ArrayList<>(this.allFactories.get(type, this::all0));
+    }
+
+    private List<BeanFactory> all0(Type type) {
         return LockUtils.synchronize(this.monitor.readLock(),
                 () -> this.all()
                         .stream()
@@ -308,6 +339,7 @@ public final class DefaultBeanContainer extends AbstractDisposable implements Be
 
     @Override
     public void start() {
+        invalidate();
         BeanContainerInitializedObserver.notify(this);
         this.start0();
         BeanContainerStartedObserver.notify(this);
@@ -428,7 +460,20 @@ public final class DefaultBeanContainer extends AbstractDisposable implements Be
         LockUtils.synchronize(this.monitor.writeLock(), () -> {
             this.factories.forEach(Disposable::safeDispose);
             this.factories.clear();
+            invalidate();
         });
+        this.localFactories.clear();
+        this.localFactory.clear();
+        this.lookups.clear();
+        this.allFactories.clear();
+    }
+
+    /**
+     * 使所有容器中按照类型查找的缓存失效。
+     * <p>需要在容器中的 Bean 发生变化之后调用，保证读到新版本号的查找一定能看到本次变化。</p>
+     */
+    private static void invalidate() {
+        GENERATION.incrementAndGet();
     }
 
     private boolean applicable(BeanContainer container, BeanApplicableScope scope) {
@@ -457,4 +502,42 @@ public final class DefaultBeanContainer extends AbstractDisposable implements Be
                 throw new IllegalStateException("Unknown applicable scope: " + scope);
         }
     }
+
+    /**
+     * 为按照类型查找的结果提供缓存，缓存项以计算前读取的版本号标记，版本号过期的缓存项会被重新计算。
+     * <p>计算过程中抛出的异常不会被缓存，例如存在多个候选 Bean 时的 {@link AmbiguousBeanException}。</p>
+     *
+     * @param <V> 表示缓存值的类型的 {@link V}。
+     */
+    private static final class TypeCache<V> {
+        private final Map<Type, Cached<V>> entries = new ConcurrentHashMap<>();
+
+        V get(Type type, Function<Type, V> loader) {
+            if (type == null) {
+                return loader.apply(null);
+            }
+            long generation = GENERATION.get();
+            Cached<V> cached = this.entries.get(type);
+            if (cached != null && cached.generation == generation) {
+                return cached.value;
+            }
+            V value = loader.apply(type);
+            this.entries.put(type, new Cached<>(generation, value));
+            return value;
+        }
+
+        void clear() {
+            this.entries.clear();
+        }
+    }
+
+    private static final class Cached<V> {
+        private final long generation;
+        private final V value;
+
+        private Cached(long generation, V value) {
+            this.generation = generation;
+            this.value = value;
+        }
+    }
 }
@@ -432,4 +432,58 @@ class DefaultBeanContainerTest extends AbstractBeanContainerTest {
     void invokeOnDisposedMethodThenExecuteSuccessfully() {
         assertDoesNotThrow(() -> this.container.dispose());
     }
+
+    @Nested
+    @DisplayName("测试按照类型查找的缓存")
+    class TestTypeCache {
+        private BeanDefinition definition(String name, Type type) {
+            return new DefaultBeanDefinition(name,
+                    type,
+                    DefaultBeanContainerTest.this.emptySet,
+                    DefaultBeanContainerTest.this.stereotype,
+                    DefaultBeanContainerTest.this.annotations,
+                    false,
+                    false,
+                    DefaultBeanContainerTest.this.emptySet,
+                    BeanApplicableScope.ANYWHERE,
+                    DefaultBeanContainerTest.this.properties);
+        }
+
+        @Test
+        @DisplayName("注册新的 Bean 后，缓存的查找结果失效")
+        void shouldSeeNewBeanAfterRegistered() {
+            DefaultBeanContainer container = DefaultBeanContainerTest.this.container;
+            container.register(this.definition("first", String.class));
+            assertThat(container.all(String.class)).hasSize(1);
+            assertThat(container.lookup(String.class)).isPresent();
+
+            container.register(this.definition("second", String.class));
+            assertThat(container.all(String.class)).hasSize(2);
+            assertThat(container.factories(String.class)).hasSize(2);
+            AmbiguousBeanException exception = catchThrowableOfType(AmbiguousBeanException.class,
+                    () -> container.lookup(String.class));
+            assertThat(exception).isNotNull();
+            assertThat(catchThrowableOfType(AmbiguousBeanException.class,
+                    () -> container.factory(String.class))).isNotNull();
+        }
+
+        @Test
+        @DisplayName("移除 Bean 或者停止容器后，缓存的查找结果失效")
+        void shouldForgetBeanAfterRemoved() {
+            DefaultBeanContainer container = DefaultBeanContainerTest.this.container;
+            container.register(this.definition("first", String.class));
+            container.register(this.definition("second", Integer.class));
+            assertThat(container.factory(String.class)).isPresent();
+            assertThat(container.lookup(Integer.class)).isPresent();
+
+            container.removeBean("first");
+            assertThat(container.factory(String.class)).isEmpty();
+            assertThat(container.lookup(String.class)).isEmpty();
+            assertThat(container.all(Integer.class)).hasSize(1);
+
+            container.stop();
+            assertThat(container.lookup(Integer.class)).isEmpty();
+            assertThat(container.all(Integer.class)).isEmpty();
+        }
+    }
 }
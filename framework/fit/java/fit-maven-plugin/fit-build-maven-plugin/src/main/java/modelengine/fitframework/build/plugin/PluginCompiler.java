@@ -6,6 +6,9 @@
 
 package modelengine.fitframework.build.plugin;
 
+import modelengine.fitframework.annotation.Component;
+import modelengine.fitframework.jvm.scan.ComponentIndex;
+import modelengine.fitframework.jvm.scan.support.ComponentIndexGenerator;
 import modelengine.fitframework.plugin.maven.support.AbstractCompiler;
 import modelengine.fitframework.plugin.maven.support.SharedDependency;
 import modelengine.fitframework.util.StringUtils;
@@ -18,10 +21,15 @@ import org.apache.maven.project.MavenProject;
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
@@ -33,6 +41,7 @@ import java.util.Set;
  */
 final class PluginCompiler extends AbstractCompiler {
     private static final String PLUGIN_MANIFEST = "plugin.xml";
+    private static final List<String> BEAN_ANNOTATIONS = Collections.singletonList(Component.class.getName());
 
     private final PluginManifest manifest;
 
@@ -45,6 +54,7 @@ final class PluginCompiler extends AbstractCompiler {
     protected void output(String outputDirectory, String fitRootDirectory) throws MojoExecutionException {
         this.outputPluginManifest(fitRootDirectory);
         this.outputDependencies(fitRootDirectory);
+        this.outputComponentIndex(outputDirectory);
     }
 
     private void outputPluginManifest(String outputDirectory) throws MojoExecutionException {
@@ -62,6 +72,35 @@ final class PluginCompiler extends AbstractCompiler {
         }
     }
 
+    private void outputComponentIndex(String outputDirectory) throws MojoExecutionException {
+        File file = new File(outputDirectory, ComponentIndex.RESOURCE_NAME);
+        try (URLClassLoader loader = this.createClassLoader(outputDirectory);
+             OutputStream out = Files.newOutputStream(file.toPath())) {
+            ComponentIndexGenerator generator = new ComponentIndexGenerator(loader, BEAN_ANNOTATIONS);
+            ComponentIndex index = generator.generate(new File(outputDirectory));
+            index.write(out);
+            this.log()
+                    .info(StringUtils.format("Write component index. [file={0}, components={1}]",
+                            file.getPath(),
+                            index.components().size()));
+        } catch (IOException | IllegalStateException e) {
+            throw new MojoExecutionException(StringUtils.format("Failed to write component index. [file={0}]",
+                    file.getPath()), e);
+        }
+    }
+
+    private URLClassLoader createClassLoader(String outputDirectory) throws MalformedURLException {
+        List<URL> urls = new ArrayList<>();
+        urls.add(new File(outputDirectory).toURI().toURL());
+        for (Artifact dependency : this.project().getArtifacts()) {
+            if (dependency.getFile() != null) {
+                urls.add(dependency.getFile().toURI().toURL());
+            }
+        }
+        // 使用当前插件的类加载程序作为父类加载程序，以读取框架中定义的注解。
+        return new URLClassLoader(urls.toArray(new URL[0]), PluginCompiler.class.getClassLoader());
+    }
+
     private void outputDependencies(String outputDirectory) throws MojoExecutionException {
         Set<Artifact> dependencies = this.project().getArtifacts();
         this.log().info(StringUtils.format("Prepare to package dependencies. [total={0}]", dependencies.size()));
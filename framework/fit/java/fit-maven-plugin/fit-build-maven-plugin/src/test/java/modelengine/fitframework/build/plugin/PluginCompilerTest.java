@@ -11,6 +11,14 @@ import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import modelengine.fitframework.annotation.Component;
+import modelengine.fitframework.annotation.Conditional;
+import modelengine.fitframework.annotation.Fitable;
+import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.ioc.Condition;
+import modelengine.fitframework.ioc.annotation.AnnotationMetadata;
+import modelengine.fitframework.jvm.scan.ComponentIndex;
+import modelengine.fitframework.util.FileUtils;
 import modelengine.fitframework.util.support.Zip;
 
 import org.apache.maven.artifact.Artifact;
@@ -23,7 +31,9 @@ import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collections;
 
 /**
@@ -72,4 +82,62 @@ public class PluginCompilerTest {
         assertThat(cause).hasMessage(
                 "Plugin cannot depend on another plugin. [groupId=test.plugin, artifactId=test-plugin]");
     }
+
+    @Test
+    @DisplayName("编译插件时生成组件索引，记录组件的注解、Fitable 的唯一标识和生效条件")
+    void shouldOutputComponentIndex() throws Exception {
+        File directory = Files.createTempDirectory("PluginCompilerTest-").toFile();
+        try {
+            copyClassFile(IndexedComponent.class, directory);
+            copyClassFile(AlwaysCondition.class, directory);
+            File fitRoot = new File(directory, "FIT-INF");
+            Files.createDirectories(fitRoot.toPath());
+            when(this.mavenProject.getArtifacts()).thenReturn(Collections.emptySet());
+            this.compiler.output(directory.getPath(), fitRoot.getPath());
+
+            ComponentIndex index;
+            try (InputStream in = Files.newInputStream(new File(directory, ComponentIndex.RESOURCE_NAME).toPath())) {
+                index = ComponentIndex.read(in);
+            }
+            assertThat(index.annotationNames()).containsExactly(Component.class.getName());
+            assertThat(index.components()).hasSize(1);
+            ComponentIndex.Component component = index.components().get(0);
+            assertThat(component.className()).isEqualTo(IndexedComponent.class.getName());
+            assertThat(component.annotations()).containsExactly(Component.class.getName(),
+                    Conditional.class.getName());
+            assertThat(component.fitables()).containsExactly("indexed-fitable");
+            assertThat(component.conditions()).containsExactly(AlwaysCondition.class.getName());
+        } finally {
+            FileUtils.delete(directory);
+        }
+    }
+
+    private static void copyClassFile(Class<?> clazz, File directory) throws IOException {
+        String resourceName = clazz.getName().replace('.', '/') + ".class";
+        Path target = directory.toPath().resolve(resourceName);
+        Files.createDirectories(target.getParent());
+        try (InputStream in = clazz.getClassLoader().getResourceAsStream(resourceName)) {
+            Files.copy(in, target);
+        }
+    }
+
+    /**
+     * 表示用以生成组件索引的组件。
+     */
+    @Component
+    @Conditional(AlwaysCondition.class)
+    static class IndexedComponent {
+        @Fitable(id = "indexed-fitable")
+        void handle() {}
+    }
+
+    /**
+     * 表示总是匹配的生效条件。
+     */
+    static class AlwaysCondition implements Condition {
+        @Override
+        public boolean match(BeanContainer container, AnnotationMetadata annotations) {
+            return true;
+        }
+    }
 }
@@ -8,6 +8,7 @@ package modelengine.fitframework.plugin.support;
 
 import static modelengine.fitframework.inspection.Validation.notNull;
 
+import modelengine.fitframework.annotation.Component;
 import modelengine.fitframework.conf.Config;
 import modelengine.fitframework.conf.ConfigChain;
 import modelengine.fitframework.conf.ConfigDecryptor;
@@ -68,6 +69,7 @@ public abstract class AbstractPlugin extends AbstractDisposable implements Plugi
     private static final String PREFIXED_INHERITED_CONFIG_NAME = "Global Config (Prefixed)";
 
     private static final String BASE_PACKAGE_KEY = "fit.beans.packages";
+    private static final List<String> BEAN_ANNOTATIONS = Collections.singletonList(Component.class.getName());
     private static final String PLUGIN_CONFIG_PREFIX = "plugin" + Config.SEPARATOR_DOT;
 
     private static final String PLUGIN_BEAN_NAME = "plugin";
@@ -246,7 +248,7 @@ public abstract class AbstractPlugin extends AbstractDisposable implements Plugi
                 .collect(Collectors.toCollection(HashSet::new));
         Class<?> entryClass = this.runtime().entry();
         PackageScanner scanner =
-                this.scanner((packageScanner, clazz) -> this.onClassDetected(packageScanner, clazz, entryClass));
+                this.beanScanner((packageScanner, clazz) -> this.onClassDetected(packageScanner, clazz, entryClass));
         if (entryClass != null) {
             List<BeanMetadata> beans = this.container().registry().register(entryClass);
             Set<String> entryBasePackages = beans.stream()
@@ -421,6 +423,18 @@ public abstract class AbstractPlugin extends AbstractDisposable implements Plugi
         return new PluginClassLoaderScanner(this.pluginClassLoader(), callback);
     }
 
+    /**
+     * 创建用以扫描 Bean 的包扫描器。
+     * <p>扫描器通过读取类文件进行预过滤，只加载直接或间接标注了 {@link Component} 的具体类。插件在构建时生成了有效的
+     * {@link modelengine.fitframework.jvm.scan.ComponentIndex} 时，直接使用索引中记录的类，不再解析类文件。</p>
+     *
+     * @param callback 表示当扫描到类型时的回调方法的 {@link PackageScanner.Callback}。
+     * @return 表示创建出来的包扫描器的 {@link PackageScanner}。
+     */
+    protected PackageScanner beanScanner(PackageScanner.Callback callback) {
+        return new PluginClassLoaderScanner(this.pluginClassLoader(), callback, BEAN_ANNOTATIONS);
+    }
+
     @Override
     public String toString() {
         return this.metadata().toString();
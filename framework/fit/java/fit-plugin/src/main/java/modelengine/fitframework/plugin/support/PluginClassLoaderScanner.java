@@ -13,6 +13,7 @@ import modelengine.fitframework.util.StringUtils;
 
 import java.io.IOException;
 import java.net.URL;
+import java.util.Collection;
 import java.util.Enumeration;
 
 /**
@@ -26,6 +27,18 @@ public class PluginClassLoaderScanner extends ClassLoaderPackageScanner {
         super(loader, callback);
     }
 
+    /**
+     * 使用指定的类加载器、回调函数和需要标注的注解来初始化 {@link PluginClassLoaderScanner} 的新实例。
+     *
+     * @param loader 表示类加载器的 {@link ClassLoader}。
+     * @param callback 表示扫描回调函数的 {@link PackageScanner.Callback}。
+     * @param annotationNames 表示需要标注的注解的全限定名的 {@link Collection}{@code <}{@link String}{@code >}。
+     */
+    public PluginClassLoaderScanner(ClassLoader loader, PackageScanner.Callback callback,
+            Collection<String> annotationNames) {
+        super(loader, callback, annotationNames);
+    }
+
     @Override
     protected Enumeration<URL> getPackageResources(String basePackage, String resourceName) {
         if (this.getLoader() instanceof PluginClassLoader) {
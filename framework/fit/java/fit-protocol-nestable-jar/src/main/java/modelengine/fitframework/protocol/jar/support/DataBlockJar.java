@@ -12,10 +12,11 @@ import modelengine.fitframework.protocol.jar.JarEntryLocation;
 import modelengine.fitframework.protocol.jar.JarFormatException;
 import modelengine.fitframework.protocol.jar.JarLocation;
 
+import java.io.Closeable;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.security.Permission;
 import java.util.Arrays;
 import java.util.Date;
@@ -24,30 +25,48 @@ import java.util.Objects;
 
 /**
  * 为 {@link Jar} 提供基类。
+ * <p>归档件在其生命周期内持有数据的读取程序，条目数据和嵌套归档件均通过该读取程序的定位读取访问，多个线程可以同时读取。
+ * 读取程序只在解析目录和读取条目期间打开文件，条目的输入流在读取结束或关闭后释放文件。</p>
  *
  * @author 梁济时
  * @since 2023-01-12
  */
 final class DataBlockJar implements Jar {
+    /** 表示一次性读入内存后再解压的压缩数据的最大字节数。 */
+    private static final long MAXIMUM_BUFFERED_COMPRESSED_SIZE = 64 * 1024;
+
     private final JarLocation location;
     private final DataLocator locatorOfData;
+    private final DataRandomReader reader;
     private final String comment;
     private final JarEntryCollection entries;
 
     private DataBlockJar(JarLocation location, DataLocator locatorOfData, DataRandomReader reader) throws IOException {
         this.location = location;
         this.locatorOfData = locatorOfData;
-        Zip cd = new Zip(reader);
-        this.comment = cd.comment();
-        this.entries = new JarEntryCollection(cd.size());
-        Enumerator<Zip.FileHeader> enumerator = cd.enumerator();
-        while (enumerator.more()) {
-            Zip.FileHeader header = enumerator.next();
-            Entry entry = this.new Entry(header);
-            entries.add(entry);
+        this.reader = reader;
+        try (Closeable session = reader.session()) {
+            Zip cd = new Zip(reader);
+            this.comment = cd.comment();
+            this.entries = new JarEntryCollection(cd.size());
+            Enumerator<Zip.FileHeader> enumerator = cd.enumerator();
+            while (enumerator.more()) {
+                Zip.FileHeader header = enumerator.next();
+                Entry entry = this.new Entry(header);
+                entries.add(entry);
+            }
         }
     }
 
+    /**
+     * 判断归档件所在的文件在加载之后是否被修改。
+     *
+     * @return 如果文件在加载之后被修改，则为 {@code true}，否则为 {@code false}。
+     */
+    final boolean modified() {
+        return this.reader instanceof DataRandomReaders.Default && ((DataRandomReaders.Default) this.reader).modified();
+    }
+
     final DataLocator locatorOfData() {
         return this.locatorOfData;
     }
@@ -80,8 +99,16 @@ final class DataBlockJar implements Jar {
     static DataBlockJar load(File file) throws IOException {
         JarLocation jarLocation = JarLocation.custom().file(file).build();
         DataLocator dataLocator = DataLocator.of(jarLocation.file());
-        try (DataRandomReader reader = DataRandomReader.from(dataLocator)) {
+        DataRandomReader reader = DataRandomReader.from(dataLocator);
+        try {
             return new DataBlockJar(jarLocation, dataLocator, reader);
+        } catch (IOException | RuntimeException e) {
+            try {
+                reader.close();
+            } catch (IOException | RuntimeException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
         }
     }
 
@@ -180,50 +207,52 @@ final class DataBlockJar implements Jar {
 
         @Override
         public InputStream read() throws IOException {
-            // 性能敏感场景，IDEA 提示无情重构为 Files.newInputStream(Path path)，该重构性能劣化严重，禁止该重构。
-            InputStream in = new FileInputStream(DataBlockJar.this.locatorOfData().file());
-            try {
-                long bytesToSkip = DataBlockJar.this.locatorOfData.offset() + this.offsetOfLocalHeader;
-                long skipped = 0L;
-                while (skipped < bytesToSkip) {
-                    skipped += in.skip(bytesToSkip - skipped);
-                }
-                Zip.skipLocalHeader(in);
-                in = new LimitedInputStream(in, this.sizeOfCompressed());
+            // 读取本地文件头和条目数据共享一次打开的文件，输入流在此基础上开始自己的读取会话。
+            try (Closeable session = DataBlockJar.this.reader.session()) {
+                DataRandomReader data = this.data();
                 switch (this.methodOfCompression()) {
                     case NONE:
-                        return in;
+                        return new DataRandomReaderInputStream(data);
                     case DEFLATED:
-                        return new JarInflaterInputStream(in, this.sizeOfCompressed());
+                        if (this.sizeOfCompressed <= MAXIMUM_BUFFERED_COMPRESSED_SIZE) {
+                            ByteBuffer buffer = ByteBuffer.allocate((int) this.sizeOfCompressed);
+                            data.read(0L, buffer);
+                            buffer.flip();
+                            return new JarInflaterInputStream(buffer);
+                        }
+                        return new JarInflaterInputStream(new DataRandomReaderInputStream(data),
+                                this.sizeOfCompressed);
                     default:
                         throw new JarFormatException(String.format(Locale.ROOT,
                                 "Unsupported method of compression. [method=%s]",
                                 this.methodOfCompression().code()));
                 }
-            } catch (IOException | RuntimeException e) {
-                try {
-                    in.close();
-                } catch (IOException | RuntimeException suppressed) {
-                    e.addSuppressed(suppressed);
-                }
-                throw e;
             }
         }
 
+        /**
+         * 获取条目的数据（跳过本地文件头之后的压缩数据）的读取程序。
+         *
+         * @return 表示条目数据的读取程序的 {@link DataRandomReader}。
+         * @throws IOException 读取本地文件头过程发生输入输出异常。
+         */
+        private DataRandomReader data() throws IOException {
+            long offset = this.offsetOfLocalHeader;
+            offset += Zip.measureLocalHeader(DataBlockJar.this.reader, offset);
+            return DataBlockJar.this.reader.sub(offset, this.sizeOfCompressed);
+        }
+
         @Override
         public Jar asJar() throws IOException {
             if (this.directory()) {
                 return new NestedDirectoryJar(this);
             } else if (Objects.equals(this.methodOfCompression, CompressionMethod.NONE)) {
-                try (DataRandomReader data = DataRandomReader.from(DataBlockJar.this.locatorOfData)) {
-                    long offset = this.offsetOfLocalHeader;
-                    offset += Zip.measureLocalHeader(data, offset);
-                    long length = this.sizeOfCompressed;
-                    DataLocator locator = DataBlockJar.this.locatorOfData.sub(offset, length);
-                    try (DataRandomReader sub = data.sub(offset, length)) {
-                        return new DataBlockJar(this.location.asJar(), locator, sub);
-                    }
-                }
+                long offset = this.offsetOfLocalHeader;
+                offset += Zip.measureLocalHeader(DataBlockJar.this.reader, offset);
+                long length = this.sizeOfCompressed;
+                DataLocator locator = DataBlockJar.this.locatorOfData.sub(offset, length);
+                // 嵌套归档件与当前归档件共享文件访问，子读取程序不会关闭文件。
+                return new DataBlockJar(this.location.asJar(), locator, DataBlockJar.this.reader.sub(offset, length));
             } else {
                 throw new JarFormatException(String.format(Locale.ROOT,
                         "The entry to be used as a JAR cannot be compressed. [entry=%s, compressionMethod=%s]",
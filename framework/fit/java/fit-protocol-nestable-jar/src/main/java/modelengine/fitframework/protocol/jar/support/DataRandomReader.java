@@ -8,9 +8,12 @@ package modelengine.fitframework.protocol.jar.support;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 /**
  * 为数据提供随机访问能力。
+ * <p>读取方法不依赖读取程序内部的读取位置，同一个读取程序及其通过 {@link #sub(long, long)} 得到的子读取程序可以被多个线程同时使用。</p>
+ * <p>读取程序不长期占用底层资源，连续的多次读取可以通过 {@link #session()} 共享一次打开的资源。</p>
  *
  * @author 梁济时
  * @since 2023-02-21
@@ -34,6 +37,30 @@ public interface DataRandomReader extends Closeable {
      */
     byte[] read(long position, int length) throws IOException;
 
+    /**
+     * 从指定位置读取数据，直到填满缓冲区的剩余空间。
+     *
+     * @param position 表示待读取的数据所在位置的 64 位整数。
+     * @param buffer 表示用以存放读取到数据的缓冲区的 {@link ByteBuffer}。
+     * @throws IllegalArgumentException {@code position} 或缓冲区的剩余空间超出限制。
+     * @throws IOException 读取过程发生输入输出异常。
+     */
+    default void read(long position, ByteBuffer buffer) throws IOException {
+        buffer.put(this.read(position, buffer.remaining()));
+    }
+
+    /**
+     * 开始一次读取会话。
+     * <p>会话期间底层资源保持打开，会话内的多次读取不会重复打开资源。所有会话结束后底层资源被释放，会话之外的每次读取
+     * 只在读取期间临时打开资源。同一个读取程序及其子读取程序共享会话。</p>
+     *
+     * @return 表示读取会话的 {@link Closeable}，关闭后会话结束。
+     * @throws IOException 当打开底层资源过程中发生输入输出异常时。
+     */
+    default Closeable session() throws IOException {
+        return () -> {};
+    }
+
     /**
      * 根据指定偏移量和长度获取一个新的数据随机读取器。
      *
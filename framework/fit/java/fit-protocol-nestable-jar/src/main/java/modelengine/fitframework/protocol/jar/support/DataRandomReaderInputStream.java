@@ -0,0 +1,135 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.protocol.jar.support;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * 为 {@link DataRandomReader} 提供顺序读取的输入流。
+ * <p>输入流自行维护读取位置，并通过定位读取访问数据，因此基于同一个读取程序创建的多个输入流可以被不同的线程同时使用。
+ * 输入流在创建时开始读取程序的读取会话，读取到数据末尾或关闭时结束会话，关闭输入流不会关闭读取程序。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+final class DataRandomReaderInputStream extends InputStream {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final DataRandomReader reader;
+    private final ByteBuffer buffer;
+    private final Closeable session;
+    private long position;
+    private boolean closed;
+
+    /**
+     * 使用待读取的数据初始化 {@link DataRandomReaderInputStream} 类的新实例。
+     *
+     * @param reader 表示待读取的数据的 {@link DataRandomReader}。
+     * @throws IOException 当开始读取会话过程中发生输入输出异常时。
+     */
+    DataRandomReaderInputStream(DataRandomReader reader) throws IOException {
+        this.reader = reader;
+        this.buffer = ByteBuffer.allocate((int) Math.min(BUFFER_SIZE, Math.max(reader.length(), 1L)));
+        this.buffer.limit(0);
+        this.session = reader.session();
+        this.position = 0L;
+    }
+
+    @Override
+    public int read() throws IOException {
+        this.ensureOpen();
+        if (!this.buffer.hasRemaining() && !this.fill()) {
+            return -1;
+        }
+        return this.buffer.get() & 0xff;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        this.ensureOpen();
+        if (length == 0) {
+            return 0;
+        }
+        int buffered = this.buffer.remaining();
+        if (buffered > 0) {
+            int actual = Math.min(buffered, length);
+            this.buffer.get(bytes, offset, actual);
+            return actual;
+        }
+        long rest = this.reader.length() - this.position;
+        if (rest <= 0L) {
+            this.session.close();
+            return -1;
+        }
+        if (length < this.buffer.capacity()) {
+            this.fill();
+            int actual = Math.min(this.buffer.remaining(), length);
+            this.buffer.get(bytes, offset, actual);
+            return actual;
+        }
+        // 大块读取直接写入调用方的数组，避免经过内部缓冲区复制。
+        int actual = (int) Math.min(rest, length);
+        this.reader.read(this.position, ByteBuffer.wrap(bytes, offset, actual));
+        this.position += actual;
+        return actual;
+    }
+
+    @Override
+    public long skip(long bytes) throws IOException {
+        this.ensureOpen();
+        if (bytes <= 0L) {
+            return 0L;
+        }
+        int buffered = this.buffer.remaining();
+        if (bytes <= buffered) {
+            this.buffer.position(this.buffer.position() + (int) bytes);
+            return bytes;
+        }
+        this.buffer.limit(0);
+        long skipped = buffered + Math.min(bytes - buffered, this.reader.length() - this.position);
+        this.position += skipped - buffered;
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        this.ensureOpen();
+        long result = this.buffer.remaining() + this.reader.length() - this.position;
+        return (int) Math.min(result, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.closed = true;
+        this.session.close();
+    }
+
+    private boolean fill() throws IOException {
+        long rest = this.reader.length() - this.position;
+        if (rest <= 0L) {
+            this.session.close();
+            return false;
+        }
+        this.buffer.clear();
+        this.buffer.limit((int) Math.min(rest, this.buffer.capacity()));
+        this.reader.read(this.position, this.buffer);
+        this.buffer.flip();
+        this.position += this.buffer.remaining();
+        return true;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (this.closed) {
+            throw new IOException("Stream closed.");
+        }
+    }
+}
@@ -8,10 +8,17 @@ package modelengine.fitframework.protocol.jar.support;
 
 import static modelengine.fitframework.protocol.jar.location.Locations.path;
 
+import java.io.Closeable;
 import java.io.EOFException;
+import java.io.File;
 import java.io.IOException;
-import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * 为 {@link DataRandomReader} 提供工具方法。
@@ -22,23 +29,25 @@ import java.util.Locale;
 final class DataRandomReaders {
     /**
      * 表示数据块。
+     * <p>数据块通过 {@link FileChannel} 的定位读取访问文件，不修改共享的读取位置，因此根数据块和所有子数据块可以被多个线程同时读取，
+     * 而不需要额外的同步。文件通道只在读取会话期间打开，参见 {@link #session()}。</p>
      *
      * @author 梁济时
      * @since 2023-02-14
      */
     static final class Default implements DataRandomReader {
         private final DataLocator locator;
-        private final RandomAccessFile access;
+        private final FileAccess access;
         private final boolean root;
 
         Default(DataLocator locator) throws IOException {
             this(locator, null);
         }
 
-        private Default(DataLocator locator, RandomAccessFile access) throws IOException {
+        private Default(DataLocator locator, FileAccess access) {
             this.locator = locator;
             if (access == null) {
-                this.access = new RandomAccessFile(this.locator.file(), "r");
+                this.access = new FileAccess(this.locator.file());
                 this.root = true;
             } else {
                 this.access = access;
@@ -53,6 +62,20 @@ final class DataRandomReaders {
             }
         }
 
+        @Override
+        public Closeable session() throws IOException {
+            return this.access.session();
+        }
+
+        /**
+         * 判断数据所在的文件在读取程序创建之后是否被修改。
+         *
+         * @return 如果文件的长度或最后修改时间发生了变化，则为 {@code true}，否则为 {@code false}。
+         */
+        boolean modified() {
+            return this.access.modified();
+        }
+
         @Override
         public long length() {
             return this.locator.length();
@@ -60,23 +83,23 @@ final class DataRandomReaders {
 
         @Override
         public byte[] read(long position, int length) throws IOException {
-            validate(position, length, this.locator.length());
-            this.access.seek(this.locator.offset() + position);
             byte[] bytes = new byte[length];
-            int read = 0;
-            while (read < length) {
-                int part = this.access.read(bytes, read, length - read);
-                if (part < 0) {
-                    throw new EOFException(String.format(Locale.ROOT,
-                            "No enough data to read. [file=%s, position=%s, length=%d, actual=%d]",
-                            path(this.locator.file()), position, length, read));
-                } else {
-                    read += part;
-                }
-            }
+            this.read(position, ByteBuffer.wrap(bytes));
             return bytes;
         }
 
+        @Override
+        public void read(long position, ByteBuffer buffer) throws IOException {
+            int length = buffer.remaining();
+            validate(position, length, this.locator.length());
+            int read = this.access.read(buffer, this.locator.offset() + position);
+            if (read < length) {
+                throw new EOFException(String.format(Locale.ROOT,
+                        "No enough data to read. [file=%s, position=%s, length=%d, actual=%d]",
+                        path(this.locator.file()), position, length, read));
+            }
+        }
+
         @Override
         public Default sub(long offset, long length) throws IOException {
             if (offset < 0 || offset > this.locator.length()) {
@@ -120,4 +143,137 @@ final class DataRandomReaders {
             }
         }
     }
+
+    /**
+     * 表示被根数据块及其子数据块共享的文件访问程序。
+     * <p>文件通道只在存在读取会话时打开，最后一个会话结束时立即关闭，因此归档件不会长期占用文件句柄，也不会在 Windows
+     * 上锁定文件。打开通道时会校验文件的长度和最后修改时间，文件在加载后被覆盖时读取失败，而不会按照过期的目录读取到错误
+     * 的数据。当读取线程被中断时，{@link FileChannel} 会被关闭，此时需要重新打开通道，以免影响其他线程的读取。</p>
+     *
+     * @author 季聿阶
+     * @since 2026-10-18
+     */
+    private static final class FileAccess {
+        private final File file;
+        private final long length;
+        private final long lastModified;
+        private final Object monitor = new Object();
+        private volatile FileChannel channel;
+        private int sessions;
+        private boolean closed;
+
+        private FileAccess(File file) {
+            this.file = file;
+            this.length = file.length();
+            this.lastModified = file.lastModified();
+        }
+
+        private boolean modified() {
+            return this.file.length() != this.length || this.file.lastModified() != this.lastModified;
+        }
+
+        private FileChannel open() throws IOException {
+            if (this.modified()) {
+                throw new IOException(String.format(Locale.ROOT,
+                        "The file has been modified since it was loaded. [file=%s]",
+                        path(this.file)));
+            }
+            return FileChannel.open(this.file.toPath(), StandardOpenOption.READ);
+        }
+
+        private Closeable session() throws IOException {
+            this.acquire();
+            AtomicBoolean ended = new AtomicBoolean();
+            return () -> {
+                if (ended.compareAndSet(false, true)) {
+                    this.release();
+                }
+            };
+        }
+
+        private void acquire() throws IOException {
+            synchronized (this.monitor) {
+                if (this.closed) {
+                    throw new ClosedChannelException();
+                }
+                if (this.channel == null) {
+                    this.channel = this.open();
+                }
+                this.sessions++;
+            }
+        }
+
+        private void release() throws IOException {
+            FileChannel idle = null;
+            synchronized (this.monitor) {
+                if (--this.sessions == 0) {
+                    idle = this.channel;
+                    this.channel = null;
+                }
+            }
+            if (idle != null) {
+                idle.close();
+            }
+        }
+
+        /**
+         * 从文件的指定位置读取数据，直到填满缓冲区或到达文件末尾。
+         *
+         * @param buffer 表示用以存放读取到数据的缓冲区的 {@link ByteBuffer}。
+         * @param position 表示待读取的数据在文件中的位置的 64 位整数。
+         * @return 表示实际读取到的字节数的 32 位整数。
+         * @throws IOException 读取过程发生输入输出异常，文件已被修改或文件访问程序已被关闭。
+         */
+        private int read(ByteBuffer buffer, long position) throws IOException {
+            this.acquire();
+            try {
+                int read = 0;
+                while (buffer.hasRemaining()) {
+                    FileChannel current = this.channel;
+                    int part;
+                    try {
+                        part = current.read(buffer, position + read);
+                    } catch (ClosedChannelException ex) {
+                        this.reopen(current, ex);
+                        continue;
+                    }
+                    if (part < 0) {
+                        break;
+                    }
+                    read += part;
+                }
+                return read;
+            } finally {
+                this.release();
+            }
+        }
+
+        private void reopen(FileChannel broken, ClosedChannelException cause) throws IOException {
+            // 当前线程被中断而关闭了通道时，中断状态需要传递给调用方，不再重试。
+            boolean interrupted = cause instanceof ClosedByInterruptException && Thread.currentThread().isInterrupted();
+            if (interrupted) {
+                throw cause;
+            }
+            synchronized (this.monitor) {
+                if (this.closed) {
+                    throw cause;
+                }
+                if (this.channel == broken) {
+                    this.channel = this.open();
+                }
+            }
+        }
+
+        private void close() throws IOException {
+            FileChannel current;
+            synchronized (this.monitor) {
+                this.closed = true;
+                current = this.channel;
+                this.channel = null;
+            }
+            if (current != null) {
+                current.close();
+            }
+        }
+    }
 }
@@ -46,9 +46,9 @@ public final class DefaultJarCache implements JarCache {
         CachedJar jar;
         WeakReference<CachedJar> ref;
         boolean created = false;
-        if ((ref = this.cache.get(location)) == null || (jar = ref.get()) == null) {
+        if ((ref = this.cache.get(location)) == null || (jar = ref.get()) == null || jar.modified()) {
             synchronized (this.cache) {
-                if ((ref = this.cache.get(location)) == null || (jar = ref.get()) == null) {
+                if ((ref = this.cache.get(location)) == null || (jar = ref.get()) == null || jar.modified()) {
                     jar = new CachedJar(location);
                     ref = new WeakReference<>(jar);
                     this.cache.put(location, ref);
@@ -106,6 +106,16 @@ public final class DefaultJarCache implements JarCache {
             }
         }
 
+        /**
+         * 判断被缓存的归档件所在的文件在加载之后是否被修改，被修改的归档件需要重新加载。
+         *
+         * @return 如果文件在加载之后被修改，则为 {@code true}，否则为 {@code false}。
+         */
+        private boolean modified() {
+            Jar actual = this.jar;
+            return actual instanceof DataBlockJar && ((DataBlockJar) actual).modified();
+        }
+
         @Override
         public JarLocation location() {
             return this.jar.location();
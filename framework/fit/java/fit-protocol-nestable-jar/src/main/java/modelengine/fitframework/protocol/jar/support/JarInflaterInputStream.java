@@ -9,6 +9,7 @@ package modelengine.fitframework.protocol.jar.support;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.zip.Inflater;
 import java.util.zip.InflaterInputStream;
 
@@ -25,6 +26,17 @@ public final class JarInflaterInputStream extends InflaterInputStream {
         super(in, new Inflater(true), sizeOfInflaterBuffer(size));
     }
 
+    /**
+     * 使用完整的压缩数据初始化 {@link JarInflaterInputStream} 类的新实例。
+     * <p>压缩数据直接作为 {@link Inflater} 的输入，解压过程中不再经过输入流和内部缓存复制。</p>
+     *
+     * @param data 表示完整的压缩数据的 {@link ByteBuffer}，从其当前位置读取到限制位置。
+     */
+    public JarInflaterInputStream(ByteBuffer data) {
+        super(InputStream.nullInputStream(), new Inflater(true), 1);
+        this.inf.setInput(data);
+    }
+
     @Override
     protected void fill() throws IOException {
         try {
@@ -8,9 +8,8 @@ package modelengine.fitframework.protocol.jar.support;
 
 import modelengine.fitframework.protocol.jar.JarFormatException;
 
-import java.io.EOFException;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Calendar;
@@ -116,7 +115,7 @@ final class Zip implements Enumerable<Zip.FileHeader> {
         private static final int OFFSET_OF_CENTRAL_DIRECTORY_POSITION = 16;
         private static final int FILE_COMMENT_LENGTH_POSITION = 20;
 
-        private static final int BUFFER_SIZE = 128;
+        private static final int INITIAL_BUFFER_SIZE = 128;
 
         private final long offsetOfCentralDirectory;
         private final int lengthOfCentralDirectory;
@@ -188,7 +187,8 @@ final class Zip implements Enumerable<Zip.FileHeader> {
                         reader));
             }
             byte[] readBytes = new byte[0];
-            for (int size = MINIMUM_LENGTH; size < MAXIMUM_LENGTH; size++) {
+            long limit = Math.min(MAXIMUM_LENGTH, reader.length());
+            for (int size = MINIMUM_LENGTH; size <= limit; size++) {
                 if (size > readBytes.length) {
                     readBytes = read(reader, readBytes);
                 }
@@ -232,16 +232,23 @@ final class Zip implements Enumerable<Zip.FileHeader> {
                     reader));
         }
 
+        /**
+         * 从数据块的末尾向前扩展已读取的数据。
+         * <p>每次扩展将已读取的数据量加倍，在备注信息较长时减少读取的次数，并且已读取的数据只复制一次。</p>
+         *
+         * @param reader 表示数据块的读取程序的 {@link DataRandomReader}。
+         * @param current 表示已从数据块末尾读取的数据的字节数组。
+         * @return 表示扩展后的数据块末尾的数据的字节数组。
+         * @throws IOException 读取过程发生输入输出异常。
+         */
         private static byte[] read(DataRandomReader reader, byte[] current) throws IOException {
-            long offset = reader.length() - current.length - BUFFER_SIZE;
-            byte[] readBytes = reader.read(offset, BUFFER_SIZE);
-            if (current.length > 0) {
-                byte[] total = new byte[readBytes.length + current.length];
-                System.arraycopy(readBytes, 0, total, 0, readBytes.length);
-                System.arraycopy(current, 0, total, readBytes.length, current.length);
-                readBytes = total;
-            }
-            return readBytes;
+            long size = Math.max(INITIAL_BUFFER_SIZE, (long) current.length * 2);
+            size = Math.min(Math.min(size, MAXIMUM_LENGTH), reader.length());
+            byte[] total = new byte[(int) size];
+            int increment = total.length - current.length;
+            reader.read(reader.length() - total.length, ByteBuffer.wrap(total, 0, increment));
+            System.arraycopy(current, 0, total, increment, current.length);
+            return total;
         }
     }
 
@@ -265,6 +272,7 @@ final class Zip implements Enumerable<Zip.FileHeader> {
         private static final int EXTRA_FIELD_LENGTH_POSITION = 30;
         private static final int FILE_COMMENT_LENGTH_POSITION = 32;
         private static final int OFFSET_OF_LOCAL_HEADER_POSITION = 42;
+        private static final byte[] EMPTY_EXTRA = new byte[0];
 
         private final long sizeOfCompressed;
         private final long sizeOfUncompressed;
@@ -274,7 +282,9 @@ final class Zip implements Enumerable<Zip.FileHeader> {
         private final Date timeOfLastModification;
 
         private final String filename;
-        private final byte[] extra;
+        private final byte[] bytesOfExtra;
+        private final int offsetOfExtra;
+        private final int lengthOfExtra;
         private final String comment;
         private final int size;
 
@@ -288,11 +298,15 @@ final class Zip implements Enumerable<Zip.FileHeader> {
          * @param crc32 表示数据的 CRC 校验和的 32 位整数。
          * @param timeOfLastModification 表示记录的上次修改时间的 {@link Date}。
          * @param filename 表示文件名称的 {@link String}。
-         * @param extra 表示记录的扩展数据的字节数组。
+         * @param bytesOfExtra 表示记录的扩展数据所在的中心目录的字节数组，扩展数据在读取时才会被复制。
+         * @param offsetOfExtra 表示扩展数据在中心目录中的偏移量的 32 位整数。
+         * @param lengthOfExtra 表示扩展数据的字节数的 32 位整数。
          * @param comment 表示文件的备注的 {@link String}。
+         * @param size 表示文件头信息的字节数的 32 位整数。
          */
         FileHeader(long sizeOfCompressed, long sizeOfUncompressed, long offsetOfLocalHeader, int compressionMethod,
-                int crc32, Date timeOfLastModification, String filename, byte[] extra, String comment, int size) {
+                int crc32, Date timeOfLastModification, String filename, byte[] bytesOfExtra, int offsetOfExtra,
+                int lengthOfExtra, String comment, int size) {
             this.sizeOfCompressed = sizeOfCompressed;
             this.sizeOfUncompressed = sizeOfUncompressed;
             this.offsetOfLocalHeader = offsetOfLocalHeader;
@@ -300,7 +314,9 @@ final class Zip implements Enumerable<Zip.FileHeader> {
             this.crc32 = crc32;
             this.timeOfLastModification = timeOfLastModification;
             this.filename = filename;
-            this.extra = extra;
+            this.bytesOfExtra = bytesOfExtra;
+            this.offsetOfExtra = offsetOfExtra;
+            this.lengthOfExtra = lengthOfExtra;
             this.comment = comment;
             this.size = size;
         }
@@ -318,8 +334,7 @@ final class Zip implements Enumerable<Zip.FileHeader> {
             int offsetOfExtraField = offsetOfFileName + lengthOfFileName;
             int lengthOfExtraField = Bytes.u2(bytes, offset + EXTRA_FIELD_LENGTH_POSITION);
             int offsetOfComment = offsetOfExtraField + lengthOfExtraField;
-            byte[] extraField = Arrays.copyOfRange(bytes, offsetOfExtraField, offsetOfComment);
-            Zip64 zip64 = Zip64.lookup(extraField);
+            Zip64 zip64 = Zip64.lookup(bytes, offsetOfExtraField, offsetOfComment);
             long readSizeOfCompressed;
             long readSizeOfUncompressed;
             long readOffsetOfLocalHeader;
@@ -343,7 +358,9 @@ final class Zip implements Enumerable<Zip.FileHeader> {
                             Bytes.u2(bytes, offset + LAST_MODIFICATION_DATE_POSITION),
                             Bytes.u2(bytes, offset + LAST_MODIFICATION_TIME_POSITION)).toDate(),
                     new String(bytes, offsetOfFileName, lengthOfFileName, StandardCharsets.UTF_8),
-                    extraField,
+                    bytes,
+                    offsetOfExtraField,
+                    lengthOfExtraField,
                     new String(bytes, offsetOfComment, lengthOfFileComment, StandardCharsets.UTF_8),
                     headerSize);
         }
@@ -436,7 +453,10 @@ final class Zip implements Enumerable<Zip.FileHeader> {
          * @return 表示额外数据的字节序。
          */
         byte[] extra() {
-            return this.extra;
+            if (this.lengthOfExtra == 0) {
+                return EMPTY_EXTRA;
+            }
+            return Arrays.copyOfRange(this.bytesOfExtra, this.offsetOfExtra, this.offsetOfExtra + this.lengthOfExtra);
         }
 
         /**
@@ -476,25 +496,29 @@ final class Zip implements Enumerable<Zip.FileHeader> {
          */
         private static final class ExtraEnumerator implements Enumerator<Extra> {
             private final byte[] bytes;
+            private final int start;
+            private final int end;
             private int offset;
 
-            private ExtraEnumerator(byte[] bytes) {
+            private ExtraEnumerator(byte[] bytes, int start, int end) {
                 this.bytes = bytes;
-                this.offset = 0;
+                this.start = start;
+                this.end = end;
+                this.offset = start;
             }
 
             @Override
             public boolean more() {
-                return this.offset < this.bytes.length;
+                return this.offset < this.end;
             }
 
             @Override
             public Extra next() {
-                if (this.offset >= this.bytes.length) {
+                if (this.offset >= this.end) {
                     throw new NoSuchElementException(String.format(Locale.ROOT,
                             "No more entry in extra field of central directory file header. [data=%s, offset=%d]",
-                            Bytes.hex(this.bytes),
-                            this.offset));
+                            Bytes.hex(Arrays.copyOfRange(this.bytes, this.start, this.end)),
+                            this.offset - this.start));
                 }
                 Extra nextExtra = new Extra(this.bytes, this.offset);
                 this.offset += nextExtra.dataSize;
@@ -536,10 +560,12 @@ final class Zip implements Enumerable<Zip.FileHeader> {
              * 从额外数据中查找 ZIP64 额外数据信息。
              *
              * @param data 表示包含中心目录文件头的额外数据信息的数据的字节数组。
+             * @param start 表示额外数据在字节数组中的起始位置的 32 位整数。
+             * @param end 表示额外数据在字节数组中的结束位置（不包含）的 32 位整数。
              * @return 若存在 ZIP64 额外数据，则为表示该额外数据的 {@link Zip64}，否则为 {@code null}。
              */
-            private static Zip64 lookup(byte[] data) {
-                ExtraEnumerator enumerator = new ExtraEnumerator(data);
+            private static Zip64 lookup(byte[] data, int start, int end) {
+                ExtraEnumerator enumerator = new ExtraEnumerator(data, start, end);
                 while (enumerator.more()) {
                     Extra nextExtra = enumerator.next();
                     if (nextExtra.headerId == HEADER_ID) {
@@ -657,34 +683,6 @@ final class Zip implements Enumerable<Zip.FileHeader> {
         }
     }
 
-    /**
-     * 在输入流中跳过本地文件头。
-     * <p>输入流的初始状态，应停留在本地文件头之前。</p>
-     *
-     * @param in 表示待跳过本地文件头的输入流的 {@link InputStream}。
-     * @throws IOException 跳过本地文件头过程发生输入输出异常。
-     */
-    static void skipLocalHeader(InputStream in) throws IOException {
-        byte[] readBytes = new byte[LOCAL_HEADER_MINIMUM_LENGTH];
-        int read = 0;
-        while (read < LOCAL_HEADER_MINIMUM_LENGTH) {
-            int part = in.read(readBytes, read, LOCAL_HEADER_MINIMUM_LENGTH - read);
-            if (part < 0) {
-                throw new EOFException(String.format(Locale.ROOT,
-                        "EOF reached after read %d bytes but total %d bytes required.",
-                        read,
-                        LOCAL_HEADER_MINIMUM_LENGTH));
-            } else {
-                read += part;
-            }
-        }
-        long bytesToSkip = measureDynamicDataOfLocalHeader(readBytes);
-        long skipped = 0L;
-        while (skipped < bytesToSkip) {
-            skipped += in.skip(bytesToSkip - skipped);
-        }
-    }
-
     /**
      * 度量本地文件头的长度。
      *
@@ -7,6 +7,7 @@
 package modelengine.fitframework.protocol.jar;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import org.junit.jupiter.api.AfterAll;
@@ -18,18 +19,26 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.ClosedByInterruptException;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.zip.CRC32;
 
 @DisplayName("测试 JAR in JAR")
 class JarInJarTest {
     private static final Map<String, Long> NESTED_CRC32S = new HashMap<>();
     private static final String NESTED_JAR_ENTRY_NAME = "FIT-INF/lib/nested.jar";
+    private static final String LARGE_DEFLATED_ENTRY_NAME = "large-deflated.bin";
+    private static final String LARGE_STORED_ENTRY_NAME = "large-stored.bin";
 
     private static File JAR_FILE;
     private static Long NESTED_JAR_CRC32;
@@ -45,6 +54,9 @@ class JarInJarTest {
                 addClass(builder, Jar.class);
                 addClass(builder, Jar.Entry.class);
                 addClass(builder, Jar.EntryCollection.class);
+                byte[] large = large();
+                NESTED_CRC32S.put(LARGE_DEFLATED_ENTRY_NAME, builder.add(LARGE_DEFLATED_ENTRY_NAME, large));
+                NESTED_CRC32S.put(LARGE_STORED_ENTRY_NAME, builder.store(LARGE_STORED_ENTRY_NAME, large));
             }
             nestedJarBytes = out.toByteArray();
         }
@@ -70,6 +82,16 @@ class JarInJarTest {
         NESTED_CRC32S.put(resourceKey, crc32);
     }
 
+    private static byte[] large() {
+        // 使用有限的字母表生成数据，使压缩后的数据仍然超过一次性读入内存的阈值。
+        byte[] bytes = new byte[512 * 1024];
+        Random random = new Random(0L);
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) ('a' + random.nextInt(16));
+        }
+        return bytes;
+    }
+
     @AfterAll
     static void teardownAll() throws IOException {
         Files.delete(JAR_FILE.toPath());
@@ -90,6 +112,45 @@ class JarInJarTest {
         }
     }
 
+    @Test
+    @DisplayName("多个线程同时读取嵌套 JAR 中的条目时，读取到的数据正确")
+    void shouldReadNestedEntriesConcurrently() throws Exception {
+        Jar nestedJar = Jar.from(JAR_FILE).entries().get(NESTED_JAR_ENTRY_NAME).asJar();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                futures.add(executor.submit(() -> {
+                    for (Map.Entry<String, Long> nestedCrc32 : NESTED_CRC32S.entrySet()) {
+                        assertEquals(nestedCrc32.getValue(), crc32(nestedJar.entries().get(nestedCrc32.getKey())));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("读取线程被中断后，其他线程仍然可以读取同一个 JAR 中的条目")
+    void shouldReadAfterAnotherReaderInterrupted() throws Exception {
+        Jar nestedJar = Jar.from(JAR_FILE).entries().get(NESTED_JAR_ENTRY_NAME).asJar();
+        Jar.Entry entry = nestedJar.entries().get(LARGE_STORED_ENTRY_NAME);
+        List<Throwable> errors = new ArrayList<>();
+        Thread thread = new Thread(() -> {
+            Thread.currentThread().interrupt();
+            errors.add(assertThrows(ClosedByInterruptException.class, () -> crc32(entry)));
+        });
+        thread.start();
+        thread.join();
+        assertEquals(1, errors.size());
+        assertEquals(NESTED_CRC32S.get(LARGE_STORED_ENTRY_NAME), crc32(entry));
+    }
+
     private static long crc32(Jar.Entry entry) throws IOException {
         try (InputStream in = entry.read()) {
             byte[] bytes = content(in);
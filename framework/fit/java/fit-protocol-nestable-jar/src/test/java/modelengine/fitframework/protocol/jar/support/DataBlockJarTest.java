@@ -0,0 +1,100 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.protocol.jar.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import modelengine.fitframework.protocol.jar.Jar;
+import modelengine.fitframework.protocol.jar.JarBuilder;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
+
+/**
+ * 为 {@link DataBlockJar} 提供单元测试。
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@DisplayName("测试 DataBlockJar")
+class DataBlockJarTest {
+    private File file;
+
+    @BeforeEach
+    void setup() throws IOException {
+        this.file = Files.createTempFile("data-block-jar-", Jar.FILE_EXTENSION).toFile().getCanonicalFile();
+        write(this.file, "v1");
+    }
+
+    @AfterEach
+    void teardown() throws IOException {
+        Files.deleteIfExists(this.file.toPath());
+    }
+
+    @Test
+    @DisplayName("条目读取结束后，不再持有归档件的文件句柄")
+    void shouldReleaseFileAfterEntryRead() throws IOException {
+        Path fds = Paths.get("/proc/self/fd");
+        assumeTrue(Files.isDirectory(fds));
+        Jar jar = DataBlockJar.load(this.file);
+        assertThat(this.countOpened(fds)).isZero();
+        InputStream in = jar.entries().get("a.txt").read();
+        assertThat(in.read()).isEqualTo('v');
+        assertThat(this.countOpened(fds)).isEqualTo(1);
+        in.close();
+        assertThat(this.countOpened(fds)).isZero();
+    }
+
+    @Test
+    @DisplayName("归档件被覆盖后，读取过期的条目失败，重新获取的归档件读取到新的数据")
+    void shouldReloadAfterFileOverwritten() throws IOException {
+        Jar old = Jar.from(this.file);
+        assertThat(read(old)).isEqualTo("v1");
+        write(this.file, "version2");
+
+        IOException exception = catchThrowableOfType(IOException.class, () -> read(old));
+        assertThat(exception).hasMessageStartingWith("The file has been modified since it was loaded.");
+        assertThat(read(Jar.from(this.file))).isEqualTo("version2");
+    }
+
+    private long countOpened(Path fds) throws IOException {
+        try (Stream<Path> links = Files.list(fds)) {
+            return links.filter(link -> {
+                try {
+                    return Files.readSymbolicLink(link).equals(this.file.toPath());
+                } catch (IOException | UnsupportedOperationException e) {
+                    return false;
+                }
+            }).count();
+        }
+    }
+
+    private static void write(File file, String content) throws IOException {
+        try (JarBuilder builder = JarBuilder.of(file)) {
+            builder.store("a.txt", content.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static String read(Jar jar) throws IOException {
+        try (InputStream in = jar.entries().get("a.txt").read()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -11,6 +11,7 @@ import static modelengine.fitframework.inspection.Validation.greaterThan;
 import modelengine.fitframework.flowable.choir.FlexibleEmitterChoir;
 import modelengine.fitframework.flowable.choir.IterableChoir;
 import modelengine.fitframework.flowable.choir.PublisherChoirAdapter;
+import modelengine.fitframework.flowable.scheduler.Scheduler;
 import modelengine.fitframework.flowable.subscriber.EmptySubscriber;
 import modelengine.fitframework.flowable.util.OnSubscribedObserver;
 import modelengine.fitframework.schedule.ThreadPoolExecutor;
@@ -210,6 +211,21 @@ public interface Choir<T> extends Publisher<T> {
      */
     <R> Choir<R> flatMap(Function<T, Publisher<R>> flatMapper);
 
+    /**
+     * 将每个数据通过指定的方式转换为一个响应式流，同时订阅不超过指定数量的响应式流，并将各响应式流中的元素发送给下游。
+     * <p>每个响应式流的元素先存入容量为 {@code prefetch} 的有界队列，因此不同响应式流的元素之间不保证顺序，同一个响应式流的
+     * 元素保持原有的顺序。</p>
+     *
+     * @param flatMapper 表示指定元素转换为响应式流方式的
+     * {@link Function}{@code <}{@link T}{@code , }{@link Publisher}{@code <}{@link R}{@code >>}。
+     * @param maxConcurrency 表示同时订阅的响应式流的最大数量的 {@code int}。
+     * @param prefetch 表示向每个响应式流预取的元素数量的 {@code int}。
+     * @param <R> 表示元素按指定方式转换后的响应式流的元素数据类型的 {@link R}。
+     * @return 表示包含当前各数据转换为响应式流并合并发送元素的新响应式流的 {@link Choir}{@code <}{@link R}{@code >}。
+     * @throws IllegalArgumentException 当 {@code maxConcurrency} 或 {@code prefetch} 不是正数时。
+     */
+    <R> Choir<R> flatMap(Function<T, Publisher<R>> flatMapper, int maxConcurrency, int prefetch);
+
     /**
      * 将每个数据通过指定的方式进行转换后继续发送。
      *
@@ -219,6 +235,27 @@ public interface Choir<T> extends Publisher<T> {
      */
     <R> Choir<R> map(Function<T, R> mapper);
 
+    /**
+     * 在指定的调度器之上向下游发送数据和终结信号。
+     * <p>使用默认的预取数量 {@code 256}，参见 {@link #publishOn(Scheduler, int)}。</p>
+     *
+     * @param scheduler 表示调度器的 {@link Scheduler}。
+     * @return 表示在指定的调度器之上向下游发送数据的响应式流的 {@link Choir}{@code <}{@link T}{@code >}。
+     */
+    Choir<T> publishOn(Scheduler scheduler);
+
+    /**
+     * 在指定的调度器之上向下游发送数据和终结信号。
+     * <p>上游的数据先存入容量为 {@code prefetch} 的有界无锁队列，上游最多领先下游 {@code prefetch} 个元素，因此上下游可以在
+     * 不同的线程上同时执行，且占用的内存有界。</p>
+     *
+     * @param scheduler 表示调度器的 {@link Scheduler}。
+     * @param prefetch 表示向上游预取的元素数量的 {@code int}。
+     * @return 表示在指定的调度器之上向下游发送数据的响应式流的 {@link Choir}{@code <}{@link T}{@code >}。
+     * @throws IllegalArgumentException 当 {@code scheduler} 为 {@code null} 或 {@code prefetch} 不是正数时。
+     */
+    Choir<T> publishOn(Scheduler scheduler, int prefetch);
+
     /**
      * 将每个数据通过指定的方式进行合并后，形成一个新的数据，并继续发送。
      *
@@ -12,13 +12,16 @@ import modelengine.fitframework.flowable.Solo;
 import modelengine.fitframework.flowable.Subscriber;
 import modelengine.fitframework.flowable.Subscription;
 import modelengine.fitframework.flowable.publisher.BufferPublisherDecorator;
+import modelengine.fitframework.flowable.publisher.ConcurrentFlatMapPublisherDecorator;
 import modelengine.fitframework.flowable.publisher.CountPublisherDecorator;
 import modelengine.fitframework.flowable.publisher.FilterPublisherDecorator;
 import modelengine.fitframework.flowable.publisher.FlatMapPublisherDecorator;
 import modelengine.fitframework.flowable.publisher.MapPublisherDecorator;
+import modelengine.fitframework.flowable.publisher.PublishOnPublisherDecorator;
 import modelengine.fitframework.flowable.publisher.ReducePublisherDecorator;
 import modelengine.fitframework.flowable.publisher.SkipPublisherDecorator;
 import modelengine.fitframework.flowable.publisher.SubscribeOnPublisherDecorator;
+import modelengine.fitframework.flowable.scheduler.Scheduler;
 import modelengine.fitframework.flowable.subscriber.BlockAllSubscriber;
 import modelengine.fitframework.flowable.subscriber.FunctionalSubscriber;
 import modelengine.fitframework.inspection.Nonnull;
@@ -42,6 +45,8 @@ import java.util.function.Predicate;
  * @since 2024-02-07
  */
 public abstract class AbstractChoir<T> implements Choir<T> {
+    private static final int DEFAULT_PREFETCH = 256;
+
     @Override
     public Choir<List<T>> buffer(int size) {
         return Choir.fromPublisher(new BufferPublisherDecorator<>(this, size));
@@ -82,11 +87,29 @@ public abstract class AbstractChoir<T> implements Choir<T> {
         return Choir.fromPublisher(new FlatMapPublisherDecorator<>(this, flatMapper));
     }
 
+    @Override
+    public <R> Choir<R> flatMap(Function<T, Publisher<R>> flatMapper, int maxConcurrency, int prefetch) {
+        return Choir.fromPublisher(new ConcurrentFlatMapPublisherDecorator<>(this,
+                flatMapper,
+                maxConcurrency,
+                prefetch));
+    }
+
     @Override
     public <R> Choir<R> map(Function<T, R> mapper) {
         return Choir.fromPublisher(new MapPublisherDecorator<>(this, mapper));
     }
 
+    @Override
+    public Choir<T> publishOn(Scheduler scheduler) {
+        return this.publishOn(scheduler, DEFAULT_PREFETCH);
+    }
+
+    @Override
+    public Choir<T> publishOn(Scheduler scheduler, int prefetch) {
+        return Choir.fromPublisher(new PublishOnPublisherDecorator<>(this, scheduler, prefetch));
+    }
+
     @Override
     public Choir<T> subscribeOn(ThreadPoolExecutor executor) {
         return Choir.fromPublisher(new SubscribeOnPublisherDecorator<>(this, executor, true));
@@ -8,12 +8,18 @@ package modelengine.fitframework.flowable.choir;
 
 import static modelengine.fitframework.inspection.Validation.notNull;
 
+import modelengine.fitframework.flowable.Choir;
 import modelengine.fitframework.flowable.Publisher;
 import modelengine.fitframework.flowable.Subscriber;
+import modelengine.fitframework.flowable.publisher.FusiblePublisher;
 import modelengine.fitframework.inspection.Nonnull;
 
+import java.util.function.Function;
+import java.util.function.Predicate;
+
 /**
- * 表示 {@link modelengine.fitframework.flowable.Choir} 的指定 {@link Publisher} 的适配。
+ * 表示 {@link Choir} 的指定 {@link Publisher} 的适配。
+ * <p>当被适配的发布者是 {@link FusiblePublisher} 时，之后相邻的转换和过滤操作会与其融合为一个操作。</p>
  *
  * @param <T> 表示响应式流中数据类型的 {@link T}。
  * @author 季聿阶
@@ -32,6 +38,22 @@ public class PublisherChoirAdapter<T> extends AbstractChoir<T> {
         this.publisher = notNull(publisher, "The publisher cannot be null.");
     }
 
+    @Override
+    public Choir<T> filter(Predicate<T> filter) {
+        if (this.publisher instanceof FusiblePublisher) {
+            return Choir.fromPublisher(((FusiblePublisher<T>) this.publisher).fuseFilter(filter));
+        }
+        return super.filter(filter);
+    }
+
+    @Override
+    public <R> Choir<R> map(Function<T, R> mapper) {
+        if (this.publisher instanceof FusiblePublisher) {
+            return Choir.fromPublisher(((FusiblePublisher<T>) this.publisher).fuseMap(mapper));
+        }
+        return super.map(mapper);
+    }
+
     @Override
     protected void subscribe0(@Nonnull Subscriber<T> subscriber) {
         this.publisher.subscribe(subscriber);
@@ -0,0 +1,306 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.flowable.publisher;
+
+import static modelengine.fitframework.inspection.Validation.greaterThan;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.flowable.FlowableException;
+import modelengine.fitframework.flowable.Publisher;
+import modelengine.fitframework.flowable.Subscriber;
+import modelengine.fitframework.flowable.Subscription;
+import modelengine.fitframework.flowable.operation.AbstractOperation;
+import modelengine.fitframework.flowable.subscriber.AbstractSubscriber;
+import modelengine.fitframework.flowable.util.queue.SpscArrayQueue;
+import modelengine.fitframework.inspection.Nonnull;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * 表示 {@link Publisher} 的将每个数据通过指定的方式转换为一个响应式流并同时订阅多个响应式流的实现。
+ * <p>同时被订阅的响应式流不超过 {@code maxConcurrency} 个：上游最初被请求 {@code maxConcurrency} 个元素，每当一个转换后的响应式流
+ * 结束，再向上游请求一个元素。每个转换后的响应式流最初被请求 {@code prefetch} 个元素，到达的元素存入各自的有界无锁队列，
+ * 每向下游发送 {@code prefetch} 的四分之三个元素，再补充请求同样数量的元素。各队列中的元素在下游的请求数量内交替发送，
+ * 因此不同响应式流的元素之间不保证顺序，同一个响应式流的元素保持原有的顺序。</p>
+ * <p>上游或任一转换后的响应式流异常终结时，取消对上游和其余所有响应式流的订阅，之后到达的上游数据不再转换，并将异常
+ * 发送给下游。</p>
+ *
+ * @param <T> 表示发布者中数据转换前的类型的 {@link T}。
+ * @param <R> 表示发布者中数据转换成的 {@link Publisher} 的元素类型的 {@link R}。
+ * @author agent
+ * @since 2026-10-18
+ */
+public class ConcurrentFlatMapPublisherDecorator<T, R> implements Publisher<R> {
+    private final Publisher<T> decorated;
+    private final Function<T, Publisher<R>> flatMapper;
+    private final int maxConcurrency;
+    private final int prefetch;
+
+    /**
+     * 使用指定的发布者、扁平映射函数、最大并发数量和预取数量初始化 {@link ConcurrentFlatMapPublisherDecorator} 的新实例。
+     *
+     * @param decorated 表示被装饰的发布者的 {@link Publisher}{@code <}{@link T}{@code >}。
+     * @param flatMapper 表示扁平映射函数的 {@link Function}{@code <}{@link T}, {@link Publisher}{@code <}{@link R}{@code >>}。
+     * @param maxConcurrency 表示同时订阅的响应式流的最大数量的 {@code int}。
+     * @param prefetch 表示向每个转换后的响应式流预取的元素数量的 {@code int}。
+     * @throws IllegalArgumentException 当 {@code decorated} 或 {@code flatMapper} 为 {@code null}，或
+     * {@code maxConcurrency} 或 {@code prefetch} 不是正数时。
+     */
+    public ConcurrentFlatMapPublisherDecorator(Publisher<T> decorated, Function<T, Publisher<R>> flatMapper,
+            int maxConcurrency, int prefetch) {
+        this.decorated = notNull(decorated, "The decorated flat map publisher cannot be null.");
+        this.flatMapper = notNull(flatMapper, "The flat mapper cannot be null.");
+        this.maxConcurrency = greaterThan(maxConcurrency,
+                0,
+                "The max concurrency must be positive. [maxConcurrency={0}]",
+                maxConcurrency);
+        this.prefetch = greaterThan(prefetch, 0, "The prefetch must be positive. [prefetch={0}]", prefetch);
+    }
+
+    @Override
+    public void subscribe(Subscriber<R> subscriber) {
+        this.decorated.subscribe(new ConcurrentFlatMapOperation<>(subscriber,
+                this.flatMapper,
+                this.maxConcurrency,
+                this.prefetch));
+    }
+
+    private static class ConcurrentFlatMapOperation<T, R> extends AbstractOperation<T, R> {
+        private final Function<T, Publisher<R>> flatMapper;
+        private final int maxConcurrency;
+        private final int prefetch;
+        private final List<InnerSubscriber<R>> inners = new CopyOnWriteArrayList<>();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicReference<Exception> error = new AtomicReference<>();
+        private volatile boolean done;
+
+        ConcurrentFlatMapOperation(Subscriber<R> subscriber, Function<T, Publisher<R>> flatMapper, int maxConcurrency,
+                int prefetch) {
+            super(subscriber);
+            this.flatMapper = flatMapper;
+            this.maxConcurrency = maxConcurrency;
+            this.prefetch = prefetch;
+        }
+
+        @Override
+        protected void onSubscribed0(@Nonnull Subscription subscription) {
+            super.onSubscribed0(subscription);
+            if (!this.isCancelled()) {
+                subscription.request(this.maxConcurrency == Integer.MAX_VALUE ? Long.MAX_VALUE : this.maxConcurrency);
+            }
+        }
+
+        @Override
+        protected void request0(long count) {
+            Demands.add(this.requested, count);
+            this.drain();
+        }
+
+        @Override
+        protected void cancel0() {
+            super.cancel0();
+            this.cancelInners();
+            this.drain();
+        }
+
+        @Override
+        protected void consume0(Subscription subscription, T data) {
+            if (this.error.get() != null) {
+                return;
+            }
+            Publisher<R> publisher;
+            try {
+                publisher = notNull(this.flatMapper.apply(data), "The flat mapped publisher cannot be null.");
+            } catch (Exception cause) {
+                this.onError(cause);
+                return;
+            }
+            InnerSubscriber<R> inner = new InnerSubscriber<>(this, this.prefetch);
+            this.inners.add(inner);
+            if (this.error.get() != null || this.isCancelled()) {
+                // 异常或取消已经发生，新的响应式流可能错过了统一的取消操作，不再订阅。
+                this.inners.remove(inner);
+                return;
+            }
+            publisher.subscribe(inner);
+        }
+
+        @Override
+        protected void complete0(Subscription subscription) {
+            this.done = true;
+            this.drain();
+        }
+
+        @Override
+        protected void fail0(Subscription subscription, Exception cause) {
+            this.onError(cause);
+        }
+
+        private void onError(Exception cause) {
+            if (this.error.compareAndSet(null, cause)) {
+                this.getPreSubscription().cancel();
+                this.cancelInners();
+            }
+            this.done = true;
+            this.drain();
+        }
+
+        private void cancelInners() {
+            for (InnerSubscriber<R> inner : this.inners) {
+                inner.cancel();
+            }
+        }
+
+        private void drain() {
+            if (this.wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (this.drainOnce()) {
+                    return;
+                }
+                missed = this.wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        /**
+         * 在下游的请求数量内发送各队列中的元素，并处理结束的响应式流。
+         *
+         * @return 如果当前的响应式流已终结，则返回 {@code true}，否则，返回 {@code false}。
+         */
+        private boolean drainOnce() {
+            Subscriber<R> next = this.getNextSubscriber();
+            if (this.isCancelled()) {
+                this.clearInners();
+                return true;
+            }
+            Exception cause = this.error.get();
+            if (cause != null) {
+                this.clearInners();
+                next.fail(cause);
+                return true;
+            }
+            // 先读取上游是否结束，保证之后看到的响应式流列表已经包含所有转换后的响应式流。
+            boolean isDone = this.done;
+            long wanted = this.requested.get();
+            long emitted = 0;
+            int finished = 0;
+            for (InnerSubscriber<R> inner : this.inners) {
+                while (emitted != wanted) {
+                    if (this.isCancelled() || this.error.get() != null) {
+                        return this.drainOnce();
+                    }
+                    Object buffered = inner.queue.poll();
+                    if (buffered == null) {
+                        break;
+                    }
+                    next.consume(Demands.unwrap(buffered));
+                    emitted++;
+                    inner.replenish();
+                }
+                if (inner.done && inner.queue.isEmpty()) {
+                    this.inners.remove(inner);
+                    finished++;
+                }
+            }
+            Demands.produced(this.requested, emitted);
+            if (isDone && this.inners.isEmpty()) {
+                next.complete();
+                return true;
+            }
+            if (finished > 0 && !isDone && this.maxConcurrency != Integer.MAX_VALUE) {
+                this.getPreSubscription().request(finished);
+            }
+            return false;
+        }
+
+        private void clearInners() {
+            for (InnerSubscriber<R> inner : this.inners) {
+                inner.queue.clear();
+            }
+            this.inners.clear();
+        }
+    }
+
+    private static class InnerSubscriber<R> extends AbstractSubscriber<R> {
+        private final ConcurrentFlatMapOperation<?, R> parent;
+        private final int prefetch;
+        private final int limit;
+        private final SpscArrayQueue<Object> queue;
+        private volatile Subscription subscription;
+        private volatile boolean done;
+        private volatile boolean cancelled;
+
+        /** 表示自上次补充请求以来向下游发送的元素数量，只在排空时访问。 */
+        private int produced;
+
+        InnerSubscriber(ConcurrentFlatMapOperation<?, R> parent, int prefetch) {
+            this.parent = parent;
+            this.prefetch = prefetch;
+            this.limit = prefetch - (prefetch >> 2);
+            this.queue = new SpscArrayQueue<>(prefetch);
+        }
+
+        @Override
+        protected void onSubscribed0(@Nonnull Subscription subscription) {
+            this.subscription = subscription;
+            if (this.cancelled) {
+                subscription.cancel();
+                return;
+            }
+            subscription.request(this.prefetch);
+        }
+
+        @Override
+        protected void consume(@Nonnull Subscription subscription, R data) {
+            if (this.cancelled) {
+                return;
+            }
+            if (!this.queue.offer(Demands.wrap(data))) {
+                subscription.cancel();
+                this.parent.onError(new FlowableException(
+                        "The flat map queue is full, inner publisher ignored backpressure."));
+                return;
+            }
+            this.parent.drain();
+        }
+
+        @Override
+        protected void complete(@Nonnull Subscription subscription) {
+            this.done = true;
+            this.parent.drain();
+        }
+
+        @Override
+        protected void fail(@Nonnull Subscription subscription, Exception cause) {
+            this.done = true;
+            this.parent.onError(cause);
+        }
+
+        private void replenish() {
+            if (++this.produced == this.limit) {
+                this.produced = 0;
+                this.getPreSubscription().request(this.limit);
+            }
+        }
+
+        private void cancel() {
+            this.cancelled = true;
+            Subscription actual = this.subscription;
+            if (actual != null) {
+                actual.cancel();
+            }
+        }
+    }
+}
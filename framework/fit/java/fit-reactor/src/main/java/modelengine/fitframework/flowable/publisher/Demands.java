@@ -0,0 +1,80 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.flowable.publisher;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 为带有缓冲区的操作提供下游请求数量的计算方法。
+ * <p>请求数量达到 {@link Long#MAX_VALUE} 后视为无限请求，之后不再增加或减少。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+final class Demands {
+    /** 表示缓冲区中 {@code null} 元素的替代对象，缓冲区本身不能存放 {@code null}。 */
+    static final Object NULL_ELEMENT = new Object();
+
+    private Demands() {}
+
+    /**
+     * 增加请求数量。
+     *
+     * @param requested 表示当前请求数量的 {@link AtomicLong}。
+     * @param count 表示增加的数量的 {@code long}。
+     */
+    static void add(AtomicLong requested, long count) {
+        while (true) {
+            long current = requested.get();
+            if (current == Long.MAX_VALUE) {
+                return;
+            }
+            long next = current + count;
+            if (next < 0) {
+                next = Long.MAX_VALUE;
+            }
+            if (requested.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 扣除已发送的数量。
+     *
+     * @param requested 表示当前请求数量的 {@link AtomicLong}。
+     * @param emitted 表示已发送的数量的 {@code long}。
+     */
+    static void produced(AtomicLong requested, long emitted) {
+        if (emitted == 0 || requested.get() == Long.MAX_VALUE) {
+            return;
+        }
+        requested.addAndGet(-emitted);
+    }
+
+    /**
+     * 将元素转换为可以存入缓冲区的对象。
+     *
+     * @param element 表示待转换的元素的 {@link Object}。
+     * @return 表示可以存入缓冲区的对象的 {@link Object}。
+     */
+    static Object wrap(Object element) {
+        return element == null ? NULL_ELEMENT : element;
+    }
+
+    /**
+     * 将缓冲区中的对象还原为元素。
+     *
+     * @param buffered 表示缓冲区中的对象的 {@link Object}。
+     * @param <T> 表示元素类型的 {@link T}。
+     * @return 表示还原后的元素的 {@link T}。
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T unwrap(Object buffered) {
+        return buffered == NULL_ELEMENT ? null : (T) buffered;
+    }
+}
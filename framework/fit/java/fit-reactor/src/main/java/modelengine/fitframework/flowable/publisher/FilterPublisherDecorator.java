@@ -13,6 +13,7 @@ import modelengine.fitframework.flowable.Subscriber;
 import modelengine.fitframework.flowable.Subscription;
 import modelengine.fitframework.flowable.operation.AbstractOperation;
 
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 /**
@@ -22,7 +23,7 @@ import java.util.function.Predicate;
  * @author 何天放
  * @since 2024-02-20
  */
-public class FilterPublisherDecorator<T> implements Publisher<T> {
+public class FilterPublisherDecorator<T> implements FusiblePublisher<T> {
     private final Publisher<T> decorated;
     private final Predicate<T> filter;
 
@@ -43,6 +44,16 @@ public class FilterPublisherDecorator<T> implements Publisher<T> {
         this.decorated.subscribe(new FilterOperation<>(this.filter, subscriber));
     }
 
+    @Override
+    public <V> FusiblePublisher<V> fuseMap(Function<T, V> mapper) {
+        return FusedPublisherDecorator.filter(this.decorated, this.filter).fuseMap(mapper);
+    }
+
+    @Override
+    public FusiblePublisher<T> fuseFilter(Predicate<T> filter) {
+        return FusedPublisherDecorator.filter(this.decorated, this.filter).fuseFilter(filter);
+    }
+
     private static class FilterOperation<T> extends AbstractOperation<T, T> {
         private final Predicate<T> filter;
 
@@ -0,0 +1,133 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.flowable.publisher;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.flowable.Publisher;
+import modelengine.fitframework.flowable.Subscriber;
+import modelengine.fitframework.flowable.Subscription;
+import modelengine.fitframework.flowable.operation.AbstractOperation;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 表示 {@link Publisher} 的将相邻的多个转换和过滤操作融合为一个操作的实现。
+ * <p>所有的转换和过滤被组合为一个函数，被过滤掉的数据由该函数返回特殊的标记对象表示，此时向上游补充请求一个元素。任一操作抛出
+ * 异常时，取消上游的订阅关系并将异常发送给下游，与未融合时各操作的行为一致。当最后一个操作为转换操作时，与
+ * {@link MapPublisherDecorator} 一致，下游消费数据时抛出的异常同样会取消上游的订阅关系并发送给下游。</p>
+ *
+ * @param <T> 表示发布者中数据转换前的类型的 {@link T}。
+ * @param <R> 表示发布者中数据最终类型的 {@link R}。
+ * @author agent
+ * @since 2026-10-18
+ */
+public class FusedPublisherDecorator<T, R> implements FusiblePublisher<R> {
+    private static final Object DROPPED = new Object();
+
+    private final Publisher<T> decorated;
+    private final Function<T, Object> stage;
+    private final boolean isMapTerminated;
+
+    private FusedPublisherDecorator(Publisher<T> decorated, Function<T, Object> stage, boolean isMapTerminated) {
+        this.decorated = notNull(decorated, "The decorated fused publisher cannot be null.");
+        this.stage = stage;
+        this.isMapTerminated = isMapTerminated;
+    }
+
+    /**
+     * 创建只包含一个转换操作的 {@link FusedPublisherDecorator} 的新实例。
+     *
+     * @param decorated 表示被装饰的发布者的 {@link Publisher}{@code <}{@link T}{@code >}。
+     * @param mapper 表示转换方式的 {@link Function}{@code <}{@link T}{@code , }{@link R}{@code >}。
+     * @param <T> 表示发布者中数据转换前的类型的 {@link T}。
+     * @param <R> 表示发布者中数据转换后的类型的 {@link R}。
+     * @return 表示创建的发布者的 {@link FusedPublisherDecorator}{@code <}{@link T}{@code , }{@link R}{@code >}。
+     * @throws IllegalArgumentException 当 {@code decorated} 或 {@code mapper} 为 {@code null} 时。
+     */
+    public static <T, R> FusedPublisherDecorator<T, R> map(Publisher<T> decorated, Function<T, R> mapper) {
+        notNull(mapper, "The mapper cannot be null.");
+        return new FusedPublisherDecorator<>(decorated, mapper::apply, true);
+    }
+
+    /**
+     * 创建只包含一个过滤操作的 {@link FusedPublisherDecorator} 的新实例。
+     *
+     * @param decorated 表示被装饰的发布者的 {@link Publisher}{@code <}{@link T}{@code >}。
+     * @param filter 表示过滤器的 {@link Predicate}{@code <}{@link T}{@code >}。
+     * @param <T> 表示发布者中数据的类型的 {@link T}。
+     * @return 表示创建的发布者的 {@link FusedPublisherDecorator}{@code <}{@link T}{@code , }{@link T}{@code >}。
+     * @throws IllegalArgumentException 当 {@code decorated} 或 {@code filter} 为 {@code null} 时。
+     */
+    public static <T> FusedPublisherDecorator<T, T> filter(Publisher<T> decorated, Predicate<T> filter) {
+        notNull(filter, "The filter cannot be null.");
+        return new FusedPublisherDecorator<>(decorated, data -> filter.test(data) ? data : DROPPED, false);
+    }
+
+    @Override
+    public <V> FusiblePublisher<V> fuseMap(Function<R, V> mapper) {
+        notNull(mapper, "The mapper cannot be null.");
+        Function<T, Object> previous = this.stage;
+        return new FusedPublisherDecorator<>(this.decorated, data -> {
+            Object value = previous.apply(data);
+            return value == DROPPED ? DROPPED : mapper.apply(cast(value));
+        }, true);
+    }
+
+    @Override
+    public FusiblePublisher<R> fuseFilter(Predicate<R> filter) {
+        notNull(filter, "The filter cannot be null.");
+        Function<T, Object> previous = this.stage;
+        return new FusedPublisherDecorator<>(this.decorated, data -> {
+            Object value = previous.apply(data);
+            return value == DROPPED || !filter.test(cast(value)) ? DROPPED : value;
+        }, false);
+    }
+
+    @Override
+    public void subscribe(Subscriber<R> subscriber) {
+        this.decorated.subscribe(new FusedOperation<>(this.stage, this.isMapTerminated, subscriber));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> R cast(Object value) {
+        return (R) value;
+    }
+
+    private static class FusedOperation<T, R> extends AbstractOperation<T, R> {
+        private final Function<T, Object> stage;
+        private final boolean isMapTerminated;
+
+        FusedOperation(Function<T, Object> stage, boolean isMapTerminated, Subscriber<R> subscriber) {
+            super(subscriber);
+            this.stage = stage;
+            this.isMapTerminated = isMapTerminated;
+        }
+
+        @Override
+        protected void consume0(Subscription subscription, T data) {
+            Object result;
+            try {
+                result = this.stage.apply(data);
+                if (result != DROPPED && this.isMapTerminated) {
+                    this.getNextSubscriber().consume(cast(result));
+                    return;
+                }
+            } catch (Exception cause) {
+                this.getPreSubscription().cancel();
+                this.getNextSubscriber().fail(cause);
+                return;
+            }
+            if (result == DROPPED) {
+                this.getPreSubscription().request(1);
+            } else {
+                this.getNextSubscriber().consume(cast(result));
+            }
+        }
+    }
+}
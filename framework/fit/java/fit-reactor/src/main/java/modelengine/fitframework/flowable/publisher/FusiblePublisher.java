@@ -0,0 +1,41 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.flowable.publisher;
+
+import modelengine.fitframework.flowable.Publisher;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 表示可以与之后相邻的转换和过滤操作同步融合的 {@link Publisher}。
+ * <p>融合后的发布者在同一个订阅者内依次执行所有的转换和过滤，不再为每个操作创建订阅者和订阅关系。</p>
+ *
+ * @param <T> 表示发布者中数据类型的 {@link T}。
+ * @author agent
+ * @since 2026-10-18
+ */
+public interface FusiblePublisher<T> extends Publisher<T> {
+    /**
+     * 将指定的转换操作融合到当前发布者之后。
+     *
+     * @param mapper 表示转换方式的 {@link Function}{@code <}{@link T}{@code , }{@link R}{@code >}。
+     * @param <R> 表示转换后的数据类型的 {@link R}。
+     * @return 表示融合后的发布者的 {@link FusiblePublisher}{@code <}{@link R}{@code >}。
+     * @throws IllegalArgumentException 当 {@code mapper} 为 {@code null} 时。
+     */
+    <R> FusiblePublisher<R> fuseMap(Function<T, R> mapper);
+
+    /**
+     * 将指定的过滤操作融合到当前发布者之后。
+     *
+     * @param filter 表示过滤器的 {@link Predicate}{@code <}{@link T}{@code >}。
+     * @return 表示融合后的发布者的 {@link FusiblePublisher}{@code <}{@link T}{@code >}。
+     * @throws IllegalArgumentException 当 {@code filter} 为 {@code null} 时。
+     */
+    FusiblePublisher<T> fuseFilter(Predicate<T> filter);
+}
@@ -14,6 +14,7 @@ import modelengine.fitframework.flowable.Subscription;
 import modelengine.fitframework.flowable.operation.AbstractOperation;
 
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * 表示 {@link Publisher} 的携带数据类型转换的实现。
@@ -23,7 +24,7 @@ import java.util.function.Function;
  * @author 季聿阶
  * @since 2024-02-10
  */
-public class MapPublisherDecorator<T, R> implements Publisher<R> {
+public class MapPublisherDecorator<T, R> implements FusiblePublisher<R> {
     private final Publisher<T> decorated;
     private final Function<T, R> mapper;
 
@@ -44,6 +45,16 @@ public class MapPublisherDecorator<T, R> implements Publisher<R> {
         this.decorated.subscribe(new MapOperation<>(this.mapper, subscriber));
     }
 
+    @Override
+    public <V> FusiblePublisher<V> fuseMap(Function<R, V> mapper) {
+        return FusedPublisherDecorator.map(this.decorated, this.mapper).fuseMap(mapper);
+    }
+
+    @Override
+    public FusiblePublisher<R> fuseFilter(Predicate<R> filter) {
+        return FusedPublisherDecorator.map(this.decorated, this.mapper).fuseFilter(filter);
+    }
+
     private static class MapOperation<T, R> extends AbstractOperation<T, R> {
         private final Function<T, R> mapper;
 
@@ -0,0 +1,186 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.flowable.publisher;
+
+import static modelengine.fitframework.inspection.Validation.greaterThan;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.flowable.FlowableException;
+import modelengine.fitframework.flowable.Publisher;
+import modelengine.fitframework.flowable.Subscriber;
+import modelengine.fitframework.flowable.Subscription;
+import modelengine.fitframework.flowable.operation.AbstractOperation;
+import modelengine.fitframework.flowable.scheduler.Scheduler;
+import modelengine.fitframework.flowable.util.queue.SpscArrayQueue;
+import modelengine.fitframework.inspection.Nonnull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 表示 {@link Publisher} 的切换下游数据消费调度器的实现。
+ * <p>上游的数据先存入容量为 {@code prefetch} 的有界无锁队列，再在指定的调度器上依次发送给下游。上游最初被请求
+ * {@code prefetch} 个元素，此后每向下游发送 {@code prefetch} 的四分之三个元素，就向上游补充请求同样数量的元素，因此队列中
+ * 缓存的元素不会超过 {@code prefetch} 个。上游的异常终结信号在队列中已有的元素都发送之后再发送给下游。</p>
+ *
+ * @param <T> 表示发布者中数据类型的 {@link T}。
+ * @author agent
+ * @since 2026-10-18
+ */
+public class PublishOnPublisherDecorator<T> implements Publisher<T> {
+    private final Publisher<T> decorated;
+    private final Scheduler scheduler;
+    private final int prefetch;
+
+    /**
+     * 使用指定的发布者、调度器和预取数量初始化 {@link PublishOnPublisherDecorator} 的新实例。
+     *
+     * @param decorated 表示被装饰的发布者的 {@link Publisher}{@code <}{@link T}{@code >}。
+     * @param scheduler 表示下游消费数据所在的调度器的 {@link Scheduler}。
+     * @param prefetch 表示向上游预取的元素数量的 {@code int}。
+     * @throws IllegalArgumentException 当 {@code decorated} 或 {@code scheduler} 为 {@code null}，或
+     * {@code prefetch} 不是正数时。
+     */
+    public PublishOnPublisherDecorator(Publisher<T> decorated, Scheduler scheduler, int prefetch) {
+        this.decorated = notNull(decorated, "The decorated publish on publisher cannot be null.");
+        this.scheduler = notNull(scheduler, "The scheduler cannot be null.");
+        this.prefetch = greaterThan(prefetch, 0, "The prefetch must be positive. [prefetch={0}]", prefetch);
+    }
+
+    @Override
+    public void subscribe(Subscriber<T> subscriber) {
+        this.decorated.subscribe(new PublishOnOperation<>(subscriber, this.scheduler, this.prefetch));
+    }
+
+    private static class PublishOnOperation<T> extends AbstractOperation<T, T> implements Runnable {
+        private final Scheduler scheduler;
+        private final int prefetch;
+        private final int limit;
+        private final SpscArrayQueue<Object> queue;
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicLong requested = new AtomicLong();
+        private volatile boolean done;
+        private volatile Exception error;
+
+        /** 表示自上次补充请求以来向下游发送的元素数量，只在调度器上访问。 */
+        private int produced;
+
+        PublishOnOperation(Subscriber<T> subscriber, Scheduler scheduler, int prefetch) {
+            super(subscriber);
+            this.scheduler = scheduler;
+            this.prefetch = prefetch;
+            this.limit = prefetch - (prefetch >> 2);
+            this.queue = new SpscArrayQueue<>(prefetch);
+        }
+
+        @Override
+        protected void onSubscribed0(@Nonnull Subscription subscription) {
+            super.onSubscribed0(subscription);
+            if (!this.isCancelled()) {
+                subscription.request(this.prefetch);
+            }
+        }
+
+        @Override
+        protected void request0(long count) {
+            Demands.add(this.requested, count);
+            this.trySchedule();
+        }
+
+        @Override
+        protected void cancel0() {
+            super.cancel0();
+            this.trySchedule();
+        }
+
+        @Override
+        protected void consume0(Subscription subscription, T data) {
+            if (!this.queue.offer(Demands.wrap(data))) {
+                subscription.cancel();
+                this.error = new FlowableException("The publish on queue is full, upstream ignored backpressure.");
+                this.done = true;
+            }
+            this.trySchedule();
+        }
+
+        @Override
+        protected void complete0(Subscription subscription) {
+            this.done = true;
+            this.trySchedule();
+        }
+
+        @Override
+        protected void fail0(Subscription subscription, Exception cause) {
+            this.error = cause;
+            this.done = true;
+            this.trySchedule();
+        }
+
+        private void trySchedule() {
+            if (this.wip.getAndIncrement() != 0) {
+                return;
+            }
+            try {
+                this.scheduler.schedule(this);
+            } catch (Exception cause) {
+                // 调度失败时当前线程持有排空权，不会与其他线程同时向下游发送信号。
+                this.getPreSubscription().cancel();
+                this.getNextSubscriber().fail(cause);
+            }
+        }
+
+        @Override
+        public void run() {
+            Subscriber<T> next = this.getNextSubscriber();
+            int missed = 1;
+            do {
+                long wanted = this.requested.get();
+                long emitted = 0;
+                while (emitted != wanted) {
+                    if (this.isCancelled()) {
+                        this.queue.clear();
+                        return;
+                    }
+                    boolean isDone = this.done;
+                    Object buffered = this.queue.poll();
+                    if (buffered == null) {
+                        if (isDone) {
+                            this.terminate(next);
+                            return;
+                        }
+                        break;
+                    }
+                    next.consume(Demands.unwrap(buffered));
+                    emitted++;
+                    if (++this.produced == this.limit) {
+                        this.produced = 0;
+                        this.getPreSubscription().request(this.limit);
+                    }
+                }
+                if (this.isCancelled()) {
+                    this.queue.clear();
+                    return;
+                }
+                if (this.done && this.queue.isEmpty()) {
+                    this.terminate(next);
+                    return;
+                }
+                Demands.produced(this.requested, emitted);
+                missed = this.wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void terminate(Subscriber<T> next) {
+            Exception cause = this.error;
+            if (cause == null) {
+                next.complete();
+            } else {
+                next.fail(cause);
+            }
+        }
+    }
+}
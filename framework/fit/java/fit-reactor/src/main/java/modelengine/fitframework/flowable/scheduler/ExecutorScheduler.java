@@ -0,0 +1,31 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.flowable.scheduler;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.schedule.Task;
+import modelengine.fitframework.schedule.ThreadPoolExecutor;
+
+/**
+ * 表示 {@link Scheduler} 的在指定执行器上执行任务的实现。
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+final class ExecutorScheduler implements Scheduler {
+    private final ThreadPoolExecutor executor;
+
+    ExecutorScheduler(ThreadPoolExecutor executor) {
+        this.executor = notNull(executor, "The executor of scheduler cannot be null.");
+    }
+
+    @Override
+    public void schedule(Runnable task) {
+        this.executor.execute(Task.builder().runnable(task).buildDisposable());
+    }
+}
@@ -0,0 +1,25 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.flowable.scheduler;
+
+/**
+ * 表示 {@link Scheduler} 的在调用线程上立即执行任务的实现。
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+final class ImmediateScheduler implements Scheduler {
+    /** 表示当前调度器的唯一实例。 */
+    static final ImmediateScheduler INSTANCE = new ImmediateScheduler();
+
+    private ImmediateScheduler() {}
+
+    @Override
+    public void schedule(Runnable task) {
+        task.run();
+    }
+}
@@ -0,0 +1,47 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.flowable.scheduler;
+
+import modelengine.fitframework.schedule.ThreadPoolExecutor;
+import modelengine.fitframework.schedule.ThreadPoolExecutors;
+
+/**
+ * 表示响应式流中执行任务的调度器。
+ * <p>调度器只负责决定任务在哪个线程上执行，同一个任务的多次调度之间的串行关系由使用调度器的操作自行保证。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@FunctionalInterface
+public interface Scheduler {
+    /**
+     * 调度指定的任务。
+     *
+     * @param task 表示待调度的任务的 {@link Runnable}。
+     */
+    void schedule(Runnable task);
+
+    /**
+     * 获取在调用线程上立即执行任务的调度器。
+     *
+     * @return 表示在调用线程上立即执行任务的调度器的 {@link Scheduler}。
+     */
+    static Scheduler immediate() {
+        return ImmediateScheduler.INSTANCE;
+    }
+
+    /**
+     * 将指定的执行器包装为调度器。
+     *
+     * @param executor 表示执行器的 {@link ThreadPoolExecutor}，可通过 {@link ThreadPoolExecutors} 获取或创建执行器。
+     * @return 表示在指定执行器上执行任务的调度器的 {@link Scheduler}。
+     * @throws IllegalArgumentException 当 {@code executor} 为 {@code null} 时。
+     */
+    static Scheduler fromExecutor(ThreadPoolExecutor executor) {
+        return new ExecutorScheduler(executor);
+    }
+}
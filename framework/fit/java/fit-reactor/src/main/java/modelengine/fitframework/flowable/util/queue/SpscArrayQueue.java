@@ -0,0 +1,110 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.flowable.util.queue;
+
+import static modelengine.fitframework.inspection.Validation.greaterThan;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 表示单生产者单消费者的有界无锁队列。
+ * <p>队列的容量在创建时确定并向上取整为 2 的幂，入队和出队都不加锁：同一时刻只允许一个线程调用 {@link #offer(Object)}，
+ * 也只允许一个线程调用 {@link #poll()} 和 {@link #clear()}，两个线程之间通过槽位中的元素是否为 {@code null} 来交接数据。
+ * 队列已满时入队直接失败，由调用方决定如何处理，因此队列占用的内存始终是有界的。</p>
+ * <p>队列中的元素不能为 {@code null}。</p>
+ *
+ * @param <E> 表示队列中元素类型的 {@link E}。
+ * @author agent
+ * @since 2026-10-18
+ */
+public final class SpscArrayQueue<E> {
+    private final AtomicReferenceArray<E> buffer;
+    private final int mask;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private final AtomicLong consumerIndex = new AtomicLong();
+
+    /**
+     * 使用指定的容量初始化 {@link SpscArrayQueue} 的新实例。
+     *
+     * @param capacity 表示队列的最小容量的 {@code int}。
+     * @throws IllegalArgumentException 当 {@code capacity} 不是正数时。
+     */
+    public SpscArrayQueue(int capacity) {
+        greaterThan(capacity, 0, "The capacity of queue must be positive. [capacity={0}]", capacity);
+        int actual = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.buffer = new AtomicReferenceArray<>(actual);
+        this.mask = actual - 1;
+    }
+
+    /**
+     * 获取队列的容量。
+     *
+     * @return 表示队列容量的 {@code int}。
+     */
+    public int capacity() {
+        return this.mask + 1;
+    }
+
+    /**
+     * 向队列尾部添加一个元素。
+     * <p>只能由生产者线程调用。</p>
+     *
+     * @param element 表示待添加的元素的 {@link E}。
+     * @return 如果添加成功，则返回 {@code true}，如果队列已满，则返回 {@code false}。
+     * @throws IllegalArgumentException 当 {@code element} 为 {@code null} 时。
+     */
+    public boolean offer(E element) {
+        notNull(element, "The element to offer cannot be null.");
+        long index = this.producerIndex.get();
+        int offset = (int) index & this.mask;
+        if (this.buffer.get(offset) != null) {
+            return false;
+        }
+        this.buffer.lazySet(offset, element);
+        this.producerIndex.lazySet(index + 1);
+        return true;
+    }
+
+    /**
+     * 从队列头部取出一个元素。
+     * <p>只能由消费者线程调用。</p>
+     *
+     * @return 表示取出的元素的 {@link E}，如果队列为空，则返回 {@code null}。
+     */
+    public E poll() {
+        long index = this.consumerIndex.get();
+        int offset = (int) index & this.mask;
+        E element = this.buffer.get(offset);
+        if (element == null) {
+            return null;
+        }
+        this.buffer.lazySet(offset, null);
+        this.consumerIndex.lazySet(index + 1);
+        return element;
+    }
+
+    /**
+     * 判断队列是否为空。
+     *
+     * @return 如果队列为空，则返回 {@code true}，否则，返回 {@code false}。
+     */
+    public boolean isEmpty() {
+        return this.producerIndex.get() == this.consumerIndex.get();
+    }
+
+    /**
+     * 清空队列中的所有元素。
+     * <p>只能由消费者线程调用。</p>
+     */
+    public void clear() {
+        while (this.poll() != null) {
+            // 依次取出所有元素，释放其引用。
+        }
+    }
+}
@@ -9,6 +9,7 @@ package modelengine.fitframework.flowable;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
+import modelengine.fitframework.flowable.scheduler.Scheduler;
 import modelengine.fitframework.flowable.subscriber.RecordSubscriber;
 import modelengine.fitframework.schedule.ThreadPoolExecutor;
 import modelengine.fitframework.schedule.ThreadPoolExecutors;
@@ -18,10 +19,18 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * 表示 {@link Choir} 的单元测试。
@@ -411,4 +420,198 @@ public class ChoirTest {
             assertThat(threadName1.get()).isEqualTo(threadName2.get());
         }
     }
+
+    @Nested
+    @DisplayName("测试 publishOn 方法")
+    class TestPublishOn {
+        @Test
+        @DisplayName("当通过 publishOn 方法切换调度器时，下游在调度器上按顺序收到所有元素")
+        void shouldConsumeInOrderOnSchedulerWhenPublishOn() {
+            ThreadPoolExecutor executor = ThreadPoolExecutors.newSingle("publish-on", true);
+            Set<String> threadNames = ConcurrentHashMap.newKeySet();
+            List<Integer> actual = Choir.range(0, 1000).publishOn(Scheduler.fromExecutor(executor), 16).map(integer -> {
+                threadNames.add(Thread.currentThread().getName());
+                return integer;
+            }).blockAll();
+            assertThat(actual).containsExactlyElementsOf(IntStream.range(0, 1000).boxed().collect(Collectors.toList()));
+            assertThat(threadNames).hasSize(1).allMatch(name -> name.startsWith("publish-on"));
+        }
+
+        @Test
+        @DisplayName("当下游请求的元素少于预取数量时，上游最多发送预取数量个元素")
+        void shouldRequestPrefetchFromUpstreamWhenDownstreamIsSlow() {
+            AtomicInteger emitted = new AtomicInteger();
+            RecordSubscriber<Integer> subscriber = new RecordSubscriber<>(1);
+            Choir.range(0, 100).map(integer -> {
+                emitted.incrementAndGet();
+                return integer;
+            }).publishOn(Scheduler.immediate(), 8).subscribe(subscriber);
+            assertThat(subscriber.getElements()).containsExactly(0);
+            assertThat(emitted.get()).isEqualTo(8);
+            subscriber.getSubscription().request(6);
+            assertThat(subscriber.getElements()).hasSize(7);
+            assertThat(emitted.get()).isEqualTo(14);
+        }
+
+        @Test
+        @DisplayName("当上游异常终结时，下游先收到已缓存的元素，再收到异常终结信号")
+        void shouldFailAfterBufferedElementsWhenUpstreamFails() {
+            RecordSubscriber<Integer> subscriber = new RecordSubscriber<>();
+            Choir.just(1, 2, 0).map(integer -> 2 / integer).publishOn(Scheduler.immediate()).subscribe(subscriber);
+            assertThat(subscriber.getElements()).containsExactly(2, 1);
+            assertThat(subscriber.receivedFailed()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("测试限制并发数量的 flatMap 方法")
+    class TestConcurrentFlatMap {
+        @Test
+        @DisplayName("当转换后的响应式流在其他线程执行时，同时订阅的数量不超过最大并发数量")
+        void shouldNotExceedMaxConcurrency() {
+            ThreadPoolExecutor executor = ThreadPoolExecutors.newParallel("flat-map", 8, true);
+            AtomicInteger active = new AtomicInteger();
+            AtomicInteger maxActive = new AtomicInteger();
+            List<Integer> actual = Choir.range(0, 20).flatMap(integer -> Choir.just(integer).map(value -> {
+                maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                ThreadUtils.sleep(5);
+                active.decrementAndGet();
+                return value;
+            }).subscribeOn(executor), 3, 4).blockAll();
+            assertThat(actual).containsExactlyInAnyOrderElementsOf(IntStream.range(0, 20)
+                    .boxed()
+                    .collect(Collectors.toList()));
+            assertThat(maxActive.get()).isLessThanOrEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("当下游请求定量元素时，只发送请求数量的元素")
+        void shouldReturnRequestedElementsWhenRequestThree() {
+            RecordSubscriber<Integer> subscriber = new RecordSubscriber<>(3);
+            Choir.range(0, 10).flatMap(integer -> Choir.just(integer, integer), 2, 4).subscribe(subscriber);
+            assertThat(subscriber.getElements()).containsExactly(0, 0, 1);
+            assertThat(subscriber.receivedCompleted()).isFalse();
+            subscriber.getSubscription().request(Long.MAX_VALUE);
+            assertThat(subscriber.getElements()).hasSize(20);
+            assertThat(subscriber.receivedCompleted()).isTrue();
+        }
+
+        @Test
+        @DisplayName("当转换后的响应式流异常终结时，下游收到异常终结信号")
+        void shouldFailWhenInnerPublisherFails() {
+            RecordSubscriber<Integer> subscriber = new RecordSubscriber<>();
+            Choir.just(1, 0, 2)
+                    .flatMap(integer -> Choir.just(integer).map(value -> 2 / value), 2, 4)
+                    .subscribe(subscriber);
+            assertThat(subscriber.getElements()).containsExactly(2);
+            assertThat(subscriber.receivedFailed()).isTrue();
+        }
+
+        @Test
+        @DisplayName("当转换后的响应式流异常终结时，取消上游的订阅，之后到达的上游数据不再转换")
+        void shouldCancelUpstreamAndStopMappingWhenInnerPublisherFails() {
+            AtomicBoolean cancelled = new AtomicBoolean();
+            AtomicReference<Subscriber<Integer>> upstream = new AtomicReference<>();
+            Publisher<Integer> source = actual -> {
+                upstream.set(actual);
+                actual.onSubscribed(new Subscription() {
+                    @Override
+                    public void request(long count) {}
+
+                    @Override
+                    public void cancel() {
+                        cancelled.set(true);
+                    }
+
+                    @Override
+                    public boolean isCancelled() {
+                        return cancelled.get();
+                    }
+                });
+            };
+            AtomicInteger mapped = new AtomicInteger();
+            RecordSubscriber<Integer> subscriber = new RecordSubscriber<>();
+            Choir.fromPublisher(source).flatMap(integer -> {
+                mapped.incrementAndGet();
+                return Choir.just(integer).map(value -> 2 / value);
+            }, 4, 4).subscribe(subscriber);
+            upstream.get().consume(0);
+            assertThat(subscriber.receivedFailed()).isTrue();
+            assertThat(cancelled.get()).isTrue();
+            upstream.get().consume(1);
+            assertThat(mapped.get()).isEqualTo(1);
+            assertThat(subscriber.getElements()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("测试相邻的 map 和 filter 方法的融合")
+    class TestFusion {
+        @Test
+        @DisplayName("当多个 map 和 filter 方法相邻时，结果与逐个执行一致")
+        void shouldReturnSameResultWhenMapAndFilterFused() {
+            RecordSubscriber<Integer> subscriber = new RecordSubscriber<>(2);
+            Choir.just(1, 2, 3, 4, 5, 6)
+                    .map(integer -> integer * 2)
+                    .filter(integer -> integer % 4 == 0)
+                    .map(integer -> integer + 1)
+                    .subscribe(subscriber);
+            assertThat(subscriber.getElements()).containsExactly(5, 9);
+            assertThat(subscriber.receivedCompleted()).isFalse();
+            subscriber.getSubscription().request(1);
+            assertThat(subscriber.getElements()).containsExactly(5, 9, 13);
+            assertThat(subscriber.receivedCompleted()).isTrue();
+        }
+
+        @Test
+        @DisplayName("当融合后的某个操作抛出异常时，下游收到异常终结信号")
+        void shouldFailWhenFusedStageThrows() {
+            RecordSubscriber<Integer> subscriber = new RecordSubscriber<>();
+            Choir.just(1, 0, 2)
+                    .filter(integer -> integer < 2)
+                    .map(integer -> 2 / integer)
+                    .map(integer -> integer + 1)
+                    .subscribe(subscriber);
+            assertThat(subscriber.getElements()).containsExactly(3);
+            assertThat(subscriber.receivedFailed()).isTrue();
+        }
+
+        @Test
+        @DisplayName("当以 map 结尾的融合操作的下游消费数据抛出异常时，取消上游订阅并将异常发送给下游")
+        void shouldFailWhenDownstreamOfFusedMapThrows() {
+            List<Integer> consumed = new ArrayList<>();
+            AtomicReference<Exception> failed = new AtomicReference<>();
+            Choir.just(1, 2, 3)
+                    .filter(integer -> integer > 0)
+                    .map(integer -> integer * 2)
+                    .subscribe(subscription -> subscription.request(Long.MAX_VALUE), (subscription, integer) -> {
+                        consumed.add(integer);
+                        throw new IllegalStateException("downstream");
+                    }, subscription -> {}, (subscription, cause) -> failed.set(cause));
+            assertThat(consumed).containsExactly(2);
+            assertThat(failed.get()).isInstanceOf(IllegalStateException.class).hasMessage("downstream");
+        }
+
+        @Test
+        @DisplayName("当多个 map 和 filter 方法相邻时，所有操作在同一个融合操作中执行")
+        void shouldRunAdjacentMapAndFilterInOneOperation() {
+            AtomicReference<StackTraceElement[]> stack = new AtomicReference<>();
+            Choir.just(1)
+                    .map(integer -> integer + 1)
+                    .filter(integer -> integer > 0)
+                    .map(integer -> {
+                        stack.set(Thread.currentThread().getStackTrace());
+                        return integer;
+                    })
+                    .subscribe();
+            List<String> operations = Stream.of(stack.get())
+                    .map(StackTraceElement::getClassName)
+                    .filter(className -> className.startsWith("modelengine.fitframework.flowable.publisher."))
+                    .filter(className -> className.contains("Operation"))
+                    .distinct()
+                    .collect(Collectors.toList());
+            assertThat(operations).containsExactly(
+                    "modelengine.fitframework.flowable.publisher.FusedPublisherDecorator$FusedOperation");
+        }
+    }
 }
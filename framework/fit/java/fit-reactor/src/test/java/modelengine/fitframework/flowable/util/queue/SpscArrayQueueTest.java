@@ -0,0 +1,69 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.flowable.util.queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 表示 {@link SpscArrayQueue} 的单元测试。
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@DisplayName("测试单生产者单消费者的有界无锁队列")
+class SpscArrayQueueTest {
+    @Test
+    @DisplayName("队列的容量向上取整为 2 的幂，队列已满时入队失败")
+    void shouldRejectOfferWhenFull() {
+        SpscArrayQueue<Integer> queue = new SpscArrayQueue<>(3);
+        assertThat(queue.capacity()).isEqualTo(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(queue.offer(i)).isTrue();
+        }
+        assertThat(queue.offer(4)).isFalse();
+        assertThat(queue.poll()).isEqualTo(0);
+        assertThat(queue.offer(4)).isTrue();
+        assertThat(queue.isEmpty()).isFalse();
+        queue.clear();
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.poll()).isNull();
+    }
+
+    @Test
+    @DisplayName("生产者和消费者在不同线程上时，消费者按顺序收到所有元素")
+    void shouldPollInOrderWhenProducerOnAnotherThread() throws InterruptedException {
+        SpscArrayQueue<Integer> queue = new SpscArrayQueue<>(16);
+        int count = 10_000;
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                while (!queue.offer(i)) {
+                    Thread.yield();
+                }
+            }
+        });
+        producer.start();
+        List<Integer> actual = new ArrayList<>(count);
+        while (actual.size() < count) {
+            Integer element = queue.poll();
+            if (element == null) {
+                Thread.yield();
+            } else {
+                actual.add(element);
+            }
+        }
+        producer.join();
+        for (int i = 0; i < count; i++) {
+            assertThat(actual.get(i)).isEqualTo(i);
+        }
+    }
+}
@@ -32,6 +32,7 @@ import modelengine.fitframework.broker.support.DefaultFitableFactory;
 import modelengine.fitframework.broker.support.DefaultGenericableFactory;
 import modelengine.fitframework.broker.support.DefaultLoadBalancer;
 import modelengine.fitframework.broker.support.DefaultTargetLocator;
+import modelengine.fitframework.broker.support.RemoteCallPlanInvalidator;
 import modelengine.fitframework.conf.runtime.ApplicationConfig;
 import modelengine.fitframework.conf.runtime.DefaultApplication;
 import modelengine.fitframework.conf.runtime.DefaultMatata;
@@ -70,6 +71,7 @@ public abstract class AbstractRootPlugin extends AbstractPlugin implements RootP
     private static final String LOAD_BALANCER_BEAN_BANE = "loadBalancer";
     private static final String FIT_EXCEPTION_CREATOR_BEAN_NAME = "fitExceptionCreator";
     private static final String FITABLE_FACTORY_BEAN_NAME = "fitableFactory";
+    private static final String REMOTE_CALL_PLAN_INVALIDATOR_BEAN_NAME = "remoteCallPlanInvalidator";
     private static final String INVOKER_FACTORY_BEAN_NAME = "invokerFactory";
     private static final String LOCAL_GENERICABLE_REPOSITORY_NAME = "localGenericableRepository";
     private static final String ROUTER_FACTORY_BEAN_NAME = "routerFactory";
@@ -137,6 +139,9 @@ public abstract class AbstractRootPlugin extends AbstractPlugin implements RootP
         this.container().registry().register(exceptionCreator, FIT_EXCEPTION_CREATOR_BEAN_NAME);
         FitableFactory fitableFactory = new DefaultFitableFactory(this.container(), loadBalancer, targetLocator);
         this.container().registry().register(fitableFactory, FITABLE_FACTORY_BEAN_NAME);
+        this.container()
+                .registry()
+                .register(new RemoteCallPlanInvalidator(this.container()), REMOTE_CALL_PLAN_INVALIDATOR_BEAN_NAME);
         DefaultInvokerFactory invokerFactory = new DefaultInvokerFactory(this.container(),
                 genericableFactory,
                 fitableFactory,
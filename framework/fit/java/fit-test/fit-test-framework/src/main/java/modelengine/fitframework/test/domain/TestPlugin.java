@@ -62,7 +62,7 @@ public class TestPlugin extends AbstractRootPlugin implements Plugin {
                 new DefaultPluginMetadata(pluginKey, this.runtime.location(), PluginCategory.SYSTEM, Integer.MIN_VALUE);
         this.configuration =
                 Validation.notNull(configuration, "The configuration to create test plugin cannot be null.");
-        this.packageScanner = this.scanner((packageScanner, clazz) -> this.onClassDetected(packageScanner, clazz,
+        this.packageScanner = this.beanScanner((packageScanner, clazz) -> this.onClassDetected(packageScanner, clazz,
                 // 包含的类已经提前注册，因此需要将包含的和排除的类进行合并。
                 Stream.concat(Arrays.stream(this.configuration.includeClasses()),
                         Arrays.stream(this.configuration.excludeClasses())).collect(Collectors.toSet())));
@@ -0,0 +1,141 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.beans;
+
+import modelengine.fitframework.exception.ObjectInstantiationException;
+import modelengine.fitframework.util.ReflectionUtils;
+import modelengine.fitframework.util.StringUtils;
+import modelengine.fitframework.util.support.MethodHandleFunctions;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 为 {@link BeanAccessor} 和 {@link BeanPropertyAccessor} 生成读取属性、设置属性和实例化 Bean 的函数。
+ * <p>优先通过 {@link MethodHandleFunctions#generate(Class, Class, MethodHandle, MethodType)} 在 Bean
+ * 类型所在的嵌套中生成直接调用方法的函数，其调用开销与直接调用相同。当无法获得 Bean 类型的完整访问权限时（例如 Bean
+ * 类型由其他类加载程序加载），退化为调用缓存的 {@link MethodHandle}。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+final class BeanAccessors {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType INSTANTIATOR_TYPE = MethodType.methodType(Object.class);
+
+    private BeanAccessors() {}
+
+    /**
+     * 为读取属性的方法生成函数。
+     *
+     * @param method 表示读取属性的方法的 {@link Method}。
+     * @return 表示以 Bean 为参数，返回属性值的函数的 {@link Function}{@code <}{@link Object}{@code ,
+     * }{@link Object}{@code >}。
+     * @throws IllegalStateException 当无法访问读取属性的方法时。
+     */
+    static Function<Object, Object> getter(Method method) {
+        MethodHandle handle = unreflect(method);
+        @SuppressWarnings("unchecked")
+        Function<Object, Object> generated = MethodHandleFunctions.generate(Function.class,
+                method.getDeclaringClass(),
+                handle,
+                handle.type().wrap());
+        if (generated != null) {
+            return generated;
+        }
+        MethodHandle invoker = handle.asType(GETTER_TYPE);
+        return bean -> {
+            try {
+                return (Object) invoker.invokeExact(bean);
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new IllegalStateException(StringUtils.format(
+                        "Failed to read property of bean. [method={0}]",
+                        ReflectionUtils.signatureOf(method)), ex);
+            }
+        };
+    }
+
+    /**
+     * 为设置属性的方法生成函数。
+     *
+     * @param method 表示设置属性的方法的 {@link Method}。
+     * @return 表示以 Bean 和属性值为参数的函数的 {@link BiConsumer}{@code <}{@link Object}{@code ,
+     * }{@link Object}{@code >}。
+     * @throws IllegalStateException 当无法访问设置属性的方法时。
+     */
+    static BiConsumer<Object, Object> setter(Method method) {
+        MethodHandle handle = unreflect(method);
+        @SuppressWarnings("unchecked")
+        BiConsumer<Object, Object> generated = MethodHandleFunctions.generate(BiConsumer.class,
+                method.getDeclaringClass(),
+                handle,
+                handle.type().wrap().changeReturnType(void.class));
+        if (generated != null) {
+            return generated;
+        }
+        MethodHandle invoker = handle.asType(SETTER_TYPE);
+        return (bean, value) -> {
+            try {
+                invoker.invokeExact(bean, value);
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new IllegalStateException(StringUtils.format(
+                        "Failed to write property of bean. [method={0}]",
+                        ReflectionUtils.signatureOf(method)), ex);
+            }
+        };
+    }
+
+    /**
+     * 为 Bean 类型的默认构造方法生成实例化函数。
+     * <p>当 Bean 类型不能被实例化或不存在默认构造方法时，实例化函数通过反射实例化，以抛出与反射一致的异常。</p>
+     *
+     * @param type 表示 Bean 类型的 {@link Class}{@code <?>}。
+     * @return 表示实例化函数的 {@link Supplier}{@code <}{@link Object}{@code >}。
+     */
+    static Supplier<Object> instantiator(Class<?> type) {
+        Supplier<Object> reflective = () -> ReflectionUtils.instantiate(type);
+        if (Modifier.isAbstract(type.getModifiers()) || type.isInterface() || type.isPrimitive() || type.isArray()) {
+            return reflective;
+        }
+        MethodHandle handle;
+        try {
+            handle = MethodHandleFunctions.unreflectConstructor(type.getDeclaredConstructor());
+        } catch (NoSuchMethodException | IllegalAccessException | RuntimeException ex) {
+            return reflective;
+        }
+        @SuppressWarnings("unchecked")
+        Supplier<Object> generated = MethodHandleFunctions.generate(Supplier.class, type, handle, handle.type());
+        MethodHandle invoker = handle.asType(INSTANTIATOR_TYPE);
+        return () -> {
+            try {
+                return generated == null ? (Object) invoker.invokeExact() : generated.get();
+            } catch (Throwable ex) {
+                // 与反射实例化保持一致，构造方法抛出的异常统一包装为 ObjectInstantiationException。
+                throw new ObjectInstantiationException(ex);
+            }
+        };
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        try {
+            return MethodHandleFunctions.unreflect(method);
+        } catch (IllegalAccessException | RuntimeException ex) {
+            throw new IllegalStateException(StringUtils.format("Failed to access method of bean. [method={0}]",
+                    ReflectionUtils.signatureOf(method)), ex);
+        }
+    }
+}
@@ -6,19 +6,20 @@
 
 package modelengine.fitframework.beans;
 
-import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.ReflectionUtils;
 import modelengine.fitframework.util.StringUtils;
 
 import java.beans.PropertyDescriptor;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 /**
  * 为 Bean 的属性提供访问程序。
+ * <p>读写属性的方法在首次使用时被生成为直接调用的函数，此后读写属性不再经过反射。</p>
  *
  * @author 梁济时
  * @since 2023-01-06
@@ -29,6 +30,8 @@ final class BeanPropertyAccessor {
     private final Type type;
     private final Method readMethod;
     private final Method writeMethod;
+    private volatile Function<Object, Object> getter;
+    private volatile BiConsumer<Object, Object> setter;
 
     /**
      * 使用属性所属 Bean 的访问程序、属性的名称、类型及读写方法初始化 {@link BeanPropertyAccessor} 类的新实例。
@@ -78,20 +81,13 @@ final class BeanPropertyAccessor {
                     this.bean.type().getName(),
                     this.name()));
         }
-        try {
-            return this.readMethod.invoke(bean);
-        } catch (IllegalAccessException ex) {
-            throw new IllegalStateException(StringUtils.format(
-                    "Failed to access method to read property of bean. [method={0}]",
-                    ReflectionUtils.signatureOf(this.readMethod)), ex);
-        } catch (InvocationTargetException ex) {
-            Throwable cause = ex.getCause();
-            if (cause instanceof Error) {
-                throw ObjectUtils.<Error>cast(cause);
-            } else {
-                throw ObjectUtils.<RuntimeException>cast(cause);
-            }
+        Function<Object, Object> actual = this.getter;
+        if (actual == null) {
+            // 并发首次访问时可能重复生成，生成的函数等价，无需同步。
+            actual = BeanAccessors.getter(this.readMethod);
+            this.getter = actual;
         }
+        return actual.apply(bean);
     }
 
     /**
@@ -107,20 +103,12 @@ final class BeanPropertyAccessor {
                     this.bean.type().getName(),
                     this.name()));
         }
-        try {
-            this.writeMethod.invoke(bean, value);
-        } catch (IllegalAccessException ex) {
-            throw new IllegalStateException(StringUtils.format(
-                    "Failed to access method to write property of bean. [method={0}]",
-                    ReflectionUtils.signatureOf(this.writeMethod)), ex);
-        } catch (InvocationTargetException ex) {
-            Throwable cause = ex.getCause();
-            if (cause instanceof Error) {
-                throw ObjectUtils.<Error>cast(cause);
-            } else {
-                throw ObjectUtils.<RuntimeException>cast(cause);
-            }
+        BiConsumer<Object, Object> actual = this.setter;
+        if (actual == null) {
+            actual = BeanAccessors.setter(this.writeMethod);
+            this.setter = actual;
         }
+        actual.accept(bean, value);
     }
 
     @Override
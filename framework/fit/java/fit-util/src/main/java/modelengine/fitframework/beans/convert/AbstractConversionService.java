@@ -10,7 +10,6 @@ import static modelengine.fitframework.inspection.Validation.notNull;
 import static modelengine.fitframework.util.ObjectUtils.cast;
 
 import modelengine.fitframework.beans.BeanAccessor;
-import modelengine.fitframework.util.EnumUtils;
 import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.ReflectionUtils;
 import modelengine.fitframework.util.StringUtils;
@@ -33,8 +32,9 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -59,8 +59,26 @@ public abstract class AbstractConversionService implements ConversionService {
             String.class,
             Date.class).collect(Collectors.toSet());
 
+    /**
+     * 表示枚举类型中不区分大小写的名称到枚举项的映射。
+     * <p>名称为枚举项的 {@link Enum#toString()}，名称相同时保留声明顺序中的第一个枚举项。</p>
+     */
+    private static final ClassValue<Map<String, Object>> ENUM_CONSTANTS = new ClassValue<Map<String, Object>>() {
+        @Override
+        protected Map<String, Object> computeValue(Class<?> type) {
+            Map<String, Object> constants = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            for (Object constant : type.getEnumConstants()) {
+                String name = constant.toString();
+                if (name != null) {
+                    constants.putIfAbsent(name, constant);
+                }
+            }
+            return Collections.unmodifiableMap(constants);
+        }
+    };
+
     private final List<ValueConverter> converters;
-    private volatile List<ValueConverter> current;
+    private volatile Converters current;
 
     /**
      * 初始化 {@link AbstractConversionService} 的新实例。
@@ -168,22 +186,15 @@ public abstract class AbstractConversionService implements ConversionService {
     }
 
     private ValueConverter lookupScalarConverter(Class<?> source, Class<?> target) {
-        for (ValueConverter converter : this.converters()) {
-            if (converter.source().isAssignableFrom(source) && target.isAssignableFrom(converter.target())) {
-                return converter;
-            }
-        }
-        throw new IllegalStateException(StringUtils.format("Cannot convert value from {0} to {1}.",
-                source.getName(),
-                target.getName()));
+        return this.converters().lookup(source, target);
     }
 
-    private List<ValueConverter> converters() {
-        List<ValueConverter> actual;
+    private Converters converters() {
+        Converters actual;
         if ((actual = this.current) == null) {
             synchronized (this.converters) {
                 if ((actual = this.current) == null) {
-                    this.current = new ArrayList<>(this.converters);
+                    this.current = new Converters(this.converters);
                     actual = this.current;
                 }
             }
@@ -285,9 +296,10 @@ public abstract class AbstractConversionService implements ConversionService {
     protected abstract Object toCustomObject(Object value, ParameterizedType type);
 
     private static Object toEnum(Class<?> enumClass, String value) {
-        Class<? extends Enum<?>> actualClass = cast(enumClass);
-        Predicate<Enum> predicate = enumConstant -> StringUtils.equalsIgnoreCase(enumConstant.toString(), value);
-        return EnumUtils.firstOrDefault(ObjectUtils.cast(actualClass), predicate);
+        if (value == null) {
+            return null;
+        }
+        return ENUM_CONSTANTS.get(enumClass).get(value);
     }
 
     private List<?> toList(Object source, Type elementType) {
@@ -369,4 +381,42 @@ public abstract class AbstractConversionService implements ConversionService {
         }
         return array;
     }
+
+    /**
+     * 表示已注册的值转换器的快照，并缓存源类型和目标类型所对应的转换器。
+     * <p>注册新的转换器时，快照会被整体替换，因此缓存不需要单独失效。</p>
+     *
+     * @author 季聿阶
+     * @since 2026-10-18
+     */
+    private static final class Converters {
+        private final List<ValueConverter> converters;
+        private final Map<Class<?>, Map<Class<?>, ValueConverter>> cache = new ConcurrentHashMap<>();
+
+        private Converters(List<ValueConverter> converters) {
+            this.converters = new ArrayList<>(converters);
+        }
+
+        private ValueConverter lookup(Class<?> source, Class<?> target) {
+            Map<Class<?>, ValueConverter> targets =
+                    this.cache.computeIfAbsent(source, key -> new ConcurrentHashMap<>());
+            ValueConverter converter = targets.get(target);
+            if (converter == null) {
+                converter = this.scan(source, target);
+                targets.putIfAbsent(target, converter);
+            }
+            return converter;
+        }
+
+        private ValueConverter scan(Class<?> source, Class<?> target) {
+            for (ValueConverter converter : this.converters) {
+                if (converter.source().isAssignableFrom(source) && target.isAssignableFrom(converter.target())) {
+                    return converter;
+                }
+            }
+            throw new IllegalStateException(StringUtils.format("Cannot convert value from {0} to {1}.",
+                    source.getName(),
+                    target.getName()));
+        }
+    }
 }
@@ -0,0 +1,310 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.jvm.scan;
+
+import static modelengine.fitframework.inspection.Validation.notBlank;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.util.DigitUtils;
+import modelengine.fitframework.util.StringUtils;
+import modelengine.fitframework.util.XmlUtils;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+/**
+ * 表示在构建时生成的组件索引。
+ * <p>索引记录了类路径根目录（或 JAR）中所有标注了指定注解的具体类，以及这些类上的注解、{@code @Fitable} 的唯一标识和生效条件等元数据。
+ * 运行时扫描 Bean 时可以直接使用索引中的类名，而无需列举和读取所有的类文件，并根据记录的注解在运行时的类路径上确认类型是否仍然是
+ * 组件，而无需读取组件的类文件。</p>
+ * <p>索引中记录了生成时所有类文件的指纹，当类文件被增加、删除或修改导致指纹不一致时，索引被视为过期，需要退回到扫描类文件。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public final class ComponentIndex {
+    /** 表示组件索引在类路径根目录中的资源名称的 {@link String}。 */
+    public static final String RESOURCE_NAME = "FIT-INF/components.xml";
+
+    private static final String VERSION = "3";
+    private static final String FINGERPRINT_ALGORITHM = "SHA-256";
+
+    private static final String ROOT_TAG = "components";
+    private static final String VERSION_ATTRIBUTE = "version";
+    private static final String FINGERPRINT_ATTRIBUTE = "fingerprint";
+    private static final String FILTER_TAG = "filter";
+    private static final String COMPONENT_TAG = "component";
+    private static final String CLASS_ATTRIBUTE = "class";
+    private static final String ANNOTATION_TAG = "annotation";
+    private static final String FITABLE_TAG = "fitable";
+    private static final String CONDITION_TAG = "condition";
+
+    private final Set<String> annotationNames;
+    private final String fingerprint;
+    private final List<Component> components;
+
+    /**
+     * 使用过滤的注解、类文件的指纹和组件列表初始化 {@link ComponentIndex} 的新实例。
+     *
+     * @param annotationNames 表示生成索引时过滤所使用的注解的全限定名的 {@link Set}{@code <}{@link String}{@code >}。
+     * @param fingerprint 表示生成索引时所有类文件的指纹的 {@link String}。
+     * @param components 表示索引中的组件的 {@link List}{@code <}{@link Component}{@code >}。
+     * @throws IllegalArgumentException 当任意参数为 {@code null} 时。
+     */
+    public ComponentIndex(Set<String> annotationNames, String fingerprint, List<Component> components) {
+        this.annotationNames = Collections.unmodifiableSet(new LinkedHashSet<>(notNull(annotationNames,
+                "The annotation names of component index cannot be null.")));
+        this.fingerprint = notNull(fingerprint, "The fingerprint of component index cannot be null.");
+        this.components = Collections.unmodifiableList(new ArrayList<>(notNull(components,
+                "The components of component index cannot be null.")));
+    }
+
+    /**
+     * 获取生成索引时过滤所使用的注解。
+     *
+     * @return 表示注解的全限定名的 {@link Set}{@code <}{@link String}{@code >}。
+     */
+    public Set<String> annotationNames() {
+        return this.annotationNames;
+    }
+
+    /**
+     * 获取生成索引时所有类文件的指纹。
+     *
+     * @return 表示类文件指纹的 {@link String}。
+     */
+    public String fingerprint() {
+        return this.fingerprint;
+    }
+
+    /**
+     * 获取索引中的所有组件。
+     *
+     * @return 表示组件的 {@link List}{@code <}{@link Component}{@code >}。
+     */
+    public List<Component> components() {
+        return this.components;
+    }
+
+    /**
+     * 将索引写入到输出流中。
+     *
+     * @param out 表示待写入的输出流的 {@link OutputStream}。
+     * @throws IllegalArgumentException 当 {@code out} 为 {@code null} 时。
+     * @throws IllegalStateException 当写入过程中发生异常时。
+     */
+    public void write(OutputStream out) {
+        notNull(out, "The output stream to write component index cannot be null.");
+        Document document = XmlUtils.createDocument();
+        document.setXmlStandalone(true);
+        Element root = XmlUtils.appendElement(document, ROOT_TAG);
+        root.setAttribute(VERSION_ATTRIBUTE, VERSION);
+        root.setAttribute(FINGERPRINT_ATTRIBUTE, this.fingerprint);
+        this.annotationNames.forEach(name -> appendText(root, FILTER_TAG, name));
+        for (Component component : this.components) {
+            Element node = XmlUtils.appendElement(root, COMPONENT_TAG);
+            node.setAttribute(CLASS_ATTRIBUTE, component.className());
+            component.annotations().forEach(name -> appendText(node, ANNOTATION_TAG, name));
+            component.fitables().forEach(id -> appendText(node, FITABLE_TAG, id));
+            component.conditions().forEach(name -> appendText(node, CONDITION_TAG, name));
+        }
+        XmlUtils.writer(out).enableIndent().indentWidth(4).write(document);
+    }
+
+    private static void appendText(Node parent, String tag, String content) {
+        XmlUtils.appendElement(parent, tag).setTextContent(content);
+    }
+
+    /**
+     * 从输入流中读取索引。
+     *
+     * @param in 表示包含索引内容的输入流的 {@link InputStream}。
+     * @return 表示读取到的索引的 {@link ComponentIndex}。
+     * @throws IllegalArgumentException 当 {@code in} 为 {@code null} 时。
+     * @throws IllegalStateException 当索引的格式或版本不正确时。
+     */
+    public static ComponentIndex read(InputStream in) {
+        notNull(in, "The input stream to read component index cannot be null.");
+        Element root = XmlUtils.load(in).getDocumentElement();
+        if (!Objects.equals(root.getTagName(), ROOT_TAG)) {
+            throw new IllegalStateException(StringUtils.format("Illegal component index. [root={0}]",
+                    root.getTagName()));
+        }
+        if (!Objects.equals(root.getAttribute(VERSION_ATTRIBUTE), VERSION)) {
+            throw new IllegalStateException(StringUtils.format("Unsupported component index version. [version={0}]",
+                    root.getAttribute(VERSION_ATTRIBUTE)));
+        }
+        Set<String> annotationNames = new LinkedHashSet<>();
+        List<Component> components = new ArrayList<>();
+        NodeList children = root.getChildNodes();
+        for (int i = 0; i < children.getLength(); i++) {
+            Node child = children.item(i);
+            if (Objects.equals(child.getNodeName(), FILTER_TAG)) {
+                annotationNames.add(StringUtils.trim(child.getTextContent()));
+            } else if (Objects.equals(child.getNodeName(), COMPONENT_TAG)) {
+                components.add(readComponent((Element) child));
+            }
+        }
+        return new ComponentIndex(annotationNames, root.getAttribute(FINGERPRINT_ATTRIBUTE), components);
+    }
+
+    private static Component readComponent(Element node) {
+        List<String> annotations = new ArrayList<>();
+        List<String> fitables = new ArrayList<>();
+        List<String> conditions = new ArrayList<>();
+        NodeList children = node.getChildNodes();
+        for (int i = 0; i < children.getLength(); i++) {
+            Node child = children.item(i);
+            String content = StringUtils.trim(child.getTextContent());
+            switch (child.getNodeName()) {
+                case ANNOTATION_TAG:
+                    annotations.add(content);
+                    break;
+                case FITABLE_TAG:
+                    fitables.add(content);
+                    break;
+                case CONDITION_TAG:
+                    conditions.add(content);
+                    break;
+                default:
+                    break;
+            }
+        }
+        return new Component(node.getAttribute(CLASS_ATTRIBUTE), annotations, fitables, conditions);
+    }
+
+    /**
+     * 计算类文件的指纹。
+     * <p>指纹依赖类文件的相对路径和内容的 CRC-32 校验和。JAR 的中央目录中已经记录了每个条目的校验和，不需要读取类文件的内容；
+     * 目录中的类文件需要读取内容计算校验和，但不需要解析类文件。类文件被重新编译时，即使大小不变，校验和也会随内容变化。</p>
+     *
+     * @param classFiles 表示类文件的相对路径（使用 {@code /} 分隔）到其内容的 CRC-32 校验和的映射的
+     * {@link Map}{@code <}{@link String}{@code , }{@link Long}{@code >}。
+     * @return 表示类文件指纹的 {@link String}。
+     */
+    public static String fingerprint(Map<String, Long> classFiles) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(FINGERPRINT_ALGORITHM);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(StringUtils.format("Unsupported digest algorithm. [algorithm={0}]",
+                    FINGERPRINT_ALGORITHM), ex);
+        }
+        for (Map.Entry<String, Long> entry : new TreeMap<>(classFiles).entrySet()) {
+            String line = entry.getKey() + ':' + Long.toHexString(entry.getValue()) + '\n';
+            digest.update(line.getBytes(StandardCharsets.UTF_8));
+        }
+        return DigitUtils.toHex(digest.digest());
+    }
+
+    /**
+     * 计算类文件内容的 CRC-32 校验和。
+     *
+     * @param in 表示类文件内容的输入流的 {@link InputStream}。
+     * @return 表示校验和的 {@code long}，与 JAR 中央目录中记录的无符号校验和一致。
+     * @throws IOException 当读取类文件的过程中发生输入输出异常时。
+     */
+    public static long checksum(InputStream in) throws IOException {
+        CRC32 crc32 = new CRC32();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) > -1) {
+            crc32.update(buffer, 0, read);
+        }
+        return crc32.getValue();
+    }
+
+    /**
+     * 表示索引中的组件。
+     * <p>运行时使用组件上记录的注解确认类型是否是组件。{@code @Fitable} 的唯一标识和生效条件只作为元数据记录，生效条件需要结合
+     * 运行时的容器判断，Bean 注册时仍然通过反射解析。</p>
+     *
+     * @author agent
+     * @since 2026-10-18
+     */
+    public static final class Component {
+        private final String className;
+        private final List<String> annotations;
+        private final List<String> fitables;
+        private final List<String> conditions;
+
+        /**
+         * 使用组件的类名和元数据初始化 {@link Component} 的新实例。
+         *
+         * @param className 表示组件类的全限定名的 {@link String}。
+         * @param annotations 表示组件类上直接标注的注解的全限定名的 {@link List}{@code <}{@link String}{@code >}。
+         * @param fitables 表示组件类中声明的 {@code @Fitable} 的唯一标识的 {@link List}{@code <}{@link String}{@code >}。
+         * @param conditions 表示组件类上声明的生效条件的全限定名的 {@link List}{@code <}{@link String}{@code >}。
+         * @throws IllegalArgumentException 当 {@code className} 为空白字符串时。
+         */
+        public Component(String className, List<String> annotations, List<String> fitables,
+                List<String> conditions) {
+            this.className = notBlank(className, "The class name of component cannot be blank.");
+            this.annotations = unmodifiable(annotations);
+            this.fitables = unmodifiable(fitables);
+            this.conditions = unmodifiable(conditions);
+        }
+
+        private static List<String> unmodifiable(List<String> values) {
+            return values == null ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(values));
+        }
+
+        /**
+         * 获取组件类的全限定名。
+         *
+         * @return 表示组件类的全限定名的 {@link String}。
+         */
+        public String className() {
+            return this.className;
+        }
+
+        /**
+         * 获取组件类上直接标注的注解。
+         *
+         * @return 表示注解的全限定名的 {@link List}{@code <}{@link String}{@code >}。
+         */
+        public List<String> annotations() {
+            return this.annotations;
+        }
+
+        /**
+         * 获取组件类中声明的 {@code @Fitable} 的唯一标识。
+         *
+         * @return 表示 {@code @Fitable} 的唯一标识的 {@link List}{@code <}{@link String}{@code >}。
+         */
+        public List<String> fitables() {
+            return this.fitables;
+        }
+
+        /**
+         * 获取组件类上声明的生效条件。
+         *
+         * @return 表示生效条件的全限定名的 {@link List}{@code <}{@link String}{@code >}。
+         */
+        public List<String> conditions() {
+            return this.conditions;
+        }
+    }
+}
@@ -60,4 +60,18 @@ public interface PackageScanner {
     static PackageScanner forClassLoader(ClassLoader loader, Callback callback) {
         return new ClassLoaderPackageScanner(loader, callback);
     }
+
+    /**
+     * 创建只加载标注了指定注解的类型的包扫描器。
+     * <p>扫描器通过读取类文件判断类型是否直接或通过元注解间接地标注了指定的注解，未标注的类型、接口和抽象类不会被加载，也不会
+     * 通知回调方法。</p>
+     *
+     * @param loader 表示待扫描的类加载程序的 {@link ClassLoader}。
+     * @param callback 表示当扫描到类型时的回调方法的 {@link Callback}。
+     * @param annotationNames 表示需要标注的注解的全限定名的 {@link Collection}{@code <}{@link String}{@code >}。
+     * @return 表示创建出来的包扫描器的 {@link PackageScanner}。
+     */
+    static PackageScanner forClassLoader(ClassLoader loader, Callback callback, Collection<String> annotationNames) {
+        return new ClassLoaderPackageScanner(loader, callback, annotationNames);
+    }
 }
@@ -0,0 +1,234 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.jvm.scan.support;
+
+import modelengine.fitframework.jvm.classfile.AccessFlag;
+import modelengine.fitframework.jvm.classfile.ClassFile;
+import modelengine.fitframework.jvm.classfile.annotation.AnnotationInfo;
+import modelengine.fitframework.jvm.classfile.attribute.RuntimeVisibleAnnotationsAttribute;
+import modelengine.fitframework.jvm.classfile.constant.Utf8Info;
+import modelengine.fitframework.util.ClassUtils;
+import modelengine.fitframework.util.StringUtils;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 表示基于类文件字节码的预过滤器。
+ * <p>在不加载类的情况下读取类文件中运行时可见的注解，判断类型是否是可实例化的具体类，且直接或通过元注解间接地标注了指定的注解。
+ * 元注解的判断同样通过读取注解类型的类文件完成，判断结果会被缓存。</p>
+ * <p>无法读取或解析的类文件视为可能满足条件，交由类加载之后的流程继续判断。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+final class AnnotatedClassPrefilter {
+    private static final String JDK_PACKAGE_PREFIX = "java.";
+    private static final char DESCRIPTOR_PREFIX = 'L';
+    private static final char DESCRIPTOR_SUFFIX = ';';
+
+    private final ClassLoader loader;
+    private final Set<String> annotationNames;
+    private final boolean missingAsAnnotated;
+    private final Map<String, Boolean> annotatedTypes = new ConcurrentHashMap<>();
+
+    /**
+     * 使用类加载程序和需要标注的注解初始化 {@link AnnotatedClassPrefilter} 的新实例。
+     *
+     * @param loader 表示用以读取注解类型类文件的类加载程序的 {@link ClassLoader}。
+     * @param annotationNames 表示需要标注的注解的全限定名的 {@link Collection}{@code <}{@link String}{@code >}。
+     */
+    AnnotatedClassPrefilter(ClassLoader loader, Collection<String> annotationNames) {
+        this(loader, annotationNames, false);
+    }
+
+    /**
+     * 使用类加载程序、需要标注的注解和对缺失注解类型的处理方式初始化 {@link AnnotatedClassPrefilter} 的新实例。
+     * <p>构建时的类路径可能与运行时不同，此时找不到的注解类型需要视为可能满足条件。</p>
+     *
+     * @param loader 表示用以读取注解类型类文件的类加载程序的 {@link ClassLoader}。
+     * @param annotationNames 表示需要标注的注解的全限定名的 {@link Collection}{@code <}{@link String}{@code >}。
+     * @param missingAsAnnotated 表示是否将找不到类文件的注解类型视为标注了指定注解的 {@code boolean}。
+     */
+    AnnotatedClassPrefilter(ClassLoader loader, Collection<String> annotationNames, boolean missingAsAnnotated) {
+        this.loader = loader;
+        this.annotationNames = new HashSet<>(annotationNames);
+        this.missingAsAnnotated = missingAsAnnotated;
+    }
+
+    /**
+     * 获取需要标注的注解。
+     *
+     * @return 表示需要标注的注解的全限定名的 {@link Set}{@code <}{@link String}{@code >}。
+     */
+    Set<String> annotationNames() {
+        return this.annotationNames;
+    }
+
+    /**
+     * 判断指定类文件所描述的类型是否可能满足条件。
+     *
+     * @param in 表示类文件内容的 {@link InputStream}。
+     * @return 如果可能满足条件，返回 {@code true}，否则，返回 {@code false}。
+     */
+    boolean test(InputStream in) {
+        ClassFile file;
+        try {
+            // 类文件解析逐字节读取输入流，需要缓冲以避免大量的系统调用。
+            file = new ClassFile(new BufferedInputStream(in));
+        } catch (IOException | RuntimeException ex) {
+            return true;
+        }
+        return this.test(file);
+    }
+
+    /**
+     * 判断指定类文件所描述的类型是否可能满足条件。
+     *
+     * @param file 表示已解析的类文件的 {@link ClassFile}。
+     * @return 如果可能满足条件，返回 {@code true}，否则，返回 {@code false}。
+     */
+    boolean test(ClassFile file) {
+        Set<AccessFlag> flags = AccessFlag.of(file.accessFlags());
+        if (flags.contains(AccessFlag.ACC_INTERFACE) || flags.contains(AccessFlag.ACC_ABSTRACT)) {
+            return false;
+        }
+        List<String> annotations;
+        try {
+            annotations = annotationTypes(file);
+        } catch (IOException | RuntimeException ex) {
+            return true;
+        }
+        return annotations.stream().anyMatch(this::isAnnotated);
+    }
+
+    /**
+     * 判断直接标注了指定注解的类型是否可能满足条件。
+     * <p>组件索引中记录了组件类上直接标注的注解，使用该方法判断时不需要读取组件类的类文件。没有记录注解时视为可能满足条件。</p>
+     *
+     * @param annotationTypes 表示类型上直接标注的注解的全限定名的 {@link List}{@code <}{@link String}{@code >}。
+     * @return 如果可能满足条件，返回 {@code true}，否则，返回 {@code false}。
+     */
+    boolean test(List<String> annotationTypes) {
+        return annotationTypes.isEmpty() || annotationTypes.stream().anyMatch(this::isAnnotated);
+    }
+
+    private boolean isAnnotated(String annotationType) {
+        if (this.annotationNames.contains(annotationType)) {
+            return true;
+        }
+        if (annotationType.startsWith(JDK_PACKAGE_PREFIX)) {
+            return false;
+        }
+        Boolean cached = this.annotatedTypes.get(annotationType);
+        if (cached != null) {
+            return cached;
+        }
+        boolean annotated = this.isMetaAnnotated(annotationType);
+        this.annotatedTypes.put(annotationType, annotated);
+        return annotated;
+    }
+
+    /**
+     * 遍历指定注解类型的所有元注解，判断其中是否存在需要标注的注解。
+     * <p>只缓存遍历起点的结果，遍历过程中被环路截断的中间结果不会被缓存。</p>
+     *
+     * @param annotationType 表示注解类型的全限定名的 {@link String}。
+     * @return 如果存在需要标注的注解，返回 {@code true}，否则，返回 {@code false}。
+     */
+    private boolean isMetaAnnotated(String annotationType) {
+        Set<String> visited = new HashSet<>();
+        Deque<String> toVisit = new ArrayDeque<>();
+        visited.add(annotationType);
+        toVisit.add(annotationType);
+        while (!toVisit.isEmpty()) {
+            List<String> children;
+            try {
+                children = this.readAnnotationTypes(toVisit.poll());
+            } catch (IOException | RuntimeException ex) {
+                return true;
+            }
+            for (String child : children) {
+                if (this.annotationNames.contains(child)) {
+                    return true;
+                }
+                if (child.startsWith(JDK_PACKAGE_PREFIX) || !visited.add(child)) {
+                    continue;
+                }
+                Boolean cached = this.annotatedTypes.get(child);
+                if (cached == null) {
+                    toVisit.add(child);
+                } else if (cached) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private List<String> readAnnotationTypes(String annotationType) throws IOException {
+        String resourceName = StringUtils.replace(annotationType, ClassUtils.PACKAGE_SEPARATOR, '/')
+                + ClassFile.FILE_EXTENSION;
+        try (InputStream in = this.loader.getResourceAsStream(resourceName)) {
+            if (in == null) {
+                if (this.missingAsAnnotated) {
+                    throw new IOException(StringUtils.format("Annotation class file not found. [type={0}]",
+                            annotationType));
+                }
+                // 注解类型不存在时，反射也无法获取到该注解。
+                return Collections.emptyList();
+            }
+            return annotationTypes(new ClassFile(new BufferedInputStream(in)));
+        }
+    }
+
+    /**
+     * 获取类文件中直接标注的运行时可见的注解类型。
+     *
+     * @param file 表示类文件的 {@link ClassFile}。
+     * @return 表示注解类型的全限定名的 {@link List}{@code <}{@link String}{@code >}。
+     * @throws IOException 当读取注解属性的过程中发生输入输出异常时。
+     */
+    static List<String> annotationTypes(ClassFile file) throws IOException {
+        RuntimeVisibleAnnotationsAttribute attribute = RuntimeVisibleAnnotationsAttribute.lookup(file.attributes());
+        if (attribute == null) {
+            return Collections.emptyList();
+        }
+        List<String> types = new ArrayList<>();
+        for (AnnotationInfo annotation : attribute.annotations()) {
+            String descriptor = file.constants().<Utf8Info>get(annotation.typeIndex()).stringValue();
+            types.add(toClassName(descriptor));
+        }
+        return types;
+    }
+
+    /**
+     * 将类型描述符转换为类型的全限定名。
+     *
+     * @param descriptor 表示类型描述符的 {@link String}，例如 {@code Lcom/example/Type;}。
+     * @return 表示类型的全限定名的 {@link String}。
+     */
+    static String toClassName(String descriptor) {
+        String name = descriptor;
+        if (name.length() > 1 && name.charAt(0) == DESCRIPTOR_PREFIX
+                && name.charAt(name.length() - 1) == DESCRIPTOR_SUFFIX) {
+            name = name.substring(1, name.length() - 1);
+        }
+        return name.replace('/', '.');
+    }
+}
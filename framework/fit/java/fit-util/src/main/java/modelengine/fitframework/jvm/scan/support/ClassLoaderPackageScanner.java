@@ -7,6 +7,7 @@
 package modelengine.fitframework.jvm.scan.support;
 
 import modelengine.fitframework.jvm.classfile.ClassFile;
+import modelengine.fitframework.jvm.scan.ComponentIndex;
 import modelengine.fitframework.jvm.scan.PackageScanner;
 import modelengine.fitframework.protocol.jar.Jar;
 import modelengine.fitframework.protocol.jar.JarEntryLocation;
@@ -17,26 +18,46 @@ import modelengine.fitframework.util.CollectionUtils;
 import modelengine.fitframework.util.StringUtils;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 为 {@link PackageScanner} 提供基于类加载程序的实现。
+ * <p>当指定了需要标注的注解时，扫描程序先读取所有候选类的类文件，只加载直接或间接标注了这些注解的具体类，未标注的类不会被
+ * 加载。候选类较多时，类文件在扫描专用的有界线程池中并行读取，扫描结束后线程池随即关闭。类的加载和回调始终在调用扫描的线程上
+ * 按照发现的顺序进行。</p>
+ * <p>如果类路径根目录（或 JAR）中存在构建时生成的 {@link ComponentIndex}，且索引的过滤注解与指纹都与当前一致，则直接使用索引中
+ * 记录的类，并根据索引中记录的注解判断是否加载，不再解析该根目录中的类文件；索引不存在或已经过期时，退回到解析类文件进行
+ * 预过滤。判断索引是否过期时，JAR 使用中央目录中记录的校验和，目录需要读取类文件的内容计算校验和。</p>
  *
  * @author 梁济时
  * @since 2023-02-23
  */
 public class ClassLoaderPackageScanner implements PackageScanner {
+    private static final int PARALLEL_THRESHOLD = 64;
+    private static final int MAX_PARALLELISM = 8;
+
     private final ClassLoader loader;
     private final Callback callback;
     private final Set<String> scannedClassNames;
+    private final AnnotatedClassPrefilter prefilter;
+    private final Map<String, Optional<ComponentIndex>> indexes;
 
     /**
      * 使用指定的类加载器和回调函数来初始化 {@link ClassLoaderPackageScanner} 的新实例。
@@ -45,9 +66,24 @@ public class ClassLoaderPackageScanner implements PackageScanner {
      * @param callback 表示扫描回调函数的 {@link Callback}。
      */
     public ClassLoaderPackageScanner(ClassLoader loader, Callback callback) {
+        this(loader, callback, Collections.emptyList());
+    }
+
+    /**
+     * 使用指定的类加载器、回调函数和需要标注的注解来初始化 {@link ClassLoaderPackageScanner} 的新实例。
+     *
+     * @param loader 表示类加载器的 {@link ClassLoader}。
+     * @param callback 表示扫描回调函数的 {@link Callback}。
+     * @param annotationNames 表示需要标注的注解的全限定名的 {@link Collection}{@code <}{@link String}{@code >}，只有
+     * 直接或通过元注解间接标注了其中任意注解的具体类才会被加载并回调。为空时加载并回调所有扫描到的类。
+     */
+    public ClassLoaderPackageScanner(ClassLoader loader, Callback callback, Collection<String> annotationNames) {
         this.loader = loader;
         this.callback = callback;
         this.scannedClassNames = new HashSet<>();
+        this.prefilter =
+                CollectionUtils.isEmpty(annotationNames) ? null : new AnnotatedClassPrefilter(loader, annotationNames);
+        this.indexes = new HashMap<>();
     }
 
     @Override
@@ -100,6 +136,7 @@ public class ClassLoaderPackageScanner implements PackageScanner {
     private void scan(String basePackage) {
         String resourceName = toResourceName(basePackage);
         Enumeration<URL> resourceUrls = this.getPackageResources(basePackage, resourceName);
+        List<Candidate> candidates = new ArrayList<>();
         while (resourceUrls.hasMoreElements()) {
             URL resourceUrl = resourceUrls.nextElement();
             if (UrlUtils.isJdkResource(resourceUrl)) {
@@ -114,9 +151,20 @@ public class ClassLoaderPackageScanner implements PackageScanner {
                             "Failed to obtain directory from resource URL. [url={0}]",
                             resourceUrl.toExternalForm()), ex);
                 }
-                this.scanClassesInDirectory(basePackage, directory);
+                Optional<ComponentIndex> index = this.indexOfDirectory(basePackage, directory);
+                if (index.isPresent()) {
+                    this.addIndexedCandidates(basePackage, index.get(), candidates);
+                } else {
+                    this.scanClassesInDirectory(basePackage, directory, candidates);
+                }
             } else {
-                JarLocation location = JarEntryLocation.parse(resourceUrl).asJar();
+                JarEntryLocation entryLocation = JarEntryLocation.parse(resourceUrl);
+                Optional<ComponentIndex> index = this.indexOfJar(entryLocation.jar());
+                if (index.isPresent()) {
+                    this.addIndexedCandidates(basePackage, index.get(), candidates);
+                    continue;
+                }
+                JarLocation location = entryLocation.asJar();
                 Jar jar;
                 try {
                     jar = Jar.from(location);
@@ -125,9 +173,10 @@ public class ClassLoaderPackageScanner implements PackageScanner {
                             "Failed to load JAR to scan classes. [location={0}]",
                             location), ex);
                 }
-                this.scanClassesInJar(basePackage, jar);
+                this.scanClassesInJar(basePackage, jar, candidates);
             }
         }
+        this.filter(candidates).forEach(this::notifyClassScanned);
     }
 
     /**
@@ -159,36 +208,168 @@ public class ClassLoaderPackageScanner implements PackageScanner {
         return name;
     }
 
-    private void scanClassesInDirectory(String basePackage, File directory) {
+    private Optional<ComponentIndex> indexOfDirectory(String basePackage, File directory) {
+        if (this.prefilter == null) {
+            return Optional.empty();
+        }
+        File root = directory;
+        for (int i = 0; i < StringUtils.split(basePackage, ClassUtils.PACKAGE_SEPARATOR).length && root != null; i++) {
+            root = root.getParentFile();
+        }
+        if (root == null) {
+            return Optional.empty();
+        }
+        File actualRoot = root;
+        return this.indexes.computeIfAbsent(root.getAbsolutePath(), key -> this.loadIndex(actualRoot));
+    }
+
+    private Optional<ComponentIndex> loadIndex(File root) {
+        File file = new File(root, ComponentIndex.RESOURCE_NAME);
+        if (!file.isFile()) {
+            return Optional.empty();
+        }
+        ComponentIndex index;
+        try (InputStream in = new FileInputStream(file)) {
+            index = ComponentIndex.read(in);
+        } catch (IOException | IllegalStateException ex) {
+            return Optional.empty();
+        }
+        Map<String, File> classFiles = new HashMap<>();
+        ComponentIndexGenerator.collectClassFiles(root, StringUtils.EMPTY, classFiles);
+        // 目录中的类文件没有现成的校验和，需要读取内容计算，但不需要解析类文件。
+        Map<String, Long> checksums = new HashMap<>();
+        for (Map.Entry<String, File> entry : classFiles.entrySet()) {
+            try (InputStream in = new FileInputStream(entry.getValue())) {
+                checksums.put(entry.getKey(), ComponentIndex.checksum(in));
+            } catch (IOException ex) {
+                return Optional.empty();
+            }
+        }
+        return this.validate(index, checksums);
+    }
+
+    private Optional<ComponentIndex> indexOfJar(JarLocation location) {
+        if (this.prefilter == null) {
+            return Optional.empty();
+        }
+        return this.indexes.computeIfAbsent(location.toString(), key -> this.loadIndex(location));
+    }
+
+    private Optional<ComponentIndex> loadIndex(JarLocation location) {
+        Jar jar;
+        try {
+            jar = Jar.from(location);
+        } catch (IOException ex) {
+            return Optional.empty();
+        }
+        Jar.Entry entry = jar.entries().get(ComponentIndex.RESOURCE_NAME);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        ComponentIndex index;
+        try (InputStream in = entry.read()) {
+            index = ComponentIndex.read(in);
+        } catch (IOException | IllegalStateException ex) {
+            return Optional.empty();
+        }
+        Map<String, Long> checksums = new HashMap<>();
+        for (Jar.Entry current : jar.entries()) {
+            if (!current.directory() && StringUtils.endsWithIgnoreCase(current.name(), ClassFile.FILE_EXTENSION)) {
+                checksums.put(current.name(), Integer.toUnsignedLong(current.crc32()));
+            }
+        }
+        return this.validate(index, checksums);
+    }
+
+    private Optional<ComponentIndex> validate(ComponentIndex index, Map<String, Long> checksums) {
+        if (!index.annotationNames().equals(this.prefilter.annotationNames())) {
+            return Optional.empty();
+        }
+        if (!StringUtils.equals(index.fingerprint(), ComponentIndex.fingerprint(checksums))) {
+            return Optional.empty();
+        }
+        return Optional.of(index);
+    }
+
+    private void addIndexedCandidates(String basePackage, ComponentIndex index, List<Candidate> candidates) {
+        String prefix = basePackage + ClassUtils.PACKAGE_SEPARATOR;
+        for (ComponentIndex.Component component : index.components()) {
+            String className = component.className();
+            if (className.startsWith(prefix) && this.scannedClassNames.add(className)) {
+                candidates.add(new Candidate(className, null, component.annotations()));
+            }
+        }
+    }
+
+    private void scanClassesInDirectory(String basePackage, File directory, List<Candidate> candidates) {
         File[] files = directory.listFiles();
         if (files == null || files.length < 1) {
             return;
         }
         for (File file : files) {
             if (file.isDirectory()) {
-                this.scanClassesInDirectory(basePackage + ClassUtils.PACKAGE_SEPARATOR + file.getName(), file);
+                this.scanClassesInDirectory(basePackage + ClassUtils.PACKAGE_SEPARATOR + file.getName(),
+                        file,
+                        candidates);
                 continue;
             }
             if (StringUtils.endsWithIgnoreCase(file.getName(), ClassFile.FILE_EXTENSION)) {
-                this.notifyClassScanned(basePackage, file.getName());
+                // 性能敏感场景，不要重构为 Files.newInputStream(Path path)。
+                this.addCandidate(basePackage, file.getName(), () -> new FileInputStream(file), candidates);
             }
         }
     }
 
-    private void scanClassesInJar(String basePackage, Jar jar) {
+    private void scanClassesInJar(String basePackage, Jar jar, List<Candidate> candidates) {
         for (Jar.Entry entry : jar.entries()) {
             if (StringUtils.endsWithIgnoreCase(entry.name(), ClassFile.FILE_EXTENSION)) {
-                this.notifyClassScanned(basePackage, entry.name());
+                this.addCandidate(basePackage, entry.name(), entry::read, candidates);
             }
         }
     }
 
-    private void notifyClassScanned(String basePackage, String resourceName) {
+    private void addCandidate(String basePackage, String resourceName, ClassFileSource source,
+            List<Candidate> candidates) {
         String className = toClassName(basePackage, resourceName);
-        if (this.scannedClassNames.contains(className)) {
-            return;
+        if (this.scannedClassNames.add(className)) {
+            candidates.add(new Candidate(className, source, null));
+        }
+    }
+
+    private List<String> filter(List<Candidate> candidates) {
+        if (this.prefilter == null) {
+            return candidates.stream().map(Candidate::className).collect(Collectors.toList());
+        }
+        if (candidates.size() < PARALLEL_THRESHOLD) {
+            return this.filter(candidates.stream());
         }
-        this.scannedClassNames.add(className);
+        // 读取类文件是阻塞的 I/O 操作，在扫描专用的有界线程池中并行执行，不占用公共的 ForkJoinPool。
+        ForkJoinPool pool = new ForkJoinPool(Math.min(Runtime.getRuntime().availableProcessors(), MAX_PARALLELISM));
+        try {
+            return pool.submit(() -> this.filter(candidates.parallelStream())).join();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private List<String> filter(Stream<Candidate> candidates) {
+        return candidates.filter(this::test).map(Candidate::className).collect(Collectors.toList());
+    }
+
+    private boolean test(Candidate candidate) {
+        if (candidate.source() == null) {
+            // 构建时的类路径可能与运行时不同，根据索引中记录的注解在运行时的类路径上再次判断，不需要读取类文件。
+            return this.prefilter.test(candidate.annotations());
+        }
+        try (InputStream in = candidate.source().open()) {
+            return this.prefilter.test(in);
+        } catch (IOException ex) {
+            // 无法读取类文件时，交由类加载程序判断。
+            return true;
+        }
+    }
+
+    private void notifyClassScanned(String className) {
         Class<?> clazz;
         try {
             clazz = this.loader.loadClass(className);
@@ -197,4 +378,39 @@ public class ClassLoaderPackageScanner implements PackageScanner {
         }
         this.callback.notify(this, clazz);
     }
+
+    /**
+     * 表示类文件内容的来源。
+     */
+    @FunctionalInterface
+    private interface ClassFileSource {
+        InputStream open() throws IOException;
+    }
+
+    /**
+     * 表示扫描到的候选类。来自组件索引的候选类没有类文件来源，只有索引中记录的注解。
+     */
+    private static final class Candidate {
+        private final String className;
+        private final ClassFileSource source;
+        private final List<String> annotations;
+
+        Candidate(String className, ClassFileSource source, List<String> annotations) {
+            this.className = className;
+            this.source = source;
+            this.annotations = annotations;
+        }
+
+        String className() {
+            return this.className;
+        }
+
+        ClassFileSource source() {
+            return this.source;
+        }
+
+        List<String> annotations() {
+            return this.annotations;
+        }
+    }
 }
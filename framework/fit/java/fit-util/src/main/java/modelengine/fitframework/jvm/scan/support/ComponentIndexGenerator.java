@@ -0,0 +1,221 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.jvm.scan.support;
+
+import static modelengine.fitframework.inspection.Validation.notEmpty;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.jvm.classfile.AttributeList;
+import modelengine.fitframework.jvm.classfile.ClassFile;
+import modelengine.fitframework.jvm.classfile.Constant;
+import modelengine.fitframework.jvm.classfile.MethodInfo;
+import modelengine.fitframework.jvm.classfile.annotation.AnnotationElementValue;
+import modelengine.fitframework.jvm.classfile.annotation.AnnotationElementValuePair;
+import modelengine.fitframework.jvm.classfile.annotation.AnnotationInfo;
+import modelengine.fitframework.jvm.classfile.attribute.RuntimeVisibleAnnotationsAttribute;
+import modelengine.fitframework.jvm.classfile.constant.ClassInfo;
+import modelengine.fitframework.jvm.classfile.constant.Utf8Info;
+import modelengine.fitframework.jvm.classfile.lang.U2;
+import modelengine.fitframework.jvm.scan.ComponentIndex;
+import modelengine.fitframework.util.ClassUtils;
+import modelengine.fitframework.util.StringUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 为 {@link ComponentIndex} 提供基于类文件目录的生成程序。
+ * <p>生成程序通过读取类文件的字节码来判断类型是否是组件，判断规则与运行时扫描 Bean 时的预过滤相同。由于构建时的类路径可能与
+ * 运行时不同，找不到类文件的注解类型会被视为可能标注了指定的注解，对应的类型仍然会被记录到索引中，运行时根据索引中
+ * 记录的注解再次判断。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public final class ComponentIndexGenerator {
+    private static final String FITABLE_ANNOTATION = "modelengine.fitframework.annotation.Fitable";
+    private static final String CONDITIONAL_ANNOTATION = "modelengine.fitframework.annotation.Conditional";
+    private static final String FITABLE_ID_ELEMENT = "id";
+    private static final String FITABLE_VALUE_ELEMENT = "value";
+    private static final String CONDITIONAL_VALUE_ELEMENT = "value";
+
+    private final AnnotatedClassPrefilter prefilter;
+
+    /**
+     * 使用类加载程序和需要标注的注解初始化 {@link ComponentIndexGenerator} 的新实例。
+     *
+     * @param loader 表示用以读取注解类型类文件的类加载程序的 {@link ClassLoader}。
+     * @param annotationNames 表示需要标注的注解的全限定名的 {@link Collection}{@code <}{@link String}{@code >}。
+     * @throws IllegalArgumentException 当 {@code loader} 为 {@code null} 或 {@code annotationNames} 为空时。
+     */
+    public ComponentIndexGenerator(ClassLoader loader, Collection<String> annotationNames) {
+        notNull(loader, "The class loader to generate component index cannot be null.");
+        notEmpty(annotationNames, "The annotation names to generate component index cannot be empty.");
+        this.prefilter = new AnnotatedClassPrefilter(loader, annotationNames, true);
+    }
+
+    /**
+     * 为指定的类文件目录生成组件索引。
+     *
+     * @param directory 表示类文件所在的类路径根目录的 {@link File}。
+     * @return 表示生成的组件索引的 {@link ComponentIndex}。
+     * @throws IllegalArgumentException 当 {@code directory} 为 {@code null} 时。
+     * @throws IOException 当读取类文件的过程中发生输入输出异常时。
+     */
+    public ComponentIndex generate(File directory) throws IOException {
+        notNull(directory, "The directory to generate component index cannot be null.");
+        Map<String, File> classFiles = new TreeMap<>();
+        collectClassFiles(directory, StringUtils.EMPTY, classFiles);
+        Map<String, Long> checksums = new TreeMap<>();
+        List<ComponentIndex.Component> components = new ArrayList<>();
+        for (Map.Entry<String, File> entry : classFiles.entrySet()) {
+            byte[] content = Files.readAllBytes(entry.getValue().toPath());
+            checksums.put(entry.getKey(), ComponentIndex.checksum(new ByteArrayInputStream(content)));
+            ComponentIndex.Component component = this.componentOf(entry.getKey(), content);
+            if (component != null) {
+                components.add(component);
+            }
+        }
+        return new ComponentIndex(this.prefilter.annotationNames(), ComponentIndex.fingerprint(checksums), components);
+    }
+
+    /**
+     * 收集目录中所有类文件的相对路径。
+     *
+     * @param directory 表示待收集的目录的 {@link File}。
+     * @param prefix 表示目录相对于类路径根目录的路径前缀的 {@link String}。
+     * @param classFiles 表示类文件的相对路径到类文件的映射的
+     * {@link Map}{@code <}{@link String}{@code , }{@link File}{@code >}。
+     */
+    static void collectClassFiles(File directory, String prefix, Map<String, File> classFiles) {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            if (file.isDirectory()) {
+                collectClassFiles(file, prefix + file.getName() + '/', classFiles);
+            } else if (StringUtils.endsWithIgnoreCase(file.getName(), ClassFile.FILE_EXTENSION)) {
+                classFiles.put(prefix + file.getName(), file);
+            }
+        }
+    }
+
+    private ComponentIndex.Component componentOf(String resourceName, byte[] content) throws IOException {
+        String className = toClassName(resourceName);
+        ClassFile classFile;
+        try (InputStream in = new ByteArrayInputStream(content)) {
+            classFile = new ClassFile(in);
+        } catch (RuntimeException ex) {
+            // 无法解析的类文件交由运行时的注册过程判断。
+            return new ComponentIndex.Component(className, null, null, null);
+        }
+        if (!this.prefilter.test(classFile)) {
+            return null;
+        }
+        List<AnnotationInfo> annotations = annotationsOf(classFile.attributes());
+        List<String> fitables = new ArrayList<>();
+        for (MethodInfo method : classFile.methods()) {
+            for (AnnotationInfo annotation : annotationsOf(method.attributes())) {
+                if (StringUtils.equals(typeOf(annotation), FITABLE_ANNOTATION)) {
+                    fitableIdOf(annotation).ifPresent(fitables::add);
+                }
+            }
+        }
+        List<String> conditions = new ArrayList<>();
+        for (AnnotationInfo annotation : annotations) {
+            if (StringUtils.equals(typeOf(annotation), CONDITIONAL_ANNOTATION)) {
+                conditions.addAll(classValuesOf(annotation, CONDITIONAL_VALUE_ELEMENT));
+            }
+        }
+        return new ComponentIndex.Component(className,
+                AnnotatedClassPrefilter.annotationTypes(classFile),
+                fitables,
+                conditions);
+    }
+
+    private static List<AnnotationInfo> annotationsOf(AttributeList attributes) throws IOException {
+        RuntimeVisibleAnnotationsAttribute attribute = RuntimeVisibleAnnotationsAttribute.lookup(attributes);
+        if (attribute == null) {
+            return Collections.emptyList();
+        }
+        List<AnnotationInfo> annotations = new ArrayList<>();
+        attribute.annotations().forEach(annotations::add);
+        return annotations;
+    }
+
+    private static String typeOf(AnnotationInfo annotation) {
+        return AnnotatedClassPrefilter.toClassName(utf8(annotation.file(), annotation.typeIndex()));
+    }
+
+    private static Optional<String> fitableIdOf(AnnotationInfo annotation) {
+        String id = null;
+        String value = null;
+        for (AnnotationElementValuePair pair : annotation.elements()) {
+            String name = utf8(annotation.file(), pair.nameIndex());
+            if (!(pair.value() instanceof AnnotationElementValue.StringValue)) {
+                continue;
+            }
+            String content = utf8(annotation.file(),
+                    ((AnnotationElementValue.StringValue) pair.value()).constValueIndex());
+            if (StringUtils.equals(name, FITABLE_ID_ELEMENT)) {
+                id = content;
+            } else if (StringUtils.equals(name, FITABLE_VALUE_ELEMENT)) {
+                value = content;
+            }
+        }
+        return Optional.ofNullable(StringUtils.isNotBlank(id) ? id : value).filter(StringUtils::isNotBlank);
+    }
+
+    private static List<String> classValuesOf(AnnotationInfo annotation, String elementName) {
+        List<String> values = new ArrayList<>();
+        for (AnnotationElementValuePair pair : annotation.elements()) {
+            if (!StringUtils.equals(utf8(annotation.file(), pair.nameIndex()), elementName)) {
+                continue;
+            }
+            if (pair.value() instanceof AnnotationElementValue.ArrayValue) {
+                for (AnnotationElementValue value : (AnnotationElementValue.ArrayValue) pair.value()) {
+                    classValueOf(annotation.file(), value, values);
+                }
+            } else {
+                classValueOf(annotation.file(), pair.value(), values);
+            }
+        }
+        return values;
+    }
+
+    private static void classValueOf(ClassFile file, AnnotationElementValue value, List<String> values) {
+        if (!(value instanceof AnnotationElementValue.ClassValue)) {
+            return;
+        }
+        Constant constant = file.constants().get(((AnnotationElementValue.ClassValue) value).classInfoIndex());
+        if (constant instanceof Utf8Info) {
+            values.add(AnnotatedClassPrefilter.toClassName(((Utf8Info) constant).stringValue()));
+        } else if (constant instanceof ClassInfo) {
+            values.add(AnnotatedClassPrefilter.toClassName(utf8(file, ((ClassInfo) constant).nameIndex())));
+        }
+    }
+
+    private static String utf8(ClassFile file, U2 index) {
+        return file.constants().<Utf8Info>get(index).stringValue();
+    }
+
+    private static String toClassName(String resourceName) {
+        String name = resourceName.substring(0, resourceName.length() - ClassFile.FILE_EXTENSION.length());
+        return StringUtils.replace(name, '/', ClassUtils.PACKAGE_SEPARATOR);
+    }
+}
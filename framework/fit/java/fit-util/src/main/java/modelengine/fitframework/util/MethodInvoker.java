@@ -0,0 +1,46 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.util;
+
+import modelengine.fitframework.exception.MethodInvocationException;
+import modelengine.fitframework.util.support.MethodHandleInvoker;
+
+import java.lang.reflect.Method;
+
+/**
+ * 为指定方法提供预先编译的调用程序。
+ * <p>调用程序在创建时完成方法的访问检查和调用适配，重复调用同一个方法时比 {@link ReflectionUtils#invoke(Object, Method,
+ * Object...)} 的开销更小，异常的行为与其保持一致。</p>
+ * <p><b>注意：如果希望异常透传，需要捕获 {@link MethodInvocationException}，然后取出其原因继续抛出。</b></p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@FunctionalInterface
+public interface MethodInvoker {
+    /**
+     * 执行方法。
+     *
+     * @param owner 表示待执行方法的主体对象的 {@link Object}，静态方法时可以为 {@code null}。
+     * @param parameters 表示执行方法时所使用的入参的 {@link Object}{@code []}。
+     * @return 表示执行方法后的返回值的 {@link Object}。
+     * @throws IllegalArgumentException 当方法是实例方法而 {@code owner} 为 {@code null} 时。
+     * @throws MethodInvocationException 当入参与方法不匹配或执行方法发生异常时。
+     */
+    Object invoke(Object owner, Object... parameters);
+
+    /**
+     * 为指定方法创建调用程序。
+     *
+     * @param method 表示待调用的方法的 {@link Method}。
+     * @return 表示方法的调用程序的 {@link MethodInvoker}。
+     * @throws IllegalArgumentException 当 {@code method} 为 {@code null} 时。
+     */
+    static MethodInvoker of(Method method) {
+        return new MethodHandleInvoker(method);
+    }
+}
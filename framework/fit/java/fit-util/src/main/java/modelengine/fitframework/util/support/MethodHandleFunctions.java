@@ -0,0 +1,100 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.util.support;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+
+/**
+ * 为方法和构造方法生成方法句柄，以及由方法句柄生成函数式接口的实例。
+ * <p>函数式接口的实例通过 {@link LambdaMetafactory} 在方法所在的嵌套中生成，其调用开销与直接调用相同。当无法获得方法所在类型的
+ * 完整访问权限时（例如该类型由其他类加载程序加载），或方法句柄不是直接方法句柄时，无法生成函数式接口的实例，由调用方退化为调用
+ * 方法句柄。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public final class MethodHandleFunctions {
+    private MethodHandleFunctions() {}
+
+    /**
+     * 获取指定方法的直接方法句柄。
+     * <p>当方法或其所在的类型不是公共的时，将方法设置为可访问的。</p>
+     *
+     * @param method 表示指定方法的 {@link Method}。
+     * @return 表示方法的直接方法句柄的 {@link MethodHandle}。
+     * @throws IllegalArgumentException 当 {@code method} 为 {@code null} 时。
+     * @throws IllegalAccessException 当无法访问方法时。
+     */
+    public static MethodHandle unreflect(Method method) throws IllegalAccessException {
+        notNull(method, "The method to unreflect cannot be null.");
+        makeAccessible(method);
+        return MethodHandles.lookup().unreflect(method);
+    }
+
+    /**
+     * 获取指定构造方法的直接方法句柄。
+     * <p>当构造方法或其所在的类型不是公共的时，将构造方法设置为可访问的。</p>
+     *
+     * @param constructor 表示指定构造方法的 {@link Constructor}{@code <?>}。
+     * @return 表示构造方法的直接方法句柄的 {@link MethodHandle}。
+     * @throws IllegalArgumentException 当 {@code constructor} 为 {@code null} 时。
+     * @throws IllegalAccessException 当无法访问构造方法时。
+     */
+    public static MethodHandle unreflectConstructor(Constructor<?> constructor) throws IllegalAccessException {
+        notNull(constructor, "The constructor to unreflect cannot be null.");
+        makeAccessible(constructor);
+        return MethodHandles.lookup().unreflectConstructor(constructor);
+    }
+
+    /**
+     * 生成调用指定直接方法句柄的函数式接口的实例。
+     *
+     * @param functionalInterface 表示函数式接口的 {@link Class}{@code <}{@link T}{@code >}。
+     * @param owner 表示方法所在类型的 {@link Class}{@code <?>}，函数式接口的实例在其嵌套中生成。
+     * @param handle 表示被调用的直接方法句柄的 {@link MethodHandle}。
+     * @param instantiatedMethodType 表示函数式接口的方法在调用时实际的参数和返回值类型的 {@link MethodType}。
+     * @param <T> 表示函数式接口的类型的 {@link T}。
+     * @return 如果可以生成，则返回函数式接口的实例，否则，返回 {@code null}。
+     */
+    public static <T> T generate(Class<T> functionalInterface, Class<?> owner, MethodHandle handle,
+            MethodType instantiatedMethodType) {
+        Method abstractMethod = Arrays.stream(functionalInterface.getMethods())
+                .filter(method -> Modifier.isAbstract(method.getModifiers()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("The interface to generate must be functional."));
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(owner, MethodHandles.lookup());
+            CallSite site = LambdaMetafactory.metafactory(lookup,
+                    abstractMethod.getName(),
+                    MethodType.methodType(functionalInterface),
+                    MethodType.methodType(abstractMethod.getReturnType(), abstractMethod.getParameterTypes()),
+                    handle,
+                    instantiatedMethodType);
+            return functionalInterface.cast(site.getTarget().invoke());
+        } catch (Throwable ex) {
+            return null;
+        }
+    }
+
+    private static void makeAccessible(Executable executable) {
+        if (!Modifier.isPublic(executable.getModifiers())
+                || !Modifier.isPublic(executable.getDeclaringClass().getModifiers())) {
+            executable.setAccessible(true);
+        }
+    }
+}
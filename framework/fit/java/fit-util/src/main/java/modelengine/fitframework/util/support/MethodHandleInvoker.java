@@ -0,0 +1,111 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.util.support;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.exception.MethodInvocationException;
+import modelengine.fitframework.util.MethodInvoker;
+import modelengine.fitframework.util.ReflectionUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * 为 {@link MethodInvoker} 提供基于 {@link MethodHandle} 的实现。
+ * <p>方法句柄由 {@link MethodHandleFunctions#unreflect(Method)} 在创建时获取一次，并被适配为
+ * {@code (Object, Object[])Object} 的形式，调用时不再需要访问检查和参数数组的复制。</p>
+ * <p>只有主体对象和入参的类型与方法完全匹配时才通过方法句柄调用。其他情况（例如需要基本类型的拓宽转换，或入参不匹配）
+ * 以及无法访问的方法仍然通过反射调用，从而保持与 {@link ReflectionUtils#invoke(Object, Method, Object...)}
+ * 一致的行为。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public final class MethodHandleInvoker implements MethodInvoker {
+    private static final Object[] EMPTY_PARAMETERS = new Object[0];
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private final Method method;
+    private final boolean isStatic;
+    private final Class<?>[] parameterTypes;
+    private final boolean[] primitives;
+    private final MethodHandle invoker;
+
+    /**
+     * 使用待调用的方法初始化 {@link MethodHandleInvoker} 类的新实例。
+     *
+     * @param method 表示待调用的方法的 {@link Method}。
+     * @throws IllegalArgumentException 当 {@code method} 为 {@code null} 时。
+     */
+    public MethodHandleInvoker(Method method) {
+        this.method = notNull(method, "The method to invoke cannot be null.");
+        this.isStatic = Modifier.isStatic(method.getModifiers());
+        this.parameterTypes = method.getParameterTypes();
+        this.primitives = new boolean[this.parameterTypes.length];
+        for (int i = 0; i < this.parameterTypes.length; i++) {
+            this.primitives[i] = this.parameterTypes[i].isPrimitive();
+            this.parameterTypes[i] = ReflectionUtils.ignorePrimitiveClass(this.parameterTypes[i]);
+        }
+        this.invoker = toInvoker(method, this.isStatic);
+    }
+
+    private static MethodHandle toInvoker(Method method, boolean isStatic) {
+        try {
+            MethodHandle handle = MethodHandleFunctions.unreflect(method).asFixedArity();
+            if (isStatic) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return handle.asSpreader(Object[].class, method.getParameterCount()).asType(INVOKER_TYPE);
+        } catch (IllegalAccessException | RuntimeException e) {
+            // 无法访问的方法仍然通过反射调用。
+            return null;
+        }
+    }
+
+    @Override
+    public Object invoke(Object owner, Object... parameters) {
+        Object[] actual = parameters == null ? EMPTY_PARAMETERS : parameters;
+        if (this.invoker == null || !this.matches(owner, actual)) {
+            return ReflectionUtils.invoke(owner, this.method, parameters);
+        }
+        try {
+            return (Object) this.invoker.invokeExact(owner, actual);
+        } catch (Throwable e) {
+            Throwable cause = e;
+            while (cause instanceof InvocationTargetException) {
+                cause = cause.getCause();
+            }
+            throw new MethodInvocationException(cause);
+        }
+    }
+
+    private boolean matches(Object owner, Object[] parameters) {
+        if (!this.isStatic && !this.method.getDeclaringClass().isInstance(owner)) {
+            return false;
+        }
+        if (parameters.length != this.parameterTypes.length) {
+            return false;
+        }
+        for (int i = 0; i < parameters.length; i++) {
+            Object parameter = parameters[i];
+            if (parameter == null ? this.primitives[i] : !this.parameterTypes[i].isInstance(parameter)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return ReflectionUtils.signatureOf(this.method);
+    }
+}
@@ -10,6 +10,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
+import modelengine.fitframework.exception.ObjectInstantiationException;
 import modelengine.fitframework.util.StringUtils;
 
 import org.junit.jupiter.api.DisplayName;
@@ -63,4 +64,74 @@ public class BeanAccessorTest {
                 this.actualClass.getName(),
                 property));
     }
+
+    @Test
+    @DisplayName("通过生成的函数读写基本类型和引用类型的属性")
+    void shouldReadAndWritePropertiesThroughGeneratedFunctions() {
+        BeanAccessor accessor = BeanAccessor.of(Object1.class);
+        Map<String, Object> values = new HashMap<>();
+        values.put("f1", "hello");
+        values.put("f2", "2");
+        values.put("f3", 3.0D);
+        Object bean = accessor.instantiate(values);
+        assertThat(bean).isInstanceOf(Object1.class);
+        assertThat(accessor.get(bean, "f1")).isEqualTo("hello");
+        assertThat(accessor.get(bean, "f2")).isEqualTo(2);
+        assertThat(accessor.get(bean, "f3")).isEqualTo(3.0D);
+        accessor.set(bean, "f2", 5);
+        assertThat(((Object1) bean).getF2()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("访问非公开的 Bean 类型，设置方法抛出的异常原样抛出")
+    void shouldRethrowExceptionFromNonPublicBean() {
+        BeanAccessor accessor = BeanAccessor.of(HiddenBean.class);
+        Object bean = accessor.instantiate(new HashMap<>());
+        accessor.set(bean, "value", "ok");
+        assertThat(accessor.get(bean, "value")).isEqualTo("ok");
+        IllegalArgumentException exception =
+                catchThrowableOfType(IllegalArgumentException.class, () -> accessor.set(bean, "value", null));
+        assertThat(exception).hasMessage("The value cannot be null.");
+    }
+
+    @Test
+    @DisplayName("构造方法抛出的异常被包装为 ObjectInstantiationException")
+    void shouldWrapExceptionFromConstructor() {
+        BeanAccessor accessor = BeanAccessor.of(FailingBean.class);
+        ObjectInstantiationException exception =
+                catchThrowableOfType(ObjectInstantiationException.class, () -> accessor.instantiate(new HashMap<>()));
+        assertThat(exception).hasCauseInstanceOf(UnsupportedOperationException.class);
+    }
+
+    /**
+     * 表示非公开的测试 Bean。
+     */
+    static final class HiddenBean {
+        private String value;
+
+        private HiddenBean() {}
+
+        public String getValue() {
+            return this.value;
+        }
+
+        public void setValue(String value) {
+            if (value == null) {
+                throw new IllegalArgumentException("The value cannot be null.");
+            }
+            this.value = value;
+        }
+    }
+
+    /**
+     * 表示构造方法抛出异常的测试 Bean。
+     */
+    public static class FailingBean {
+        /**
+         * 初始化 {@link FailingBean} 类的新实例。
+         */
+        public FailingBean() {
+            throw new UnsupportedOperationException();
+        }
+    }
 }
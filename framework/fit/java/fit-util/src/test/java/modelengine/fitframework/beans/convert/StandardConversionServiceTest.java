@@ -255,6 +255,31 @@ class StandardConversionServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("测试转换枚举")
+    class ConvertToEnumTest {
+        @Test
+        @DisplayName("按名称不区分大小写地转换为枚举项")
+        void shouldConvertIgnoringCase() {
+            assertThat(ConversionService.forStandard().convert("ToDo", Status.class)).isEqualTo(Status.TODO);
+            assertThat(ConversionService.forStandard().convert("done", Status.class)).isEqualTo(Status.DONE);
+        }
+
+        @Test
+        @DisplayName("名称不存在时返回 null")
+        void shouldReturnNullWhenNameNotFound() {
+            assertThat(ConversionService.forStandard().convert("unknown", Status.class)).isNull();
+        }
+    }
+
+    /**
+     * 表示用以测试枚举转换的状态。
+     */
+    enum Status {
+        TODO,
+        DONE
+    }
+
     @Nested
     @DisplayName("测试将值转为 void")
     class ConvertToVoidTest {
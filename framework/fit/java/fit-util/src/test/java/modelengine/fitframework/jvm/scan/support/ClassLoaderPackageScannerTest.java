@@ -0,0 +1,83 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.jvm.scan.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import modelengine.fitframework.jvm.scan.PackageScanner;
+import modelengine.fitframework.jvm.scan.test.AbstractMarkedTarget;
+import modelengine.fitframework.jvm.scan.test.MarkedTarget;
+import modelengine.fitframework.jvm.scan.test.Marker;
+import modelengine.fitframework.jvm.scan.test.MetaMarkedTarget;
+import modelengine.fitframework.jvm.scan.test.MetaMarker;
+import modelengine.fitframework.jvm.scan.test.PlainTarget;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link ClassLoaderPackageScanner} 的单元测试。
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@DisplayName("测试 ClassLoaderPackageScanner")
+class ClassLoaderPackageScannerTest {
+    private static final String PACKAGE = "modelengine.fitframework.jvm.scan.test";
+
+    @Test
+    @DisplayName("未指定注解时，加载并回调所有扫描到的类")
+    void shouldNotifyAllClassesWithoutAnnotations() {
+        List<Class<?>> scanned = new ArrayList<>();
+        PackageScanner.forClassLoader(this.getClass().getClassLoader(), (scanner, clazz) -> scanned.add(clazz))
+                .scan(Collections.singletonList(PACKAGE));
+
+        assertThat(scanned).contains(MarkedTarget.class,
+                MetaMarkedTarget.class,
+                AbstractMarkedTarget.class,
+                PlainTarget.class,
+                Marker.class,
+                MetaMarker.class);
+    }
+
+    @Test
+    @DisplayName("指定注解时，只加载直接或间接标注了该注解的具体类")
+    void shouldOnlyLoadAnnotatedConcreteClasses() {
+        RecordingClassLoader loader = new RecordingClassLoader(this.getClass().getClassLoader());
+        List<Class<?>> scanned = new ArrayList<>();
+        PackageScanner.forClassLoader(loader,
+                (scanner, clazz) -> scanned.add(clazz),
+                Collections.singletonList(Marker.class.getName())).scan(Collections.singletonList(PACKAGE));
+
+        assertThat(scanned).containsExactlyInAnyOrder(MarkedTarget.class, MetaMarkedTarget.class);
+        assertThat(loader.loaded).containsExactlyInAnyOrder(MarkedTarget.class.getName(),
+                MetaMarkedTarget.class.getName());
+    }
+
+    /**
+     * 记录通过当前类加载程序加载的类名的类加载程序。
+     */
+    private static final class RecordingClassLoader extends ClassLoader {
+        private final Set<String> loaded = ConcurrentHashMap.newKeySet();
+
+        RecordingClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        public Class<?> loadClass(String name) throws ClassNotFoundException {
+            this.loaded.add(name);
+            return super.loadClass(name);
+        }
+    }
+}
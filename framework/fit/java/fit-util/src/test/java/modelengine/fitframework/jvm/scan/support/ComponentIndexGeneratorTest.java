@@ -0,0 +1,166 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.jvm.scan.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import modelengine.fitframework.jvm.scan.ComponentIndex;
+import modelengine.fitframework.jvm.scan.PackageScanner;
+import modelengine.fitframework.jvm.scan.test.MarkedTarget;
+import modelengine.fitframework.jvm.scan.test.Marker;
+import modelengine.fitframework.jvm.scan.test.MetaMarkedTarget;
+import modelengine.fitframework.jvm.scan.test.MetaMarker;
+import modelengine.fitframework.jvm.scan.test.PlainTarget;
+import modelengine.fitframework.util.FileUtils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * {@link ComponentIndexGenerator} 的单元测试。
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@DisplayName("测试 ComponentIndexGenerator")
+class ComponentIndexGeneratorTest {
+    private static final String PACKAGE = "modelengine.fitframework.jvm.scan.test";
+    private static final List<String> ANNOTATIONS = Collections.singletonList(Marker.class.getName());
+
+    private File root;
+
+    @BeforeEach
+    void setup() throws IOException, URISyntaxException {
+        this.root = Files.createTempDirectory("ComponentIndexGeneratorTest-").toFile();
+        Path classes = new File(MarkedTarget.class.getProtectionDomain().getCodeSource().getLocation().toURI())
+                .toPath();
+        Path packagePath = classes.resolve(PACKAGE.replace('.', '/'));
+        Path target = this.root.toPath().resolve(PACKAGE.replace('.', '/'));
+        Files.createDirectories(target);
+        try (Stream<Path> files = Files.list(packagePath)) {
+            for (Path file : files.collect(Collectors.toList())) {
+                Files.copy(file, target.resolve(file.getFileName()));
+            }
+        }
+    }
+
+    @AfterEach
+    void teardown() {
+        FileUtils.delete(this.root);
+    }
+
+    @Test
+    @DisplayName("生成的索引只包含标注了指定注解的具体类，并且可以被完整地读回")
+    void shouldGenerateIndexOfAnnotatedConcreteClasses() throws IOException {
+        ComponentIndexGenerator generator = new ComponentIndexGenerator(this.getClass().getClassLoader(), ANNOTATIONS);
+        ComponentIndex index = generator.generate(this.root);
+
+        assertThat(index.annotationNames()).containsExactly(Marker.class.getName());
+        assertThat(index.components()).extracting(ComponentIndex.Component::className)
+                .containsExactly(MarkedTarget.class.getName(), MetaMarkedTarget.class.getName());
+        assertThat(index.components().get(0).annotations()).containsExactly(Marker.class.getName());
+        assertThat(index.components().get(1).annotations()).containsExactly(MetaMarker.class.getName());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        index.write(out);
+        ComponentIndex read = ComponentIndex.read(new ByteArrayInputStream(out.toByteArray()));
+        assertThat(read.fingerprint()).isEqualTo(index.fingerprint());
+        assertThat(read.annotationNames()).isEqualTo(index.annotationNames());
+        assertThat(read.components()).extracting(ComponentIndex.Component::className)
+                .containsExactly(MarkedTarget.class.getName(), MetaMarkedTarget.class.getName());
+        assertThat(read.components().get(0).annotations()).containsExactly(Marker.class.getName());
+        assertThat(read.components().get(1).annotations()).containsExactly(MetaMarker.class.getName());
+    }
+
+    @Test
+    @DisplayName("索引有效时扫描直接使用索引中的类，索引过期时退回到读取类文件")
+    void shouldUseIndexUntilStale() throws IOException {
+        ComponentIndex generated =
+                new ComponentIndexGenerator(this.getClass().getClassLoader(), ANNOTATIONS).generate(this.root);
+        List<ComponentIndex.Component> marked = Collections.singletonList(generated.components().get(0));
+        this.writeIndex(new ComponentIndex(generated.annotationNames(), generated.fingerprint(), marked));
+        assertThat(this.scan()).containsExactly(MarkedTarget.class.getName());
+
+        this.writeIndex(new ComponentIndex(generated.annotationNames(), "stale", marked));
+        assertThat(this.scan()).containsExactlyInAnyOrder(MarkedTarget.class.getName(),
+                MetaMarkedTarget.class.getName());
+    }
+
+    @Test
+    @DisplayName("类文件被修改但大小不变时，索引视为过期")
+    void shouldTreatIndexAsStaleWhenClassChangesWithSameSize() throws IOException {
+        ComponentIndex generated =
+                new ComponentIndexGenerator(this.getClass().getClassLoader(), ANNOTATIONS).generate(this.root);
+        List<ComponentIndex.Component> marked = Collections.singletonList(generated.components().get(0));
+        this.writeIndex(new ComponentIndex(generated.annotationNames(), generated.fingerprint(), marked));
+        assertThat(this.scan()).containsExactly(MarkedTarget.class.getName());
+
+        // 修改类文件中记录的源文件名中的一个字符，模拟重新编译后大小不变的类文件。
+        Path plain = this.root.toPath().resolve(PACKAGE.replace('.', '/')).resolve("PlainTarget.class");
+        String content = new String(Files.readAllBytes(plain), StandardCharsets.ISO_8859_1);
+        assertThat(content).contains("PlainTarget.java");
+        byte[] changed = content.replace("PlainTarget.java", "PlainTargeT.java").getBytes(StandardCharsets.ISO_8859_1);
+        Files.write(plain, changed);
+        assertThat(this.scan()).containsExactlyInAnyOrder(MarkedTarget.class.getName(),
+                MetaMarkedTarget.class.getName());
+    }
+
+    @Test
+    @DisplayName("索引中记录的注解在运行时不再表示组件时，不加载对应的类")
+    void shouldNotLoadIndexedClassWhoseAnnotationsAreNotComponentsAtRuntime() throws IOException {
+        ComponentIndex generated =
+                new ComponentIndexGenerator(this.getClass().getClassLoader(), ANNOTATIONS).generate(this.root);
+        List<ComponentIndex.Component> components = Arrays.asList(generated.components().get(0),
+                new ComponentIndex.Component(MetaMarkedTarget.class.getName(),
+                        Collections.singletonList("com.example.MissingAnnotation"),
+                        null,
+                        null),
+                new ComponentIndex.Component(PlainTarget.class.getName(), null, null, null));
+        this.writeIndex(new ComponentIndex(generated.annotationNames(), generated.fingerprint(), components));
+
+        assertThat(this.scan()).containsExactly(MarkedTarget.class.getName(), PlainTarget.class.getName());
+    }
+
+    private void writeIndex(ComponentIndex index) throws IOException {
+        File file = new File(this.root, ComponentIndex.RESOURCE_NAME);
+        Files.createDirectories(file.getParentFile().toPath());
+        try (OutputStream out = Files.newOutputStream(file.toPath())) {
+            index.write(out);
+        }
+    }
+
+    private List<String> scan() throws IOException {
+        List<String> scanned = new ArrayList<>();
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {this.root.toURI().toURL()}, null)) {
+            Set<String> annotationNames = Collections.singleton(Marker.class.getName());
+            PackageScanner.forClassLoader(loader, (scanner, clazz) -> scanned.add(clazz.getName()), annotationNames)
+                    .scan(Collections.singletonList(PACKAGE));
+        }
+        return scanned;
+    }
+}
@@ -0,0 +1,16 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.jvm.scan.test;
+
+/**
+ * 包扫描测试中只标注了 JDK 注解的类。
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@Deprecated
+public class PlainTarget {}
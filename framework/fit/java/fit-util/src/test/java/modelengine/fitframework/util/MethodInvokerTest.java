@@ -0,0 +1,85 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import modelengine.fitframework.exception.MethodInvocationException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link MethodInvoker} 的单元测试。
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@DisplayName("测试 MethodInvoker")
+class MethodInvokerTest {
+    @Test
+    @DisplayName("调用实例方法和静态方法，返回方法的返回值")
+    void shouldInvokeInstanceAndStaticMethods() throws NoSuchMethodException {
+        MethodInvoker add = MethodInvoker.of(Calculator.class.getDeclaredMethod("add", int.class, int.class));
+        MethodInvoker negate = MethodInvoker.of(Calculator.class.getDeclaredMethod("negate", long.class));
+        assertThat(add.invoke(new Calculator(), 1, 2)).isEqualTo(3);
+        assertThat(negate.invoke(null, 5L)).isEqualTo(-5L);
+    }
+
+    @Test
+    @DisplayName("入参需要基本类型的拓宽转换时，与反射的行为一致")
+    void shouldWidenPrimitiveArgumentsLikeReflection() throws NoSuchMethodException {
+        MethodInvoker negate = MethodInvoker.of(Calculator.class.getDeclaredMethod("negate", long.class));
+        assertThat(negate.invoke(null, 5)).isEqualTo(-5L);
+    }
+
+    @Test
+    @DisplayName("入参不匹配时，抛出包含 IllegalArgumentException 的 MethodInvocationException")
+    void shouldThrowWhenArgumentsMismatch() throws NoSuchMethodException {
+        MethodInvoker add = MethodInvoker.of(Calculator.class.getDeclaredMethod("add", int.class, int.class));
+        MethodInvocationException exception =
+                catchThrowableOfType(MethodInvocationException.class, () -> add.invoke(new Calculator(), 1, null));
+        assertThat(exception).hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("方法抛出的异常被包装为 MethodInvocationException 的原因")
+    void shouldWrapExceptionThrownByMethod() throws NoSuchMethodException {
+        MethodInvoker fail = MethodInvoker.of(Calculator.class.getDeclaredMethod("fail"));
+        MethodInvocationException exception =
+                catchThrowableOfType(MethodInvocationException.class, () -> fail.invoke(new Calculator()));
+        assertThat(exception.getCause()).isInstanceOf(IllegalStateException.class).hasMessage("failed");
+    }
+
+    @Test
+    @DisplayName("实例方法的主体对象为 null 时，抛出 IllegalArgumentException")
+    void shouldThrowWhenOwnerIsNull() throws NoSuchMethodException {
+        MethodInvoker add = MethodInvoker.of(Calculator.class.getDeclaredMethod("add", int.class, int.class));
+        IllegalArgumentException exception =
+                catchThrowableOfType(IllegalArgumentException.class, () -> add.invoke(null, 1, 2));
+        assertThat(exception).hasMessage(
+                "The specified owner is null and the method is an instance method. [method=add]");
+    }
+
+    /**
+     * 表示用以测试方法调用的非公开类型。
+     */
+    static final class Calculator {
+        private int add(int first, int second) {
+            return first + second;
+        }
+
+        private static long negate(long value) {
+            return -value;
+        }
+
+        private void fail() {
+            throw new IllegalStateException("failed");
+        }
+    }
+}
@@ -8,6 +8,7 @@ package modelengine.fit.waterflow.domain.context;
 
 import lombok.Getter;
 import lombok.Setter;
+import modelengine.fit.waterflow.domain.stream.nodes.To;
 import modelengine.fit.waterflow.domain.stream.reactive.Publisher;
 
 import java.util.UUID;
@@ -106,6 +107,17 @@ public class FlatMapWindow extends Window {
         this.from.addTo(to);
     }
 
+    /**
+     * 完成时的钩子也转移到flatmap source window，由flatmap source window完成时触发reduce
+     *
+     * @param to 处理节点
+     * @param context 上下文数据
+     */
+    @Override
+    public <T, R> void setCompleteHook(To<T, R> to, FlowContext context) {
+        this.from.setCompleteHook(to, context);
+    }
+
     @Override
     public Object acc() {
         return this.from.acc();
@@ -115,4 +127,9 @@ public class FlatMapWindow extends Window {
     public void setAcc(Object acc) {
         this.from.setAcc(acc);
     }
+
+    @Override
+    public void resetAcc() {
+        this.from.resetAcc();
+    }
 }
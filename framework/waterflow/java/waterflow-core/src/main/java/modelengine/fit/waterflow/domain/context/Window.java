@@ -193,15 +193,25 @@ public class Window implements Completable {
 
     private void fire() {
         // only when all elements are consumed(done), fire the possible reduce
-        if (completeContext != null && session.isAccumulator() && this.isDone()) {
-            List<FlowContext<Object>> cs = new ArrayList<>();
-            cs.add(completeContext);
-            List contexts = node.getProcessMode().process(node, cs);
-            if (node instanceof Processor) {
-                ((Processor<?, ?>) node).offer(contexts);
-            }
-            completeContext = null;
+        CompleteContext fired = this.takeCompleteContext();
+        if (fired == null) {
+            return;
+        }
+        List<FlowContext<Object>> cs = new ArrayList<>();
+        cs.add(fired);
+        List contexts = node.getProcessMode().process(node, cs);
+        if (node instanceof Processor) {
+            ((Processor<?, ?>) node).offer(contexts);
+        }
+    }
+
+    private synchronized CompleteContext takeCompleteContext() {
+        if (completeContext == null || !completeContext.getSession().isAccumulator() || !this.isDone()) {
+            return null;
         }
+        CompleteContext taken = completeContext;
+        completeContext = null;
+        return taken;
     }
 
     private void completed() {
@@ -266,7 +276,7 @@ public class Window implements Completable {
      * @param <T> 入参类型
      * @param <R> 出参类型
      */
-    public <T, R> void setCompleteHook(To<T, R> to, FlowContext context) {
+    public synchronized <T, R> void setCompleteHook(To<T, R> to, FlowContext context) {
         this.node = to;
         this.completeContext = new CompleteContext(context, to.getId());
     }
@@ -276,6 +286,8 @@ public class Window implements Completable {
      **/
     public void tryFinish() {
         if (this.isDone()) {
+            // window完成时最后一条数据可能仍在消费中，消费结束时再尝试触发reduce
+            this.fire();
             this.completed();
         }
     }
@@ -357,10 +369,11 @@ public class Window implements Completable {
     }
 
     /**
-     * 重置聚合结果
+     * 重置聚合结果，聚合结果已经送出，不再需要完成时触发reduce
      */
-    public void resetAcc() {
+    public synchronized void resetAcc() {
         this.acc = null;
+        this.completeContext = null;
     }
 }
 
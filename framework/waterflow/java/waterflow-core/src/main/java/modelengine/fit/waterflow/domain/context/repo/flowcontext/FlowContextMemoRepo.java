@@ -12,24 +12,47 @@ import modelengine.fit.waterflow.domain.enums.FlowNodeStatus;
 import modelengine.fit.waterflow.domain.stream.operators.Operators;
 
 import java.util.ArrayList;
-import java.util.Deque;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedDeque;
-import java.util.function.Function;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * 持久化{@link FlowContext}对象到内存中核心类
+ * 除了按照id存放的主表，还维护了按(streamId, position, status, sent)、trace和parallel组织的二级索引，
+ * 节点轮询时只需要访问对应边上的数据，而不需要遍历内存中所有的contexts
+ * 索引中的contexts按照首次保存的顺序排列，与遍历主表时的顺序一致；写入时按照context id分段加锁，不同context的保存互不阻塞
+ * 查询时会对索引命中的context再次校验查询条件，因此在保存之后被直接修改的context不会被错误地返回
  *
  * @author 高诗意
  * @since 1.0
  */
 public class FlowContextMemoRepo implements FlowContextRepo {
-    private final ConcurrentLinkedHashMap<String, FlowContext> contextsMap = new ConcurrentLinkedHashMap<>();
+    private static final int LOCK_STRIPES = 64;
+
+    private final Map<String, Entry> contexts = new ConcurrentHashMap<>();
+
+    private final Map<PositionKey, NavigableMap<Long, FlowContext<?>>> positionIndex = new ConcurrentHashMap<>();
+
+    private final Map<String, NavigableMap<Long, FlowContext<?>>> traceIndex = new ConcurrentHashMap<>();
+
+    private final Map<String, NavigableMap<Long, FlowContext<?>>> parallelIndex = new ConcurrentHashMap<>();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final Object[] locks = new Object[LOCK_STRIPES];
 
     private final boolean isReserveTerminal;
 
@@ -47,50 +70,50 @@ public class FlowContextMemoRepo implements FlowContextRepo {
      */
     public FlowContextMemoRepo(boolean isReserveTerminal) {
         this.isReserveTerminal = isReserveTerminal;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            this.locks[i] = new Object();
+        }
     }
 
-    private <T> List<FlowContext<T>> query(Function<Stream<FlowContext<T>>, Stream<FlowContext<T>>> filter) {
-        return filter.apply(this.contextsMap.stream()
-                        .map(p -> (FlowContext<T>) p))
-                .collect(Collectors.toList());
-    }
-
-
     @Override
     public <T> List<FlowContext<T>> getContextsByPosition(String streamId, List<String> posIds, String status) {
-        return query(stream -> stream
-                .filter(context -> context.getStreamId().equals(streamId))
-                .filter(context -> posIds.contains(context.getPosition()))
-                .filter(context -> context.getStatus().toString().equals(status))
-                .filter(context -> !context.isSent()));
+        FlowNodeStatus nodeStatus = statusOf(status);
+        if (nodeStatus == null) {
+            return new ArrayList<>();
+        }
+        List<NavigableMap<Long, FlowContext<?>>> buckets = new ArrayList<>();
+        posIds.forEach(posId -> this.addBucket(buckets, new PositionKey(streamId, posId, nodeStatus, false)));
+        return collect(buckets, context -> context.getStreamId().equals(streamId)
+                && posIds.contains(context.getPosition()) && context.getStatus() == nodeStatus && !context.isSent());
     }
 
     @Override
-    public <T> List<FlowContext<T>> getContextsByPosition(String streamId, String posId, String batchId, String status) {
-        return query(stream -> stream
-                .filter(context -> context.getStreamId().equals(streamId))
-                .filter(context -> context.getPosition().equals(posId))
-                .filter(context -> context.getBatchId().equals(batchId))
-                .filter(context -> context.getStatus().toString().equals(status)));
+    public <T> List<FlowContext<T>> getContextsByPosition(String streamId, String posId, String batchId,
+            String status) {
+        FlowNodeStatus nodeStatus = statusOf(status);
+        if (nodeStatus == null) {
+            return new ArrayList<>();
+        }
+        return collect(this.positionBuckets(streamId, Collections.singletonList(posId), nodeStatus),
+                context -> context.getStreamId().equals(streamId) && context.getPosition().equals(posId)
+                        && Objects.equals(context.getBatchId(), batchId) && context.getStatus() == nodeStatus);
     }
 
     @Override
     public <T> List<FlowContext<T>> getContextsByTrace(String traceId) {
-        return query(stream -> stream
-                .filter(context -> context.getTraceId().contains(traceId)));
+        return collect(bucketOf(this.traceIndex, traceId), context -> context.getTraceId().contains(traceId));
     }
 
     @Override
-    public synchronized <T> void save(List<FlowContext<T>> contexts) {
+    public <T> void save(List<FlowContext<T>> contexts) {
         contexts.forEach(context -> {
-            if (this.isReserveTerminal) {
-                this.contextsMap.put(context.getId(), context);
-                return;
-            }
-            if (context.getStatus() == FlowNodeStatus.ARCHIVED || context.getStatus() == FlowNodeStatus.ERROR) {
-                this.contextsMap.remove(context.getId());
-            } else {
-                this.contextsMap.put(context.getId(), context);
+            synchronized (this.lockOf(context.getId())) {
+                if (!this.isReserveTerminal && (context.getStatus() == FlowNodeStatus.ARCHIVED
+                        || context.getStatus() == FlowNodeStatus.ERROR)) {
+                    this.remove(context.getId());
+                } else {
+                    this.put(context);
+                }
             }
         });
     }
@@ -102,57 +125,63 @@ public class FlowContextMemoRepo implements FlowContextRepo {
 
     @Override
     public <T> List<FlowContext<T>> getContextsByParallel(String parallelId) {
-        return query(stream -> stream
-                .filter(context -> context.getParallel().equals(parallelId)));
+        return collect(bucketOf(this.parallelIndex, parallelId),
+                context -> Objects.equals(context.getParallel(), parallelId));
     }
 
     @Override
     public <T> FlowContext<T> getById(String id) {
-        return this.contextsMap.stream()
-                .filter(context -> context.getId().equals(id)).findFirst().orElse(null);
+        Entry entry = this.contexts.get(id);
+        return entry == null ? null : cast(entry.context);
     }
 
     @Override
     public <T> List<FlowContext<T>> getPendingAndSentByIds(List<String> ids) {
-        return query(stream -> stream
-                .filter(context -> context.getStatus().equals(FlowNodeStatus.PENDING))
+        return ids.stream()
+                .distinct()
+                .map(this.contexts::get)
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparingLong(entry -> entry.sequence))
+                .map(entry -> FlowContextMemoRepo.<T>cast(entry.context))
+                .filter(context -> context.getStatus() == FlowNodeStatus.PENDING)
                 .filter(FlowContext::isSent)
-                .filter(context -> ids.contains(context.getId())));
+                .collect(Collectors.toList());
     }
 
     @Override
     public <T> List<FlowContext<T>> getByIds(List<String> ids) {
-        return ids.stream().map(i -> (FlowContext<T>) contextsMap.get(i)).collect(Collectors.toList());
+        return ids.stream().map(this::<T>getById).collect(Collectors.toList());
     }
 
     @Override
     public <T> List<FlowContext<T>> requestMappingContext(String streamId, List<String> subscriptions,
         Map<String, Integer> sessions) {
-        return query(stream -> stream
-                .filter(context -> context.getStreamId().equals(streamId))
-                .filter(context -> subscriptions.contains(context.getPosition()))
-                .filter(context -> context.getStatus() == FlowNodeStatus.PENDING)
-                .filter(context -> {
-                    boolean found = false;
-                    for (String s : sessions.keySet()) {
-                        found = context.getSession().getId().equals(s)
-                                && (Objects.equals(context.getIndex(), sessions.get(s)));
-                        if (found) {
-                            break;
-                        }
-                    }
-                    return context.getIndex() == -1 || context.getIndex() == 0 || found;//找到需要保序的当前序列或者不需要保序的
-                })
-                .limit(1));
+        Iterator<FlowContext<T>> iterator =
+                new MergedIterator<>(this.positionBuckets(streamId, subscriptions, FlowNodeStatus.PENDING));
+        while (iterator.hasNext()) {
+            FlowContext<T> context = iterator.next();
+            if (!context.getStreamId().equals(streamId) || !subscriptions.contains(context.getPosition())
+                    || context.getStatus() != FlowNodeStatus.PENDING) {
+                continue;
+            }
+            String sessionId = context.getSession().getId();
+            boolean found = sessions.containsKey(sessionId)
+                    && Objects.equals(context.getIndex(), sessions.get(sessionId));
+            if (context.getIndex() == -1 || context.getIndex() == 0 || found) { //找到需要保序的当前序列或者不需要保序的
+                List<FlowContext<T>> result = new ArrayList<>();
+                result.add(context);
+                return result;
+            }
+        }
+        return new ArrayList<>();
     }
 
     @Override
     public <T> List<FlowContext<T>> requestProducingContext(String streamId, List<String> subscriptions,
                                                             Operators.Filter<T> filter) {
-        List<FlowContext<T>> all = query(stream -> stream
-                .filter(context -> context.getStreamId().equals(streamId))
-                .filter(context -> subscriptions.contains(context.getPosition()))
-                .filter(context -> context.getStatus() == FlowNodeStatus.PENDING));
+        List<FlowContext<T>> all = collect(this.positionBuckets(streamId, subscriptions, FlowNodeStatus.PENDING),
+                context -> context.getStreamId().equals(streamId) && subscriptions.contains(context.getPosition())
+                        && context.getStatus() == FlowNodeStatus.PENDING);
         return filter.process(all);
     }
 
@@ -169,7 +198,7 @@ public class FlowContextMemoRepo implements FlowContextRepo {
     public <T> void updateIndex(List<FlowContext<T>> contexts) {
         List<FlowContext<T>> updated = new ArrayList<>();
         for (FlowContext<T> context : contexts) {
-            FlowContext<T> saved = this.contextsMap.get(context.getId());
+            FlowContext<T> saved = this.getById(context.getId());
             if (saved == null) {
                 saved = context;
             } else {
@@ -180,58 +209,221 @@ public class FlowContextMemoRepo implements FlowContextRepo {
         this.save(updated);
     }
 
+    private Object lockOf(String id) {
+        return this.locks[(id.hashCode() & Integer.MAX_VALUE) % LOCK_STRIPES];
+    }
+
+    private void put(FlowContext<?> context) {
+        Entry previous = this.contexts.get(context.getId());
+        long seq = previous == null ? this.sequence.incrementAndGet() : previous.sequence;
+        Entry entry = new Entry(seq, context);
+        // 先写入新的索引再删除旧的索引，保证并发查询在更新过程中总能看到该context
+        this.contexts.put(context.getId(), entry);
+        index(this.positionIndex, entry.position, seq, context);
+        entry.traces.forEach(trace -> index(this.traceIndex, trace, seq, context));
+        if (entry.parallel != null) {
+            index(this.parallelIndex, entry.parallel, seq, context);
+        }
+        if (previous == null) {
+            return;
+        }
+        if (!previous.position.equals(entry.position)) {
+            unindex(this.positionIndex, previous.position, seq);
+        }
+        previous.traces.stream()
+                .filter(trace -> !entry.traces.contains(trace))
+                .forEach(trace -> unindex(this.traceIndex, trace, seq));
+        if (previous.parallel != null && !previous.parallel.equals(entry.parallel)) {
+            unindex(this.parallelIndex, previous.parallel, seq);
+        }
+    }
+
+    private void remove(String id) {
+        Entry previous = this.contexts.remove(id);
+        if (previous == null) {
+            return;
+        }
+        unindex(this.positionIndex, previous.position, previous.sequence);
+        previous.traces.forEach(trace -> unindex(this.traceIndex, trace, previous.sequence));
+        if (previous.parallel != null) {
+            unindex(this.parallelIndex, previous.parallel, previous.sequence);
+        }
+    }
+
+    private static <K> void index(Map<K, NavigableMap<Long, FlowContext<?>>> index, K key, long seq,
+            FlowContext<?> context) {
+        index.compute(key, (any, bucket) -> {
+            NavigableMap<Long, FlowContext<?>> actual = bucket == null ? new ConcurrentSkipListMap<>() : bucket;
+            actual.put(seq, context);
+            return actual;
+        });
+    }
+
+    private static <K> void unindex(Map<K, NavigableMap<Long, FlowContext<?>>> index, K key, long seq) {
+        index.computeIfPresent(key, (any, bucket) -> {
+            bucket.remove(seq);
+            return bucket.isEmpty() ? null : bucket;
+        });
+    }
+
+    private List<NavigableMap<Long, FlowContext<?>>> positionBuckets(String streamId, List<String> posIds,
+            FlowNodeStatus status) {
+        List<NavigableMap<Long, FlowContext<?>>> buckets = new ArrayList<>();
+        posIds.forEach(posId -> {
+            this.addBucket(buckets, new PositionKey(streamId, posId, status, false));
+            this.addBucket(buckets, new PositionKey(streamId, posId, status, true));
+        });
+        return buckets;
+    }
+
+    private void addBucket(List<NavigableMap<Long, FlowContext<?>>> buckets, PositionKey key) {
+        NavigableMap<Long, FlowContext<?>> bucket = this.positionIndex.get(key);
+        if (bucket != null && !buckets.contains(bucket)) {
+            buckets.add(bucket);
+        }
+    }
+
+    private static <K> List<NavigableMap<Long, FlowContext<?>>> bucketOf(
+            Map<K, NavigableMap<Long, FlowContext<?>>> index, K key) {
+        NavigableMap<Long, FlowContext<?>> bucket = key == null ? null : index.get(key);
+        return bucket == null ? Collections.emptyList() : Collections.singletonList(bucket);
+    }
+
+    private static <T> List<FlowContext<T>> collect(List<NavigableMap<Long, FlowContext<?>>> buckets,
+            Predicate<FlowContext<T>> condition) {
+        List<FlowContext<T>> result = new ArrayList<>();
+        Iterator<FlowContext<T>> iterator = new MergedIterator<>(buckets);
+        while (iterator.hasNext()) {
+            FlowContext<T> context = iterator.next();
+            if (condition.test(context)) {
+                result.add(context);
+            }
+        }
+        return result;
+    }
+
+    private static FlowNodeStatus statusOf(String status) {
+        for (FlowNodeStatus value : FlowNodeStatus.values()) {
+            if (value.toString().equals(status)) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> FlowContext<T> cast(FlowContext<?> context) {
+        return (FlowContext<T>) context;
+    }
+
+    /**
+     * 主表中的一条记录，记录了context首次保存的顺序以及写入索引时使用的索引键
+     */
+    private static final class Entry {
+        private final long sequence;
+
+        private final FlowContext<?> context;
+
+        private final PositionKey position;
+
+        private final Set<String> traces;
+
+        private final String parallel;
+
+        private Entry(long sequence, FlowContext<?> context) {
+            this.sequence = sequence;
+            this.context = context;
+            this.position = new PositionKey(context.getStreamId(), context.getPosition(), context.getStatus(),
+                    context.isSent());
+            this.traces = context.getTraceId() == null ? Collections.emptySet() : new HashSet<>(context.getTraceId());
+            this.parallel = context.getParallel();
+        }
+    }
+
+    /**
+     * 按照边上的位置组织的索引键
+     */
+    private static final class PositionKey {
+        private final String streamId;
+
+        private final String position;
+
+        private final FlowNodeStatus status;
+
+        private final boolean isSent;
+
+        private PositionKey(String streamId, String position, FlowNodeStatus status, boolean isSent) {
+            this.streamId = streamId;
+            this.position = position;
+            this.status = status;
+            this.isSent = isSent;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof PositionKey)) {
+                return false;
+            }
+            PositionKey other = (PositionKey) obj;
+            return this.isSent == other.isSent && this.status == other.status
+                    && Objects.equals(this.streamId, other.streamId) && Objects.equals(this.position, other.position);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.streamId, this.position, this.status, this.isSent);
+        }
+    }
+
     /**
-     * 构造一个支持并发且可以保障元素顺序的map
+     * 按照首次保存的顺序合并多个索引桶的迭代器，只有一个索引桶时直接遍历该桶
      *
-     * @param <K> map的key类型
-     * @param <V> map的value类型
+     * @param <T> context的数据类型
      */
-    private static class ConcurrentLinkedHashMap<K, V> {
-        private final Map<K, V> map = new ConcurrentHashMap<>();
-
-        private final Deque<K> order = new ConcurrentLinkedDeque<>();
-
-        /**
-         * put一个键值对
-         *
-         * @param key key
-         * @param value value
-         */
-        public void put(K key, V value) {
-            if (!map.containsKey(key)) {
-                order.add(key);
+    private static final class MergedIterator<T> implements Iterator<FlowContext<T>> {
+        private final PriorityQueue<Cursor> cursors = new PriorityQueue<>(Comparator.comparingLong(cursor ->
+                cursor.current.getKey()));
+
+        private MergedIterator(List<NavigableMap<Long, FlowContext<?>>> buckets) {
+            buckets.forEach(bucket -> {
+                Iterator<Map.Entry<Long, FlowContext<?>>> iterator = bucket.entrySet().iterator();
+                if (iterator.hasNext()) {
+                    this.cursors.add(new Cursor(iterator));
+                }
+            });
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !this.cursors.isEmpty();
+        }
+
+        @Override
+        public FlowContext<T> next() {
+            Cursor cursor = this.cursors.poll();
+            if (cursor == null) {
+                throw new NoSuchElementException();
+            }
+            FlowContext<T> context = cast(cursor.current.getValue());
+            if (cursor.iterator.hasNext()) {
+                cursor.current = cursor.iterator.next();
+                this.cursors.add(cursor);
+            }
+            return context;
+        }
+
+        private static final class Cursor {
+            private final Iterator<Map.Entry<Long, FlowContext<?>>> iterator;
+
+            private Map.Entry<Long, FlowContext<?>> current;
+
+            private Cursor(Iterator<Map.Entry<Long, FlowContext<?>>> iterator) {
+                this.iterator = iterator;
+                this.current = iterator.next();
             }
-            map.put(key, value);
-        }
-
-        /**
-         * 根据key获取结果
-         *
-         * @param key key
-         * @return 对应的value，可能为null
-         */
-        public V get(K key) {
-            return map.get(key);
-        }
-
-        /**
-         * 删除一个key
-         *
-         * @param key key
-         * @return 被删除的值
-         */
-        public V remove(K key) {
-            order.remove(key);
-            return map.remove(key);
-        }
-
-        /**
-         * 获取流式的元素
-         *
-         * @return 流式元素
-         */
-        public Stream<V> stream() {
-            return order.stream().map(map::get).filter(obj -> !Objects.isNull(obj));
         }
     }
 }
@@ -15,6 +15,8 @@ import modelengine.fit.waterflow.domain.states.State;
 import modelengine.fit.waterflow.domain.stream.reactive.Processor;
 import modelengine.fit.waterflow.domain.stream.reactive.Publisher;
 import modelengine.fit.waterflow.domain.stream.reactive.Subscriber;
+import modelengine.fit.waterflow.domain.utils.FlowExecutor;
+import modelengine.fit.waterflow.domain.utils.FlowExecutors;
 import modelengine.fit.waterflow.domain.utils.IdGenerator;
 import modelengine.fitframework.util.ObjectUtils;
 
@@ -215,6 +217,27 @@ public abstract class Flow<D> extends IdGenerator {
         return this.nodes;
     }
 
+    /**
+     * 为流程绑定独立的执行器，流程的所有节点都将通过该执行器申请并发和执行任务
+     *
+     * @param executor 执行器
+     * @param <F> 类型
+     * @return 返回自身
+     */
+    public <F extends Flow<D>> F executor(FlowExecutor executor) {
+        FlowExecutors.bind(this.start.getStreamId(), executor);
+        return (F) this;
+    }
+
+    /**
+     * 获取流程使用的执行器
+     *
+     * @return 流程绑定的执行器，未绑定时返回默认执行器
+     */
+    public FlowExecutor getExecutor() {
+        return FlowExecutors.of(this.start.getStreamId());
+    }
+
     /**
      * 一个session结束整流操作后将触发onComplete事件
      *
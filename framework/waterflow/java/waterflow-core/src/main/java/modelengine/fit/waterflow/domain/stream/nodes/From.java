@@ -188,7 +188,10 @@ public class From<I> extends IdGenerator implements Publisher<I> {
             DataStart<O, O, ?> start = processor.process(input);
 
             FlowSession startSession = new FlowSession();
-            flatMapWindow.setSource(startSession.begin());
+            Window source = startSession.begin();
+            flatMapWindow.setSource(source);
+            // 子流完成时通知flatmap window，子流的最后一条数据可能先于子流完成到达
+            source.addTo(flatMapWindow);
             startSession.onError(exception -> {
                 processRef.get().fail(exception, Collections.singletonList(input));
             });
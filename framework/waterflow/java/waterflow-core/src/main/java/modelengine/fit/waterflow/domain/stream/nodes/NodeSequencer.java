@@ -0,0 +1,77 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.domain.stream.nodes;
+
+import modelengine.fit.waterflow.domain.context.FlowContext;
+import modelengine.fitframework.util.CollectionUtils;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * 节点内contexts的按session排队器
+ * 同一个session的contexts按照取出的顺序依次处理，reduce、window等依赖session状态的处理不会乱序：
+ * 1、session没有正在处理的批次时，取出的批次直接处理
+ * 2、session已有正在处理的批次时，取出的批次只入队，不等待也不占用线程，由正在处理的线程处理完当前批次后依次取出处理
+ * 不同session之间互不等待，没有session的contexts不排队
+ *
+ * @param <I> 节点处理的数据类型
+ * @author agent
+ * @since 2026-10-18
+ */
+final class NodeSequencer<I> {
+    private final Map<String, Queue<List<FlowContext<I>>>> lanes = new HashMap<>();
+
+    /**
+     * 登记节点取出的一批contexts，需要按照取出的顺序调用
+     *
+     * @param contexts 节点取出的一批contexts
+     * @return true-session没有正在处理的批次，调用方需要立即处理该批次；false-已排在正在处理的批次之后
+     */
+    synchronized boolean offer(List<FlowContext<I>> contexts) {
+        String session = sessionOf(contexts);
+        if (session == null) {
+            return true;
+        }
+        Queue<List<FlowContext<I>>> lane = this.lanes.get(session);
+        if (lane == null) {
+            this.lanes.put(session, new ArrayDeque<>());
+            return true;
+        }
+        lane.add(contexts);
+        return false;
+    }
+
+    /**
+     * 一批contexts处理完成后，取出同一session排在其后的下一批contexts
+     *
+     * @param contexts 处理完成的一批contexts
+     * @return 下一批contexts，如果没有排队的批次则返回null，session回到空闲状态
+     */
+    synchronized List<FlowContext<I>> poll(List<FlowContext<I>> contexts) {
+        String session = sessionOf(contexts);
+        if (session == null) {
+            return null;
+        }
+        Queue<List<FlowContext<I>>> lane = this.lanes.get(session);
+        List<FlowContext<I>> next = lane == null ? null : lane.poll();
+        if (next == null) {
+            this.lanes.remove(session);
+        }
+        return next;
+    }
+
+    private static <I> String sessionOf(List<FlowContext<I>> contexts) {
+        if (CollectionUtils.isEmpty(contexts) || contexts.get(0).getSession() == null) {
+            return null;
+        }
+        return contexts.get(0).getSession().getId();
+    }
+}
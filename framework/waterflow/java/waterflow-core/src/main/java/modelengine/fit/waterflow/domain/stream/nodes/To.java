@@ -31,13 +31,13 @@ import modelengine.fit.waterflow.domain.stream.reactive.Callback;
 import modelengine.fit.waterflow.domain.stream.reactive.Subscriber;
 import modelengine.fit.waterflow.domain.stream.reactive.Subscription;
 import modelengine.fit.waterflow.domain.utils.FlowDebug;
+import modelengine.fit.waterflow.domain.utils.FlowExecutor;
 import modelengine.fit.waterflow.domain.utils.FlowExecutors;
 import modelengine.fit.waterflow.domain.utils.IdGenerator;
 import modelengine.fit.waterflow.domain.utils.Identity;
-import modelengine.fit.waterflow.domain.utils.SleepUtil;
+import modelengine.fit.waterflow.domain.utils.NodeScheduler;
 import modelengine.fit.waterflow.domain.utils.UUIDUtil;
 import modelengine.fitframework.log.Logger;
-import modelengine.fitframework.schedule.Task;
 import modelengine.fitframework.util.CollectionUtils;
 import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.StringUtils;
@@ -76,8 +76,6 @@ public class To<I, O> extends IdGenerator implements Subscriber<I, O> {
      */
     private static final int MAX_CONCURRENCY = 10;
 
-    private static final int SLEEP_MILLS = 10;
-
     /**
      * subscriber支持多publisher分发，前提是分发源出来的数据类型需要一致，不然无法统一处理
      */
@@ -165,14 +163,16 @@ public class To<I, O> extends IdGenerator implements Subscriber<I, O> {
     private volatile int curConcurrency = 0;
 
     /**
-     * 当前节点预处理是否在运行中
+     * 当前节点预处理的调度单元，由共享的节点调度器驱动，收到就绪信号时才会执行
      */
-    private volatile boolean preProcessRunning = false;
+    private final NodeScheduler.Worker preProcessWorker = NodeScheduler.worker(
+            () -> this.getThreadName(PRE_PROCESS_T_NAME_PREFIX), this::preProcess);
 
     /**
-     * 当前节点处理是否在运行中
+     * 当前节点处理的调度单元，由共享的节点调度器驱动，收到就绪信号时才会执行
      */
-    private volatile boolean processRunning = false;
+    private final NodeScheduler.Worker processWorker = NodeScheduler.worker(
+            () -> this.getThreadName(PROCESS_T_NAME_PREFIX), () -> this.process(ProcessType.PROCESS));
 
     /**
      * 数据处理完后callback函数，用于外界的侦听或者数据处理完后后续操作
@@ -188,16 +188,14 @@ public class To<I, O> extends IdGenerator implements Subscriber<I, O> {
 
     private boolean isAuto = true;
 
-    private Thread processT = null;
-
-    private Thread preProcessT = null;
-
     private final Set<EmitterListener> listeners = new HashSet<>();
 
     private final Map<Object, FlowSession> nextSessions = new ConcurrentHashMap<>();
 
     private final Map<String, Integer> counter = new ConcurrentHashMap<>();
 
+    private final NodeSequencer<I> sequencer = new NodeSequencer<>();
+
     /**
      * 1->1处理节点
      *
@@ -278,36 +276,34 @@ public class To<I, O> extends IdGenerator implements Subscriber<I, O> {
             return;
         }
         if (type == ProcessType.PRE_PROCESS && inParallelMode(contexts)) {
-            this.preProcess(type);
+            this.runInline(this.preProcessWorker, this.preProcess());
             return;
         }
         if (type == ProcessType.PROCESS && inParallelMode(contexts)) {
-            this.process(type);
+            this.runInline(this.processWorker, this.process(type));
             return;
         }
         this.triggerNodeProcessor(type);
     }
 
-    private synchronized void triggerNodeProcessor(ProcessType type) {
-        if (type == ProcessType.PRE_PROCESS && (preProcessT == null || !preProcessRunning)) {
-            preProcessRunning = true;
-            String threadName = getThreadName(PRE_PROCESS_T_NAME_PREFIX);
-            preProcessT = new Thread(() -> preProcess(type), threadName);
-            preProcessT.setUncaughtExceptionHandler((thread, error) ->
-                    LOG.error("run preProcessT error, message:{}", error.getMessage()));
-            preProcessT.start();
-            LOG.debug("[{}] preprocess main loop starts for stream-id: {}, node-id: {}", threadName, this.streamId,
-                    this.id);
+    /**
+     * 平行节点的数据在调用线程上直接处理，未能处理完的部分交给调度器继续处理
+     *
+     * @param worker 对应的调度单元
+     * @param outcome 调用线程上处理的结果
+     */
+    private void runInline(NodeScheduler.Worker worker, NodeScheduler.Outcome outcome) {
+        if (outcome != NodeScheduler.Outcome.IDLE) {
+            worker.signal();
+        }
+    }
+
+    private void triggerNodeProcessor(ProcessType type) {
+        if (type == ProcessType.PRE_PROCESS) {
+            this.preProcessWorker.signal();
         }
-        if (type == ProcessType.PROCESS && (processT == null || !processRunning)) {
-            processRunning = true;
-            String threadName = getThreadName(PROCESS_T_NAME_PREFIX);
-            processT = new Thread(() -> process(type), threadName);
-            processT.setUncaughtExceptionHandler((thread, error) ->
-                    LOG.error("run processT error, message:{}", error.getMessage()));
-            processT.start();
-            LOG.debug("[{}] process main loop starts for stream-id: {}, node-id: {}", threadName, this.streamId,
-                    this.id);
+        if (type == ProcessType.PROCESS) {
+            this.processWorker.signal();
         }
     }
 
@@ -326,48 +322,48 @@ public class To<I, O> extends IdGenerator implements Subscriber<I, O> {
      * 最后将ready的contexts通过事件发送给引擎外部
      * 保证一批次contexts一次只有一个线程在处理
      * 非常重要！退出机制增加保护策略，避免A线程退出过程中，B线程放数据到边上数据得不到处理的场景：
-     * 这时A线程未标记退出，B线程已经完成触发动作，B线程以为A线程还在处理，而A线程直接就会退出，因此由A线程判断是否再触发一次
+     * 排空结束前再检查一次边上的数据，如果仍有待处理的数据，则由调度器稍后再次执行
+     *
+     * @return 本次排空的结果
      */
-    private void preProcess(ProcessType type) {
+    private NodeScheduler.Outcome preProcess() {
         while (true) {
             List<FlowContext<I>> ready = new ArrayList<>();
             try {
                 ready = requestReady();
                 if (CollectionUtils.isEmpty(ready)) {
-                    preProcessRunning = false;
-                    LOG.debug("[{}] preprocess main loop exit for stream-id: {}, node-id: {}",
+                    LOG.debug("[{}] preprocess drain exit for stream-id: {}, node-id: {}",
                             this.getThreadName(PRE_PROCESS_T_NAME_PREFIX), this.streamId, this.id);
-                    this.handlePreProcessConcurrentConflict();
-                    return;
+                    return this.handlePreProcessConcurrentConflict();
                 }
                 messenger.send(this.getId(), ready);
             } catch (Exception ex) {
-                ready.forEach( // 如果是数据库或者redis挂了，会死循环，线程不退出等待数据库或者redis恢复
+                ready.forEach( // 如果是数据库或者redis挂了，由调度器退避后重试，等待数据库或者redis恢复
                         r -> LOG.error(
-                                "Preprocess main loop exception stream-id: {}, node-id: {}, context-id: {}.",
+                                "Preprocess drain exception stream-id: {}, node-id: {}, context-id: {}.",
                                 this.streamId, this.id, r.getId()));
-                LOG.debug("Preprocess main loop exception details: ", ex);
-            } finally {
-                SleepUtil.sleep(SLEEP_MILLS);
+                LOG.debug("Preprocess drain exception details: ", ex);
+                return NodeScheduler.Outcome.RETRY;
             }
         }
     }
 
-    private void process(ProcessType type) {
-        this.getProcessMode().request(type, this);
+    private NodeScheduler.Outcome process(ProcessType type) {
+        return this.getProcessMode().request(type, this);
     }
 
-    private void handlePreProcessConcurrentConflict() {
+    private NodeScheduler.Outcome handlePreProcessConcurrentConflict() {
         List<FlowContext<I>> concurrentConflictContexts = this.preFilter()
                 .process(flowContextRepo.getContextsByPosition(this.streamId,
                         this.froms.stream().map(Identity::getId).collect(Collectors.toList()),
                         FlowNodeStatus.PENDING.toString()));
+        this.preProcessWorker.recordQueueDepth(concurrentConflictContexts.size());
         if (CollectionUtils.isEmpty(concurrentConflictContexts) || inParallelMode(concurrentConflictContexts)) {
-            return;
+            return NodeScheduler.Outcome.IDLE;
         }
-        LOG.info("[{}] preprocess thread conflict happens for stream-id: {}, node-id: {}",
+        LOG.info("[{}] preprocess conflict happens for stream-id: {}, node-id: {}",
                 this.getThreadName(PRE_PROCESS_T_NAME_PREFIX), this.streamId, this.id);
-        this.accept(ProcessType.PRE_PROCESS, concurrentConflictContexts);
+        return NodeScheduler.Outcome.WAITING;
     }
 
     /**
@@ -387,6 +383,7 @@ public class To<I, O> extends IdGenerator implements Subscriber<I, O> {
                     .process(flowContextRepo.getContextsByPosition(this.streamId,
                             this.froms.stream().map(Identity::getId).collect(Collectors.toList()),
                             FlowNodeStatus.PENDING.toString()));
+            this.preProcessWorker.recordQueueDepth(contexts.size());
             contexts = filterTerminate(contexts);
             if (CollectionUtils.isEmpty(contexts)) {
                 return new ArrayList<>();
@@ -505,11 +502,31 @@ public class To<I, O> extends IdGenerator implements Subscriber<I, O> {
         } finally {
             updateConcurrency(-1);
             if (isInThread) {
+                // 释放了节点的并发，唤醒节点处理剩余的数据
                 this.triggerNodeProcessor(type);
             }
         }
     }
 
+    /**
+     * 按照取出的顺序处理一批contexts，以及处理期间同一session排在其后的批次
+     * 排队的批次在登记时已经释放了节点的并发，取出处理时重新占用
+     *
+     * @param type 触发节点处理的类型
+     * @param preList 当前线程取得处理权的一批contexts
+     * @param isInThread 是否在执行器的线程上处理
+     */
+    private void processInOrder(ProcessType type, List<FlowContext<I>> preList, boolean isInThread) {
+        List<FlowContext<I>> current = preList;
+        while (current != null) {
+            this.onProcess(type, current, isInThread);
+            current = this.sequencer.poll(current);
+            if (current != null) {
+                this.updateConcurrency(1);
+            }
+        }
+    }
+
     /**
      * 触发节点失败的处理。
      *
@@ -585,6 +602,33 @@ public class To<I, O> extends IdGenerator implements Subscriber<I, O> {
         return this.curConcurrency >= MAX_CONCURRENCY;
     }
 
+    /**
+     * 获取节点当前的并发度，即已经提交但是尚未处理完的批次数量
+     *
+     * @return 当前并发度
+     */
+    public int getConcurrency() {
+        return this.curConcurrency;
+    }
+
+    /**
+     * 获取节点预处理的调度指标，包括队列深度、就绪信号数量等
+     *
+     * @return 预处理的调度指标
+     */
+    public NodeScheduler.Metrics getPreProcessMetrics() {
+        return this.preProcessWorker;
+    }
+
+    /**
+     * 获取节点处理的调度指标，包括队列深度、就绪信号数量等
+     *
+     * @return 处理的调度指标
+     */
+    public NodeScheduler.Metrics getProcessMetrics() {
+        return this.processWorker;
+    }
+
     /**
      * 节点处理处理完后执行的操作，默认是保存处理之前和之后的对上下文
      *
@@ -762,6 +806,7 @@ public class To<I, O> extends IdGenerator implements Subscriber<I, O> {
                         cs.add(clonedContext);
                     } else {
                         peekedToken.finishConsume();//consume the peeked
+                        peekedToken.accepted();
                     }
                     //keep order
                     if (context.getIndex() > Constants.NOT_PRESERVED_INDEX) {
@@ -797,52 +842,57 @@ public class To<I, O> extends IdGenerator implements Subscriber<I, O> {
          * 其次过滤出ready的contexts，并且将其状态更新为ready，然后释放分布式锁
          * 最后将ready的contexts提交给节点线程池处理
          * 保证一批次contexts一次只有一个线程在处理
+         * 节点或者流程执行器的并发已满时不再睡眠轮询，而是返回挂起结果，由节点在途批次完成或者执行器释放并发时的信号重新驱动
+         * 同一session的批次按照取出的顺序处理，前序批次仍在处理时后续批次只排队，不占用节点和执行器的并发
          * 非常重要！退出机制增加保护策略，避免A线程退出过程中，B线程放数据到边上数据得不到处理的场景：
-         * 这时A线程未标记退出，B线程已经完成触发动作，B线程以为A线程还在处理，而A线程直接就会退出，因此由A线程判断是否再触发一次
+         * 排空结束前再检查一次边上的数据，如果仍有待处理的数据，则由调度器稍后再次执行
          *
          * @param <T1> 流程实例执行时的入参数据类型，用于泛型推倒
          * @param <R1> 流程实例执行时的出参数据类型，用于泛型推倒
+         * @param type 触发节点处理的类型
          * @param to 当前节点
+         * @return 本次排空的结果
          */
-        public <T1, R1> void request(ProcessType type, To<T1, R1> to) {
+        public <T1, R1> NodeScheduler.Outcome request(ProcessType type, To<T1, R1> to) {
             while (true) {
                 if (to.isOverLimit()) {
-                    SleepUtil.sleep(SLEEP_MILLS);
-                    continue;
+                    // 节点在途的批次处理完成时会重新投递就绪信号
+                    return NodeScheduler.Outcome.BLOCKED;
                 }
-                Optional<FlowExecutors.ConcurrencyHolder> concurrencyHolder = FlowExecutors.incrementConcurrency();
+                FlowExecutor executor = FlowExecutors.of(to.streamId);
+                Optional<FlowExecutors.ConcurrencyHolder> concurrencyHolder = executor.acquire();
                 if (!concurrencyHolder.isPresent()) {
-                    SleepUtil.sleep(SLEEP_MILLS);
-                    continue;
+                    executor.park(to.processWorker);
+                    return NodeScheduler.Outcome.BLOCKED;
                 }
                 boolean isSubmitted = false;
                 List<FlowContext<T1>> ready = new ArrayList<>();
                 try {
                     ready = requestReady(to);
                     if (CollectionUtils.isEmpty(ready)) {
-                        to.processRunning = false;
-                        LOG.debug("[{}] process main loop exit for stream-id: {}, node-id: {}",
+                        LOG.debug("[{}] process drain exit for stream-id: {}, node-id: {}",
                                 to.getThreadName(To.PROCESS_T_NAME_PREFIX), to.streamId, to.id);
-                        handleProcessConcurrentConflict(to);
-                        return;
+                        return handleProcessConcurrentConflict(to);
                     }
-                    if (to.inParallelMode(ready)) {
-                        to.onProcess(type, ready, false);
-                    } else {
-                        this.submit(type, to, ready, concurrencyHolder.get());
-                        isSubmitted = true;
+                    if (!to.sequencer.offer(ready)) {
+                        // 同一session的前序批次仍在处理，排队后由处理前序批次的线程依次处理，不占用节点和执行器的并发
+                        to.updateConcurrency(-1);
+                        continue;
                     }
+                    // 并行模式的数据同样交给流程的执行器处理，调度器的线程不执行可能阻塞的用户处理器
+                    this.submit(type, to, ready, executor, concurrencyHolder.get());
+                    isSubmitted = true;
                 } catch (Exception ex) {
-                    // 如果是数据库或者redis挂了，会死循环，线程不退出等待数据库或者redis恢复
+                    // 如果是数据库或者redis挂了，由调度器退避后重试，等待数据库或者redis恢复
                     ready.forEach(r -> LOG.error(
-                            "Process main loop exception, " + "stream-id: {}, node-id: {}, context-id: {}.",
+                            "Process drain exception, " + "stream-id: {}, node-id: {}, context-id: {}.",
                             to.streamId, to.id, r.getId()));
-                    LOG.debug("Process main loop exception details: ", ex);
+                    LOG.debug("Process drain exception details: ", ex);
+                    return NodeScheduler.Outcome.RETRY;
                 } finally {
                     if (!isSubmitted) {
                         concurrencyHolder.get().release();
                     }
-                    SleepUtil.sleep(SLEEP_MILLS);
                 }
             }
         }
@@ -861,7 +911,9 @@ public class To<I, O> extends IdGenerator implements Subscriber<I, O> {
             Lock lock = to.locks.getDistributeLock(to.locks.lockKey(to.streamId, to.id, "RequestReady"));
             lock.lock();
             try {
-                List<FlowContext<T1>> ready = filterReady(to, requestAll(to));
+                List<FlowContext<T1>> all = requestAll(to);
+                to.processWorker.recordQueueDepth(all.size());
+                List<FlowContext<T1>> ready = filterReady(to, all);
                 ready = to.filterTerminate(ready);
                 if (CollectionUtils.isEmpty(ready)) {
                     return new ArrayList<>();
@@ -894,24 +946,32 @@ public class To<I, O> extends IdGenerator implements Subscriber<I, O> {
         }
 
         private <T1, R1> void submit(ProcessType type, To<T1, R1> to, List<FlowContext<T1>> ready,
-                FlowExecutors.ConcurrencyHolder concurrencyHolder) {
-            FlowExecutors.getThreadPool().execute(Task.builder().runnable(() -> {
-                to.onProcess(type, ready, true);
+                FlowExecutor executor, FlowExecutors.ConcurrencyHolder concurrencyHolder) {
+            executor.execute(() -> {
+                to.processInOrder(type, ready, true);
                 concurrencyHolder.release();
-            }).buildDisposable());
+            });
         }
 
-        private <T1, R1> void handleProcessConcurrentConflict(To<T1, R1> to) {
-            List<FlowContext<T1>> pending = requestAll(to).stream()
+        /**
+         * 排空结束前检查边上是否仍有待处理的数据
+         * 不经过节点的过滤直接查询边上pending的数据，flatmap等异步确认序号的数据在确认前不会被节点取出，
+         * 确认时也不会通知节点，由调度器按照有上限的退避时间持续检查，直到数据被取出
+         */
+        private <T1, R1> NodeScheduler.Outcome handleProcessConcurrentConflict(To<T1, R1> to) {
+            List<FlowContext<T1>> pending = to.flowContextRepo.<T1>requestProducingContext(to.streamId,
+                            to.froms.stream().map(Identity::getId).collect(Collectors.toList()), all -> all)
+                    .stream()
                     .filter(context -> !context.getParallelMode().equals(ParallelMode.EITHER.name())
                             || context.isJoined() || !to.isParallelJoined(context))
                     .collect(Collectors.toList());
+            to.processWorker.recordQueueDepth(pending.size());
             if (CollectionUtils.isEmpty(pending) || to.inParallelMode(pending)) {
-                return;
+                return NodeScheduler.Outcome.IDLE;
             }
-            LOG.info("[{}] process thread conflict happens for stream-id: {}, node-id: {}",
+            LOG.debug("[{}] process conflict happens for stream-id: {}, node-id: {}",
                     to.getThreadName(To.PROCESS_T_NAME_PREFIX), to.streamId, to.id);
-            to.accept(ProcessType.PROCESS, pending);
+            return NodeScheduler.Outcome.WAITING;
         }
     }
 }
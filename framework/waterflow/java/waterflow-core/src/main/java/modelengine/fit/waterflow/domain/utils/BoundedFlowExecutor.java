@@ -0,0 +1,240 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.domain.utils;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import modelengine.fitframework.inspection.Validation;
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.schedule.Task;
+import modelengine.fitframework.schedule.ThreadPoolExecutor;
+
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor.AbortPolicy;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 有界的流程节点执行器
+ * 并发预算通过无锁的计数器维护，线程池的最大线程数量与并发上限相同，申请到并发的任务不会被线程池拒绝
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+final class BoundedFlowExecutor implements FlowExecutor, FlowExecutor.Metrics {
+    private static final Logger LOG = Logger.get(BoundedFlowExecutor.class);
+
+    private static final int DEFAULT_MAX_CONCURRENCY = 64;
+
+    private static final int DEFAULT_CORE_POOL_SIZE = 8;
+
+    private final String name;
+
+    private final Priority priority;
+
+    private final int maxConcurrency;
+
+    private final ThreadPoolExecutor threadPool;
+
+    private final AtomicInteger activeCount = new AtomicInteger(0);
+
+    private final AtomicInteger peakActiveCount = new AtomicInteger(0);
+
+    private final LongAdder rejectedCount = new LongAdder();
+
+    private final LongAdder completedCount = new LongAdder();
+
+    private final NodeScheduler.ParkingLot parkingLot;
+
+    private volatile boolean isShutdown = false;
+
+    private BoundedFlowExecutor(String name, Priority priority, int maxConcurrency, int corePoolSize) {
+        this.name = name;
+        this.priority = priority;
+        this.maxConcurrency = maxConcurrency;
+        this.parkingLot = new NodeScheduler.ParkingLot(() -> this.activeCount.get() < this.maxConcurrency);
+        this.threadPool = ThreadPoolExecutor.custom()
+                .threadPoolName(name)
+                .corePoolSize(corePoolSize)
+                .maximumPoolSize(maxConcurrency)
+                .workQueueCapacity(0)
+                .keepAliveTime(60L, SECONDS)
+                .isDaemonThread(true)
+                .exceptionHandler((thread, throwable) -> {
+                    LOG.error("The node pool run failed, error cause: {}, message: {}.", throwable.getCause(),
+                            throwable.getMessage());
+                    LOG.debug("The node pool run failed details: ", throwable);
+                })
+                .rejectedExecutionHandler(new AbortPolicy())
+                .build();
+    }
+
+    /**
+     * 获取执行器的线程池
+     *
+     * @return 线程池对象
+     */
+    ThreadPoolExecutor threadPool() {
+        return this.threadPool;
+    }
+
+    @Override
+    public String name() {
+        return this.name;
+    }
+
+    @Override
+    public Priority priority() {
+        return this.priority;
+    }
+
+    @Override
+    public Optional<FlowExecutors.ConcurrencyHolder> acquire() {
+        int current;
+        do {
+            current = this.activeCount.get();
+            if (current >= this.maxConcurrency) {
+                this.rejectedCount.increment();
+                return Optional.empty();
+            }
+        } while (!this.activeCount.compareAndSet(current, current + 1));
+        this.peakActiveCount.accumulateAndGet(current + 1, Math::max);
+        return Optional.of(new FlowExecutors.ConcurrencyHolder(this::release));
+    }
+
+    private void release() {
+        this.activeCount.decrementAndGet();
+        this.parkingLot.unpark();
+    }
+
+    @Override
+    public void park(NodeScheduler.Worker worker) {
+        this.parkingLot.park(worker);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        Runnable counted = () -> {
+            try {
+                task.run();
+            } finally {
+                this.completedCount.increment();
+            }
+        };
+        try {
+            this.threadPool.execute(Task.builder().runnable(() -> {
+                // 线程池的线程只执行本执行器的任务，首次执行时设置线程的优先级即可
+                Thread thread = Thread.currentThread();
+                if (thread.getPriority() != this.priority.threadPriority()) {
+                    thread.setPriority(this.priority.threadPriority());
+                }
+                counted.run();
+            }).buildDisposable());
+        } catch (RejectedExecutionException e) {
+            if (!this.isShutdown) {
+                throw e;
+            }
+            // 申请到并发之后执行器被关闭，任务已经占用了并发，在调用线程上执行完成
+            counted.run();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        this.isShutdown = true;
+        try {
+            this.threadPool.shutdown();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        this.parkingLot.unparkAll();
+    }
+
+    @Override
+    public Metrics metrics() {
+        return this;
+    }
+
+    @Override
+    public int activeCount() {
+        return this.activeCount.get();
+    }
+
+    @Override
+    public int peakActiveCount() {
+        return this.peakActiveCount.get();
+    }
+
+    @Override
+    public int maxConcurrency() {
+        return this.maxConcurrency;
+    }
+
+    @Override
+    public long rejectedCount() {
+        return this.rejectedCount.sum();
+    }
+
+    @Override
+    public long completedCount() {
+        return this.completedCount.sum();
+    }
+
+    /**
+     * {@link FlowExecutor.Builder} 的默认实现
+     *
+     * @since 2026-10-18
+     */
+    static final class Builder implements FlowExecutor.Builder {
+        private String name;
+
+        private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+
+        private Integer corePoolSize;
+
+        private Priority priority = Priority.NORMAL;
+
+        @Override
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        @Override
+        public Builder maxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        @Override
+        public Builder corePoolSize(int corePoolSize) {
+            this.corePoolSize = corePoolSize;
+            return this;
+        }
+
+        @Override
+        public Builder priority(Priority priority) {
+            this.priority = priority;
+            return this;
+        }
+
+        @Override
+        public BoundedFlowExecutor build() {
+            Validation.notBlank(this.name, "The flow executor name cannot be blank.");
+            Validation.greaterThan(this.maxConcurrency, 0, "The max concurrency must be positive. [maxConcurrency={0}]",
+                    this.maxConcurrency);
+            Validation.notNull(this.priority, "The flow executor priority cannot be null.");
+            int core = this.corePoolSize == null
+                    ? Math.min(DEFAULT_CORE_POOL_SIZE, this.maxConcurrency)
+                    : this.corePoolSize;
+            Validation.between(core, 0, this.maxConcurrency,
+                    "The core pool size must be between 0 and max concurrency. [corePoolSize={0}]", core);
+            return new BoundedFlowExecutor(this.name, this.priority, this.maxConcurrency, core);
+        }
+    }
+}
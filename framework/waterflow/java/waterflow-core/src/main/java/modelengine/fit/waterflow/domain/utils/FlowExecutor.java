@@ -0,0 +1,214 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.domain.utils;
+
+import java.util.Optional;
+
+/**
+ * 流程节点的执行器
+ * 节点在提交处理任务前先从执行器申请一个并发，再将任务提交到执行器的线程池上执行，任务结束后释放并发
+ * 每个流程可以通过 {@link FlowExecutors#bind(String, FlowExecutor)} 绑定独立的执行器，
+ * 未绑定执行器的流程共享 {@link FlowExecutors#getDefault()} 默认执行器
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public interface FlowExecutor {
+    /**
+     * 获取执行器的名字，同时作为执行器线程池的名字
+     *
+     * @return 执行器的名字
+     */
+    String name();
+
+    /**
+     * 获取执行器的优先级
+     *
+     * @return 执行器的优先级
+     */
+    Priority priority();
+
+    /**
+     * 申请一个并发
+     *
+     * @return 并发持有对象。如果执行器的并发已满则返回空对象
+     */
+    Optional<FlowExecutors.ConcurrencyHolder> acquire();
+
+    /**
+     * 挂起一个因为本执行器的并发已满而申请失败的节点调度单元，本执行器释放并发时再将其唤醒
+     *
+     * @param worker 节点的调度单元
+     */
+    void park(NodeScheduler.Worker worker);
+
+    /**
+     * 执行一个节点处理任务，调用前需要先通过 {@link #acquire()} 申请到并发
+     *
+     * @param task 节点处理任务
+     */
+    void execute(Runnable task);
+
+    /**
+     * 获取执行器的观测指标
+     *
+     * @return 观测指标
+     */
+    Metrics metrics();
+
+    /**
+     * 关闭执行器，已经提交的任务继续执行完成，挂起的节点调度单元被唤醒后重新选择执行器
+     * 流程解除绑定时由 {@link FlowExecutors#unbind(String)} 调用，执行器不再被任何流程绑定时才会被关闭
+     */
+    void shutdown();
+
+    /**
+     * 创建一个自定义的有界执行器的构建器
+     *
+     * @return 构建器
+     */
+    static Builder custom() {
+        return new BoundedFlowExecutor.Builder();
+    }
+
+    /**
+     * 执行器的优先级，通过 {@link Thread#setPriority(int)} 设置执行器线程的优先级
+     * 线程优先级只是对操作系统调度器的提示：Linux 上 JVM 默认忽略普通线程的优先级，
+     * 只有以 root 用户运行并且指定 -XX:ThreadPriorityPolicy=1 时才会生效，
+     * 因此流程之间的隔离主要依靠各自独立的线程池和并发预算，优先级不保证高优先级的流程先被调度
+     *
+     * @since 2026-10-18
+     */
+    enum Priority {
+        /**
+         * 高优先级，适用于对时延敏感的流程，例如对话
+         */
+        HIGH(Thread.MAX_PRIORITY),
+
+        /**
+         * 普通优先级
+         */
+        NORMAL(Thread.NORM_PRIORITY),
+
+        /**
+         * 低优先级，适用于批量处理的流程，例如文档入库
+         */
+        LOW(Thread.MIN_PRIORITY);
+
+        private final int threadPriority;
+
+        Priority(int threadPriority) {
+            this.threadPriority = threadPriority;
+        }
+
+        /**
+         * 获取对应的线程优先级
+         *
+         * @return 线程优先级
+         */
+        public int threadPriority() {
+            return this.threadPriority;
+        }
+    }
+
+    /**
+     * 执行器的观测指标
+     *
+     * @since 2026-10-18
+     */
+    interface Metrics {
+        /**
+         * 获取当前已经占用的并发数量
+         *
+         * @return 已占用的并发数量
+         */
+        int activeCount();
+
+        /**
+         * 获取观测到的最大并发数量
+         *
+         * @return 最大并发数量
+         */
+        int peakActiveCount();
+
+        /**
+         * 获取执行器的并发上限
+         *
+         * @return 并发上限
+         */
+        int maxConcurrency();
+
+        /**
+         * 获取因为并发已满而申请失败的次数
+         *
+         * @return 申请失败的次数
+         */
+        long rejectedCount();
+
+        /**
+         * 获取已经执行完成的任务数量
+         *
+         * @return 已完成的任务数量
+         */
+        long completedCount();
+
+        /**
+         * 获取执行器的饱和度，即已占用的并发数量与并发上限的比值
+         *
+         * @return 饱和度，取值范围为0到1
+         */
+        default double saturation() {
+            return this.maxConcurrency() <= 0 ? 1D : (double) this.activeCount() / this.maxConcurrency();
+        }
+    }
+
+    /**
+     * 有界执行器的构建器
+     *
+     * @since 2026-10-18
+     */
+    interface Builder {
+        /**
+         * 设置执行器的名字
+         *
+         * @param name 执行器的名字
+         * @return 当前构建器
+         */
+        Builder name(String name);
+
+        /**
+         * 设置执行器的并发上限，同时也是线程池的最大线程数量
+         *
+         * @param maxConcurrency 并发上限
+         * @return 当前构建器
+         */
+        Builder maxConcurrency(int maxConcurrency);
+
+        /**
+         * 设置线程池的核心线程数量
+         *
+         * @param corePoolSize 核心线程数量
+         * @return 当前构建器
+         */
+        Builder corePoolSize(int corePoolSize);
+
+        /**
+         * 设置执行器的优先级，优先级只是对操作系统调度器的提示，参见 {@link Priority}
+         *
+         * @param priority 优先级
+         * @return 当前构建器
+         */
+        Builder priority(Priority priority);
+
+        /**
+         * 构建执行器
+         *
+         * @return 执行器
+         */
+        FlowExecutor build();
+    }
+}
@@ -6,20 +6,27 @@
 
 package modelengine.fit.waterflow.domain.utils;
 
-import static java.util.concurrent.TimeUnit.SECONDS;
-
+import modelengine.fitframework.inspection.Validation;
 import modelengine.fitframework.log.Logger;
 import modelengine.fitframework.schedule.ThreadPoolExecutor;
 import modelengine.fitframework.thread.DefaultThreadFactory;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadPoolExecutor.AbortPolicy;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * 流程引擎的节点线程池
+ * 流程可以通过 {@link #bind(String, FlowExecutor)} 绑定独立的执行器，拥有独立的线程池、优先级和并发预算，
+ * 避免一个繁忙的流程占满所有的并发而饿死其他流程。未绑定执行器的流程共享默认执行器
  *
  * @author 高诗意
  * @since 1.0
@@ -31,52 +38,112 @@ public final class FlowExecutors {
 
     private static final Logger LOG = Logger.get(FlowExecutors.class);
 
-    private static final ThreadPoolExecutor THREAD_POOL;
-
-    private static AtomicInteger currentConcurrency = new AtomicInteger(0);
-
-    static {
-        ThreadPoolExecutor newPool = ThreadPoolExecutor.custom()
-                .threadPoolName("flow-node-thread-pool")
-                .corePoolSize(CORE_THREAD_COUNT)
-                .maximumPoolSize(MAX_THREAD_COUNT)
-                .workQueueCapacity(0)
-                .keepAliveTime(60L, SECONDS)
-                .isDaemonThread(true)
-                .exceptionHandler((thread, throwable) -> {
-                    LOG.error("The node pool run failed, error cause: {}, message: {}.", throwable.getCause(),
-                            throwable.getMessage());
-                    LOG.debug("The node pool run failed details: ", throwable);
-                })
-                .rejectedExecutionHandler(new AbortPolicy())
-                .build();
-        THREAD_POOL = newPool;
-    }
+    private static final BoundedFlowExecutor DEFAULT_EXECUTOR = new BoundedFlowExecutor.Builder()
+            .name("flow-node-thread-pool")
+            .corePoolSize(CORE_THREAD_COUNT)
+            .maxConcurrency(MAX_THREAD_COUNT)
+            .build();
+
+    private static final Map<String, FlowExecutor> EXECUTORS = new ConcurrentHashMap<>();
+
+    private FlowExecutors() {}
 
     /**
-     * 获取执行线程池
+     * 获取默认执行器的线程池
      *
      * @return 线程池对象
      */
     public static ThreadPoolExecutor getThreadPool() {
-        return THREAD_POOL;
+        return DEFAULT_EXECUTOR.threadPool();
     }
 
     /**
-     * 增加一个并发
+     * 获取默认执行器，未绑定执行器的流程都使用默认执行器
      *
-     * @return 并发持有对象。如果无法增加并发则返回null对象
+     * @return 默认执行器
+     */
+    public static FlowExecutor getDefault() {
+        return DEFAULT_EXECUTOR;
+    }
+
+    /**
+     * 为流程绑定执行器，流程的所有节点都将通过该执行器申请并发和执行任务
+     * 流程已经绑定了其他执行器时，原执行器被替换，不再被任何流程绑定时将被关闭
+     *
+     * @param streamId 流程的stream id
+     * @param executor 执行器
      */
-    public static synchronized Optional<ConcurrencyHolder> incrementConcurrency() {
-        if (currentConcurrency.incrementAndGet() > MAX_THREAD_COUNT) {
-            currentConcurrency.decrementAndGet();
-            return Optional.empty();
+    public static void bind(String streamId, FlowExecutor executor) {
+        Validation.notBlank(streamId, "The stream id cannot be blank.");
+        Validation.notNull(executor, "The flow executor cannot be null.");
+        FlowExecutor previous = EXECUTORS.put(streamId, executor);
+        if (previous != executor) {
+            shutdownIfUnbound(previous);
         }
-        return Optional.of(new ConcurrencyHolder());
     }
 
-    private static synchronized void decrementConcurrency() {
-        currentConcurrency.decrementAndGet();
+    /**
+     * 解除流程绑定的执行器，流程将重新使用默认执行器
+     * 执行器不再被任何流程绑定时将被关闭，同一个执行器可以被多个流程共享
+     *
+     * @param streamId 流程的stream id
+     */
+    public static void unbind(String streamId) {
+        shutdownIfUnbound(EXECUTORS.remove(streamId));
+    }
+
+    private static void shutdownIfUnbound(FlowExecutor executor) {
+        if (executor == null || executor == DEFAULT_EXECUTOR || EXECUTORS.containsValue(executor)) {
+            return;
+        }
+        LOG.info("Shutdown the unbound flow executor. [name={}]", executor.name());
+        executor.shutdown();
+    }
+
+    /**
+     * 获取流程使用的执行器
+     *
+     * @param streamId 流程的stream id
+     * @return 流程绑定的执行器，未绑定时返回默认执行器
+     */
+    public static FlowExecutor of(String streamId) {
+        return EXECUTORS.getOrDefault(streamId, DEFAULT_EXECUTOR);
+    }
+
+    /**
+     * 获取所有执行器的观测指标，包括默认执行器和所有流程绑定的执行器
+     * 指标以执行器的名字为键，多个不同的执行器使用相同的名字时，以名字加上所绑定流程的stream id为键，
+     * 格式为 {@code name#streamId}，避免相互覆盖。同一个执行器被多个流程共享时只出现一次
+     *
+     * @return 执行器名字与观测指标的对应关系
+     */
+    public static Map<String, FlowExecutor.Metrics> metrics() {
+        Map<String, Set<FlowExecutor>> named = new HashMap<>();
+        named.computeIfAbsent(DEFAULT_EXECUTOR.name(), name -> new HashSet<>()).add(DEFAULT_EXECUTOR);
+        Map<String, FlowExecutor> bound = new TreeMap<>(EXECUTORS);
+        bound.values()
+                .forEach(executor -> named.computeIfAbsent(executor.name(), name -> new HashSet<>()).add(executor));
+        Map<String, FlowExecutor.Metrics> metrics = new LinkedHashMap<>();
+        metrics.put(DEFAULT_EXECUTOR.name(), DEFAULT_EXECUTOR.metrics());
+        Set<FlowExecutor> reported = new HashSet<>();
+        reported.add(DEFAULT_EXECUTOR);
+        bound.forEach((streamId, executor) -> {
+            if (!reported.add(executor)) {
+                return;
+            }
+            String key = named.get(executor.name()).size() > 1 ? executor.name() + "#" + streamId : executor.name();
+            metrics.put(key, executor.metrics());
+        });
+        return metrics;
+    }
+
+    /**
+     * 从默认执行器增加一个并发
+     *
+     * @return 并发持有对象。如果无法增加并发则返回null对象
+     */
+    public static Optional<ConcurrencyHolder> incrementConcurrency() {
+        return DEFAULT_EXECUTOR.acquire();
     }
 
     /**
@@ -97,19 +164,25 @@ public final class FlowExecutors {
      * @since 2024/8/12
      */
     public static class ConcurrencyHolder {
-        private boolean isReleased;
+        private final AtomicBoolean isReleased = new AtomicBoolean(false);
 
-        private ConcurrencyHolder() {
-            this.isReleased = false;
+        private final Runnable releaser;
+
+        /**
+         * 创建并发持有对象，供 {@link FlowExecutor} 的实现在申请到并发时使用
+         *
+         * @param releaser 释放并发的动作，只会被执行一次
+         */
+        public ConcurrencyHolder(Runnable releaser) {
+            this.releaser = Validation.notNull(releaser, "The releaser cannot be null.");
         }
 
         /**
          * 释放并发
          */
         public void release() {
-            if (!this.isReleased) {
-                this.isReleased = true;
-                FlowExecutors.decrementConcurrency();
+            if (this.isReleased.compareAndSet(false, true)) {
+                this.releaser.run();
             }
         }
     }
@@ -0,0 +1,352 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.domain.utils;
+
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.thread.DefaultThreadFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 流程引擎节点的共享调度器
+ * 节点不再持有常驻的轮询线程，accept时只投递一个就绪信号，调度器在共享的工作窃取线程池上执行节点的排空任务，
+ * 节点只有在存在待处理的context时才会占用线程
+ * 同一个节点同一种处理类型的排空任务同一时刻最多只有一个在执行，保证与原有的单线程循环相同的顺序语义
+ * 并发已满的节点挂起在对应执行器的 {@link ParkingLot} 上，只由该执行器的并发释放唤醒；
+ * 边上仍有尚未就绪的context时按照有上限的退避时间持续重试，不依赖后续的就绪信号
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public final class NodeScheduler {
+    private static final Logger LOG = Logger.get(NodeScheduler.class);
+
+    private static final long MIN_RETRY_MILLIS = 1L;
+
+    private static final long MAX_RETRY_MILLIS = 1000L;
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(Math.max(2, Runtime.getRuntime().availableProcessors()),
+            NodeScheduler::newWorkerThread, (thread, throwable) -> {
+        LOG.error("The node scheduler run failed, error cause: {}, message: {}.", throwable.getCause(),
+                throwable.getMessage());
+        LOG.debug("The node scheduler run failed details: ", throwable);
+    }, true);
+
+    private static final ScheduledExecutorService TIMER = new ScheduledThreadPoolExecutor(1,
+            new DefaultThreadFactory("flow-node-scheduler-timer", true, (thread, throwable) ->
+                    LOG.error("The node scheduler timer run failed, message: {}.", throwable.getMessage())));
+
+    private NodeScheduler() {}
+
+    private static ForkJoinWorkerThread newWorkerThread(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("flow-node-scheduler-" + thread.getPoolIndex());
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * 创建一个节点排空任务的调度单元
+     *
+     * @param name 调度单元的名字的提供者，用于日志
+     * @param drain 排空任务，每次执行尽可能多地处理待处理的context，并返回执行结果
+     * @return 调度单元
+     */
+    public static Worker worker(Supplier<String> name, Supplier<Outcome> drain) {
+        return new Worker(name, drain);
+    }
+
+    /**
+     * 排空任务的执行结果
+     *
+     * @since 2026-10-18
+     */
+    public enum Outcome {
+        /**
+         * 已经没有待处理的context，等待下一个就绪信号
+         */
+        IDLE,
+
+        /**
+         * 节点或者执行器的并发已满，已经登记了唤醒方式，等待并发释放后再次执行
+         */
+        BLOCKED,
+
+        /**
+         * 仍有待处理但是尚未就绪的context，按照退避时间稍后再次检查，直到没有待处理的context
+         */
+        WAITING,
+
+        /**
+         * 执行过程中出现异常，按照退避时间稍后再次执行，直到恢复
+         */
+        RETRY
+    }
+
+    /**
+     * 因为执行器的并发已满而挂起的调度单元的集合，每个执行器持有一个
+     * 并发释放时只唤醒一个调度单元，被唤醒的调度单元没有再次挂起时继续唤醒下一个，直到并发再次用完或者没有挂起的调度单元
+     *
+     * @since 2026-10-18
+     */
+    public static final class ParkingLot {
+        private final Queue<Worker> workers = new ConcurrentLinkedQueue<>();
+
+        private final BooleanSupplier isAvailable;
+
+        /**
+         * 创建挂起集合
+         *
+         * @param isAvailable 判断执行器当前是否有可用并发的方法
+         */
+        public ParkingLot(BooleanSupplier isAvailable) {
+            this.isAvailable = isAvailable;
+        }
+
+        /**
+         * 挂起一个调度单元
+         * 挂起与并发释放之间存在竞争，挂起后再检查一次是否有可用的并发，避免错过唤醒
+         *
+         * @param worker 申请并发失败的调度单元
+         */
+        public void park(Worker worker) {
+            if (worker.parked.compareAndSet(false, true)) {
+                this.workers.add(worker);
+            }
+            this.unpark();
+        }
+
+        /**
+         * 如果执行器有可用的并发，唤醒一个挂起的调度单元
+         */
+        public void unpark() {
+            if (!this.isAvailable.getAsBoolean()) {
+                return;
+            }
+            Worker worker = this.workers.poll();
+            if (worker != null) {
+                worker.parked.set(false);
+                worker.wake(this);
+            }
+        }
+
+        /**
+         * 唤醒所有挂起的调度单元，执行器关闭时使用
+         */
+        public void unparkAll() {
+            Worker worker;
+            while ((worker = this.workers.poll()) != null) {
+                worker.parked.set(false);
+                worker.wake(this);
+            }
+        }
+    }
+
+    /**
+     * 节点调度单元的观测指标
+     *
+     * @since 2026-10-18
+     */
+    public interface Metrics {
+        /**
+         * 获取节点最近一次观测到的队列深度，即边上等待本节点处理的context数量
+         *
+         * @return 队列深度
+         */
+        int queueDepth();
+
+        /**
+         * 获取节点观测到的最大队列深度
+         *
+         * @return 最大队列深度
+         */
+        int peakQueueDepth();
+
+        /**
+         * 获取节点收到的就绪信号的总数
+         *
+         * @return 就绪信号的总数
+         */
+        long signalCount();
+
+        /**
+         * 获取节点执行排空任务的总次数，与就绪信号总数的差值即为被合并的信号数量
+         *
+         * @return 排空任务的执行次数
+         */
+        long drainCount();
+
+        /**
+         * 判断节点当前是否有排空任务在执行
+         *
+         * @return true-正在执行，false-空闲
+         */
+        boolean isRunning();
+
+        /**
+         * 判断节点当前是否因为并发已满而挂起
+         *
+         * @return true-已挂起，false-未挂起
+         */
+        boolean isParked();
+    }
+
+    /**
+     * 节点的调度单元，负责合并就绪信号并串行地执行排空任务，同时统计节点的队列深度
+     *
+     * @since 2026-10-18
+     */
+    public static final class Worker implements Metrics {
+        private final Supplier<String> name;
+
+        private final Supplier<Outcome> drain;
+
+        private final AtomicBoolean running = new AtomicBoolean(false);
+
+        private final AtomicBoolean signaled = new AtomicBoolean(false);
+
+        private final AtomicBoolean parked = new AtomicBoolean(false);
+
+        private final AtomicBoolean retrying = new AtomicBoolean(false);
+
+        private final AtomicInteger queueDepth = new AtomicInteger(0);
+
+        private final AtomicInteger peakQueueDepth = new AtomicInteger(0);
+
+        private final LongAdder signalCount = new LongAdder();
+
+        private final LongAdder drainCount = new LongAdder();
+
+        private volatile long retryMillis = MIN_RETRY_MILLIS;
+
+        private volatile ParkingLot wokenBy;
+
+        private Worker(Supplier<String> name, Supplier<Outcome> drain) {
+            this.name = name;
+            this.drain = drain;
+        }
+
+        /**
+         * 投递一个就绪信号，如果当前没有排空任务在执行，则提交一个排空任务
+         * 排空任务执行过程中收到的信号会被合并，在本次排空结束后再执行一次
+         */
+        public void signal() {
+            this.signalCount.increment();
+            this.signaled.set(true);
+            this.schedule();
+        }
+
+        private void wake(ParkingLot lot) {
+            this.wokenBy = lot;
+            this.signaled.set(true);
+            this.schedule();
+        }
+
+        /**
+         * 记录节点当前的队列深度
+         *
+         * @param depth 队列深度
+         */
+        public void recordQueueDepth(int depth) {
+            this.queueDepth.set(depth);
+            this.peakQueueDepth.accumulateAndGet(depth, Math::max);
+        }
+
+        @Override
+        public int queueDepth() {
+            return this.queueDepth.get();
+        }
+
+        @Override
+        public int peakQueueDepth() {
+            return this.peakQueueDepth.get();
+        }
+
+        @Override
+        public long signalCount() {
+            return this.signalCount.sum();
+        }
+
+        @Override
+        public long drainCount() {
+            return this.drainCount.sum();
+        }
+
+        @Override
+        public boolean isRunning() {
+            return this.running.get();
+        }
+
+        @Override
+        public boolean isParked() {
+            return this.parked.get();
+        }
+
+        private void schedule() {
+            if (this.running.compareAndSet(false, true)) {
+                POOL.execute(this::run);
+            }
+        }
+
+        private void run() {
+            this.signaled.set(false);
+            this.drainCount.increment();
+            ParkingLot lot = this.wokenBy;
+            this.wokenBy = null;
+            Outcome outcome;
+            try {
+                outcome = this.drain.get();
+            } catch (Throwable throwable) {
+                LOG.error("[{}] node drain failed, message: {}.", this.name.get(), throwable.getMessage());
+                LOG.debug("Node drain failed details: ", throwable);
+                outcome = Outcome.RETRY;
+            }
+            this.running.set(false);
+            switch (outcome) {
+                case BLOCKED:
+                    break;
+                case WAITING:
+                case RETRY:
+                    this.retryLater();
+                    break;
+                default:
+                    this.retryMillis = MIN_RETRY_MILLIS;
+                    break;
+            }
+            if (lot != null && outcome != Outcome.BLOCKED) {
+                // 被唤醒后没有再次挂起，唤醒权传递给同一执行器上挂起的下一个调度单元
+                lot.unpark();
+            }
+            if (this.signaled.get()) {
+                this.schedule();
+            }
+        }
+
+        private void retryLater() {
+            if (!this.retrying.compareAndSet(false, true)) {
+                return;
+            }
+            long delay = this.retryMillis;
+            this.retryMillis = Math.min(delay << 1, MAX_RETRY_MILLIS);
+            TIMER.schedule(() -> {
+                this.retrying.set(false);
+                this.schedule();
+            }, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.domain.context.repo.flowcontext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import modelengine.fit.waterflow.domain.context.FlowContext;
+import modelengine.fit.waterflow.domain.context.FlowSession;
+import modelengine.fit.waterflow.domain.enums.FlowNodeStatus;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * {@link FlowContextMemoRepo} 的测试类
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@DisplayName("测试内存版的 FlowContextRepo")
+class FlowContextMemoRepoTest {
+    private static final String STREAM_ID = "stream";
+
+    private FlowContextMemoRepo repo;
+
+    @BeforeEach
+    void setUp() {
+        this.repo = new FlowContextMemoRepo();
+    }
+
+    private static FlowContext<Integer> context(int data, String position, FlowSession session) {
+        FlowContext<Integer> context = new FlowContext<>(STREAM_ID, "root", data,
+                new HashSet<>(Collections.singletonList("trace-" + (data % 2))), position, session);
+        context.setStatus(FlowNodeStatus.PENDING);
+        return context;
+    }
+
+    @Test
+    @DisplayName("按照边的位置查询时，按照首次保存的顺序返回多个位置上的数据")
+    void shouldReturnContextsOfPositionsInSaveOrder() {
+        FlowSession session = new FlowSession();
+        List<FlowContext<Integer>> contexts = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            contexts.add(context(i, i % 2 == 0 ? "a" : "b", session));
+        }
+        this.repo.save(contexts);
+        this.repo.save(Collections.singletonList(contexts.get(0)));
+
+        List<FlowContext<Integer>> found =
+                this.repo.getContextsByPosition(STREAM_ID, Arrays.asList("a", "b"), FlowNodeStatus.PENDING.toString());
+
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5),
+                found.stream().map(FlowContext::getData).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("保存时更新了状态和发送标记，索引随之更新")
+    void shouldMoveContextBetweenIndexesWhenSaved() {
+        FlowContext<Integer> context = context(1, "a", new FlowSession());
+        this.repo.save(Collections.singletonList(context));
+        context.setSent(true);
+        this.repo.updateToSent(Collections.singletonList(context));
+
+        assertTrue(this.repo.getContextsByPosition(STREAM_ID, Collections.singletonList("a"),
+                FlowNodeStatus.PENDING.toString()).isEmpty());
+        assertEquals(1, this.repo.getPendingAndSentByIds(Collections.singletonList(context.getId())).size());
+
+        context.setPosition("b").setStatus(FlowNodeStatus.READY);
+        this.repo.save(Collections.singletonList(context));
+        assertTrue(this.repo.requestProducingContext(STREAM_ID, Collections.singletonList("a"), all -> all)
+                .isEmpty());
+        assertSame(context, this.repo.getById(context.getId()));
+        assertEquals(1, this.repo.getContextsByTrace("trace-1").size());
+
+        context.setStatus(FlowNodeStatus.ARCHIVED);
+        this.repo.save(Collections.singletonList(context));
+        assertNull(this.repo.getById(context.getId()));
+        assertTrue(this.repo.getContextsByTrace("trace-1").isEmpty());
+    }
+
+    @Test
+    @DisplayName("保序的数据只有轮到其序号时才会被取出")
+    void shouldRequestPreservedContextInOrder() {
+        FlowSession session = new FlowSession();
+        FlowContext<Integer> first = context(1, "a", session);
+        first.setIndex(1);
+        FlowContext<Integer> second = context(2, "a", session);
+        second.setIndex(2);
+        this.repo.save(Arrays.asList(second, first));
+        Map<String, Integer> sessions = new HashMap<>();
+
+        assertTrue(this.repo.requestMappingContext(STREAM_ID, Collections.singletonList("a"), sessions).isEmpty());
+        sessions.put(session.getId(), 1);
+        assertSame(first,
+                this.repo.requestMappingContext(STREAM_ID, Collections.singletonList("a"), sessions).get(0));
+    }
+}
@@ -0,0 +1,128 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.domain.stream.nodes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import modelengine.fit.waterflow.FlowsTestUtil;
+import modelengine.fit.waterflow.domain.context.FlowContext;
+import modelengine.fit.waterflow.domain.context.FlowSession;
+import modelengine.fit.waterflow.domain.context.repo.flowcontext.FlowContextMemoMessenger;
+import modelengine.fit.waterflow.domain.context.repo.flowcontext.FlowContextMemoRepo;
+import modelengine.fit.waterflow.domain.context.repo.flowlock.FlowLocksMemo;
+import modelengine.fit.waterflow.domain.flow.Flows;
+import modelengine.fit.waterflow.domain.flow.ProcessFlow;
+import modelengine.fit.waterflow.domain.utils.SleepUtil;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link NodeSequencer} 的测试类
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@DisplayName("测试节点内contexts的按session排队器")
+class NodeSequencerTest {
+    @Test
+    @DisplayName("同一session的批次依次取得处理权，不同session的批次互不等待")
+    void shouldQueueBatchesOfSameSessionOnly() {
+        NodeSequencer<Integer> sequencer = new NodeSequencer<>();
+        FlowSession first = new FlowSession();
+        FlowSession second = new FlowSession();
+        List<FlowContext<Integer>> batch1 = batch(1, first);
+        List<FlowContext<Integer>> batch2 = batch(2, first);
+        List<FlowContext<Integer>> batch3 = batch(3, first);
+
+        assertTrue(sequencer.offer(batch1));
+        assertFalse(sequencer.offer(batch2));
+        assertFalse(sequencer.offer(batch3));
+        assertTrue(sequencer.offer(batch(4, second)));
+
+        assertSame(batch2, sequencer.poll(batch1));
+        assertSame(batch3, sequencer.poll(batch2));
+        assertNull(sequencer.poll(batch3));
+        assertTrue(sequencer.offer(batch(5, first)));
+    }
+
+    @Test
+    @DisplayName("同一session的数据按照进入节点的顺序处理")
+    void shouldProcessSameSessionInOrder() {
+        List<Integer> result = Collections.synchronizedList(new ArrayList<>());
+        ProcessFlow<Integer> flow = Flows.<Integer>create(new FlowContextMemoRepo(true),
+                        new FlowContextMemoMessenger(), new FlowLocksMemo())
+                .map(i -> {
+                    // 先进入的数据处理得更慢，没有按session排队时结果会乱序
+                    SleepUtil.sleep((10 - i) * 5L);
+                    return i;
+                })
+                .close(r -> result.addAll(r.getAll().stream().map(FlowContext::getData).toList()));
+        FlowSession session = new FlowSession();
+        session.begin();
+        for (int i = 0; i < 10; i++) {
+            flow.offer(i, session);
+        }
+
+        FlowsTestUtil.waitUntil(() -> result.size() == 10, 5000);
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), result);
+    }
+
+    @Test
+    @DisplayName("一个session处理缓慢时，其他session的数据不受影响")
+    void shouldProgressOtherSessionsWhenOneSessionIsSlow() {
+        CountDownLatch slow = new CountDownLatch(1);
+        List<String> result = Collections.synchronizedList(new ArrayList<>());
+        ProcessFlow<String> flow = Flows.<String>create(new FlowContextMemoRepo(true),
+                        new FlowContextMemoMessenger(), new FlowLocksMemo())
+                .map(value -> {
+                    if (value.startsWith("slow")) {
+                        await(slow);
+                    }
+                    return value;
+                })
+                .close(r -> result.addAll(r.getAll().stream().map(FlowContext::getData).toList()));
+        FlowSession slowSession = new FlowSession();
+        slowSession.begin();
+        FlowSession fastSession = new FlowSession();
+        fastSession.begin();
+        flow.offer("slow-1", slowSession);
+        flow.offer("slow-2", slowSession);
+        for (int i = 0; i < 5; i++) {
+            flow.offer("fast-" + i, fastSession);
+        }
+
+        FlowsTestUtil.waitUntil(() -> result.size() == 5, 5000);
+        assertEquals(List.of("fast-0", "fast-1", "fast-2", "fast-3", "fast-4"), new ArrayList<>(result));
+        slow.countDown();
+        FlowsTestUtil.waitUntil(() -> result.size() == 7, 5000);
+        assertEquals(List.of("slow-1", "slow-2"), result.subList(5, 7));
+    }
+
+    private static List<FlowContext<Integer>> batch(int data, FlowSession session) {
+        return List.of(new FlowContext<>("stream", "root", data, new HashSet<>(), "position", session));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.domain.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import modelengine.fit.waterflow.FlowsTestUtil;
+import modelengine.fit.waterflow.domain.context.repo.flowcontext.FlowContextMemoMessenger;
+import modelengine.fit.waterflow.domain.context.repo.flowcontext.FlowContextMemoRepo;
+import modelengine.fit.waterflow.domain.context.repo.flowlock.FlowLocksMemo;
+import modelengine.fit.waterflow.domain.flow.Flows;
+import modelengine.fit.waterflow.domain.flow.ProcessFlow;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * {@link FlowExecutors} 的测试类
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@DisplayName("测试流程执行器")
+class FlowExecutorsTest {
+    @Test
+    @DisplayName("并发预算用完后申请失败，释放后可以再次申请")
+    void shouldRejectWhenBudgetExhausted() {
+        FlowExecutor executor = FlowExecutor.custom().name("budget-test").maxConcurrency(2).build();
+        Optional<FlowExecutors.ConcurrencyHolder> first = executor.acquire();
+        Optional<FlowExecutors.ConcurrencyHolder> second = executor.acquire();
+
+        assertTrue(first.isPresent());
+        assertTrue(second.isPresent());
+        assertFalse(executor.acquire().isPresent());
+        assertEquals(1D, executor.metrics().saturation());
+        assertEquals(1L, executor.metrics().rejectedCount());
+
+        first.get().release();
+        first.get().release();
+        assertEquals(1, executor.metrics().activeCount());
+        assertTrue(executor.acquire().isPresent());
+        assertEquals(2, executor.metrics().peakActiveCount());
+    }
+
+    @Test
+    @DisplayName("流程绑定执行器后，节点任务在该执行器上执行")
+    void shouldRunFlowOnBoundExecutor() {
+        FlowExecutor executor = FlowExecutor.custom()
+                .name("bound-flow-test")
+                .maxConcurrency(4)
+                .priority(FlowExecutor.Priority.HIGH)
+                .build();
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> result = Collections.synchronizedList(new ArrayList<>());
+        ProcessFlow<Integer> flow = Flows.<Integer>create(new FlowContextMemoRepo(true),
+                        new FlowContextMemoMessenger(), new FlowLocksMemo())
+                .map(i -> {
+                    threads.add(Thread.currentThread().getName());
+                    return i * 10;
+                })
+                .close(r -> result.add(r.get().getData()));
+        flow.executor(executor);
+        assertSame(executor, flow.getExecutor());
+
+        flow.offer(new Integer[] {1, 2, 3});
+        FlowsTestUtil.waitUntil(() -> result.size() == 3, 2000);
+
+        assertEquals(3, result.size());
+        assertTrue(threads.stream().allMatch(name -> name.startsWith("bound-flow-test")));
+        assertTrue(executor.metrics().completedCount() > 0);
+        assertTrue(FlowExecutors.metrics().containsKey("bound-flow-test"));
+        FlowExecutors.unbind(flow.start().getStreamId());
+        assertSame(FlowExecutors.getDefault(), flow.getExecutor());
+    }
+
+    @Test
+    @DisplayName("执行器不再被任何流程绑定时被关闭，任务在调用线程上执行")
+    void shouldShutdownExecutorWhenNoLongerBound() {
+        FlowExecutor executor = FlowExecutor.custom().name("unbind-test").maxConcurrency(2).build();
+        FlowExecutors.bind("unbind-test-stream-1", executor);
+        FlowExecutors.bind("unbind-test-stream-2", executor);
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+
+        FlowExecutors.unbind("unbind-test-stream-1");
+        executor.execute(() -> threads.add(Thread.currentThread().getName()));
+        FlowsTestUtil.waitUntil(() -> threads.size() == 1, 2000);
+        assertTrue(threads.get(0).startsWith("unbind-test"));
+
+        FlowExecutors.unbind("unbind-test-stream-2");
+        executor.execute(() -> threads.add(Thread.currentThread().getName()));
+        assertEquals(2, threads.size());
+        assertEquals(Thread.currentThread().getName(), threads.get(1));
+        assertEquals(2L, executor.metrics().completedCount());
+    }
+
+    @Test
+    @DisplayName("不同的执行器使用相同的名字时，观测指标不会相互覆盖")
+    void shouldReportMetricsOfExecutorsWithSameName() {
+        FlowExecutor first = FlowExecutor.custom().name("same-name-test").maxConcurrency(1).build();
+        FlowExecutor second = FlowExecutor.custom().name("same-name-test").maxConcurrency(2).build();
+        FlowExecutor unique = FlowExecutor.custom().name("unique-name-test").maxConcurrency(3).build();
+        FlowExecutors.bind("same-name-stream-1", first);
+        FlowExecutors.bind("same-name-stream-2", second);
+        FlowExecutors.bind("unique-name-stream-1", unique);
+        FlowExecutors.bind("unique-name-stream-2", unique);
+        try {
+            Map<String, FlowExecutor.Metrics> metrics = FlowExecutors.metrics();
+
+            assertFalse(metrics.containsKey("same-name-test"));
+            assertSame(first.metrics(), metrics.get("same-name-test#same-name-stream-1"));
+            assertSame(second.metrics(), metrics.get("same-name-test#same-name-stream-2"));
+            assertSame(unique.metrics(), metrics.get("unique-name-test"));
+            assertSame(FlowExecutors.getDefault().metrics(), metrics.get(FlowExecutors.getDefault().name()));
+        } finally {
+            FlowExecutors.unbind("same-name-stream-1");
+            FlowExecutors.unbind("same-name-stream-2");
+            FlowExecutors.unbind("unique-name-stream-1");
+            FlowExecutors.unbind("unique-name-stream-2");
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2026 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.domain.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import modelengine.fit.waterflow.FlowsTestUtil;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link NodeScheduler} 的测试类
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@DisplayName("测试节点调度器")
+class NodeSchedulerTest {
+    @Test
+    @DisplayName("仍有尚未就绪的context时持续重试，不需要新的就绪信号")
+    void shouldKeepRetryingWhileWaiting() {
+        int waitingTimes = 12;
+        AtomicInteger drains = new AtomicInteger(0);
+        NodeScheduler.Worker worker = NodeScheduler.worker(() -> "waiting-test",
+                () -> drains.incrementAndGet() <= waitingTimes
+                        ? NodeScheduler.Outcome.WAITING
+                        : NodeScheduler.Outcome.IDLE);
+
+        worker.signal();
+        FlowsTestUtil.waitUntil(() -> drains.get() > waitingTimes, 10000);
+
+        assertEquals(waitingTimes + 1, drains.get());
+        assertEquals(1L, worker.signalCount());
+    }
+}